@@ -0,0 +1,64 @@
+package com.studentnest.benchmarks;
+
+import com.studentnest.models.User;
+import com.studentnest.services.ConnectionProvider;
+import com.studentnest.services.JdbcAuthService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.SQLException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Login credential checks through {@link JdbcAuthService}, which is what the login screen's
+ * {@code authenticateUser} runs, against 10k users in an in-memory database. Like the app,
+ * every check opens and closes its own connection, so that cost is part of the score.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AuthenticationBenchmark {
+
+    private static final int USERS = 10_000;
+
+    private ConnectionProvider db;
+    private JdbcAuthService auth;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        db = BenchmarkData.database("auth");
+        BenchmarkData.insertUsers(db, USERS);
+        auth = new JdbcAuthService(db);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        BenchmarkData.dropDatabase(db);
+    }
+
+    @Benchmark
+    public User validPassword() throws Exception {
+        int id = 2 * (1 + ThreadLocalRandom.current().nextInt(USERS / 2));
+        return auth.authenticate("user" + id, BenchmarkData.PASSWORD, "Student");
+    }
+
+    @Benchmark
+    public User wrongPassword() throws Exception {
+        int id = 2 * (1 + ThreadLocalRandom.current().nextInt(USERS / 2));
+        return auth.authenticate("user" + id, "not-the-password", "Student");
+    }
+}
@@ -0,0 +1,187 @@
+package com.studentnest.benchmarks;
+
+import com.studentnest.api.Json;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compares a JMH JSON result file ({@code -rf json}) with the checked-in baselines.
+ * <p>
+ * Every baseline entry has a score and a threshold: the fraction by which the new score may
+ * be slower before the check fails. All benchmarks here report time per operation, so lower
+ * is better. Exits with status 1 on a regression, so it can gate a build.
+ * <pre>
+ * java [-DallowNew] -cp target/benchmarks.jar com.studentnest.benchmarks.BaselineCheck results.json [baselines.json] [--update]
+ * </pre>
+ * A benchmark without a baseline fails the check as well, otherwise a new benchmark would never
+ * be guarded; {@code -DallowNew} only reports it. {@code --update} rewrites the baselines from
+ * the results and keeps the existing thresholds.
+ */
+public final class BaselineCheck {
+
+    static final double DEFAULT_THRESHOLD = 0.25;
+    static final String ALLOW_NEW_PROPERTY = "allowNew";
+
+    private BaselineCheck() {}
+
+    public static void main(String[] args) throws IOException {
+        List<String> files = new ArrayList<>();
+        boolean update = false;
+        for (String arg : args) {
+            if ("--update".equals(arg)) {
+                update = true;
+            } else {
+                files.add(arg);
+            }
+        }
+        if (files.isEmpty()) {
+            System.err.println("Usage: BaselineCheck <jmh-results.json> [baselines.json] [--update]");
+            System.exit(2);
+        }
+        Path resultsFile = Paths.get(files.get(0));
+        Path baselineFile = Paths.get(files.size() > 1 ? files.get(1) : "baselines.json");
+
+        Map<String, Result> results = readResults(resultsFile);
+        Map<String, Object> baselines = Files.exists(baselineFile)
+                ? Json.parseObject(Files.readString(baselineFile, StandardCharsets.UTF_8))
+                : new TreeMap<>();
+
+        if (update) {
+            writeBaselines(baselineFile, baselines, results);
+            System.out.println("Wrote " + results.size() + " baselines to " + baselineFile);
+            return;
+        }
+
+        // A bare -DallowNew sets an empty value
+        String allowNew = System.getProperty(ALLOW_NEW_PROPERTY);
+        int failures = check(results, baselines, allowNew != null && !allowNew.equalsIgnoreCase("false"));
+        System.exit(failures > 0 ? 1 : 0);
+    }
+
+    /**
+     * Prints one line per benchmark.
+     * @param allowNew Whether benchmarks without a baseline pass
+     * @return The number of regressions, plus the benchmarks without a baseline unless allowed
+     */
+    @SuppressWarnings("unchecked")
+    static int check(Map<String, Result> results, Map<String, Object> baselines, boolean allowNew) {
+        Map<String, Object> expected = (Map<String, Object>) baselines.getOrDefault("benchmarks", Map.of());
+        int regressions = 0;
+        int unrecorded = 0;
+        for (Map.Entry<String, Result> entry : results.entrySet()) {
+            Result result = entry.getValue();
+            Map<String, Object> baseline = (Map<String, Object>) expected.get(entry.getKey());
+            if (baseline == null) {
+                System.out.printf(Locale.ROOT, "%-5s %-70s %12.3f %s (no baseline)%n", allowNew ? "NEW" : "FAIL",
+                        entry.getKey(), result.score, result.unit);
+                unrecorded++;
+                continue;
+            }
+            double baseScore = ((Number) baseline.get("score")).doubleValue();
+            double threshold = baseline.get("threshold") != null
+                    ? ((Number) baseline.get("threshold")).doubleValue() : DEFAULT_THRESHOLD;
+            double change = (result.score - baseScore) / baseScore;
+            boolean regressed = change > threshold;
+            if (regressed) {
+                regressions++;
+            }
+            System.out.printf(Locale.ROOT, "%-5s %-70s %12.3f %s (baseline %.3f, %+.1f%%, limit +%.0f%%)%n",
+                    regressed ? "FAIL" : "ok", entry.getKey(), result.score, result.unit,
+                    baseScore, change * 100, threshold * 100);
+        }
+        for (String name : expected.keySet()) {
+            if (!results.containsKey(name)) {
+                System.out.println("MISS  " + name + " (not in this run)");
+            }
+        }
+        System.out.println(regressions == 0 ? "No regressions." : regressions + " regression(s) above threshold.");
+        if (unrecorded > 0) {
+            System.out.println(unrecorded + " benchmark(s) without a baseline" + (allowNew ? "."
+                    : ", record them with --update or pass -D" + ALLOW_NEW_PROPERTY + " to accept them."));
+        }
+        return allowNew ? regressions : regressions + unrecorded;
+    }
+
+    /**
+     * Reads a JMH JSON result file, keyed by {@link #key}.
+     */
+    @SuppressWarnings("unchecked")
+    static Map<String, Result> readResults(Path file) throws IOException {
+        Map<String, Result> results = new TreeMap<>();
+        for (Object item : Json.parseArray(Files.readString(file, StandardCharsets.UTF_8))) {
+            Map<String, Object> run = (Map<String, Object>) item;
+            Map<String, Object> metric = (Map<String, Object>) run.get("primaryMetric");
+            Map<String, Object> params = (Map<String, Object>) run.get("params");
+            results.put(key((String) run.get("benchmark"), params),
+                    new Result(((Number) metric.get("score")).doubleValue(), (String) metric.get("scoreUnit")));
+        }
+        return results;
+    }
+
+    /**
+     * {@code SimpleClassName.method} followed by the sorted parameters, e.g.
+     * {@code RoomFilterBenchmark.applyCriteria:rooms=1000,scenario=all}.
+     */
+    static String key(String benchmark, Map<String, Object> params) {
+        String[] parts = benchmark.split("\\.");
+        String name = parts.length >= 2 ? parts[parts.length - 2] + "." + parts[parts.length - 1] : benchmark;
+        if (params == null || params.isEmpty()) {
+            return name;
+        }
+        StringBuilder key = new StringBuilder(name).append(':');
+        boolean first = true;
+        for (Map.Entry<String, Object> param : new TreeMap<>(params).entrySet()) {
+            if (!first) key.append(',');
+            first = false;
+            key.append(param.getKey()).append('=').append(param.getValue());
+        }
+        return key.toString();
+    }
+
+    /**
+     * Writes one benchmark per line so baseline updates diff cleanly.
+     */
+    @SuppressWarnings("unchecked")
+    private static void writeBaselines(Path file, Map<String, Object> previous, Map<String, Result> results) throws IOException {
+        Map<String, Object> old = (Map<String, Object>) previous.getOrDefault("benchmarks", Map.of());
+        StringBuilder out = new StringBuilder("{\n");
+        out.append("  \"environment\": ").append(Json.write(String.valueOf(previous.getOrDefault("environment", environment())))).append(",\n");
+        out.append("  \"benchmarks\": {\n");
+        int i = 0;
+        for (Map.Entry<String, Result> entry : results.entrySet()) {
+            Map<String, Object> before = (Map<String, Object>) old.get(entry.getKey());
+            Object threshold = before != null && before.get("threshold") != null ? before.get("threshold") : DEFAULT_THRESHOLD;
+            out.append("    ").append(Json.write(entry.getKey())).append(": {\"score\": ")
+                    .append(String.format(Locale.ROOT, "%.3f", entry.getValue().score))
+                    .append(", \"unit\": ").append(Json.write(entry.getValue().unit))
+                    .append(", \"threshold\": ").append(threshold).append('}')
+                    .append(++i < results.size() ? ",\n" : "\n");
+        }
+        out.append("  }\n}\n");
+        Files.writeString(file, out.toString(), StandardCharsets.UTF_8);
+    }
+
+    private static String environment() {
+        return "JDK " + System.getProperty("java.version") + ", " + System.getProperty("os.name") + " "
+                + System.getProperty("os.arch") + ", " + Runtime.getRuntime().availableProcessors() + " CPUs";
+    }
+
+    static final class Result {
+        final double score;
+        final String unit;
+
+        Result(double score, String unit) {
+            this.score = score;
+            this.unit = unit;
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package com.studentnest.benchmarks;
+
+import com.studentnest.database.SchemaMigrator;
+import com.studentnest.models.GeoPoint;
+import com.studentnest.models.Room;
+import com.studentnest.services.ConnectionProvider;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.GradientPaint;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Deterministic fixtures shared by the benchmarks: a room catalog, an in-memory
+ * database with the app schema, and room photos on disk.
+ */
+final class BenchmarkData {
+
+    static final String[] LOCATIONS = {"Khagan", "Candgaon", "Charabag", "Kumkumari", "Dattopara", "Shadhupara"};
+    static final String[] ROOM_TYPES = {"Single", "Shared", "Family", "Sublet"};
+    static final String PASSWORD = "secret123";
+
+    private static final String[] WORDS = {"bright", "quiet", "furnished", "balcony", "near", "market",
+            "wifi", "attached", "bathroom", "kitchen", "gas", "lift", "security", "generator", "rooftop"};
+
+    private BenchmarkData() {}
+
+    /**
+     * Rooms spread over the six areas around the campus, with coordinates for roughly 80% of them.
+     */
+    static List<Room> rooms(int count, long seed) {
+        Random random = new Random(seed);
+        List<Room> rooms = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            Room room = new Room(i, LOCATIONS[random.nextInt(LOCATIONS.length)],
+                    2500 + random.nextInt(45) * 500, description(random), 1 + random.nextInt(500), "Owner " + random.nextInt(500));
+            room.setRoomType(ROOM_TYPES[random.nextInt(ROOM_TYPES.length)]);
+            room.setContactNumber("017" + (10000000 + random.nextInt(89999999)));
+            if (random.nextInt(5) != 0) {
+                room.setCoordinates(new GeoPoint(GeoPoint.DIU_CAMPUS.getLatitude() + (random.nextDouble() - 0.5) * 0.15,
+                        GeoPoint.DIU_CAMPUS.getLongitude() + (random.nextDouble() - 0.5) * 0.15));
+            }
+            rooms.add(room);
+        }
+        return rooms;
+    }
+
+    private static String description(Random random) {
+        StringBuilder text = new StringBuilder();
+        int words = 8 + random.nextInt(16);
+        for (int i = 0; i < words; i++) {
+            if (i > 0) text.append(' ');
+            text.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return text.toString();
+    }
+
+    /**
+     * Creates a private in-memory H2 database in MySQL mode with the migrated schema.
+     * The returned provider hands out connections that keep the database alive.
+     */
+    static ConnectionProvider database(String name) throws SQLException {
+        return migrated("jdbc:h2:mem:" + name + ";MODE=MySQL;DB_CLOSE_DELAY=-1");
+    }
+
+    /**
+     * Like {@link #database} but kept in files under the directory, for data that should not
+     * live in the benchmark's heap.
+     */
+    static ConnectionProvider fileDatabase(File dir, String name) throws SQLException {
+        return migrated("jdbc:h2:file:" + new File(dir, name).getAbsolutePath() + ";MODE=MySQL;DB_CLOSE_DELAY=-1");
+    }
+
+    private static ConnectionProvider migrated(String url) throws SQLException {
+        try (Connection conn = DriverManager.getConnection(url, "sa", "")) {
+            SchemaMigrator.migrate(conn);
+        }
+        return () -> DriverManager.getConnection(url, "sa", "");
+    }
+
+    /**
+     * Inserts users (half students, half owners) with the shared benchmark password.
+     * Usernames are {@code user<n>}.
+     */
+    static void insertUsers(ConnectionProvider db, int count) throws SQLException {
+        String sql = "INSERT INTO users (name, phone, username, password, user_type) VALUES (?, ?, ?, ?, ?)";
+        try (Connection conn = db.getConnection(); PreparedStatement stmt = conn.prepareStatement(sql)) {
+            for (int i = 1; i <= count; i++) {
+                stmt.setString(1, "User " + i);
+                stmt.setString(2, "0170000" + i);
+                stmt.setString(3, "user" + i);
+                stmt.setString(4, PASSWORD);
+                stmt.setString(5, i % 2 == 0 ? "Student" : "House Owner");
+                stmt.addBatch();
+                if (i % 1000 == 0) stmt.executeBatch();
+            }
+            stmt.executeBatch();
+        }
+    }
+
+    /**
+     * Inserts the given rooms, owned by the odd (house owner) users created by {@link #insertUsers}.
+     */
+    static void insertRooms(ConnectionProvider db, List<Room> rooms, int userCount) throws SQLException {
+        String sql = "INSERT INTO rooms (owner_id, location, price, description, contact_number, map_link, room_type, " +
+                "image1_path, image2_path, latitude, longitude) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+        try (Connection conn = db.getConnection(); PreparedStatement stmt = conn.prepareStatement(sql)) {
+            int batched = 0;
+            for (Room room : rooms) {
+                stmt.setInt(1, 1 + 2 * (room.getOwnerId() % Math.max(1, userCount / 2)));
+                stmt.setString(2, room.getLocation());
+                stmt.setDouble(3, room.getPrice());
+                stmt.setString(4, room.getDescription());
+                stmt.setString(5, room.getContactNumber());
+                stmt.setString(6, room.getMapLink());
+                stmt.setString(7, room.getRoomType());
+                stmt.setString(8, "uploads/room_" + room.getId() + "_1.jpg");
+                stmt.setString(9, "uploads/room_" + room.getId() + "_2.jpg");
+                GeoPoint point = room.getCoordinates();
+                stmt.setObject(10, point != null ? point.getLatitude() : null);
+                stmt.setObject(11, point != null ? point.getLongitude() : null);
+                stmt.addBatch();
+                if (++batched % 1000 == 0) stmt.executeBatch();
+            }
+            stmt.executeBatch();
+        }
+    }
+
+    /**
+     * Inserts feedback rows written by the users created by {@link #insertUsers}, about 30% resolved.
+     */
+    static void insertFeedback(ConnectionProvider db, int count, int userCount) throws SQLException {
+        String sql = "INSERT INTO feedback_and_issues (user_id, feedback_text, status) VALUES (?, ?, ?)";
+        Random random = new Random(count);
+        try (Connection conn = db.getConnection(); PreparedStatement stmt = conn.prepareStatement(sql)) {
+            for (int i = 1; i <= count; i++) {
+                stmt.setInt(1, 1 + random.nextInt(userCount));
+                stmt.setString(2, "The room in " + LOCATIONS[random.nextInt(LOCATIONS.length)] + " is " + description(random));
+                stmt.setString(3, random.nextInt(10) < 3 ? "Resolved" : "Pending");
+                stmt.addBatch();
+                if (i % 1000 == 0) stmt.executeBatch();
+            }
+            stmt.executeBatch();
+        }
+    }
+
+    static void dropDatabase(ConnectionProvider db) throws SQLException {
+        try (Connection conn = db.getConnection(); Statement stmt = conn.createStatement()) {
+            stmt.execute("SHUTDOWN");
+        }
+    }
+
+    /**
+     * Writes a photo-like JPEG (a gradient with some noise, so it does not compress to nothing).
+     */
+    static File writePhoto(File dir, String name, int width, int height, long seed) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = image.createGraphics();
+        g.setPaint(new GradientPaint(0, 0, new Color(190, 160, 120), width, height, new Color(60, 90, 140)));
+        g.fillRect(0, 0, width, height);
+        g.dispose();
+        Random random = new Random(seed);
+        for (int i = 0; i < width * height / 8; i++) {
+            int x = random.nextInt(width);
+            int y = random.nextInt(height);
+            image.setRGB(x, y, image.getRGB(x, y) ^ (random.nextInt(0x20) * 0x010101));
+        }
+        File file = new File(dir, name);
+        ImageIO.write(image, "jpg", file);
+        return file;
+    }
+
+    static File tempDir(String prefix) throws IOException {
+        File dir = Files.createTempDirectory(prefix).toFile();
+        dir.deleteOnExit();
+        return dir;
+    }
+
+    static void deleteDir(File dir) {
+        File[] files = dir.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                file.delete();
+            }
+        }
+        dir.delete();
+    }
+}
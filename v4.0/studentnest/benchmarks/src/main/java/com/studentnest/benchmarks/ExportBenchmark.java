@@ -0,0 +1,76 @@
+package com.studentnest.benchmarks;
+
+import com.studentnest.services.ConnectionProvider;
+import com.studentnest.services.TableExporter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Exporting the feedback table with {@link TableExporter}, the way the admin dashboard does.
+ * <p>
+ * The rows sit in a file database and the fork gets a 64 MB heap, so the export has to
+ * stream: one that collected the rows before writing them would run out of memory and fail
+ * the benchmark instead of just getting slower.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 8)
+@Fork(value = 1, jvmArgsAppend = "-Xmx64m")
+public class ExportBenchmark {
+
+    private static final int USERS = 1000;
+    private static final int ROWS = 250_000;
+
+    /**
+     * File extension, which picks the format.
+     */
+    @Param({"csv", "xlsx"})
+    String format;
+
+    private File dir;
+    private ConnectionProvider db;
+    private TableExporter exporter;
+    private Path file;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        dir = BenchmarkData.tempDir("studentnest-export");
+        db = BenchmarkData.fileDatabase(dir, "export");
+        BenchmarkData.insertUsers(db, USERS);
+        BenchmarkData.insertFeedback(db, ROWS, USERS);
+        exporter = new TableExporter(db);
+        file = new File(dir, "feedback." + format).toPath();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        BenchmarkData.dropDatabase(db);
+        BenchmarkData.deleteDir(dir);
+    }
+
+    @Benchmark
+    public long exportFeedback() throws Exception {
+        TableExporter.Result result = exporter.export(TableExporter.Table.FEEDBACK, file, null, null);
+        if (result.getRows() != ROWS) {
+            throw new IllegalStateException("Exported " + result.getRows() + " of " + ROWS + " rows");
+        }
+        return result.getRows();
+    }
+}
@@ -0,0 +1,76 @@
+package com.studentnest.benchmarks;
+
+import javafx.application.Platform;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Starts the JavaFX toolkit once per benchmark JVM and runs work on the FX thread.
+ * <p>
+ * The glass platform defaults to headless Monocle with the software renderer, so the
+ * benchmarks need no display. Pass {@code -Dglass.platform=gtk} to measure on a desktop instead.
+ */
+final class FxThread {
+
+    private static boolean started;
+
+    private FxThread() {}
+
+    static synchronized void start() throws InterruptedException {
+        if (started) {
+            return;
+        }
+        setDefault("glass.platform", "Monocle");
+        setDefault("monocle.platform", "Headless");
+        setDefault("prism.order", "sw");
+        setDefault("java.awt.headless", "true");
+
+        CountDownLatch ready = new CountDownLatch(1);
+        Platform.startup(ready::countDown);
+        Platform.setImplicitExit(false);
+        ready.await();
+        started = true;
+    }
+
+    /**
+     * Runs the task on the FX thread and waits for it, rethrowing its failure.
+     */
+    static <T> T call(Callable<T> task) throws Exception {
+        if (Platform.isFxApplicationThread()) {
+            return task.call();
+        }
+        AtomicReference<T> result = new AtomicReference<>();
+        AtomicReference<Exception> failure = new AtomicReference<>();
+        CountDownLatch done = new CountDownLatch(1);
+        Platform.runLater(() -> {
+            try {
+                result.set(task.call());
+            } catch (Exception e) {
+                failure.set(e);
+            } finally {
+                done.countDown();
+            }
+        });
+        done.await();
+        if (failure.get() != null) {
+            throw new ExecutionException(failure.get());
+        }
+        return result.get();
+    }
+
+    /**
+     * Waits until everything already queued with {@link Platform#runLater} has run.
+     */
+    static void drain() throws Exception {
+        call(() -> null);
+    }
+
+    private static void setDefault(String key, String value) {
+        if (System.getProperty(key) == null) {
+            System.setProperty(key, value);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.studentnest.benchmarks;
+
+import com.studentnest.api.ApiServer;
+import com.studentnest.services.ConnectionProvider;
+import com.studentnest.services.JdbcAuthService;
+import com.studentnest.services.JdbcFeedbackService;
+import com.studentnest.services.JdbcReservationService;
+import com.studentnest.services.JdbcRoomService;
+import com.studentnest.services.JdbcSavedSearchService;
+import com.studentnest.services.JdbcStatsService;
+import com.studentnest.services.JdbcUserService;
+import com.studentnest.services.Services;
+import com.studentnest.utils.SceneManager;
+import javafx.fxml.FXMLLoader;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Screen switches as done by {@link SceneManager#switchScene}: FXML load, scene creation,
+ * stylesheet, first CSS pass and layout, plus the work controllers defer with
+ * {@code Platform.runLater} from {@code initialize()}, since the user waits for that too.
+ * <p>
+ * Each invocation builds a fresh screen, so this runs in single-shot mode to keep the number
+ * of live controllers bounded. Data comes from an in-process API server over an in-memory
+ * database with 1000 rooms, the app runs in client mode against it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 20)
+@Measurement(iterations = 40)
+@Fork(1)
+public class FxmlLoadBenchmark {
+
+    private static final int USERS = 200;
+    private static final int ROOMS = 1000;
+
+    /**
+     * FXML and stylesheet pairs, as passed to switchScene by the app.
+     */
+    @Param({"login", "registration", "student-dashboard"})
+    String screen;
+
+    private ConnectionProvider db;
+    private ApiServer server;
+    private String fxmlPath;
+    private String cssPath;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        db = BenchmarkData.database("fxml");
+        BenchmarkData.insertUsers(db, USERS);
+        BenchmarkData.insertRooms(db, BenchmarkData.rooms(ROOMS, 5), USERS);
+        server = new ApiServer(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0),
+                new JdbcRoomService(db), new JdbcUserService(db), new JdbcFeedbackService(db), new JdbcAuthService(db),
+                new JdbcReservationService(db), new JdbcSavedSearchService(db), new JdbcStatsService(db));
+        server.start();
+        System.setProperty(Services.MODE_PROPERTY, Services.CLIENT_MODE);
+        System.setProperty(Services.SERVER_PROPERTY, "http://127.0.0.1:" + server.getPort());
+        // The dashboard's requests need a session, user2 is one of the students
+        Services.auth().authenticate("user2", BenchmarkData.PASSWORD, "Student");
+
+        FxThread.start();
+        fxmlPath = "/fxml/" + screen + ".fxml";
+        cssPath = "/css/" + screen + ".css";
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        server.stop();
+        BenchmarkData.dropDatabase(db);
+    }
+
+    @Benchmark
+    public Scene switchScene() throws Exception {
+        Scene scene = FxThread.call(() -> {
+            FXMLLoader loader = new FXMLLoader(SceneManager.class.getResource(fxmlPath));
+            Parent root = loader.load();
+            Scene newScene = new Scene(root, 1400, 850);
+            newScene.getStylesheets().add(SceneManager.class.getResource(cssPath).toExternalForm());
+            root.applyCss();
+            root.layout();
+            return newScene;
+        });
+        FxThread.drain();
+        return scene;
+    }
+}
@@ -0,0 +1,71 @@
+package com.studentnest.benchmarks;
+
+import com.studentnest.utils.RoomCardFactory;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Room photo decoding. {@code loadRoomImage} is the current code path, which decodes the
+ * full photo and lets the ImageView scale it down; {@code decodeAtCardSize} asks the decoder
+ * for the 150px thumbnail directly and is kept as the reference point for that change.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ImageDecodeBenchmark {
+
+    /**
+     * Typical phone photo and a small already-resized upload.
+     */
+    @Param({"1600x1200", "640x480"})
+    String size;
+
+    private File photoDir;
+    private String path;
+    private String uri;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        FxThread.start();
+        String[] dimensions = size.split("x");
+        photoDir = BenchmarkData.tempDir("studentnest-images");
+        File photo = BenchmarkData.writePhoto(photoDir, "photo.jpg",
+                Integer.parseInt(dimensions[0]), Integer.parseInt(dimensions[1]), 11);
+        path = photo.getPath();
+        uri = photo.toURI().toString();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        BenchmarkData.deleteDir(photoDir);
+    }
+
+    @Benchmark
+    public ImageView loadRoomImage() {
+        return RoomCardFactory.loadRoomImage(path);
+    }
+
+    @Benchmark
+    public Image decodeAtCardSize() {
+        return new Image(uri, RoomCardFactory.CARD_IMAGE_SIZE, RoomCardFactory.CARD_IMAGE_SIZE, true, true);
+    }
+}
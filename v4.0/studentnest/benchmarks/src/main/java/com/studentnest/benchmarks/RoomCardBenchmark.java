@@ -0,0 +1,82 @@
+package com.studentnest.benchmarks;
+
+import com.studentnest.models.Room;
+import com.studentnest.utils.RoomCardFactory;
+import javafx.scene.Scene;
+import javafx.scene.layout.VBox;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Building one student dashboard room card on the FX thread, including CSS and layout,
+ * which is what the first render of the dashboard pays per room.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RoomCardBenchmark {
+
+    /**
+     * Room photos per card. With photos every card decodes them again, as the dashboard does.
+     */
+    @Param({"0", "2"})
+    int images;
+
+    private File photoDir;
+    private Room room;
+    private VBox container;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        FxThread.start();
+        photoDir = BenchmarkData.tempDir("studentnest-cards");
+        room = BenchmarkData.rooms(1, 3).get(0);
+        List<String> paths = new ArrayList<>();
+        for (int i = 0; i < images; i++) {
+            paths.add(BenchmarkData.writePhoto(photoDir, "room_" + i + ".jpg", 1600, 1200, i).getPath());
+        }
+        room.setImages(paths);
+
+        container = FxThread.call(() -> {
+            VBox root = new VBox();
+            Scene scene = new Scene(root, 1200, 800);
+            scene.getStylesheets().add(RoomCardFactory.class.getResource("/css/student-dashboard.css").toExternalForm());
+            return root;
+        });
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        BenchmarkData.deleteDir(photoDir);
+    }
+
+    @Benchmark
+    public VBox createRoomCard() throws Exception {
+        return FxThread.call(() -> {
+            VBox card = RoomCardFactory.createRoomCard(room, r -> { });
+            container.getChildren().setAll(card);
+            container.applyCss();
+            container.layout();
+            return card;
+        });
+    }
+}
@@ -0,0 +1,110 @@
+package com.studentnest.benchmarks;
+
+import com.studentnest.models.Room;
+import com.studentnest.services.GeoIndex;
+import com.studentnest.services.PriceInsights;
+import com.studentnest.services.RoomFilterCriteria;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Student dashboard filtering: one full pass of {@link RoomFilterCriteria#apply} over the
+ * catalog, the way the filter pipeline runs it on every input change.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RoomFilterBenchmark {
+
+    @Param({"1000", "10000"})
+    int rooms;
+
+    private List<Room> catalog;
+    private double[] prices;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        catalog = BenchmarkData.rooms(rooms, 42);
+        GeoIndex geoIndex = GeoIndex.getInstance();
+        for (Room room : catalog) {
+            geoIndex.put(room.getId(), room.getCoordinates());
+        }
+        prices = new double[catalog.size()];
+        for (int i = 0; i < prices.length; i++) {
+            prices[i] = catalog.get(i).getPrice();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        for (Room room : catalog) {
+            GeoIndex.getInstance().remove(room.getId());
+        }
+    }
+
+    @Benchmark
+    public List<Room> applyCriteria(Filters filters) {
+        return filters.criteria.apply(catalog);
+    }
+
+    /**
+     * The bucket label is parsed on every call, so this is the per-room cost of the price filter.
+     */
+    @Benchmark
+    public void priceInRange(Blackhole bh) {
+        for (double price : prices) {
+            bh.consume(PriceInsights.isPriceInRange(price, "5000-10000"));
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Filters {
+
+        /**
+         * all: no filters; area_price: location and price bucket; nearby: within 2 km sorted
+         * by distance; search: free-text search that has to look at every text field.
+         */
+        @Param({"all", "area_price", "nearby", "search"})
+        String scenario;
+
+        RoomFilterCriteria criteria;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            switch (scenario) {
+                case "area_price":
+                    criteria = new RoomFilterCriteria("Charabag", "5000-10000", "Any Distance", "Default Order", "");
+                    break;
+                case "nearby":
+                    criteria = new RoomFilterCriteria(RoomFilterCriteria.ALL_LOCATIONS, RoomFilterCriteria.ALL_PRICES,
+                            "Within 2 km", RoomFilterCriteria.NEAREST_TO_DIU, "");
+                    break;
+                case "search":
+                    criteria = new RoomFilterCriteria(RoomFilterCriteria.ALL_LOCATIONS, RoomFilterCriteria.ALL_PRICES,
+                            "Any Distance", "Default Order", "Generator");
+                    break;
+                default:
+                    criteria = new RoomFilterCriteria(RoomFilterCriteria.ALL_LOCATIONS, RoomFilterCriteria.ALL_PRICES,
+                            "Any Distance", "Default Order", "");
+            }
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.studentnest.benchmarks;
+
+import com.studentnest.models.Room;
+import com.studentnest.services.ConnectionProvider;
+import com.studentnest.services.JdbcRoomService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Turning room rows into {@link Room} objects. {@code mapRows} rewinds an already executed
+ * result set, so it measures {@link JdbcRoomService#mapRoom} alone; {@code listRooms} is the
+ * whole catalog query as the dashboards run it, against an in-memory database.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RoomMappingBenchmark {
+
+    private static final int USERS = 1000;
+
+    @Param({"1000", "10000"})
+    int rooms;
+
+    private ConnectionProvider db;
+    private Connection conn;
+    private PreparedStatement stmt;
+    private ResultSet rows;
+    private JdbcRoomService roomService;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        db = BenchmarkData.database("mapping" + rooms);
+        BenchmarkData.insertUsers(db, USERS);
+        BenchmarkData.insertRooms(db, BenchmarkData.rooms(rooms, 7), USERS);
+        roomService = new JdbcRoomService(db);
+
+        conn = db.getConnection();
+        stmt = conn.prepareStatement("SELECT " + JdbcRoomService.ROOM_COLUMNS + " FROM rooms r ORDER BY r.id",
+                ResultSet.TYPE_SCROLL_INSENSITIVE, ResultSet.CONCUR_READ_ONLY);
+        rows = stmt.executeQuery();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        rows.close();
+        stmt.close();
+        conn.close();
+        BenchmarkData.dropDatabase(db);
+    }
+
+    @Benchmark
+    public List<Room> mapRows() throws SQLException {
+        rows.beforeFirst();
+        List<Room> result = new ArrayList<>(rooms);
+        while (rows.next()) {
+            result.add(JdbcRoomService.mapRoom(rows));
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<Room> listRooms() throws Exception {
+        return roomService.listRooms();
+    }
+}
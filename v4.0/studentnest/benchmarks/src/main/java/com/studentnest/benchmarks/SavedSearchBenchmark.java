@@ -0,0 +1,152 @@
+package com.studentnest.benchmarks;
+
+import com.studentnest.models.Room;
+import com.studentnest.models.SavedSearch;
+import com.studentnest.services.GeoIndex;
+import com.studentnest.services.RoomFilterCriteria;
+import com.studentnest.services.SavedSearchIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Finding the saved searches a changed room satisfies: a lookup in {@link SavedSearchIndex}
+ * against checking every search with {@link RoomFilterCriteria#matches}, the way the matcher
+ * would work without the index. One operation is one room.
+ * <p>
+ * The setup checks that both find the same searches for a sample of the rooms and fails
+ * the trial if they differ.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SavedSearchBenchmark {
+
+    private static final int ROOMS = 2000;
+    private static final int CHECKED_ROOMS = 200;
+
+    private static final String[] PRICES = {"0-5000", "5000-10000", "10000-15000", "15000+"};
+    private static final String[] DISTANCES = {"Any Distance", "Within 1 km", "Within 2 km", "Within 5 km", "Within 10 km"};
+    private static final String[] TEXTS = {"balcony", "wifi", "furnished", "quiet", "rooftop"};
+
+    @Param({"5000", "50000"})
+    int searches;
+
+    private List<Room> rooms;
+    private SavedSearchIndex index;
+    private List<RoomFilterCriteria> criteria;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        rooms = BenchmarkData.rooms(ROOMS, 42);
+        for (Room room : rooms) {
+            GeoIndex.getInstance().put(room.getId(), room.getCoordinates());
+        }
+        Random random = new Random(7);
+        List<SavedSearch> saved = new ArrayList<>(searches);
+        criteria = new ArrayList<>(searches);
+        for (int i = 1; i <= searches; i++) {
+            SavedSearch search = randomSearch(random, i);
+            saved.add(search);
+            criteria.add(new RoomFilterCriteria(search.getLocation(), search.getPriceRange(),
+                    search.getDistance(), null, search.getSearchText()));
+        }
+        index = new SavedSearchIndex();
+        index.reset(saved);
+
+        for (Room room : rooms.subList(0, CHECKED_ROOMS)) {
+            Set<Integer> fromIndex = new HashSet<>();
+            for (SavedSearch search : index.match(room)) {
+                fromIndex.add(search.getId());
+            }
+            Set<Integer> fromScan = new HashSet<>();
+            for (int s = 0; s < saved.size(); s++) {
+                if (criteria.get(s).matches(room)) {
+                    fromScan.add(saved.get(s).getId());
+                }
+            }
+            if (!fromIndex.equals(fromScan)) {
+                throw new IllegalStateException("Room " + room.getId() + " matched " + fromIndex.size()
+                        + " searches in the index but " + fromScan.size() + " in a full scan");
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        for (Room room : rooms) {
+            GeoIndex.getInstance().remove(room.getId());
+        }
+    }
+
+    @Benchmark
+    public int indexMatch() {
+        return index.match(nextRoom()).size();
+    }
+
+    @Benchmark
+    public int scanMatch() {
+        return fullScan(nextRoom());
+    }
+
+    private Room nextRoom() {
+        Room room = rooms.get(next);
+        next = next + 1 == rooms.size() ? 0 : next + 1;
+        return room;
+    }
+
+    private int fullScan(Room room) {
+        int matches = 0;
+        for (RoomFilterCriteria c : criteria) {
+            if (c.matches(room)) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+
+    private static SavedSearch randomSearch(Random random, int id) {
+        String location = random.nextInt(5) == 0 ? RoomFilterCriteria.ALL_LOCATIONS : pick(random, BenchmarkData.LOCATIONS);
+        String price;
+        int kind = random.nextInt(4);
+        if (kind == 0) {
+            price = RoomFilterCriteria.ALL_PRICES;
+        } else if (kind == 1) {
+            price = pick(random, PRICES);
+        } else if (kind == 2) {
+            // Custom range, as the quantile buckets produce them
+            int min = random.nextInt(30) * 500;
+            price = min + "-" + (min + 500 + random.nextInt(20) * 500);
+        } else {
+            price = (random.nextInt(30) * 500) + "+";
+        }
+        String distance = random.nextInt(3) == 0 ? pick(random, DISTANCES) : "Any Distance";
+        String text = random.nextInt(6) == 0 ? pick(random, TEXTS) : null;
+        return new SavedSearch(id, id % 5000 + 1, "Search " + id, location, price, distance, text);
+    }
+
+    private static String pick(Random random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+}
@@ -0,0 +1,94 @@
+package com.studentnest.benchmarks;
+
+import com.studentnest.models.Room;
+import com.studentnest.utils.RoomCardFactory;
+import com.studentnest.utils.ThemeManager;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+import javafx.scene.control.ScrollPane;
+import javafx.scene.layout.BorderPane;
+import javafx.scene.layout.FlowPane;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Switching the theme on a student dashboard full of room cards, through the CSS pass and
+ * layout that the next pulse would run. Compares {@link ThemeManager}'s pseudo-class toggle
+ * with the former style-class toggle.
+ * <p>
+ * The style-class variant toggles a class no rule refers to, so it shows only the cost of
+ * matching the selectors again, a lower bound for what the old dark-theme class cost.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ThemeToggleBenchmark {
+
+    @Param({"500", "5000"})
+    int cards;
+
+    private Parent root;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        FxThread.start();
+        List<Room> rooms = BenchmarkData.rooms(cards, 11);
+        root = FxThread.call(() -> {
+            FlowPane container = new FlowPane(20, 20);
+            container.getStyleClass().add("rooms-container");
+            for (Room room : rooms) {
+                room.setImages(List.of());
+                container.getChildren().add(RoomCardFactory.createRoomCard(room, r -> { }));
+            }
+            ScrollPane scroller = new ScrollPane(container);
+            scroller.setFitToWidth(true);
+            scroller.getStyleClass().add("rooms-scroll");
+
+            BorderPane pane = new BorderPane(scroller);
+            pane.getStyleClass().add("student-dashboard");
+            ThemeManager.install(pane, "/css/student-dashboard.css", ThemeManager.Theme.DARK);
+            new Scene(pane, 1400, 850);
+            pane.applyCss();
+            pane.layout();
+            return pane;
+        });
+    }
+
+    @Benchmark
+    public Parent pseudoClassToggle() throws Exception {
+        return FxThread.call(() -> {
+            ThemeManager.toggle(root);
+            root.applyCss();
+            root.layout();
+            return root;
+        });
+    }
+
+    @Benchmark
+    public Parent styleClassToggle() throws Exception {
+        return FxThread.call(() -> {
+            if (!root.getStyleClass().remove("dark-theme")) {
+                root.getStyleClass().add("dark-theme");
+            }
+            root.applyCss();
+            root.layout();
+            return root;
+        });
+    }
+}
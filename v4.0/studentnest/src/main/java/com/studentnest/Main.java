@@ -5,13 +5,23 @@ import javafx.fxml.FXMLLoader;
 import javafx.scene.Parent;
 import javafx.scene.Scene;
 import javafx.scene.image.Image;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
 import javafx.stage.Stage;
+import com.studentnest.database.JdbcMetrics;
+import com.studentnest.jfr.FlightRecording;
+import com.studentnest.logging.Log;
+import com.studentnest.logging.Logger;
+import com.studentnest.utils.AppResources;
+import com.studentnest.utils.DiagnosticsPanel;
+import com.studentnest.utils.PulseMonitor;
 import com.studentnest.utils.SceneManager;
 
-import java.net.URL;
 
 public class Main extends Application {
 
+    private static final Logger LOG = Log.get("app");
+
     @Override
     public void start(Stage primaryStage) throws Exception {
         try {
@@ -20,30 +30,40 @@ public class Main extends Application {
             primaryStage.setTitle("StudentNest - Student Home Finder");
 
             // --- Code for setting the logo ---
-            // Get the URL for the image from the resources folder
-            URL imageUrl = getClass().getResource("/images/img.png");
+            // Decoded once and shared with every dialog through AppResources
+            Image icon = AppResources.appIcon();
 
-            // Check if the URL is null, which means the image file was not found
-            if (imageUrl == null) {
-                System.err.println("Warning: The image file was not found. Please check the path.");
-                System.err.println("Expected resource path: /images/img.png (which corresponds to src/main/resources/images/img.png)");
+            // A null icon means the image file was not found
+            if (icon == null) {
+                LOG.warn("Expected resource path: /images/img.png (which corresponds to src/main/resources/images/img.png)");
                 // Continue without the icon - this is not a critical error
             } else {
-                // If the URL is found, create the Image and set the icon
-                Image icon = new Image(imageUrl.toExternalForm());
                 primaryStage.getIcons().add(icon);
             }
             // --- End of logo code ---
 
             primaryStage.setResizable(false);
 
+            // JDBC statement metrics: over JMX, and in a window on Ctrl+Shift+D from any screen
+            JdbcMetrics.getInstance().registerMBean();
+            primaryStage.addEventFilter(KeyEvent.KEY_PRESSED, event -> {
+                if (event.isShortcutDown() && event.isShiftDown() && event.getCode() == KeyCode.D) {
+                    DiagnosticsPanel.show(primaryStage);
+                    event.consume();
+                } else if (event.isShortcutDown() && event.isShiftDown() && event.getCode() == KeyCode.P) {
+                    // Frame time overlay, also available from the dashboards
+                    PulseMonitor.toggle(primaryStage);
+                    event.consume();
+                }
+            });
+
             // Load the login FXML file
             FXMLLoader loader = new FXMLLoader();
             loader.setLocation(getClass().getResource("/fxml/login.fxml"));
 
             if (loader.getLocation() == null) {
-                System.err.println("FXML file not found: /fxml/login.fxml");
-                System.err.println("Please ensure the file exists at src/main/resources/fxml/login.fxml");
+                LOG.error("FXML file not found: /fxml/login.fxml");
+                LOG.warn("Please ensure the file exists at src/main/resources/fxml/login.fxml");
                 return;
             }
 
@@ -52,27 +72,26 @@ public class Main extends Application {
 
             // ADD CSS TO SCENE
             try {
-                URL cssUrl = this.getClass().getResource("/css/login.css");
-                if (cssUrl != null) {
-                    scene.getStylesheets().add(cssUrl.toExternalForm());
-                    System.out.println("login.css loaded successfully.");
+                if (AppResources.addStylesheet(scene.getStylesheets(), "/css/login.css")) {
+                    LOG.debug("login.css loaded successfully.");
                 } else {
-                    System.err.println("Warning: CSS file not found: /css/login.css. Please check the path.");
+                    LOG.warn("CSS file not found: /css/login.css. Please check the path.");
                 }
             } catch (Exception cssException) {
-                System.err.println("Warning: Could not load CSS: " + cssException.getMessage());
+                LOG.warn("Could not load CSS: {}", cssException.getMessage());
             }
 
             primaryStage.setScene(scene);
             primaryStage.show();
 
         } catch (Exception e) {
-            System.err.println("Error loading application: " + e.getMessage());
-            e.printStackTrace();
+            LOG.error("Error loading application", e);
         }
     }
 
     public static void main(String[] args) {
+        // -Dstudentnest.jfr=<file> records the whole run with the bundled settings
+        FlightRecording.startIfConfigured();
         launch(args);
     }
 }
@@ -0,0 +1,155 @@
+package com.studentnest.api;
+
+import com.studentnest.services.SeatAlreadyHeldException;
+import com.studentnest.services.ServiceException;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Thin JSON-over-HTTP client for {@link ApiServer}. Non-2xx responses become
+ * {@link ServiceException}s carrying the status code and the server's error message.
+ * Responses may be gzip encoded; {@link #getCached} revalidates with ETags.
+ * After a login every request carries the session token set by {@link HttpAuthService}.
+ */
+public class ApiClient {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    private final String baseUrl;
+    private final HttpClient http;
+    private final Map<String, CachedResponse> conditionalCache = new ConcurrentHashMap<>();
+    private volatile String token;
+
+    public ApiClient(String baseUrl) {
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        this.http = HttpClient.newBuilder()
+                .connectTimeout(TIMEOUT)
+                .build();
+    }
+
+    public String getBaseUrl() {
+        return baseUrl;
+    }
+
+    /**
+     * @param token Session token from the last login, null to send requests without one
+     */
+    public void setToken(String token) {
+        this.token = token;
+    }
+
+    public Object get(String path) throws ServiceException {
+        return send("GET", path, null);
+    }
+
+    /**
+     * GET that revalidates with the ETag of the last response for this path. When the
+     * server answers 304 the previously parsed body is returned without any transfer.
+     */
+    public Object getCached(String path) throws ServiceException {
+        CachedResponse cached = conditionalCache.get(path);
+        HttpRequest.Builder request = newRequest(path).GET();
+        if (cached != null) {
+            request.header("If-None-Match", cached.etag);
+        }
+
+        HttpResponse<byte[]> response = execute(request.build());
+        if (response.statusCode() == 304 && cached != null) {
+            return cached.body;
+        }
+        Object parsed = parse(response);
+        String etag = response.headers().firstValue("ETag").orElse(null);
+        if (etag != null) {
+            conditionalCache.put(path, new CachedResponse(etag, parsed));
+        } else {
+            conditionalCache.remove(path);
+        }
+        return parsed;
+    }
+
+    public Object post(String path, Object body) throws ServiceException {
+        return send("POST", path, body);
+    }
+
+    public Object put(String path, Object body) throws ServiceException {
+        return send("PUT", path, body);
+    }
+
+    public Object delete(String path) throws ServiceException {
+        return send("DELETE", path, null);
+    }
+
+    private Object send(String method, String path, Object body) throws ServiceException {
+        HttpRequest.BodyPublisher publisher = body != null
+                ? HttpRequest.BodyPublishers.ofString(Json.write(body), StandardCharsets.UTF_8)
+                : HttpRequest.BodyPublishers.noBody();
+        return parse(execute(newRequest(path).method(method, publisher).build()));
+    }
+
+    private HttpRequest.Builder newRequest(String path) {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(TIMEOUT)
+                .header("Content-Type", "application/json; charset=utf-8")
+                .header("Accept", "application/json")
+                .header("Accept-Encoding", "gzip");
+        String current = token;
+        if (current != null) {
+            request.header("Authorization", "Bearer " + current);
+        }
+        return request;
+    }
+
+    private HttpResponse<byte[]> execute(HttpRequest request) throws ServiceException {
+        try {
+            return http.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        } catch (IOException e) {
+            throw new ServiceException("StudentNest server unreachable at " + baseUrl + ": " + e.getMessage(), 503, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServiceException("Request to StudentNest server was interrupted", 503, e);
+        }
+    }
+
+    private static Object parse(HttpResponse<byte[]> response) throws ServiceException {
+        byte[] bytes = response.body();
+        if (response.headers().firstValue("Content-Encoding").orElse("").equalsIgnoreCase("gzip")) {
+            try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+                bytes = in.readAllBytes();
+            } catch (IOException e) {
+                throw new ServiceException("Corrupt compressed response: " + e.getMessage(), 502, e);
+            }
+        }
+
+        boolean json = response.headers().firstValue("Content-Type").orElse("").startsWith("application/json");
+        Object parsed = json && bytes.length > 0 ? Json.parse(new String(bytes, StandardCharsets.UTF_8)) : null;
+        if (response.statusCode() / 100 != 2) {
+            String message = parsed instanceof Map ? ModelJson.string(((Map<?, ?>) parsed).get("error")) : null;
+            String reason = parsed instanceof Map ? ModelJson.string(((Map<?, ?>) parsed).get("reason")) : null;
+            if (SeatAlreadyHeldException.REASON.equals(reason)) {
+                throw new SeatAlreadyHeldException(message);
+            }
+            throw new ServiceException(message != null ? message : "HTTP " + response.statusCode(), response.statusCode(), null);
+        }
+        return parsed;
+    }
+
+    private static final class CachedResponse {
+        final String etag;
+        final Object body;
+
+        CachedResponse(String etag, Object body) {
+            this.etag = etag;
+            this.body = body;
+        }
+    }
+}
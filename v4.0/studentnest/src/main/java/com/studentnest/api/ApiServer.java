@@ -0,0 +1,724 @@
+package com.studentnest.api;
+
+import com.studentnest.cache.InvalidationBus;
+import com.studentnest.cache.InvalidationEvent;
+import com.studentnest.database.DatabaseConnection;
+import com.studentnest.logging.Log;
+import com.studentnest.logging.Logger;
+import com.studentnest.models.Feedback;
+import com.studentnest.models.FeedbackCluster;
+import com.studentnest.models.Room;
+import com.studentnest.models.SavedSearch;
+import com.studentnest.models.SearchNotification;
+import com.studentnest.models.SeatHold;
+import com.studentnest.models.StatsBucket;
+import com.studentnest.models.User;
+import com.studentnest.services.AuthService;
+import com.studentnest.services.ConnectionProvider;
+import com.studentnest.services.FeedbackService;
+import com.studentnest.services.JdbcAuthService;
+import com.studentnest.services.JdbcFeedbackService;
+import com.studentnest.services.JdbcReservationService;
+import com.studentnest.services.JdbcRoomService;
+import com.studentnest.services.JdbcSavedSearchService;
+import com.studentnest.services.JdbcStatsService;
+import com.studentnest.services.JdbcUserService;
+import com.studentnest.services.ReservationService;
+import com.studentnest.services.RoomService;
+import com.studentnest.services.SavedSearchMatcher;
+import com.studentnest.services.SavedSearchService;
+import com.studentnest.services.SeatAlreadyHeldException;
+import com.studentnest.services.SeatHoldReaper;
+import com.studentnest.services.ServiceException;
+import com.studentnest.services.StatsAggregator;
+import com.studentnest.services.StatsService;
+import com.studentnest.services.UserService;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Headless StudentNest service exposing rooms, users, feedback and login as HTTP/JSON.
+ * Desktop clients started with {@code -Dstudentnest.mode=client} talk to this server
+ * instead of opening their own database connections.
+ *
+ * <pre>
+ * GET    /api/rooms[?ownerId=N]         POST /api/rooms            PUT /api/rooms/{id}   DELETE /api/rooms/{id}
+ * GET    /api/users                     GET  /api/users/count      GET /api/users/by-type
+ * POST   /api/users (register)          DELETE /api/users/{id}
+ * GET    /api/feedback                  POST /api/feedback         DELETE /api/feedback/{id}
+ * POST   /api/feedback/{id}/resolve     POST /api/auth/login       GET /api/stats/monthly?year=&amp;month=
+ * GET    /api/feedback/page?status=&amp;q=&amp;offset=&amp;limit=            GET /api/feedback/duplicates?status=
+ * POST   /api/feedback/resolve {ids}    POST /api/feedback/delete {ids}
+ * POST   /api/reservations (hold)       POST /api/reservations/{id}/confirm   DELETE /api/reservations/{id}
+ * GET    /api/saved-searches?userId=N   POST /api/saved-searches   DELETE /api/saved-searches/{id}
+ * GET    /api/notifications?userId=N    POST /api/notifications/seen
+ * GET    /api/stats/rollups?period=day|month&amp;from=&amp;to= (ISO dates)
+ * </pre>
+ * The full room catalog is served from a {@link CatalogCache} with ETag revalidation.
+ * <p>
+ * Apart from health, login and registration every request needs the bearer token returned
+ * by {@code POST /api/auth/login}. Users, feedback management and statistics are for admins,
+ * and requests act as the logged in user: a user id sent by the client must be the caller's own.
+ */
+public class ApiServer {
+
+    public static final int DEFAULT_PORT = 8085;
+
+    private static final Logger LOG = Log.get("api");
+
+    private static final String STUDENT = "Student";
+    private static final String OWNER = "House Owner";
+    private static final String ADMIN = "Admin";
+    private static final String BEARER = "Bearer ";
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final RoomService rooms;
+    private final UserService users;
+    private final FeedbackService feedback;
+    private final AuthService auth;
+    private final ReservationService reservations;
+    private final SavedSearchService savedSearches;
+    private final StatsService stats;
+    private final CatalogCache catalog;
+    private final SessionStore sessions = new SessionStore();
+    private SeatHoldReaper seatHoldReaper;
+    private SavedSearchMatcher savedSearchMatcher;
+    private StatsAggregator statsAggregator;
+
+    public ApiServer(InetSocketAddress address, RoomService rooms, UserService users, FeedbackService feedback,
+                     AuthService auth, ReservationService reservations, SavedSearchService savedSearches,
+                     StatsService stats) throws IOException {
+        this.rooms = rooms;
+        this.users = users;
+        this.feedback = feedback;
+        this.auth = auth;
+        this.reservations = reservations;
+        this.savedSearches = savedSearches;
+        this.stats = stats;
+        this.catalog = new CatalogCache(rooms);
+
+        this.server = HttpServer.create(address, 0);
+        this.executor = newRequestExecutor();
+        server.setExecutor(executor);
+        server.createContext("/", exchange -> handle(exchange, Access.PUBLIC, request -> Response.notFound()));
+        server.createContext("/api/health", exchange -> handle(exchange, Access.PUBLIC, this::handleHealth));
+        server.createContext("/api/rooms", exchange -> handle(exchange, Access.LOGIN, this::handleRooms));
+        server.createContext("/api/users", exchange -> handle(exchange, Access.PUBLIC, this::handleUsers));
+        server.createContext("/api/feedback", exchange -> handle(exchange, Access.LOGIN, this::handleFeedback));
+        server.createContext("/api/auth/login", exchange -> handle(exchange, Access.PUBLIC, this::handleLogin));
+        server.createContext("/api/stats/monthly", exchange -> handle(exchange, Access.LOGIN, this::handleMonthlyStats));
+        server.createContext("/api/stats/rollups", exchange -> handle(exchange, Access.LOGIN, this::handleStatsRollups));
+        server.createContext("/api/reservations", exchange -> handle(exchange, Access.LOGIN, this::handleReservations));
+        server.createContext("/api/saved-searches", exchange -> handle(exchange, Access.LOGIN, this::handleSavedSearches));
+        server.createContext("/api/notifications", exchange -> handle(exchange, Access.LOGIN, this::handleNotifications));
+    }
+
+    /**
+     * Server backed by the MySQL database, with one dedicated connection per request.
+     */
+    public static ApiServer withDatabase(InetSocketAddress address) throws IOException {
+        ConnectionProvider connections = DatabaseConnection::openConnection;
+        JdbcReservationService reservations = new JdbcReservationService(connections);
+        JdbcRoomService rooms = new JdbcRoomService(connections);
+        JdbcSavedSearchService savedSearches = new JdbcSavedSearchService(connections);
+        JdbcStatsService stats = new JdbcStatsService(connections);
+        ApiServer server = new ApiServer(address, rooms, new JdbcUserService(connections),
+                new JdbcFeedbackService(connections), new JdbcAuthService(connections), reservations, savedSearches, stats);
+        server.seatHoldReaper = new SeatHoldReaper(reservations);
+        server.savedSearchMatcher = new SavedSearchMatcher(rooms, savedSearches);
+        server.statsAggregator = new StatsAggregator(stats);
+
+        // Changes made through other servers or desktop clients sharing the database
+        InvalidationBus bus = InvalidationBus.getInstance();
+        bus.subscribe(InvalidationEvent.ROOM, event -> server.catalog.invalidate());
+        bus.subscribe(InvalidationEvent.USER, event -> server.catalog.invalidate());
+        return server;
+    }
+
+    public void start() {
+        if (seatHoldReaper != null) {
+            seatHoldReaper.start();
+        }
+        if (savedSearchMatcher != null) {
+            savedSearchMatcher.start();
+        }
+        if (statsAggregator != null) {
+            statsAggregator.start();
+        }
+        server.start();
+        LOG.info("StudentNest API listening on http://{}:{}", server.getAddress().getHostString(), getPort());
+    }
+
+    public void stop() {
+        if (seatHoldReaper != null) {
+            seatHoldReaper.close();
+        }
+        if (savedSearchMatcher != null) {
+            savedSearchMatcher.close();
+        }
+        if (statsAggregator != null) {
+            statsAggregator.close();
+        }
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    public CatalogCache getCatalog() {
+        return catalog;
+    }
+
+    /**
+     * One virtual thread per request where the JDK supports it, a cached pool otherwise.
+     */
+    private static ExecutorService newRequestExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return Executors.newCachedThreadPool(r -> {
+                Thread t = new Thread(r, "api-request");
+                t.setDaemon(true);
+                return t;
+            });
+        }
+    }
+
+    // ========== HANDLERS ==========
+
+    private Response handleHealth(Request request) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("status", "ok");
+        return Response.ok(body);
+    }
+
+    private Response handleRooms(Request request) throws ServiceException, IOException {
+        List<String> path = request.pathAfter("/api/rooms");
+        switch (request.method) {
+            case "GET":
+                if (path.isEmpty()) {
+                    String ownerId = request.query.get("ownerId");
+                    if (ownerId == null) {
+                        return catalogResponse(request);
+                    }
+                    return Response.ok(ModelJson.fromRooms(rooms.listRoomsByOwner(Integer.parseInt(ownerId))));
+                }
+                if (path.size() == 1) {
+                    Room room = rooms.findRoom(Integer.parseInt(path.get(0)));
+                    return room != null ? Response.ok(ModelJson.fromRoom(room)) : Response.error(404, "Room not found");
+                }
+                break;
+            case "POST":
+                if (path.isEmpty()) {
+                    request.require(OWNER);
+                    Room room = ModelJson.toRoom(request.jsonObject());
+                    room.setOwnerId(request.userId(room.getOwnerId()));
+                    int id = rooms.addRoom(room);
+                    catalog.invalidate();
+                    return Response.created(Map.of("id", id));
+                }
+                break;
+            case "PUT":
+                if (path.size() == 1) {
+                    Room room = ModelJson.toRoom(request.jsonObject());
+                    room.setId(Integer.parseInt(path.get(0)));
+                    if (!ownsRoom(request, room.getId(), false)) {
+                        return Response.error(404, "Room not found");
+                    }
+                    room.setOwnerId(request.session().userId);
+                    // A stale version surfaces as a RoomConflictException, answered with 409
+                    if (!rooms.updateRoom(room)) {
+                        return Response.error(404, "Room not found");
+                    }
+                    catalog.invalidate();
+                    return Response.ok(Map.of("ok", true, "version", room.getVersion()));
+                }
+                break;
+            case "DELETE":
+                if (path.size() == 1) {
+                    int roomId = Integer.parseInt(path.get(0));
+                    boolean deleted = ownsRoom(request, roomId, true) && rooms.deleteRoom(roomId);
+                    catalog.invalidate();
+                    return found(deleted, "Room");
+                }
+                break;
+        }
+        return Response.notFound();
+    }
+
+    private Response handleUsers(Request request) throws ServiceException, IOException {
+        List<String> path = request.pathAfter("/api/users");
+        // Registration is the only call made before logging in
+        if (request.method.equals("POST") && path.isEmpty()) {
+            boolean registered = users.registerUser(ModelJson.toUser(request.jsonObject()));
+            return registered ? Response.created(Map.of("registered", true))
+                    : Response.error(409, "Username already exists");
+        }
+        if (request.method.equals("GET") && path.equals(List.of("count"))) {
+            request.session();
+            return Response.ok(Map.of("count", users.countUsers()));
+        }
+        request.require(ADMIN);
+        if (request.method.equals("GET") && path.isEmpty()) {
+            List<Map<String, Object>> body = new ArrayList<>();
+            for (User user : users.listUsers()) {
+                body.add(ModelJson.fromUser(user));
+            }
+            return Response.ok(body);
+        }
+        if (request.method.equals("GET") && path.equals(List.of("by-type"))) {
+            return Response.ok(users.countUsersByType());
+        }
+        if (request.method.equals("DELETE") && path.size() == 1) {
+            // Deleting an owner also deletes their rooms
+            boolean deleted = users.deleteUser(Integer.parseInt(path.get(0)));
+            catalog.invalidate();
+            return found(deleted, "User");
+        }
+        return Response.notFound();
+    }
+
+    private Response handleFeedback(Request request) throws ServiceException, IOException {
+        List<String> path = request.pathAfter("/api/feedback");
+        if (request.method.equals("POST") && path.isEmpty()) {
+            Map<String, Object> body = request.jsonObject();
+            String text = ModelJson.string(body.get("feedbackText"));
+            if (text == null || text.isBlank()) {
+                return Response.error(400, "feedbackText is required");
+            }
+            boolean submitted = feedback.submitFeedback(request.userId(body.get("userId")), text);
+            return submitted ? Response.created(Map.of("submitted", true)) : Response.error(500, "Feedback was not saved");
+        }
+        // Everything else manages the feedback of all users
+        request.require(ADMIN);
+        if (request.method.equals("GET") && path.isEmpty()) {
+            List<Map<String, Object>> body = new ArrayList<>();
+            for (Feedback fb : feedback.listFeedback()) {
+                body.add(ModelJson.fromFeedback(fb));
+            }
+            return Response.ok(body);
+        }
+        if (request.method.equals("GET") && path.equals(List.of("page"))) {
+            int offset = Integer.parseInt(request.query.getOrDefault("offset", "0"));
+            int limit = Integer.parseInt(request.query.getOrDefault("limit", "50"));
+            return Response.ok(ModelJson.fromFeedbackPage(
+                    feedback.findFeedback(request.query.get("status"), request.query.get("q"), offset, limit)));
+        }
+        if (request.method.equals("GET") && path.equals(List.of("duplicates"))) {
+            List<Map<String, Object>> body = new ArrayList<>();
+            for (FeedbackCluster cluster : feedback.findDuplicates(request.query.get("status"))) {
+                body.add(ModelJson.fromFeedbackCluster(cluster));
+            }
+            return Response.ok(body);
+        }
+        if (request.method.equals("POST") && (path.equals(List.of("resolve")) || path.equals(List.of("delete")))) {
+            Object ids = request.jsonObject().get("ids");
+            if (!(ids instanceof List)) {
+                return Response.error(400, "ids is required");
+            }
+            @SuppressWarnings("unchecked")
+            List<Integer> feedbackIds = ModelJson.intValues((List<Object>) ids);
+            int changed = path.get(0).equals("resolve") ? feedback.markResolved(feedbackIds) : feedback.deleteFeedback(feedbackIds);
+            return Response.ok(Map.of("changed", changed));
+        }
+        if (request.method.equals("DELETE") && path.size() == 1) {
+            return found(feedback.deleteFeedback(Integer.parseInt(path.get(0))), "Feedback");
+        }
+        if (request.method.equals("POST") && path.size() == 2 && path.get(1).equals("resolve")) {
+            return found(feedback.markResolved(Integer.parseInt(path.get(0))), "Feedback");
+        }
+        return Response.notFound();
+    }
+
+    private Response handleLogin(Request request) throws ServiceException, IOException {
+        if (!request.method.equals("POST")) {
+            return Response.error(405, "Use POST");
+        }
+        Map<String, Object> body = request.jsonObject();
+        User user = auth.authenticate(ModelJson.string(body.get("username")),
+                ModelJson.string(body.get("password")), ModelJson.string(body.get("userType")));
+        if (user == null) {
+            return Response.error(401, "Invalid credentials");
+        }
+        Map<String, Object> response = ModelJson.fromUser(user);
+        response.put("token", sessions.open(user).token);
+        return Response.ok(response);
+    }
+
+    private Response handleReservations(Request request) throws ServiceException, IOException {
+        List<String> path = request.pathAfter("/api/reservations");
+        request.require(STUDENT);
+        if (request.method.equals("POST") && path.isEmpty()) {
+            Map<String, Object> body = request.jsonObject();
+            // Sold out and unknown rooms come back as 409 and 404 ServiceExceptions
+            SeatHold hold;
+            try {
+                hold = reservations.holdSeat(ModelJson.intValue(body.get("roomId")), request.userId(body.get("studentId")));
+            } catch (SeatAlreadyHeldException e) {
+                // Also a 409; the reason tells the client it is not the room that is full
+                return Response.error(409, e.getMessage(), SeatAlreadyHeldException.REASON);
+            }
+            // Seat counts are part of the catalog
+            catalog.invalidate();
+            return Response.created(ModelJson.fromSeatHold(hold));
+        }
+        if (request.method.equals("POST") && path.size() == 2 && path.get(1).equals("confirm")) {
+            // Another student's hold is reported as not found
+            int studentId = request.userId(request.jsonObject().get("studentId"));
+            return found(reservations.confirmHold(Integer.parseInt(path.get(0)), studentId), "Seat hold");
+        }
+        if (request.method.equals("DELETE") && path.size() == 1) {
+            int studentId = request.userId(request.query.get("studentId"));
+            boolean released = reservations.releaseHold(Integer.parseInt(path.get(0)), studentId);
+            catalog.invalidate();
+            return found(released, "Seat hold");
+        }
+        return Response.notFound();
+    }
+
+    private Response handleSavedSearches(Request request) throws ServiceException, IOException {
+        List<String> path = request.pathAfter("/api/saved-searches");
+        if (request.method.equals("GET") && path.isEmpty()) {
+            List<Map<String, Object>> body = new ArrayList<>();
+            for (SavedSearch search : savedSearches.listSavedSearches(request.userId(request.query.get("userId")))) {
+                body.add(ModelJson.fromSavedSearch(search));
+            }
+            return Response.ok(body);
+        }
+        if (request.method.equals("POST") && path.isEmpty()) {
+            SavedSearch search = ModelJson.toSavedSearch(request.jsonObject());
+            if (search.getName() == null || search.getName().isBlank()) {
+                return Response.error(400, "name is required");
+            }
+            search.setUserId(request.userId(search.getUserId()));
+            return Response.created(Map.of("id", savedSearches.saveSearch(search)));
+        }
+        if (request.method.equals("DELETE") && path.size() == 1) {
+            int searchId = Integer.parseInt(path.get(0));
+            // Another user's search is reported as not found
+            boolean owned = false;
+            for (SavedSearch search : savedSearches.listSavedSearches(request.session().userId)) {
+                owned |= search.getId() == searchId;
+            }
+            return found(owned && savedSearches.deleteSavedSearch(searchId), "Saved search");
+        }
+        return Response.notFound();
+    }
+
+    private Response handleNotifications(Request request) throws ServiceException, IOException {
+        List<String> path = request.pathAfter("/api/notifications");
+        if (request.method.equals("GET") && path.isEmpty()) {
+            List<Map<String, Object>> body = new ArrayList<>();
+            for (SearchNotification notification : savedSearches.listUnseenNotifications(request.userId(request.query.get("userId")))) {
+                body.add(ModelJson.fromSearchNotification(notification));
+            }
+            return Response.ok(body);
+        }
+        if (request.method.equals("POST") && path.equals(List.of("seen"))) {
+            int userId = request.userId(request.jsonObject().get("userId"));
+            return Response.ok(Map.of("seen", savedSearches.markNotificationsSeen(userId)));
+        }
+        return Response.notFound();
+    }
+
+    private Response handleMonthlyStats(Request request) throws ServiceException {
+        request.require(ADMIN);
+        int year = Integer.parseInt(request.query.getOrDefault("year", "0"));
+        int month = Integer.parseInt(request.query.getOrDefault("month", "0"));
+        if (year <= 0 || month < 1 || month > 12) {
+            return Response.error(400, "year and month are required");
+        }
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("users", users.countUsersCreatedIn(year, month));
+        body.put("rooms", rooms.countRoomsCreatedIn(year, month));
+        return Response.ok(body);
+    }
+
+    private Response handleStatsRollups(Request request) throws ServiceException {
+        request.require(ADMIN);
+        String period = request.query.getOrDefault("period", StatsBucket.DAY);
+        if (!period.equals(StatsBucket.DAY) && !period.equals(StatsBucket.MONTH)) {
+            return Response.error(400, "period must be day or month");
+        }
+        LocalDate from;
+        LocalDate to;
+        try {
+            from = LocalDate.parse(request.query.getOrDefault("from", ""));
+            to = LocalDate.parse(request.query.getOrDefault("to", ""));
+        } catch (DateTimeParseException e) {
+            return Response.error(400, "from and to must be dates like 2024-01-31");
+        }
+        List<Map<String, Object>> body = new ArrayList<>();
+        for (StatsBucket bucket : stats.listBuckets(period, from, to)) {
+            body.add(ModelJson.fromStatsBucket(bucket));
+        }
+        return Response.ok(body);
+    }
+
+    /**
+     * Full catalog from the shared snapshot: 304 when the client already has this version,
+     * otherwise the pre-encoded body, gzipped if the client accepts it.
+     */
+    private Response catalogResponse(Request request) throws ServiceException {
+        CatalogCache.Snapshot snapshot = catalog.current();
+        Response response;
+        if (snapshot.matches(request.header("If-None-Match"))) {
+            catalog.recordNotModified();
+            response = new Response(304, null);
+        } else if (request.acceptsGzip()) {
+            response = Response.raw(snapshot.getGzip());
+            response.headers.put("Content-Encoding", "gzip");
+        } else {
+            response = Response.raw(snapshot.getJson());
+        }
+        response.headers.put("ETag", snapshot.getEtag());
+        response.headers.put("Cache-Control", "no-cache");
+        response.headers.put("Vary", "Accept-Encoding");
+        return response;
+    }
+
+    /**
+     * Owners may change their own rooms, admins may also delete any room.
+     * @return False if the room does not exist or belongs to another owner
+     */
+    private boolean ownsRoom(Request request, int roomId, boolean adminAllowed) throws ServiceException {
+        if (adminAllowed && request.session().is(ADMIN)) {
+            return true;
+        }
+        SessionStore.Session session = request.require(OWNER);
+        Room room = rooms.findRoom(roomId);
+        return room != null && room.getOwnerId() == session.userId;
+    }
+
+    private static Response found(boolean changed, String entity) {
+        return changed ? Response.ok(Map.of("ok", true)) : Response.error(404, entity + " not found");
+    }
+
+    // ========== PLUMBING ==========
+
+    @FunctionalInterface
+    private interface Handler {
+        Response handle(Request request) throws ServiceException, IOException;
+    }
+
+    /**
+     * Whether a context needs a session before its handler runs. Handlers of public contexts
+     * check the session themselves for the calls that need one.
+     */
+    private enum Access { PUBLIC, LOGIN }
+
+    private void handle(HttpExchange exchange, Access access, Handler handler) throws IOException {
+        Response response;
+        try {
+            Request request = new Request(exchange, authenticate(exchange));
+            if (access == Access.LOGIN) {
+                request.session();
+            }
+            response = handler.handle(request);
+        } catch (ServiceException e) {
+            LOG.warn("API error on {}: {}", exchange.getRequestURI(), e.getMessage());
+            response = Response.error(e.getStatus(), e.getMessage());
+        } catch (IllegalArgumentException e) {
+            // Covers malformed JSON and non-numeric ids
+            response = Response.error(400, "Bad request: " + e.getMessage());
+        } catch (Exception e) {
+            LOG.error("API request {} {} failed", exchange.getRequestMethod(), exchange.getRequestURI(), e);
+            response = Response.error(500, "Internal server error");
+        }
+
+        try {
+            response.headers.forEach((name, value) -> exchange.getResponseHeaders().set(name, value));
+            if (response.status == 304) {
+                exchange.sendResponseHeaders(304, -1);
+                return;
+            }
+            byte[] bytes = response.rawBody != null
+                    ? response.rawBody
+                    : Json.write(response.body).getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+            exchange.sendResponseHeaders(response.status, bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * @return The session named by the Authorization header, null if there is none or it expired
+     */
+    private SessionStore.Session authenticate(HttpExchange exchange) {
+        String authorization = exchange.getRequestHeaders().getFirst("Authorization");
+        if (authorization == null || !authorization.startsWith(BEARER)) {
+            return null;
+        }
+        return sessions.find(authorization.substring(BEARER.length()).trim());
+    }
+
+    private static final class Request {
+        final HttpExchange exchange;
+        final SessionStore.Session session;
+        final String method;
+        final String path;
+        final Map<String, String> query;
+
+        Request(HttpExchange exchange, SessionStore.Session session) {
+            this.exchange = exchange;
+            this.session = session;
+            this.method = exchange.getRequestMethod().toUpperCase();
+            this.path = exchange.getRequestURI().getPath();
+            this.query = parseQuery(exchange.getRequestURI().getRawQuery());
+        }
+
+        List<String> pathAfter(String prefix) {
+            List<String> segments = new ArrayList<>();
+            for (String segment : path.substring(Math.min(prefix.length(), path.length())).split("/")) {
+                if (!segment.isEmpty()) {
+                    segments.add(segment);
+                }
+            }
+            return segments;
+        }
+
+        String header(String name) {
+            return exchange.getRequestHeaders().getFirst(name);
+        }
+
+        SessionStore.Session session() throws ServiceException {
+            if (session == null) {
+                throw new ServiceException("Not logged in or the session expired", 401, null);
+            }
+            return session;
+        }
+
+        /**
+         * @return The session, if the caller is logged in with the given account type
+         */
+        SessionStore.Session require(String userType) throws ServiceException {
+            SessionStore.Session current = session();
+            if (!current.is(userType)) {
+                throw new ServiceException("Not allowed for a " + current.userType + " account", 403, null);
+            }
+            return current;
+        }
+
+        /**
+         * @param claimed User id sent by the client, null or 0 if it sent none
+         * @return The caller's user id
+         * @throws ServiceException 403 when the client claimed someone else's id
+         */
+        int userId(Object claimed) throws ServiceException {
+            int userId = session().userId;
+            int claimedId = ModelJson.intValue(claimed);
+            if (claimedId != 0 && claimedId != userId) {
+                throw new ServiceException("Not allowed for another user's account", 403, null);
+            }
+            return userId;
+        }
+
+        boolean acceptsGzip() {
+            String accept = header("Accept-Encoding");
+            return accept != null && accept.toLowerCase().contains("gzip");
+        }
+
+        Map<String, Object> jsonObject() throws IOException {
+            try (InputStream in = exchange.getRequestBody()) {
+                return Json.parseObject(new String(in.readAllBytes(), StandardCharsets.UTF_8));
+            }
+        }
+
+        private static Map<String, String> parseQuery(String rawQuery) {
+            Map<String, String> params = new HashMap<>();
+            if (rawQuery == null || rawQuery.isEmpty()) {
+                return params;
+            }
+            for (String pair : rawQuery.split("&")) {
+                int eq = pair.indexOf('=');
+                String key = eq >= 0 ? pair.substring(0, eq) : pair;
+                String value = eq >= 0 ? pair.substring(eq + 1) : "";
+                params.put(URLDecoder.decode(key, StandardCharsets.UTF_8), URLDecoder.decode(value, StandardCharsets.UTF_8));
+            }
+            return params;
+        }
+    }
+
+    private static final class Response {
+        final int status;
+        final Object body;
+        final Map<String, String> headers = new LinkedHashMap<>();
+        byte[] rawBody;
+
+        Response(int status, Object body) {
+            this.status = status;
+            this.body = body;
+        }
+
+        /**
+         * Response with an already encoded JSON body.
+         */
+        static Response raw(byte[] json) {
+            Response response = new Response(200, null);
+            response.rawBody = json;
+            return response;
+        }
+
+        static Response ok(Object body) {
+            return new Response(200, body);
+        }
+
+        static Response created(Object body) {
+            return new Response(201, body);
+        }
+
+        static Response notFound() {
+            return error(404, "Not found");
+        }
+
+        static Response error(int status, String message) {
+            return new Response(status, Map.of("error", message != null ? message : "Error"));
+        }
+
+        /**
+         * @param reason Machine readable cause, for errors the client has to tell apart from others with the same status
+         */
+        static Response error(int status, String message, String reason) {
+            return new Response(status, Map.of("error", message != null ? message : "Error", "reason", reason));
+        }
+    }
+
+    /**
+     * Usage: ApiServer [port] [bind-address]. Binds to the loopback interface by default.
+     */
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+        InetAddress host = args.length > 1 ? InetAddress.getByName(args[1]) : InetAddress.getLoopbackAddress();
+        if (!host.isLoopbackAddress()) {
+            LOG.warn("Listening on {} over plain HTTP, login tokens can be read on the network unless a TLS proxy is in front",
+                    host.getHostAddress());
+        }
+        ApiServer server = withDatabase(new InetSocketAddress(host, port));
+        Runtime.getRuntime().addShutdownHook(new Thread(server::stop));
+        server.start();
+    }
+}
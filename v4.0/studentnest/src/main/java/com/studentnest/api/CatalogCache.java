@@ -0,0 +1,170 @@
+package com.studentnest.api;
+
+import com.studentnest.models.Room;
+import com.studentnest.services.RoomService;
+import com.studentnest.services.ServiceException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Shared, versioned snapshot of the room catalog served by {@code GET /api/rooms}.
+ * <p>
+ * The catalog join runs once per version. The snapshot holds the encoded JSON, a
+ * gzip copy of it and an ETag derived from the content, so a repeat load by a
+ * client that already has the data is a single string comparison. Room mutations
+ * call {@link #invalidate()}; a load that overlaps an invalidation is discarded
+ * instead of being published, so a stale catalog is never cached. The version and the
+ * snapshot are swapped together with a compare-and-set, so an invalidation can never
+ * slip in between the version check and the publish.
+ */
+public class CatalogCache {
+
+    private final RoomService rooms;
+    private final AtomicReference<State> state = new AtomicReference<>(new State(0, null));
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong notModified = new AtomicLong();
+
+    public CatalogCache(RoomService rooms) {
+        this.rooms = rooms;
+    }
+
+    /**
+     * @return The current snapshot, loading it from the room service if it was invalidated
+     */
+    public Snapshot current() throws ServiceException {
+        Snapshot current = state.get().snapshot;
+        if (current != null) {
+            hits.incrementAndGet();
+            return current;
+        }
+        synchronized (this) {
+            // Another request may have loaded it while we waited
+            State before = state.get();
+            if (before.snapshot != null) {
+                hits.incrementAndGet();
+                return before.snapshot;
+            }
+            misses.incrementAndGet();
+            Snapshot loaded = Snapshot.encode(before.version, rooms.listRooms());
+            // Fails if an invalidation came in during the load; the next request loads again
+            state.compareAndSet(before, new State(before.version, loaded));
+            return loaded;
+        }
+    }
+
+    /**
+     * Drops the snapshot; the next request reloads the catalog.
+     */
+    public void invalidate() {
+        State current;
+        do {
+            current = state.get();
+        } while (!state.compareAndSet(current, new State(current.version + 1, null)));
+    }
+
+    /**
+     * Called when a conditional request matched the current ETag.
+     */
+    void recordNotModified() {
+        notModified.incrementAndGet();
+    }
+
+    public long getVersion() { return state.get().version; }
+    public long getHits() { return hits.get(); }
+    public long getMisses() { return misses.get(); }
+    public long getNotModified() { return notModified.get(); }
+
+    // Catalog version and the snapshot loaded for it, null until loaded
+    private static final class State {
+        final long version;
+        final Snapshot snapshot;
+
+        State(long version, Snapshot snapshot) {
+            this.version = version;
+            this.snapshot = snapshot;
+        }
+    }
+
+    /**
+     * Immutable encoded catalog.
+     */
+    public static final class Snapshot {
+        private final long version;
+        private final int roomCount;
+        private final String etag;
+        private final byte[] json;
+        private final byte[] gzip;
+
+        private Snapshot(long version, int roomCount, String etag, byte[] json, byte[] gzip) {
+            this.version = version;
+            this.roomCount = roomCount;
+            this.etag = etag;
+            this.json = json;
+            this.gzip = gzip;
+        }
+
+        static Snapshot encode(long version, List<Room> rooms) {
+            byte[] json = Json.write(ModelJson.fromRooms(rooms)).getBytes(StandardCharsets.UTF_8);
+            return new Snapshot(version, rooms.size(), etagFor(json), json, gzip(json));
+        }
+
+        public long getVersion() { return version; }
+        public int getRoomCount() { return roomCount; }
+        public String getEtag() { return etag; }
+        public byte[] getJson() { return json; }
+        public byte[] getGzip() { return gzip; }
+
+        /**
+         * @param ifNoneMatch Value of the If-None-Match request header, may be null
+         */
+        public boolean matches(String ifNoneMatch) {
+            if (ifNoneMatch == null) {
+                return false;
+            }
+            for (String candidate : ifNoneMatch.split(",")) {
+                String tag = candidate.trim();
+                if (tag.startsWith("W/")) {
+                    tag = tag.substring(2);
+                }
+                if (tag.equals(etag) || tag.equals("*")) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        // Content hash rather than the version number, so identical catalogs get the same tag across restarts
+        private static String etagFor(byte[] json) {
+            try {
+                byte[] digest = MessageDigest.getInstance("SHA-256").digest(json);
+                StringBuilder tag = new StringBuilder("\"");
+                for (int i = 0; i < 16; i++) {
+                    tag.append(String.format("%02x", digest[i]));
+                }
+                return tag.append('"').toString();
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("SHA-256 not available", e);
+            }
+        }
+
+        private static byte[] gzip(byte[] data) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, data.length / 4));
+            try (GZIPOutputStream gz = new GZIPOutputStream(out)) {
+                gz.write(data);
+            } catch (IOException e) {
+                throw new IllegalStateException("Could not compress catalog", e);
+            }
+            return out.toByteArray();
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.studentnest.api;
+
+import com.studentnest.models.User;
+import com.studentnest.services.AuthService;
+import com.studentnest.services.ServiceException;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * {@link AuthService} that forwards to the StudentNest API server. A successful login
+ * gives the client the session token for all later requests.
+ */
+public class HttpAuthService implements AuthService {
+
+    private final ApiClient client;
+
+    public HttpAuthService(ApiClient client) {
+        this.client = client;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public User authenticate(String username, String password, String userType) throws ServiceException {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("username", username);
+        body.put("password", password);
+        body.put("userType", userType);
+        try {
+            Map<String, Object> response = (Map<String, Object>) client.post("/api/auth/login", body);
+            client.setToken(ModelJson.string(response.get("token")));
+            return ModelJson.toUser(response);
+        } catch (ServiceException e) {
+            if (e.getStatus() == 401) {
+                // The previous user's session must not outlive a failed login
+                client.setToken(null);
+                return null;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.studentnest.api;
+
+import com.studentnest.models.Feedback;
+import com.studentnest.models.FeedbackCluster;
+import com.studentnest.models.FeedbackPage;
+import com.studentnest.services.FeedbackService;
+import com.studentnest.services.ServiceException;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link FeedbackService} that forwards to the StudentNest API server.
+ */
+public class HttpFeedbackService implements FeedbackService {
+
+    private final ApiClient client;
+
+    public HttpFeedbackService(ApiClient client) {
+        this.client = client;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Feedback> listFeedback() throws ServiceException {
+        List<Feedback> feedback = new ArrayList<>();
+        for (Object item : (List<Object>) client.get("/api/feedback")) {
+            feedback.add(ModelJson.toFeedback((Map<String, Object>) item));
+        }
+        return feedback;
+    }
+
+    @Override
+    public boolean submitFeedback(int userId, String feedbackText) throws ServiceException {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("userId", userId);
+        body.put("feedbackText", feedbackText);
+        client.post("/api/feedback", body);
+        return true;
+    }
+
+    @Override
+    public boolean deleteFeedback(int feedbackId) throws ServiceException {
+        return HttpServices.succeeded(() -> client.delete("/api/feedback/" + feedbackId));
+    }
+
+    @Override
+    public boolean markResolved(int feedbackId) throws ServiceException {
+        return HttpServices.succeeded(() -> client.post("/api/feedback/" + feedbackId + "/resolve", null));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public FeedbackPage findFeedback(String status, String query, int offset, int limit) throws ServiceException {
+        StringBuilder path = new StringBuilder("/api/feedback/page?offset=").append(offset).append("&limit=").append(limit);
+        if (status != null) {
+            path.append("&status=").append(URLEncoder.encode(status, StandardCharsets.UTF_8));
+        }
+        if (query != null && !query.isBlank()) {
+            path.append("&q=").append(URLEncoder.encode(query, StandardCharsets.UTF_8));
+        }
+        return ModelJson.toFeedbackPage((Map<String, Object>) client.get(path.toString()));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<FeedbackCluster> findDuplicates(String status) throws ServiceException {
+        String path = "/api/feedback/duplicates" + (status != null ? "?status=" + URLEncoder.encode(status, StandardCharsets.UTF_8) : "");
+        List<FeedbackCluster> clusters = new ArrayList<>();
+        for (Object item : (List<Object>) client.get(path)) {
+            clusters.add(ModelJson.toFeedbackCluster((Map<String, Object>) item));
+        }
+        return clusters;
+    }
+
+    @Override
+    public int markResolved(List<Integer> feedbackIds) throws ServiceException {
+        return changeAll("/api/feedback/resolve", feedbackIds);
+    }
+
+    @Override
+    public int deleteFeedback(List<Integer> feedbackIds) throws ServiceException {
+        return changeAll("/api/feedback/delete", feedbackIds);
+    }
+
+    @SuppressWarnings("unchecked")
+    private int changeAll(String path, List<Integer> feedbackIds) throws ServiceException {
+        Map<String, Object> response = (Map<String, Object>) client.post(path, Map.of("ids", feedbackIds));
+        return ModelJson.intValue(response.get("changed"));
+    }
+}
@@ -0,0 +1,40 @@
+package com.studentnest.api;
+
+import com.studentnest.models.SeatHold;
+import com.studentnest.services.ReservationService;
+import com.studentnest.services.ServiceException;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * {@link ReservationService} that forwards to the StudentNest API server, which also
+ * runs the reaper for expired holds.
+ */
+public class HttpReservationService implements ReservationService {
+
+    private final ApiClient client;
+
+    public HttpReservationService(ApiClient client) {
+        this.client = client;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public SeatHold holdSeat(int roomId, int studentId) throws ServiceException {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("roomId", roomId);
+        body.put("studentId", studentId);
+        return ModelJson.toSeatHold((Map<String, Object>) client.post("/api/reservations", body));
+    }
+
+    @Override
+    public boolean confirmHold(int holdId, int studentId) throws ServiceException {
+        return HttpServices.succeeded(() -> client.post("/api/reservations/" + holdId + "/confirm", Map.of("studentId", studentId)));
+    }
+
+    @Override
+    public boolean releaseHold(int holdId, int studentId) throws ServiceException {
+        return HttpServices.succeeded(() -> client.delete("/api/reservations/" + holdId + "?studentId=" + studentId));
+    }
+}
@@ -0,0 +1,87 @@
+package com.studentnest.api;
+
+import com.studentnest.models.Room;
+import com.studentnest.services.RoomConflictException;
+import com.studentnest.services.RoomService;
+import com.studentnest.services.ServiceException;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link RoomService} that forwards to the StudentNest API server.
+ */
+public class HttpRoomService implements RoomService {
+
+    private final ApiClient client;
+
+    public HttpRoomService(ApiClient client) {
+        this.client = client;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Room> listRooms() throws ServiceException {
+        // Revalidated with the catalog ETag; an unchanged catalog is not transferred again
+        return ModelJson.toRooms((List<Object>) client.getCached("/api/rooms"));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Room findRoom(int roomId) throws ServiceException {
+        try {
+            return ModelJson.toRoom((Map<String, Object>) client.get("/api/rooms/" + roomId));
+        } catch (ServiceException e) {
+            if (e.getStatus() == 404) {
+                return null;
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Room> listRoomsByOwner(int ownerId) throws ServiceException {
+        return ModelJson.toRooms((List<Object>) client.get("/api/rooms?ownerId=" + ownerId));
+    }
+
+    @Override
+    public int addRoom(Room room) throws ServiceException {
+        Map<?, ?> response = (Map<?, ?>) client.post("/api/rooms", ModelJson.fromRoom(room));
+        return ModelJson.intValue(response.get("id"));
+    }
+
+    @Override
+    public boolean updateRoom(Room room) throws ServiceException {
+        Map<?, ?> response;
+        try {
+            response = (Map<?, ?>) client.put("/api/rooms/" + room.getId(), ModelJson.fromRoom(room));
+        } catch (ServiceException e) {
+            if (e.getStatus() == 404) {
+                return false;
+            }
+            if (e.getStatus() != 409) {
+                throw e;
+            }
+            // The error body carries only a message; fetch the winning version to merge against
+            Room current = findRoom(room.getId());
+            if (current == null) {
+                return false;
+            }
+            throw new RoomConflictException(current);
+        }
+        room.setVersion(ModelJson.intValue(response.get("version")));
+        return true;
+    }
+
+    @Override
+    public boolean deleteRoom(int roomId) throws ServiceException {
+        return HttpServices.succeeded(() -> client.delete("/api/rooms/" + roomId));
+    }
+
+    @Override
+    public int countRoomsCreatedIn(int year, int month) throws ServiceException {
+        Map<?, ?> response = (Map<?, ?>) client.get("/api/stats/monthly?year=" + year + "&month=" + month);
+        return ModelJson.intValue(response.get("rooms"));
+    }
+}
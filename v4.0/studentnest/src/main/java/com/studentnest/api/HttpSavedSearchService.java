@@ -0,0 +1,63 @@
+package com.studentnest.api;
+
+import com.studentnest.models.SavedSearch;
+import com.studentnest.models.SearchNotification;
+import com.studentnest.services.SavedSearchService;
+import com.studentnest.services.ServiceException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link SavedSearchService} that forwards to the StudentNest API server, which also
+ * runs the matcher queueing the notifications.
+ */
+public class HttpSavedSearchService implements SavedSearchService {
+
+    private final ApiClient client;
+
+    public HttpSavedSearchService(ApiClient client) {
+        this.client = client;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<SavedSearch> listSavedSearches(int userId) throws ServiceException {
+        List<SavedSearch> searches = new ArrayList<>();
+        for (Object item : (List<Object>) client.get("/api/saved-searches?userId=" + userId)) {
+            searches.add(ModelJson.toSavedSearch((Map<String, Object>) item));
+        }
+        return searches;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public int saveSearch(SavedSearch search) throws ServiceException {
+        Map<String, Object> response = (Map<String, Object>) client.post("/api/saved-searches", ModelJson.fromSavedSearch(search));
+        search.setId(ModelJson.intValue(response.get("id")));
+        return search.getId();
+    }
+
+    @Override
+    public boolean deleteSavedSearch(int searchId) throws ServiceException {
+        return HttpServices.succeeded(() -> client.delete("/api/saved-searches/" + searchId));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<SearchNotification> listUnseenNotifications(int userId) throws ServiceException {
+        List<SearchNotification> notifications = new ArrayList<>();
+        for (Object item : (List<Object>) client.get("/api/notifications?userId=" + userId)) {
+            notifications.add(ModelJson.toSearchNotification((Map<String, Object>) item));
+        }
+        return notifications;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public int markNotificationsSeen(int userId) throws ServiceException {
+        Map<String, Object> response = (Map<String, Object>) client.post("/api/notifications/seen", Map.of("userId", userId));
+        return ModelJson.intValue(response.get("seen"));
+    }
+}
@@ -0,0 +1,32 @@
+package com.studentnest.api;
+
+import com.studentnest.services.ServiceException;
+
+/**
+ * Helpers shared by the HTTP-backed services.
+ */
+final class HttpServices {
+
+    private HttpServices() {}
+
+    @FunctionalInterface
+    interface Call {
+        Object run() throws ServiceException;
+    }
+
+    /**
+     * Runs a mutation and maps a 404 to false, matching the JDBC services which
+     * return false when no row was affected.
+     */
+    static boolean succeeded(Call call) throws ServiceException {
+        try {
+            call.run();
+            return true;
+        } catch (ServiceException e) {
+            if (e.getStatus() == 404) {
+                return false;
+            }
+            throw e;
+        }
+    }
+}
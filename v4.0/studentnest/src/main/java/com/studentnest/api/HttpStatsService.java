@@ -0,0 +1,37 @@
+package com.studentnest.api;
+
+import com.studentnest.models.StatsBucket;
+import com.studentnest.services.ServiceException;
+import com.studentnest.services.StatsService;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link StatsService} that forwards to the StudentNest API server, which also runs the
+ * aggregator keeping the rollups up to date.
+ */
+public class HttpStatsService implements StatsService {
+
+    private final ApiClient client;
+
+    public HttpStatsService(ApiClient client) {
+        this.client = client;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<StatsBucket> listBuckets(String period, LocalDate from, LocalDate to) throws ServiceException {
+        String path = "/api/stats/rollups?period=" + URLEncoder.encode(period, StandardCharsets.UTF_8) +
+                "&from=" + from + "&to=" + to;
+        List<StatsBucket> buckets = new ArrayList<>();
+        for (Object item : (List<Object>) client.get(path)) {
+            buckets.add(ModelJson.toStatsBucket((Map<String, Object>) item));
+        }
+        return buckets;
+    }
+}
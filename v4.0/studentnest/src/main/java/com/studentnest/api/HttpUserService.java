@@ -0,0 +1,70 @@
+package com.studentnest.api;
+
+import com.studentnest.models.User;
+import com.studentnest.services.ServiceException;
+import com.studentnest.services.UserService;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link UserService} that forwards to the StudentNest API server.
+ */
+public class HttpUserService implements UserService {
+
+    private final ApiClient client;
+
+    public HttpUserService(ApiClient client) {
+        this.client = client;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<User> listUsers() throws ServiceException {
+        List<User> users = new ArrayList<>();
+        for (Object item : (List<Object>) client.get("/api/users")) {
+            users.add(ModelJson.toUser((Map<String, Object>) item));
+        }
+        return users;
+    }
+
+    @Override
+    public int countUsers() throws ServiceException {
+        return ModelJson.intValue(((Map<?, ?>) client.get("/api/users/count")).get("count"));
+    }
+
+    @Override
+    public Map<String, Integer> countUsersByType() throws ServiceException {
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        for (Map.Entry<?, ?> entry : ((Map<?, ?>) client.get("/api/users/by-type")).entrySet()) {
+            counts.put(String.valueOf(entry.getKey()), ModelJson.intValue(entry.getValue()));
+        }
+        return counts;
+    }
+
+    @Override
+    public int countUsersCreatedIn(int year, int month) throws ServiceException {
+        Map<?, ?> response = (Map<?, ?>) client.get("/api/stats/monthly?year=" + year + "&month=" + month);
+        return ModelJson.intValue(response.get("users"));
+    }
+
+    @Override
+    public boolean registerUser(User user) throws ServiceException {
+        try {
+            client.post("/api/users", ModelJson.fromRegistration(user));
+            return true;
+        } catch (ServiceException e) {
+            if (e.getStatus() == 409) {
+                return false;
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean deleteUser(int userId) throws ServiceException {
+        return HttpServices.succeeded(() -> client.delete("/api/users/" + userId));
+    }
+}
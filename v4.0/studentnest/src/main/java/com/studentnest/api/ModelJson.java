@@ -0,0 +1,289 @@
+package com.studentnest.api;
+
+import com.studentnest.models.Feedback;
+import com.studentnest.models.FeedbackCluster;
+import com.studentnest.models.FeedbackPage;
+import com.studentnest.models.Room;
+import com.studentnest.models.SavedSearch;
+import com.studentnest.models.SearchNotification;
+import com.studentnest.models.SeatHold;
+import com.studentnest.models.StatsBucket;
+import com.studentnest.models.User;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Converts the models to and from the maps used by {@link Json}.
+ * Timestamps travel as epoch milliseconds, dates as ISO strings.
+ */
+public final class ModelJson {
+
+    private ModelJson() {}
+
+    public static Map<String, Object> fromRoom(Room room) {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("id", room.getId());
+        map.put("ownerId", room.getOwnerId());
+        map.put("ownerName", room.getOwnerName());
+        map.put("location", room.getLocation());
+        map.put("price", room.getPrice());
+        map.put("description", room.getDescription());
+        map.put("contactNumber", room.getContactNumber());
+        map.put("mapLink", room.getMapLink());
+        map.put("roomType", room.getRoomType());
+        map.put("image1Path", room.getImage1Path());
+        map.put("image2Path", room.getImage2Path());
+        map.put("latitude", room.getLatitude());
+        map.put("longitude", room.getLongitude());
+        map.put("createdAt", millis(room.getCreatedAt()));
+        map.put("version", room.getVersion());
+        map.put("seats", room.getNumberOfRooms());
+        map.put("availableSeats", room.getAvailableSeats());
+        return map;
+    }
+
+    public static Room toRoom(Map<String, Object> map) {
+        Room room = new Room();
+        room.setId(intValue(map.get("id")));
+        room.setOwnerId(intValue(map.get("ownerId")));
+        room.setOwnerName(string(map.get("ownerName")));
+        room.setLocation(string(map.get("location")));
+        room.setPrice(doubleValue(map.get("price")));
+        room.setDescription(string(map.get("description")));
+        room.setContactNumber(string(map.get("contactNumber")));
+        room.setMapLink(string(map.get("mapLink")));
+        room.setRoomType(string(map.get("roomType")));
+        room.setImage1Path(string(map.get("image1Path")));
+        room.setImage2Path(string(map.get("image2Path")));
+        room.setLatitude(nullableDouble(map.get("latitude")));
+        room.setLongitude(nullableDouble(map.get("longitude")));
+        room.setCreatedAt(timestamp(map.get("createdAt")));
+        room.setVersion(intValue(map.get("version")));
+        room.setNumberOfRooms(intValue(map.get("seats")));
+        room.setAvailableSeats(intValue(map.get("availableSeats")));
+        return room;
+    }
+
+    /**
+     * The password is never included; see {@link #fromRegistration(User)}.
+     */
+    public static Map<String, Object> fromUser(User user) {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("id", user.getId());
+        map.put("name", user.getName());
+        map.put("phone", user.getPhone());
+        map.put("username", user.getUsername());
+        map.put("userType", user.getUserType());
+        return map;
+    }
+
+    public static Map<String, Object> fromRegistration(User user) {
+        Map<String, Object> map = fromUser(user);
+        map.put("password", user.getPassword());
+        return map;
+    }
+
+    public static User toUser(Map<String, Object> map) {
+        User user = new User();
+        user.setId(intValue(map.get("id")));
+        user.setName(string(map.get("name")));
+        user.setPhone(string(map.get("phone")));
+        user.setUsername(string(map.get("username")));
+        user.setPassword(string(map.get("password")));
+        user.setUserType(string(map.get("userType")));
+        return user;
+    }
+
+    public static Map<String, Object> fromFeedback(Feedback feedback) {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("id", feedback.getId());
+        map.put("userId", feedback.getUserId());
+        map.put("userName", feedback.getUserName());
+        map.put("feedbackText", feedback.getFeedbackText());
+        map.put("createdAt", millis(feedback.getCreatedAt()));
+        map.put("status", feedback.getStatus());
+        return map;
+    }
+
+    public static Feedback toFeedback(Map<String, Object> map) {
+        return new Feedback(intValue(map.get("id")), intValue(map.get("userId")), string(map.get("userName")),
+                string(map.get("feedbackText")), timestamp(map.get("createdAt")), string(map.get("status")));
+    }
+
+    public static Map<String, Object> fromFeedbackPage(FeedbackPage page) {
+        List<Map<String, Object>> items = new ArrayList<>(page.getItems().size());
+        for (Feedback feedback : page.getItems()) {
+            items.add(fromFeedback(feedback));
+        }
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("items", items);
+        map.put("total", page.getTotal());
+        map.put("offset", page.getOffset());
+        map.put("limit", page.getLimit());
+        return map;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static FeedbackPage toFeedbackPage(Map<String, Object> map) {
+        List<Feedback> items = new ArrayList<>();
+        for (Object item : (List<Object>) map.get("items")) {
+            items.add(toFeedback((Map<String, Object>) item));
+        }
+        return new FeedbackPage(items, intValue(map.get("total")), intValue(map.get("offset")), intValue(map.get("limit")));
+    }
+
+    public static Map<String, Object> fromFeedbackCluster(FeedbackCluster cluster) {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("feedbackIds", cluster.getFeedbackIds());
+        map.put("sampleText", cluster.getSampleText());
+        return map;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static FeedbackCluster toFeedbackCluster(Map<String, Object> map) {
+        return new FeedbackCluster(intValues((List<Object>) map.get("feedbackIds")), string(map.get("sampleText")));
+    }
+
+    public static List<Integer> intValues(List<Object> list) {
+        List<Integer> values = new ArrayList<>(list != null ? list.size() : 0);
+        if (list != null) {
+            for (Object value : list) {
+                values.add(intValue(value));
+            }
+        }
+        return values;
+    }
+
+    public static Map<String, Object> fromSeatHold(SeatHold hold) {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("id", hold.getId());
+        map.put("roomId", hold.getRoomId());
+        map.put("studentId", hold.getStudentId());
+        map.put("status", hold.getStatus());
+        map.put("expiresAt", millis(hold.getExpiresAt()));
+        return map;
+    }
+
+    public static SeatHold toSeatHold(Map<String, Object> map) {
+        return new SeatHold(intValue(map.get("id")), intValue(map.get("roomId")), intValue(map.get("studentId")),
+                string(map.get("status")), timestamp(map.get("expiresAt")));
+    }
+
+    public static Map<String, Object> fromSavedSearch(SavedSearch search) {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("id", search.getId());
+        map.put("userId", search.getUserId());
+        map.put("name", search.getName());
+        map.put("location", search.getLocation());
+        map.put("priceRange", search.getPriceRange());
+        map.put("distance", search.getDistance());
+        map.put("searchText", search.getSearchText());
+        map.put("createdAt", millis(search.getCreatedAt()));
+        return map;
+    }
+
+    public static SavedSearch toSavedSearch(Map<String, Object> map) {
+        SavedSearch search = new SavedSearch(intValue(map.get("id")), intValue(map.get("userId")), string(map.get("name")),
+                string(map.get("location")), string(map.get("priceRange")), string(map.get("distance")),
+                string(map.get("searchText")));
+        Timestamp createdAt = timestamp(map.get("createdAt"));
+        if (createdAt != null) {
+            search.setCreatedAt(createdAt);
+        }
+        return search;
+    }
+
+    public static Map<String, Object> fromSearchNotification(SearchNotification notification) {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("id", notification.getId());
+        map.put("savedSearchId", notification.getSavedSearchId());
+        map.put("searchName", notification.getSearchName());
+        map.put("roomId", notification.getRoomId());
+        map.put("roomLocation", notification.getRoomLocation());
+        map.put("roomPrice", notification.getRoomPrice());
+        map.put("createdAt", millis(notification.getCreatedAt()));
+        return map;
+    }
+
+    public static SearchNotification toSearchNotification(Map<String, Object> map) {
+        return new SearchNotification(intValue(map.get("id")), intValue(map.get("savedSearchId")),
+                string(map.get("searchName")), intValue(map.get("roomId")), string(map.get("roomLocation")),
+                doubleValue(map.get("roomPrice")), timestamp(map.get("createdAt")));
+    }
+
+    public static Map<String, Object> fromStatsBucket(StatsBucket bucket) {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("period", bucket.getPeriod());
+        map.put("bucket", bucket.getBucket().toString());
+        map.put("metric", bucket.getMetric());
+        map.put("dimension", bucket.getDimension());
+        map.put("count", bucket.getCount());
+        map.put("priceSum", bucket.getPriceSum());
+        return map;
+    }
+
+    public static StatsBucket toStatsBucket(Map<String, Object> map) {
+        return new StatsBucket(string(map.get("period")), LocalDate.parse(string(map.get("bucket"))),
+                string(map.get("metric")), string(map.get("dimension")), intValue(map.get("count")),
+                doubleValue(map.get("priceSum")));
+    }
+
+    public static List<Map<String, Object>> fromRooms(List<Room> rooms) {
+        List<Map<String, Object>> list = new ArrayList<>(rooms.size());
+        for (Room room : rooms) {
+            list.add(fromRoom(room));
+        }
+        return list;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static List<Room> toRooms(List<Object> list) {
+        List<Room> rooms = new ArrayList<>(list.size());
+        for (Object item : list) {
+            rooms.add(toRoom((Map<String, Object>) item));
+        }
+        return rooms;
+    }
+
+    public static int intValue(Object value) {
+        if (value instanceof Number) {
+            return ((Number) value).intValue();
+        }
+        if (value instanceof String) {
+            return Integer.parseInt((String) value);
+        }
+        return 0;
+    }
+
+    public static double doubleValue(Object value) {
+        Double d = nullableDouble(value);
+        return d != null ? d : 0;
+    }
+
+    public static String string(Object value) {
+        return value != null ? value.toString() : null;
+    }
+
+    private static Double nullableDouble(Object value) {
+        if (value instanceof Number) {
+            return ((Number) value).doubleValue();
+        }
+        if (value instanceof String) {
+            return Double.parseDouble((String) value);
+        }
+        return null;
+    }
+
+    private static Long millis(Timestamp timestamp) {
+        return timestamp != null ? timestamp.getTime() : null;
+    }
+
+    private static Timestamp timestamp(Object value) {
+        return value instanceof Number ? new Timestamp(((Number) value).longValue()) : null;
+    }
+}
@@ -0,0 +1,75 @@
+package com.studentnest.api;
+
+import com.studentnest.models.User;
+
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Login sessions of the {@link ApiServer}. A successful login gets a random bearer token,
+ * later requests present it in the {@code Authorization} header and act as that user.
+ * Sessions live in memory only, so a restart logs everyone out, and end after
+ * {@link #IDLE_MILLIS} without a request.
+ */
+final class SessionStore {
+
+    static final long IDLE_MILLIS = TimeUnit.HOURS.toMillis(12);
+
+    private final SecureRandom random = new SecureRandom();
+    private final Map<String, Session> sessions = new ConcurrentHashMap<>();
+
+    Session open(User user) {
+        long now = System.currentTimeMillis();
+        // Expired sessions are only dropped here, logins are rare enough for a full sweep
+        sessions.values().removeIf(session -> session.isExpired(now));
+
+        byte[] bytes = new byte[32];
+        random.nextBytes(bytes);
+        Session session = new Session(Base64.getUrlEncoder().withoutPadding().encodeToString(bytes),
+                user.getId(), user.getUserType(), now);
+        sessions.put(session.token, session);
+        return session;
+    }
+
+    /**
+     * @return The live session for the token, or null if it is unknown or expired
+     */
+    Session find(String token) {
+        Session session = token != null ? sessions.get(token) : null;
+        if (session == null) {
+            return null;
+        }
+        long now = System.currentTimeMillis();
+        if (session.isExpired(now)) {
+            sessions.remove(token, session);
+            return null;
+        }
+        session.lastUsed = now;
+        return session;
+    }
+
+    static final class Session {
+        final String token;
+        final int userId;
+        final String userType;
+        volatile long lastUsed;
+
+        Session(String token, int userId, String userType, long lastUsed) {
+            this.token = token;
+            this.userId = userId;
+            this.userType = userType;
+            this.lastUsed = lastUsed;
+        }
+
+        boolean is(String type) {
+            return type.equals(userType);
+        }
+
+        boolean isExpired(long now) {
+            return now - lastUsed > IDLE_MILLIS;
+        }
+    }
+}
@@ -0,0 +1,253 @@
+package com.studentnest.cache;
+
+import com.studentnest.logging.Log;
+import com.studentnest.logging.Logger;
+import com.studentnest.services.ConnectionProvider;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * Invalidation transport over the cache_invalidations table: publishing inserts a row,
+ * every instance polls for rows newer than the last one it has seen. Needs nothing but
+ * the database the instances already share; latency is bounded by the poll interval.
+ * <p>
+ * Publishing only queues the event, so callers on the FX thread never wait for the database.
+ * The poller thread writes the queue in batches, right away and before every poll.
+ * <p>
+ * AUTO_INCREMENT ids are handed out before the insert commits, so a row can become visible
+ * after a row with a higher id was already read. Ids the cursor skipped are read again by
+ * id on the following polls, until they show up or {@link #GAP_GRACE_MILLIS} has passed
+ * (a rolled back insert leaves a gap for good).
+ */
+public class DatabaseInvalidationTransport implements InvalidationTransport {
+
+    private static final Logger LOG = Log.get("cache");
+
+    private static final long DEFAULT_POLL_MILLIS = 500;
+    private static final int BATCH_SIZE = 500;
+    private static final long RETENTION_MILLIS = TimeUnit.MINUTES.toMillis(10);
+    private static final long PRUNE_INTERVAL_MILLIS = TimeUnit.MINUTES.toMillis(1);
+    private static final long GAP_GRACE_MILLIS = TimeUnit.SECONDS.toMillis(10);
+    private static final int MAX_GAPS = 2000;
+    private static final String EVENT_COLUMNS = "SELECT id, entity_type, entity_key, origin, created_at FROM cache_invalidations ";
+
+    private final ConnectionProvider connections;
+    private final long pollMillis;
+    private volatile ScheduledExecutorService poller;
+    private Consumer<InvalidationEvent> receiver;
+    private final Queue<InvalidationEvent> outgoing = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+
+    // Guarded by this
+    private Connection connection;
+    private long lastSeenId;
+    // Skipped ids below lastSeenId, with the time to stop looking for them
+    private final TreeMap<Long, Long> gaps = new TreeMap<>();
+    private long lastPruneMillis;
+
+    public DatabaseInvalidationTransport(ConnectionProvider connections) {
+        this(connections, DEFAULT_POLL_MILLIS);
+    }
+
+    public DatabaseInvalidationTransport(ConnectionProvider connections, long pollMillis) {
+        this.connections = connections;
+        this.pollMillis = pollMillis;
+    }
+
+    @Override
+    public synchronized void start(Consumer<InvalidationEvent> receiver) throws SQLException {
+        this.receiver = receiver;
+        // Only changes made after we started matter, caches are empty at this point
+        try (Statement stmt = connection().createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT COALESCE(MAX(id), 0) FROM cache_invalidations")) {
+            lastSeenId = rs.next() ? rs.getLong(1) : 0;
+        }
+        lastPruneMillis = System.currentTimeMillis();
+
+        poller = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "cache-invalidation-poller");
+            t.setDaemon(true);
+            return t;
+        });
+        poller.scheduleWithFixedDelay(this::poll, pollMillis, pollMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void publish(InvalidationEvent event) {
+        outgoing.add(event);
+        ScheduledExecutorService executor = poller;
+        // One pending flush is enough, it takes everything queued by the time it runs
+        if (executor != null && flushScheduled.compareAndSet(false, true)) {
+            try {
+                executor.execute(() -> {
+                    flushScheduled.set(false);
+                    flush();
+                });
+            } catch (RejectedExecutionException e) {
+                flushScheduled.set(false); // closed, close() writes what is left
+            }
+        }
+    }
+
+    // Runs on the poller thread, or on the closing thread once the poller is gone
+    private synchronized void flush() {
+        String sql = "INSERT INTO cache_invalidations (entity_type, entity_key, origin) VALUES (?, ?, ?)";
+        while (!outgoing.isEmpty()) {
+            List<InvalidationEvent> batch = new ArrayList<>(BATCH_SIZE);
+            InvalidationEvent event;
+            while (batch.size() < BATCH_SIZE && (event = outgoing.poll()) != null) {
+                batch.add(event);
+            }
+            try (PreparedStatement stmt = connection().prepareStatement(sql)) {
+                for (InvalidationEvent queued : batch) {
+                    stmt.setString(1, queued.getEntityType());
+                    stmt.setString(2, queued.getKey());
+                    stmt.setString(3, queued.getOrigin());
+                    stmt.addBatch();
+                }
+                stmt.executeBatch();
+            } catch (SQLException e) {
+                LOG.warn("Could not publish {} cache invalidations, first {}: {}", batch.size(), batch.get(0), e.getMessage());
+                resetConnection();
+                return;
+            }
+        }
+    }
+
+    private void poll() {
+        try {
+            flush();
+            // Fetch under the lock, deliver outside it so listeners can publish
+            InvalidationEvent[] batch;
+            synchronized (this) {
+                batch = fetchNewEvents();
+                pruneIfDue();
+            }
+            for (InvalidationEvent event : batch) {
+                receiver.accept(event);
+            }
+        } catch (SQLException e) {
+            LOG.warn("Cache invalidation poll failed: {}", e.getMessage());
+            synchronized (this) {
+                resetConnection();
+            }
+        } catch (RuntimeException e) {
+            // Never let an exception cancel the scheduled poll
+            LOG.error("Cache invalidation poll failed", e);
+        }
+    }
+
+    private InvalidationEvent[] fetchNewEvents() throws SQLException {
+        List<InvalidationEvent> events = new ArrayList<>();
+        long now = System.currentTimeMillis();
+        gaps.values().removeIf(deadline -> deadline < now);
+        if (!gaps.isEmpty()) {
+            List<Long> ids = new ArrayList<>(BATCH_SIZE);
+            for (Long id : gaps.keySet()) {
+                if (ids.size() == BATCH_SIZE) {
+                    break;
+                }
+                ids.add(id);
+            }
+            String sql = EVENT_COLUMNS + "WHERE id IN (" + String.join(", ", Collections.nCopies(ids.size(), "?")) + ")";
+            try (PreparedStatement stmt = connection().prepareStatement(sql)) {
+                for (int i = 0; i < ids.size(); i++) {
+                    stmt.setLong(i + 1, ids.get(i));
+                }
+                try (ResultSet rs = stmt.executeQuery()) {
+                    while (rs.next()) {
+                        gaps.remove(rs.getLong("id"));
+                        events.add(readEvent(rs));
+                    }
+                }
+            }
+        }
+
+        try (PreparedStatement stmt = connection().prepareStatement(EVENT_COLUMNS + "WHERE id > ? ORDER BY id LIMIT " + BATCH_SIZE)) {
+            stmt.setLong(1, lastSeenId);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    long id = rs.getLong("id");
+                    for (long skipped = lastSeenId + 1; skipped < id && gaps.size() < MAX_GAPS; skipped++) {
+                        gaps.put(skipped, now + GAP_GRACE_MILLIS);
+                    }
+                    lastSeenId = id;
+                    events.add(readEvent(rs));
+                }
+            }
+        }
+        return events.toArray(new InvalidationEvent[0]);
+    }
+
+    private static InvalidationEvent readEvent(ResultSet rs) throws SQLException {
+        Timestamp createdAt = rs.getTimestamp("created_at");
+        return new InvalidationEvent(rs.getString("entity_type"), rs.getString("entity_key"),
+                rs.getString("origin"), createdAt != null ? createdAt.getTime() : System.currentTimeMillis(), false);
+    }
+
+    private void pruneIfDue() throws SQLException {
+        long now = System.currentTimeMillis();
+        if (now - lastPruneMillis < PRUNE_INTERVAL_MILLIS) {
+            return;
+        }
+        lastPruneMillis = now;
+        try (PreparedStatement stmt = connection().prepareStatement("DELETE FROM cache_invalidations WHERE created_at < ?")) {
+            stmt.setTimestamp(1, new Timestamp(now - RETENTION_MILLIS));
+            stmt.executeUpdate();
+        }
+    }
+
+    private Connection connection() throws SQLException {
+        if (connection == null || connection.isClosed()) {
+            connection = connections.getConnection();
+        }
+        return connection;
+    }
+
+    private void resetConnection() {
+        try {
+            if (connection != null) {
+                connection.close();
+            }
+        } catch (SQLException ignored) {
+            // Already broken
+        }
+        connection = null;
+    }
+
+    @Override
+    public void close() {
+        ScheduledExecutorService executor = poller;
+        poller = null;
+        if (executor != null) {
+            executor.shutdownNow();
+            try {
+                executor.awaitTermination(1, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        // Changes published just before shutdown still reach the other instances
+        flush();
+        synchronized (this) {
+            resetConnection();
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package com.studentnest.cache;
+
+import com.studentnest.database.DatabaseConnection;
+import com.studentnest.logging.Log;
+import com.studentnest.logging.Logger;
+import com.studentnest.services.Services;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Publishes entity changes to every cache in this instance and, through a pluggable
+ * {@link InvalidationTransport}, to other instances sharing the same database.
+ * <p>
+ * The transport is chosen with {@code -Dstudentnest.invalidation=db|multicast|none}.
+ * The default is the database change-feed table; desktop clients in client mode use
+ * none, since their server publishes on their behalf.
+ * <p>
+ * Listeners for local changes run on the publishing thread, listeners for remote
+ * changes on the transport thread; UI code must hop to the FX thread itself.
+ */
+public class InvalidationBus implements AutoCloseable {
+
+    private static final Logger LOG = Log.get("cache");
+
+    public static final String TRANSPORT_PROPERTY = "studentnest.invalidation";
+
+    private static InvalidationBus instance;
+
+    private final String instanceId = UUID.randomUUID().toString();
+    private final InvalidationTransport transport;
+    private final List<Subscription> subscriptions = new CopyOnWriteArrayList<>();
+    private final AtomicLong published = new AtomicLong();
+    private final AtomicLong received = new AtomicLong();
+
+    /**
+     * @param transport Transport to other instances, or null for an in-process bus
+     */
+    public InvalidationBus(InvalidationTransport transport) {
+        this.transport = transport;
+    }
+
+    /**
+     * Shared bus of this application instance, started on first use.
+     */
+    public static synchronized InvalidationBus getInstance() {
+        if (instance == null) {
+            InvalidationBus bus = new InvalidationBus(createDefaultTransport());
+            bus.start();
+            instance = bus;
+        }
+        return instance;
+    }
+
+    private static InvalidationTransport createDefaultTransport() {
+        String defaultTransport = Services.isClientMode() ? "none" : "db";
+        String type = System.getProperty(TRANSPORT_PROPERTY, defaultTransport);
+        switch (type) {
+            case "db":
+                return new DatabaseInvalidationTransport(DatabaseConnection::openConnection);
+            case "multicast":
+                return new MulticastInvalidationTransport();
+            case "none":
+                return null;
+            default:
+                LOG.warn("Unknown invalidation transport '{}', caches will only see local changes", type);
+                return null;
+        }
+    }
+
+    /**
+     * Starts receiving remote changes. If the transport cannot start, the bus keeps
+     * working for local changes only.
+     */
+    public void start() {
+        if (transport == null) {
+            return;
+        }
+        try {
+            transport.start(this::deliverRemote);
+        } catch (Exception e) {
+            LOG.error("Cache invalidation transport failed to start, remote changes will not be seen", e);
+        }
+    }
+
+    public String getInstanceId() {
+        return instanceId;
+    }
+
+    /**
+     * Announces that an entity changed.
+     * @param key Entity id, or {@link InvalidationEvent#ALL}
+     */
+    public void publish(String entityType, Object key) {
+        InvalidationEvent event = new InvalidationEvent(entityType, String.valueOf(key), instanceId,
+                System.currentTimeMillis(), true);
+        published.incrementAndGet();
+        dispatch(event);
+        if (transport != null) {
+            transport.publish(event);
+        }
+    }
+
+    /**
+     * Announces that several entities of one type changed, as a single event, e.g. after a
+     * bulk update. Long lists are announced as {@link InvalidationEvent#ALL}.
+     */
+    public void publishBatch(String entityType, Collection<?> keys) {
+        publish(entityType, InvalidationEvent.keyOf(keys));
+    }
+
+    /**
+     * Listens for changes to any entity of the given type.
+     */
+    public Subscription subscribe(String entityType, Consumer<InvalidationEvent> listener) {
+        return subscribe(entityType, null, listener);
+    }
+
+    /**
+     * Listens for changes to one entity. Events for {@link InvalidationEvent#ALL} are delivered too.
+     */
+    public Subscription subscribe(String entityType, String key, Consumer<InvalidationEvent> listener) {
+        Subscription subscription = new Subscription(entityType, key, listener);
+        subscriptions.add(subscription);
+        return subscription;
+    }
+
+    private void deliverRemote(InvalidationEvent event) {
+        if (instanceId.equals(event.getOrigin())) {
+            return; // our own change echoed back by the transport
+        }
+        received.incrementAndGet();
+        dispatch(event);
+    }
+
+    private void dispatch(InvalidationEvent event) {
+        for (Subscription subscription : subscriptions) {
+            if (subscription.matches(event)) {
+                try {
+                    subscription.listener.accept(event);
+                } catch (RuntimeException e) {
+                    LOG.error("Cache invalidation listener failed for {}", event, e);
+                }
+            }
+        }
+    }
+
+    public long getPublishedCount() {
+        return published.get();
+    }
+
+    public long getReceivedCount() {
+        return received.get();
+    }
+
+    @Override
+    public void close() {
+        subscriptions.clear();
+        if (transport != null) {
+            transport.close();
+        }
+    }
+
+    /**
+     * Handle returned by subscribe; close it when the cache goes away.
+     */
+    public final class Subscription implements AutoCloseable {
+        private final String entityType;
+        private final String key;
+        private final Consumer<InvalidationEvent> listener;
+
+        private Subscription(String entityType, String key, Consumer<InvalidationEvent> listener) {
+            this.entityType = entityType;
+            this.key = key;
+            this.listener = listener;
+        }
+
+        private boolean matches(InvalidationEvent event) {
+            return entityType.equals(event.getEntityType())
+                    && (key == null || event.isAll() || event.getKeys().contains(key));
+        }
+
+        @Override
+        public void close() {
+            subscriptions.remove(this);
+        }
+    }
+}
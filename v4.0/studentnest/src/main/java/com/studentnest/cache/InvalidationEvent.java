@@ -0,0 +1,100 @@
+package com.studentnest.cache;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.StringJoiner;
+
+/**
+ * A change to one entity, several entities or all entities of a type that cached copies must drop.
+ */
+public final class InvalidationEvent {
+
+    public static final String ROOM = "room";
+    public static final String USER = "user";
+    public static final String FEEDBACK = "feedback";
+    public static final String SAVED_SEARCH = "saved-search";
+    public static final String STATS = "stats";
+
+    /** Key meaning "every entity of this type" */
+    public static final String ALL = "*";
+
+    /** Separates the ids in the key of an event that covers several entities */
+    public static final String KEY_SEPARATOR = ",";
+
+    // Size of the entity_key column of the database change feed
+    private static final int MAX_KEY_LENGTH = 100;
+
+    private final String entityType;
+    private final String key;
+    private final String origin;
+    private final long publishedAtMillis;
+    private final boolean local;
+
+    public InvalidationEvent(String entityType, String key, String origin, long publishedAtMillis, boolean local) {
+        this.entityType = entityType;
+        this.key = key;
+        this.origin = origin;
+        this.publishedAtMillis = publishedAtMillis;
+        this.local = local;
+    }
+
+    public String getEntityType() {
+        return entityType;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    /**
+     * @return The ids this event covers, or just {@link #ALL}
+     */
+    public List<String> getKeys() {
+        return key.contains(KEY_SEPARATOR) ? List.of(key.split(KEY_SEPARATOR)) : List.of(key);
+    }
+
+    /**
+     * Key of one event for a change to several entities: their ids, or {@link #ALL} if the
+     * list would not fit the change feed.
+     */
+    public static String keyOf(Collection<?> ids) {
+        if (ids.isEmpty()) {
+            return ALL;
+        }
+        StringJoiner joined = new StringJoiner(KEY_SEPARATOR);
+        for (Object id : ids) {
+            joined.add(String.valueOf(id));
+            if (joined.length() > MAX_KEY_LENGTH) {
+                return ALL;
+            }
+        }
+        return joined.toString();
+    }
+
+    /**
+     * @return Id of the bus instance that published the change
+     */
+    public String getOrigin() {
+        return origin;
+    }
+
+    public long getPublishedAtMillis() {
+        return publishedAtMillis;
+    }
+
+    /**
+     * @return true if the change was made by this application instance
+     */
+    public boolean isLocal() {
+        return local;
+    }
+
+    public boolean isAll() {
+        return ALL.equals(key);
+    }
+
+    @Override
+    public String toString() {
+        return entityType + ":" + key + " from " + origin;
+    }
+}
@@ -0,0 +1,20 @@
+package com.studentnest.cache;
+
+import java.util.function.Consumer;
+
+/**
+ * Carries invalidation events between application instances. Delivery is best effort
+ * and may include the sender's own events; the bus filters those out.
+ */
+public interface InvalidationTransport extends AutoCloseable {
+
+    /**
+     * Starts receiving events from other instances.
+     */
+    void start(Consumer<InvalidationEvent> receiver) throws Exception;
+
+    void publish(InvalidationEvent event);
+
+    @Override
+    void close();
+}
@@ -0,0 +1,145 @@
+package com.studentnest.cache;
+
+import com.studentnest.logging.Log;
+import com.studentnest.logging.Logger;
+
+import java.io.IOException;
+import java.net.DatagramPacket;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.MulticastSocket;
+import java.net.NetworkInterface;
+import java.net.SocketException;
+import java.net.StandardSocketOptions;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+/**
+ * Invalidation transport over UDP multicast, by default on the loopback interface so
+ * that several instances on one machine (or in one JVM, as in the test harness) see
+ * each other without touching the network. Datagrams can be lost; use the database
+ * transport where every change must arrive.
+ */
+public class MulticastInvalidationTransport implements InvalidationTransport {
+
+    private static final Logger LOG = Log.get("cache");
+
+    public static final String DEFAULT_GROUP = "239.255.42.99";
+    public static final int DEFAULT_PORT = 45999;
+
+    private static final String MAGIC = "SNINV1";
+    private static final int MAX_PACKET = 1024;
+
+    private final InetSocketAddress group;
+    private final NetworkInterface networkInterface;
+    private MulticastSocket socket;
+    private Thread receiverThread;
+    private volatile boolean running;
+
+    public MulticastInvalidationTransport() {
+        this(DEFAULT_GROUP, DEFAULT_PORT, loopbackInterface());
+    }
+
+    /**
+     * @param networkInterface Interface to send and listen on, or null for the system default
+     */
+    public MulticastInvalidationTransport(String groupAddress, int port, NetworkInterface networkInterface) {
+        try {
+            this.group = new InetSocketAddress(InetAddress.getByName(groupAddress), port);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Invalid multicast group " + groupAddress, e);
+        }
+        this.networkInterface = networkInterface;
+    }
+
+    @Override
+    public synchronized void start(Consumer<InvalidationEvent> receiver) throws IOException {
+        socket = new MulticastSocket(null);
+        socket.setReuseAddress(true);
+        socket.bind(new InetSocketAddress(group.getPort()));
+        socket.setTimeToLive(1);
+        socket.setOption(StandardSocketOptions.IP_MULTICAST_LOOP, true);
+        if (networkInterface != null) {
+            socket.setNetworkInterface(networkInterface);
+        }
+        socket.joinGroup(group, networkInterface);
+
+        running = true;
+        receiverThread = new Thread(() -> receiveLoop(receiver), "cache-invalidation-multicast");
+        receiverThread.setDaemon(true);
+        receiverThread.start();
+    }
+
+    private void receiveLoop(Consumer<InvalidationEvent> receiver) {
+        byte[] buffer = new byte[MAX_PACKET];
+        while (running) {
+            DatagramPacket packet = new DatagramPacket(buffer, buffer.length);
+            try {
+                socket.receive(packet);
+                InvalidationEvent event = decode(new String(packet.getData(), packet.getOffset(), packet.getLength(), StandardCharsets.UTF_8));
+                if (event != null) {
+                    receiver.accept(event);
+                }
+            } catch (SocketException e) {
+                if (running) {
+                    LOG.error("Multicast invalidation socket failed, remote changes will not be seen", e);
+                }
+                return;
+            } catch (IOException | RuntimeException e) {
+                LOG.warn("Dropped multicast invalidation packet: {}", e.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public void publish(InvalidationEvent event) {
+        byte[] payload = encode(event).getBytes(StandardCharsets.UTF_8);
+        if (payload.length > MAX_PACKET) {
+            LOG.warn("Cache invalidation {} is too large for a datagram, dropped", event);
+            return;
+        }
+        try {
+            MulticastSocket current = socket;
+            if (current != null) {
+                current.send(new DatagramPacket(payload, payload.length, group));
+            }
+        } catch (IOException e) {
+            LOG.warn("Could not publish cache invalidation {}: {}", event, e.getMessage());
+        }
+    }
+
+    // Tab-separated: magic, origin, published-at millis, entity type, key
+    private static String encode(InvalidationEvent event) {
+        return MAGIC + '\t' + event.getOrigin() + '\t' + event.getPublishedAtMillis() + '\t'
+                + event.getEntityType() + '\t' + event.getKey();
+    }
+
+    private static InvalidationEvent decode(String message) {
+        String[] parts = message.split("\t", 5);
+        if (parts.length != 5 || !MAGIC.equals(parts[0])) {
+            return null; // someone else's traffic on our group
+        }
+        return new InvalidationEvent(parts[3], parts[4], parts[1], Long.parseLong(parts[2]), false);
+    }
+
+    private static NetworkInterface loopbackInterface() {
+        try {
+            return NetworkInterface.getByInetAddress(InetAddress.getLoopbackAddress());
+        } catch (SocketException e) {
+            return null;
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        running = false;
+        if (socket != null) {
+            try {
+                socket.leaveGroup(group, networkInterface);
+            } catch (IOException ignored) {
+                // Closing anyway
+            }
+            socket.close();
+        }
+    }
+}
@@ -1,5 +1,8 @@
 package com.studentnest.controllers;
 
+import com.studentnest.logging.Log;
+import com.studentnest.logging.Logger;
+import com.studentnest.utils.Dialogs;
 import com.studentnest.utils.SceneManager;
 import javafx.animation.FadeTransition;
 import javafx.beans.property.SimpleStringProperty;
@@ -22,6 +25,8 @@ import java.util.ResourceBundle;
  */
 public class AboutUsController implements Initializable {
 
+    private static final Logger LOG = Log.get("ui.about");
+
     // FXML injected components
     @FXML
     private TableView<Contributor> contributorsTable;
@@ -130,8 +135,7 @@ public class AboutUsController implements Initializable {
             // Use SceneManager for smooth transition back to dashboard
             SceneManager.goBackToDashboard(event, "/fxml/dashboard.fxml");
         } catch (Exception e) {
-            System.err.println("Error navigating back to dashboard: " + e.getMessage());
-            e.printStackTrace();
+            LOG.error("Error navigating back to dashboard", e);
         }
     }
 
@@ -146,8 +150,7 @@ public class AboutUsController implements Initializable {
                     "StudentNest - Find Your Home",
                     SceneManager.TransitionType.SLIDE_LEFT);
         } catch (Exception e) {
-            System.err.println("Error navigating to home search: " + e.getMessage());
-            e.printStackTrace();
+            LOG.error("Error navigating to home search", e);
         }
     }
 
@@ -156,7 +159,7 @@ public class AboutUsController implements Initializable {
      */
     private void handleContributorSelection(Contributor contributor) {
         if (contributor != null) {
-            System.out.println("Selected contributor: " + contributor.getName());
+            LOG.debug("Selected contributor: {}", contributor.getName());
             showContributorInfo(contributor);
         }
     }
@@ -166,7 +169,7 @@ public class AboutUsController implements Initializable {
      */
     private void showContributorInfo(Contributor contributor) {
         try {
-            Alert info = new Alert(Alert.AlertType.INFORMATION);
+            Alert info = Dialogs.create(Alert.AlertType.INFORMATION, "/css/about-us.css");
             info.setTitle("Contributor Information");
             info.setHeaderText("About " + contributor.getName());
 
@@ -178,23 +181,9 @@ public class AboutUsController implements Initializable {
 
             info.setContentText(content);
 
-            // Apply custom styling if CSS file exists
-            try {
-                String cssPath = "/css/about-us.css";
-                if (getClass().getResource(cssPath) != null) {
-                    info.getDialogPane().getStylesheets().add(
-                            getClass().getResource(cssPath).toExternalForm()
-                    );
-                }
-            } catch (Exception cssException) {
-                System.err.println("Could not load CSS for dialog: " + cssException.getMessage());
-                // Continue without styling
-            }
-
             info.showAndWait();
         } catch (Exception e) {
-            System.err.println("Error showing contributor info: " + e.getMessage());
-            e.printStackTrace();
+            LOG.error("Error showing contributor info", e);
         }
     }
 
@@ -215,8 +204,7 @@ public class AboutUsController implements Initializable {
         try {
             loadContributorsData();
         } catch (Exception e) {
-            System.err.println("Error refreshing contributors data: " + e.getMessage());
-            e.printStackTrace();
+            LOG.error("Error refreshing contributors data", e);
         }
     }
 
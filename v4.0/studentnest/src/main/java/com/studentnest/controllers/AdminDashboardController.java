@@ -6,28 +6,57 @@ import javafx.scene.control.*;
 import javafx.scene.control.cell.PropertyValueFactory;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import javafx.scene.chart.CategoryAxis;
+import javafx.scene.chart.LineChart;
 import javafx.scene.chart.PieChart;
+import javafx.scene.chart.XYChart;
 import javafx.scene.layout.BorderPane;
-import com.studentnest.database.DatabaseConnection;
+import com.studentnest.cache.InvalidationBus;
+import com.studentnest.cache.InvalidationEvent;
+import com.studentnest.jfr.DataLoadEvent;
+import com.studentnest.logging.Log;
+import com.studentnest.logging.Logger;
 import com.studentnest.models.User;
 import com.studentnest.models.Room;
 import com.studentnest.models.Feedback;
+import com.studentnest.models.FeedbackCluster;
+import com.studentnest.models.FeedbackPage;
+import com.studentnest.models.StatsBucket;
+import com.studentnest.services.PriceInsights;
+import com.studentnest.services.ServiceException;
+import com.studentnest.services.Services;
+import com.studentnest.services.TableExporter;
+import com.studentnest.utils.DiagnosticsPanel;
+import com.studentnest.utils.Dialogs;
+import com.studentnest.utils.PulseMonitor;
+import com.studentnest.utils.RoomImportDialog;
 import com.studentnest.utils.SceneManager;
-import javafx.scene.image.Image;
-import javafx.stage.Stage;
+import com.studentnest.utils.TableExportDialog;
+import com.studentnest.utils.ThemeManager;
 import javafx.application.Platform;
+import javafx.concurrent.Task;
 import javafx.animation.FadeTransition;
 import javafx.animation.ScaleTransition;
 import javafx.util.Duration;
 
-import java.net.URL;
-import java.sql.*;
+import java.sql.Timestamp;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
-import java.util.Calendar;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.function.Consumer;
 
 public class AdminDashboardController {
 
+    private static final Logger LOG = Log.get("ui.admin");
+
     @FXML private BorderPane rootContainer;
     @FXML private Label welcomeLabel;
     @FXML private Button themeToggleButton;
@@ -38,6 +67,7 @@ public class AdminDashboardController {
     @FXML private Button roomsButton;
     @FXML private Button statisticsButton;
     @FXML private Button feedbackButton;
+    @FXML private Button diagnosticsButton;
 
     // Tab pane
     @FXML private TabPane mainTabPane;
@@ -72,6 +102,13 @@ public class AdminDashboardController {
     @FXML private Label monthlyUsersLabel;
     @FXML private Label monthlyRoomsLabel;
 
+    // Stats charts
+    @FXML private DatePicker statsFromPicker;
+    @FXML private DatePicker statsToPicker;
+    @FXML private ComboBox<String> statsPeriodCombo;
+    @FXML private LineChart<String, Number> activityChart;
+    @FXML private LineChart<String, Number> priceChart;
+
     // Feedback table and columns
     @FXML private TableView<Feedback> feedbackTable;
     @FXML private TableColumn<Feedback, String> feedbackUserColumn;
@@ -80,51 +117,88 @@ public class AdminDashboardController {
     @FXML private TableColumn<Feedback, String> feedbackStatusColumn;
     @FXML private Button deleteFeedbackButton;
     @FXML private Button markResolvedButton;
+    @FXML private Button duplicatesButton;
     @FXML private Button refreshFeedbackButton;
+    @FXML private ComboBox<String> feedbackStatusFilter;
+    @FXML private TextField feedbackSearchField;
+    @FXML private Button previousFeedbackButton;
+    @FXML private Button nextFeedbackButton;
+    @FXML private Label feedbackPageLabel;
 
     private ObservableList<User> users = FXCollections.observableArrayList();
     private ObservableList<Room> rooms = FXCollections.observableArrayList();
     private ObservableList<Feedback> feedback = FXCollections.observableArrayList();
 
-    private boolean isDarkTheme = false;
+    // Feedback is paged on the server, the table only ever holds one page
+    private static final int FEEDBACK_PAGE_SIZE = 50;
+    private static final String ALL_STATUSES = "All";
+    private int feedbackOffset;
+
+    // Charts are drawn from the daily or monthly rollups, never from the tables
+    private static final String DAILY = "Daily";
+    private static final String MONTHLY = "Monthly";
+    private static final int DEFAULT_STATS_DAYS = 30;
+    // Longer daily ranges are shown by month; a year at most also keeps the day labels unique
+    private static final int MAX_DAILY_POINTS = 365;
+    // Locations with the most new rooms in the range that get a price line
+    private static final int MAX_PRICE_LOCATIONS = 8;
+
+    // Reload tables when another app instance changes the data
+    private final List<InvalidationBus.Subscription> dataChanges = new ArrayList<>();
 
     @FXML
     public void initialize() {
-        System.out.println("AdminDashboardController initialize() called");
+        LOG.debug("AdminDashboardController initialize() called");
 
         // Set welcome message
         String currentUser = LoginController.getCurrentUserName();
         welcomeLabel.setText("Welcome, " + (currentUser != null ? currentUser : "Admin") + "!");
 
-        // Debug: Check if database connection works
-        try {
-            Connection conn = DatabaseConnection.getConnection();
-            if (conn != null) {
-                System.out.println("Database connection successful");
-                conn.close();
-            } else {
-                System.out.println("Database connection failed");
-            }
-        } catch (Exception e) {
-            System.out.println("Database error: " + e.getMessage());
-        }
+        LOG.info(Services.isClientMode() ? "Admin dashboard using StudentNest server" : "Admin dashboard using local database");
 
         // Initialize table columns
         setupTableColumns();
+        setupStatsControls();
 
         // Debug: Print before loading data
-        System.out.println("About to load all data...");
+        LOG.debug("About to load all data...");
 
         // Load data
         loadAllData();
 
+        subscribeToRemoteChanges();
+
         // Setup animations for UI elements
         setupAnimations();
 
-        // Initialize theme
-        applyTheme();
+        // Initialize theme; starts light unless another theme was picked
+        updateThemeToggleButton(ThemeManager.install(rootContainer, "/css/AdminDashboard.css", ThemeManager.Theme.LIGHT));
+
+        LOG.info("AdminDashboardController initialization completed");
+    }
 
-        System.out.println("AdminDashboardController initialization completed");
+    private void subscribeToRemoteChanges() {
+        InvalidationBus bus = InvalidationBus.getInstance();
+        dataChanges.add(bus.subscribe(InvalidationEvent.USER, remoteOnly(() -> {
+            loadUsers();
+            loadUserStats();
+        })));
+        dataChanges.add(bus.subscribe(InvalidationEvent.ROOM, remoteOnly(this::loadRooms)));
+        dataChanges.add(bus.subscribe(InvalidationEvent.FEEDBACK, remoteOnly(this::loadFeedback)));
+        // Published by the aggregator once the rollups took in a change, ours or not
+        dataChanges.add(bus.subscribe(InvalidationEvent.STATS, event -> Platform.runLater(() -> {
+            loadMonthlyStats();
+            loadStatsCharts();
+        })));
+    }
+
+    // Our own changes already reload the affected table
+    private Consumer<InvalidationEvent> remoteOnly(Runnable reload) {
+        return event -> {
+            if (!event.isLocal()) {
+                Platform.runLater(reload);
+            }
+        };
     }
 
     private void setupTableColumns() {
@@ -149,6 +223,9 @@ public class AdminDashboardController {
         feedbackDateColumn.setCellValueFactory(new PropertyValueFactory<>("createdAt"));
         feedbackStatusColumn.setCellValueFactory(new PropertyValueFactory<>("status"));
         feedbackTable.setItems(feedback);
+        feedbackTable.getSelectionModel().setSelectionMode(SelectionMode.MULTIPLE);
+        feedbackStatusFilter.getItems().setAll(ALL_STATUSES, "Pending", "Resolved");
+        feedbackStatusFilter.setValue("Pending");
 
         // Format price column to show currency
         roomPriceColumn.setCellFactory(column -> new TableCell<Room, Double>() {
@@ -177,6 +254,13 @@ public class AdminDashboardController {
         });
     }
 
+    private void setupStatsControls() {
+        statsPeriodCombo.getItems().setAll(DAILY, MONTHLY);
+        statsPeriodCombo.setValue(DAILY);
+        statsToPicker.setValue(LocalDate.now());
+        statsFromPicker.setValue(LocalDate.now().minusDays(DEFAULT_STATS_DAYS - 1));
+    }
+
     private void setupAnimations() {
         // Add fade-in animation to main content
         FadeTransition fadeIn = new FadeTransition(Duration.millis(800), mainTabPane);
@@ -192,28 +276,20 @@ public class AdminDashboardController {
             loadFeedback();
             loadUserStats();
             loadMonthlyStats();
+            loadStatsCharts();
         });
     }
 
 
     private void loadUsers() {
         users.clear();
-        String sql = "SELECT * FROM users WHERE user_type != 'Admin' ORDER BY created_at DESC";
-        try (Connection conn = DatabaseConnection.getConnection();
-             Statement stmt = conn.createStatement();
-             ResultSet rs = stmt.executeQuery(sql)) {
-
-            while (rs.next()) {
-                User user = new User();
-                user.setId(rs.getInt("id"));
-                user.setName(rs.getString("name"));
-                user.setPhone(rs.getString("phone"));
-                user.setUsername(rs.getString("username"));
-                user.setUserType(rs.getString("user_type"));
-                users.add(user);
-            }
-        } catch (SQLException e) {
-            e.printStackTrace();
+        DataLoadEvent jfrEvent = DataLoadEvent.start("admin", "users");
+        try {
+            users.addAll(Services.users().listUsers());
+            jfrEvent.finish(users.size(), true);
+        } catch (ServiceException e) {
+            jfrEvent.finish(0, false);
+            LOG.error("Failed to load users", e);
             showAlert("Database Error", "Failed to load users: " + e.getMessage(), Alert.AlertType.ERROR);
         }
         updateCounts();
@@ -222,29 +298,15 @@ public class AdminDashboardController {
 
     private void loadRooms() {
         rooms.clear();
-        String sql = """
-        SELECT r.*, u.name as owner_name, r.contact_number as contact_info
-        FROM rooms r
-        JOIN users u ON r.owner_id = u.id
-        ORDER BY r.created_at DESC
-        """;
-        try (Connection conn = DatabaseConnection.getConnection();
-             Statement stmt = conn.createStatement();
-             ResultSet rs = stmt.executeQuery(sql)) {
-
-            while (rs.next()) {
-                Room room = new Room();
-                room.setId(rs.getInt("id"));
-                room.setLocation(rs.getString("location"));
-                room.setPrice(rs.getDouble("price"));
-                room.setDescription(rs.getString("description"));
-                room.setOwnerName(rs.getString("owner_name"));
-                room.setRoomType(rs.getString("room_type"));
-                room.setContactInfo(rs.getString("contact_info")); // This is now correct due to the alias
-                rooms.add(room);
-            }
-        } catch (SQLException e) {
-            e.printStackTrace();
+        DataLoadEvent jfrEvent = DataLoadEvent.start("admin", "rooms");
+        try {
+            rooms.addAll(Services.rooms().listRooms());
+            // Newest first, as before the catalog query was shared with the student dashboard
+            rooms.sort(Comparator.comparing(Room::getCreatedAt, Comparator.nullsLast(Comparator.reverseOrder())));
+            jfrEvent.finish(rooms.size(), true);
+        } catch (ServiceException e) {
+            jfrEvent.finish(0, false);
+            LOG.error("Failed to load rooms", e);
             showAlert("Database Error", "Failed to load rooms: " + e.getMessage(), Alert.AlertType.ERROR);
         }
         updateCounts();
@@ -252,86 +314,168 @@ public class AdminDashboardController {
 
     private void loadFeedback() {
         feedback.clear();
-        String sql = """
-            SELECT f.*, u.username as user_name, 
-            COALESCE(f.status, 'Pending') as status
-            FROM feedback_and_issues f 
-            JOIN users u ON f.user_id = u.id 
-            ORDER BY f.created_at DESC
-            """;
-        try (Connection conn = DatabaseConnection.getConnection();
-             Statement stmt = conn.createStatement();
-             ResultSet rs = stmt.executeQuery(sql)) {
-
-            while (rs.next()) {
-                Feedback fb = new Feedback();
-                fb.setId(rs.getInt("id"));
-                fb.setUserId(rs.getInt("user_id"));
-                fb.setUserName(rs.getString("user_name"));
-                fb.setFeedbackText(rs.getString("feedback_text"));
-                fb.setCreatedAt(rs.getTimestamp("created_at"));
-                fb.setStatus(rs.getString("status"));
-                feedback.add(fb);
+        DataLoadEvent jfrEvent = DataLoadEvent.start("admin", "feedback");
+        try {
+            FeedbackPage page = Services.feedback().findFeedback(feedbackStatus(), feedbackSearchField.getText(),
+                    feedbackOffset, FEEDBACK_PAGE_SIZE);
+            if (page.getItems().isEmpty() && page.hasPrevious()) {
+                // The last page was emptied by a delete or resolve, step back to what is left
+                feedbackOffset = Math.max(0, (page.getPageCount() - 1) * FEEDBACK_PAGE_SIZE);
+                page = Services.feedback().findFeedback(feedbackStatus(), feedbackSearchField.getText(),
+                        feedbackOffset, FEEDBACK_PAGE_SIZE);
             }
-        } catch (SQLException e) {
-            e.printStackTrace();
+            feedback.addAll(page.getItems());
+            feedbackPageLabel.setText("Page " + page.getPageNumber() + " of " + page.getPageCount()
+                    + " (" + page.getTotal() + ")");
+            previousFeedbackButton.setDisable(!page.hasPrevious());
+            nextFeedbackButton.setDisable(!page.hasNext());
+            jfrEvent.finish(feedback.size(), true);
+        } catch (ServiceException e) {
+            jfrEvent.finish(0, false);
+            LOG.error("Failed to load feedback", e);
             showAlert("Database Error", "Failed to load feedback: " + e.getMessage(), Alert.AlertType.ERROR);
         }
     }
 
     private void loadUserStats() {
-        String sql = "SELECT user_type, COUNT(*) as count FROM users WHERE user_type != 'Admin' GROUP BY user_type";
-        try (Connection conn = DatabaseConnection.getConnection();
-             Statement stmt = conn.createStatement();
-             ResultSet rs = stmt.executeQuery(sql)) {
-
+        DataLoadEvent jfrEvent = DataLoadEvent.start("admin", "user statistics");
+        try {
             ObservableList<PieChart.Data> pieChartData = FXCollections.observableArrayList();
-            while (rs.next()) {
-                String userType = rs.getString("user_type");
-                int count = rs.getInt("count");
-                pieChartData.add(new PieChart.Data(userType + " (" + count + ")", count));
+            for (Map.Entry<String, Integer> entry : Services.users().countUsersByType().entrySet()) {
+                pieChartData.add(new PieChart.Data(entry.getKey() + " (" + entry.getValue() + ")", entry.getValue()));
             }
+            jfrEvent.finish(pieChartData.size(), true);
             userStatsChart.setData(pieChartData);
             userStatsChart.setLegendVisible(true);
             userStatsChart.setLabelsVisible(false);
-        } catch (SQLException e) {
-            e.printStackTrace();
+        } catch (ServiceException e) {
+            jfrEvent.finish(0, false);
+            LOG.error("Failed to load user statistics", e);
             showAlert("Database Error", "Failed to load user statistics: " + e.getMessage(), Alert.AlertType.ERROR);
         }
     }
 
     private void loadMonthlyStats() {
-        Calendar cal = Calendar.getInstance();
-        int currentMonth = cal.get(Calendar.MONTH) + 1;
-        int currentYear = cal.get(Calendar.YEAR);
-
-        // Monthly users
-        String usersSql = "SELECT COUNT(*) FROM users WHERE MONTH(created_at) = ? AND YEAR(created_at) = ? AND user_type != 'Admin'";
-        try (Connection conn = DatabaseConnection.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(usersSql)) {
-            stmt.setInt(1, currentMonth);
-            stmt.setInt(2, currentYear);
-            ResultSet rs = stmt.executeQuery();
-            if (rs.next()) {
-                monthlyUsersLabel.setText(String.valueOf(rs.getInt(1)));
+        try {
+            int users = 0;
+            int rooms = 0;
+            LocalDate today = LocalDate.now();
+            for (StatsBucket bucket : Services.stats().listBuckets(StatsBucket.MONTH, today, today)) {
+                if (StatsBucket.SIGNUPS.equals(bucket.getMetric())) {
+                    users += bucket.getCount();
+                } else if (StatsBucket.ROOMS.equals(bucket.getMetric())) {
+                    rooms += bucket.getCount();
+                }
             }
-        } catch (SQLException e) {
-            e.printStackTrace();
+            monthlyUsersLabel.setText(String.valueOf(users));
+            monthlyRoomsLabel.setText(String.valueOf(rooms));
+        } catch (ServiceException e) {
+            LOG.error("Failed to load this month's statistics", e);
+        }
+    }
+
+    private void loadStatsCharts() {
+        LocalDate from = statsFromPicker.getValue();
+        LocalDate to = statsToPicker.getValue();
+        if (from == null || to == null || from.isAfter(to)) {
+            showAlert("Statistics", "Please pick a start date on or before the end date.", Alert.AlertType.WARNING);
+            return;
+        }
+        if (DAILY.equals(statsPeriodCombo.getValue()) && ChronoUnit.DAYS.between(from, to) + 1 > MAX_DAILY_POINTS) {
+            statsPeriodCombo.setValue(MONTHLY);
+        }
+        boolean monthly = MONTHLY.equals(statsPeriodCombo.getValue());
+
+        DataLoadEvent jfrEvent = DataLoadEvent.start("admin", "statistics");
+        List<StatsBucket> buckets;
+        try {
+            buckets = Services.stats().listBuckets(monthly ? StatsBucket.MONTH : StatsBucket.DAY, from, to);
+            jfrEvent.finish(buckets.size(), true);
+        } catch (ServiceException e) {
+            jfrEvent.finish(0, false);
+            LOG.error("Failed to load statistics", e);
+            showAlert("Database Error", "Failed to load statistics: " + e.getMessage(), Alert.AlertType.ERROR);
+            return;
         }
 
-        // Monthly rooms
-        String roomsSql = "SELECT COUNT(*) FROM rooms WHERE MONTH(created_at) = ? AND YEAR(created_at) = ?";
-        try (Connection conn = DatabaseConnection.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(roomsSql)) {
-            stmt.setInt(1, currentMonth);
-            stmt.setInt(2, currentYear);
-            ResultSet rs = stmt.executeQuery();
-            if (rs.next()) {
-                monthlyRoomsLabel.setText(String.valueOf(rs.getInt(1)));
+        // A point for every day or month of the range, the rollups leave out the empty ones
+        DateTimeFormatter format = DateTimeFormatter.ofPattern(monthly ? "MMM yyyy" : "MMM dd");
+        List<String> labels = new ArrayList<>();
+        Map<LocalDate, Integer> index = new HashMap<>();
+        for (LocalDate day = monthly ? from.withDayOfMonth(1) : from; !day.isAfter(to);
+             day = monthly ? day.plusMonths(1) : day.plusDays(1)) {
+            index.put(day, labels.size());
+            labels.add(day.format(format));
+        }
+
+        Map<String, int[]> counts = new LinkedHashMap<>();
+        counts.put(StatsBucket.SIGNUPS, new int[labels.size()]);
+        counts.put(StatsBucket.ROOMS, new int[labels.size()]);
+        counts.put(StatsBucket.FEEDBACK, new int[labels.size()]);
+        Map<String, int[]> roomCounts = new HashMap<>();
+        Map<String, double[]> priceSums = new HashMap<>();
+        Map<String, Integer> roomTotals = new HashMap<>();
+        for (StatsBucket bucket : buckets) {
+            Integer i = index.get(bucket.getBucket());
+            int[] metricCounts = counts.get(bucket.getMetric());
+            if (i == null || metricCounts == null) {
+                continue;
+            }
+            metricCounts[i] += bucket.getCount();
+            if (StatsBucket.ROOMS.equals(bucket.getMetric()) && !bucket.getDimension().isEmpty()) {
+                roomCounts.computeIfAbsent(bucket.getDimension(), k -> new int[labels.size()])[i] += bucket.getCount();
+                priceSums.computeIfAbsent(bucket.getDimension(), k -> new double[labels.size()])[i] += bucket.getPriceSum();
+                roomTotals.merge(bucket.getDimension(), bucket.getCount(), Integer::sum);
             }
-        } catch (SQLException e) {
-            e.printStackTrace();
         }
+
+        List<XYChart.Series<String, Number>> activity = new ArrayList<>();
+        activity.add(series("Signups", labels, counts.get(StatsBucket.SIGNUPS)));
+        activity.add(series("New rooms", labels, counts.get(StatsBucket.ROOMS)));
+        activity.add(series("Feedback", labels, counts.get(StatsBucket.FEEDBACK)));
+        setCategories(activityChart, labels);
+        activityChart.setData(FXCollections.observableArrayList(activity));
+
+        List<XYChart.Series<String, Number>> prices = new ArrayList<>();
+        roomTotals.entrySet().stream()
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                .limit(MAX_PRICE_LOCATIONS)
+                .forEach(entry -> {
+                    XYChart.Series<String, Number> series = new XYChart.Series<>();
+                    series.setName(entry.getKey());
+                    int[] roomsIn = roomCounts.get(entry.getKey());
+                    double[] sums = priceSums.get(entry.getKey());
+                    for (int i = 0; i < labels.size(); i++) {
+                        // No point where no room was listed, the line joins its neighbours
+                        if (roomsIn[i] > 0) {
+                            series.getData().add(new XYChart.Data<>(labels.get(i), Math.round(sums[i] / roomsIn[i])));
+                        }
+                    }
+                    prices.add(series);
+                });
+        setCategories(priceChart, labels);
+        priceChart.setData(FXCollections.observableArrayList(prices));
+    }
+
+    // Fixed in date order, the axis would otherwise order them as the series first mention them
+    private static void setCategories(LineChart<String, Number> chart, List<String> labels) {
+        CategoryAxis axis = (CategoryAxis) chart.getXAxis();
+        axis.setAutoRanging(false);
+        axis.setCategories(FXCollections.observableArrayList(labels));
+    }
+
+    private static XYChart.Series<String, Number> series(String name, List<String> labels, int[] values) {
+        XYChart.Series<String, Number> series = new XYChart.Series<>();
+        series.setName(name);
+        for (int i = 0; i < labels.size(); i++) {
+            series.getData().add(new XYChart.Data<>(labels.get(i), values[i]));
+        }
+        return series;
+    }
+
+    @FXML
+    private void handleShowStatsRange() {
+        loadStatsCharts();
     }
 
     // Navigation handlers
@@ -355,6 +499,11 @@ public class AdminDashboardController {
         selectTabWithAnimation(3);
     }
 
+    @FXML
+    private void handleShowDiagnostics() {
+        DiagnosticsPanel.show(rootContainer.getScene().getWindow());
+    }
+
     private void selectTabWithAnimation(int tabIndex) {
         mainTabPane.getSelectionModel().select(tabIndex);
 
@@ -369,12 +518,13 @@ public class AdminDashboardController {
 
     // Theme toggle handler
     @FXML
-    private void handleThemeToggle() {
-        isDarkTheme = !isDarkTheme;
-        applyTheme();
+    private void handlePerformanceToggle() {
+        PulseMonitor.toggle(rootContainer.getScene().getWindow());
+    }
 
-        // Update button text
-        themeToggleButton.setText(isDarkTheme ? "☀" : "🌙");
+    @FXML
+    private void handleThemeToggle() {
+        updateThemeToggleButton(ThemeManager.toggle(rootContainer));
 
         // Add animation effect
         ScaleTransition scaleTransition = new ScaleTransition(Duration.millis(200), themeToggleButton);
@@ -385,12 +535,8 @@ public class AdminDashboardController {
         scaleTransition.play();
     }
 
-    private void applyTheme() {
-        if (isDarkTheme) {
-            rootContainer.getStyleClass().add("dark-theme");
-        } else {
-            rootContainer.getStyleClass().remove("dark-theme");
-        }
+    private void updateThemeToggleButton(ThemeManager.Theme theme) {
+        themeToggleButton.setText(theme == ThemeManager.Theme.DARK ? "☀" : "🌙");
     }
 
     // Delete handlers
@@ -402,54 +548,22 @@ public class AdminDashboardController {
             return;
         }
 
-        Alert confirmAlert = new Alert(Alert.AlertType.CONFIRMATION);
+        Alert confirmAlert = Dialogs.create(Alert.AlertType.CONFIRMATION, null);
         confirmAlert.setTitle("Confirm Deletion");
         confirmAlert.setHeaderText("Delete User: " + selectedUser.getName());
         confirmAlert.setContentText("Are you sure you want to delete this user?\n\nThis action cannot be undone and will also delete all rooms posted by this user if they are a House Owner.");
 
         if (confirmAlert.showAndWait().orElse(ButtonType.CANCEL) == ButtonType.OK) {
-            try (Connection conn = DatabaseConnection.getConnection()) {
-                conn.setAutoCommit(false);
-
-                try {
-                    // First, delete the user's rooms if they are a 'House Owner'
-                    if ("House Owner".equals(selectedUser.getUserType())) {
-                        String deleteRoomsSql = "DELETE FROM rooms WHERE owner_id = ?";
-                        try (PreparedStatement deleteRoomsStmt = conn.prepareStatement(deleteRoomsSql)) {
-                            deleteRoomsStmt.setInt(1, selectedUser.getId());
-                            int roomsDeleted = deleteRoomsStmt.executeUpdate();
-                            System.out.println("Deleted " + roomsDeleted + " rooms for user: " + selectedUser.getName());
-                        }
-                    }
-
-                    // Delete user's feedback
-                    String deleteFeedbackSql = "DELETE FROM feedback_and_issues WHERE user_id = ?";
-                    try (PreparedStatement deleteFeedbackStmt = conn.prepareStatement(deleteFeedbackSql)) {
-                        deleteFeedbackStmt.setInt(1, selectedUser.getId());
-                        deleteFeedbackStmt.executeUpdate();
-                    }
-
-                    // Then, delete the user
-                    String deleteUserSql = "DELETE FROM users WHERE id = ?";
-                    try (PreparedStatement deleteUserStmt = conn.prepareStatement(deleteUserSql)) {
-                        deleteUserStmt.setInt(1, selectedUser.getId());
-                        if (deleteUserStmt.executeUpdate() > 0) {
-                            conn.commit();
-                            showAlert("Success", "User '" + selectedUser.getName() + "' has been successfully deleted!", Alert.AlertType.INFORMATION);
-                            loadAllData(); // Refresh all data
-                        } else {
-                            conn.rollback();
-                            showAlert("Error", "Failed to delete user. Please try again.", Alert.AlertType.ERROR);
-                        }
-                    }
-                } catch (SQLException e) {
-                    conn.rollback();
-                    throw e;
-                } finally {
-                    conn.setAutoCommit(true);
+            try {
+                // Rooms and feedback of the user are removed in the same transaction
+                if (Services.users().deleteUser(selectedUser.getId())) {
+                    showAlert("Success", "User '" + selectedUser.getName() + "' has been successfully deleted!", Alert.AlertType.INFORMATION);
+                    loadAllData(); // Refresh all data
+                } else {
+                    showAlert("Error", "Failed to delete user. Please try again.", Alert.AlertType.ERROR);
                 }
-            } catch (SQLException e) {
-                e.printStackTrace();
+            } catch (ServiceException e) {
+                LOG.error("Failed to delete user", e);
                 showAlert("Database Error", "Failed to delete user: " + e.getMessage(), Alert.AlertType.ERROR);
             }
         }
@@ -463,26 +577,22 @@ public class AdminDashboardController {
             return;
         }
 
-        Alert confirmAlert = new Alert(Alert.AlertType.CONFIRMATION);
+        Alert confirmAlert = Dialogs.create(Alert.AlertType.CONFIRMATION, null);
         confirmAlert.setTitle("Confirm Deletion");
         confirmAlert.setHeaderText("Delete Room");
         confirmAlert.setContentText("Are you sure you want to delete the room in " + selectedRoom.getLocation() + "?\n\nThis action cannot be undone.");
 
         if (confirmAlert.showAndWait().orElse(ButtonType.CANCEL) == ButtonType.OK) {
-            String sql = "DELETE FROM rooms WHERE id = ?";
-            try (Connection conn = DatabaseConnection.getConnection();
-                 PreparedStatement stmt = conn.prepareStatement(sql)) {
-                stmt.setInt(1, selectedRoom.getId());
-
-                if (stmt.executeUpdate() > 0) {
+            try {
+                if (Services.rooms().deleteRoom(selectedRoom.getId())) {
+                    PriceInsights.getInstance().forget(selectedRoom.getId());
                     showAlert("Success", "Room has been successfully deleted!", Alert.AlertType.INFORMATION);
                     loadRooms();
-                    loadMonthlyStats();
                 } else {
                     showAlert("Error", "Failed to delete room. Please try again.", Alert.AlertType.ERROR);
                 }
-            } catch (SQLException e) {
-                e.printStackTrace();
+            } catch (ServiceException e) {
+                LOG.error("Failed to delete room", e);
                 showAlert("Database Error", "Failed to delete room: " + e.getMessage(), Alert.AlertType.ERROR);
             }
         }
@@ -490,64 +600,166 @@ public class AdminDashboardController {
 
     @FXML
     public void handleDeleteFeedback() {
-        Feedback selectedFeedback = feedbackTable.getSelectionModel().getSelectedItem();
-        if (selectedFeedback == null) {
+        List<Integer> selectedIds = selectedFeedbackIds(false);
+        if (selectedIds.isEmpty()) {
             showAlert("Selection Required", "Please select feedback to delete.", Alert.AlertType.WARNING);
             return;
         }
-
-        Alert confirmAlert = new Alert(Alert.AlertType.CONFIRMATION);
-        confirmAlert.setTitle("Confirm Deletion");
-        confirmAlert.setHeaderText("Delete Feedback");
-        confirmAlert.setContentText("Are you sure you want to delete this feedback?\n\nThis action cannot be undone.");
-
-        if (confirmAlert.showAndWait().orElse(ButtonType.CANCEL) == ButtonType.OK) {
-            String sql = "DELETE FROM feedback_and_issues WHERE id = ?";
-            try (Connection conn = DatabaseConnection.getConnection();
-                 PreparedStatement stmt = conn.prepareStatement(sql)) {
-                stmt.setInt(1, selectedFeedback.getId());
-
-                if (stmt.executeUpdate() > 0) {
-                    showAlert("Success", "Feedback has been successfully deleted!", Alert.AlertType.INFORMATION);
-                    loadFeedback();
-                } else {
-                    showAlert("Error", "Failed to delete feedback. Please try again.", Alert.AlertType.ERROR);
-                }
-            } catch (SQLException e) {
-                e.printStackTrace();
-                showAlert("Database Error", "Failed to delete feedback: " + e.getMessage(), Alert.AlertType.ERROR);
-            }
-        }
+        deleteFeedback(selectedIds);
     }
 
     @FXML
     public void handleMarkResolved() {
-        Feedback selectedFeedback = feedbackTable.getSelectionModel().getSelectedItem();
-        if (selectedFeedback == null) {
+        if (feedbackTable.getSelectionModel().getSelectedItems().isEmpty()) {
             showAlert("Selection Required", "Please select feedback to mark as resolved.", Alert.AlertType.WARNING);
             return;
         }
 
-        if ("Resolved".equals(selectedFeedback.getStatus())) {
-            showAlert("Already Resolved", "This feedback is already marked as resolved.", Alert.AlertType.INFORMATION);
+        List<Integer> selectedIds = selectedFeedbackIds(true);
+        if (selectedIds.isEmpty()) {
+            showAlert("Already Resolved", "The selected feedback is already marked as resolved.", Alert.AlertType.INFORMATION);
+            return;
+        }
+        resolveFeedback(selectedIds);
+    }
+
+    private List<Integer> selectedFeedbackIds(boolean pendingOnly) {
+        List<Integer> ids = new ArrayList<>();
+        for (Feedback item : feedbackTable.getSelectionModel().getSelectedItems()) {
+            if (!pendingOnly || !"Resolved".equals(item.getStatus())) {
+                ids.add(item.getId());
+            }
+        }
+        return ids;
+    }
+
+    // One statement for the whole selection, however many rows are picked
+    private void deleteFeedback(List<Integer> ids) {
+        Alert confirmAlert = Dialogs.create(Alert.AlertType.CONFIRMATION, null);
+        confirmAlert.setTitle("Confirm Deletion");
+        confirmAlert.setHeaderText(ids.size() == 1 ? "Delete Feedback" : "Delete " + ids.size() + " Feedback Reports");
+        confirmAlert.setContentText("Are you sure you want to delete "
+                + (ids.size() == 1 ? "this feedback" : "these " + ids.size() + " reports")
+                + "?\n\nThis action cannot be undone.");
+        if (confirmAlert.showAndWait().orElse(ButtonType.CANCEL) != ButtonType.OK) {
             return;
         }
 
-        String sql = "UPDATE feedback_and_issues SET status = 'Resolved' WHERE id = ?";
-        try (Connection conn = DatabaseConnection.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
-            stmt.setInt(1, selectedFeedback.getId());
+        runFeedbackTask("feedback-delete", () -> Services.feedback().deleteFeedback(ids), deleted -> {
+            if (deleted > 0) {
+                showAlert("Success", deleted == 1 ? "Feedback has been successfully deleted!"
+                        : deleted + " feedback reports have been deleted!", Alert.AlertType.INFORMATION);
+            } else {
+                showAlert("Error", "Failed to delete feedback. Please try again.", Alert.AlertType.ERROR);
+            }
+            loadFeedback();
+        }, "Failed to delete feedback");
+    }
 
-            if (stmt.executeUpdate() > 0) {
-                showAlert("Success", "Feedback has been marked as resolved!", Alert.AlertType.INFORMATION);
-                loadFeedback();
+    private void resolveFeedback(List<Integer> ids) {
+        runFeedbackTask("feedback-resolve", () -> Services.feedback().markResolved(ids), resolved -> {
+            if (resolved > 0) {
+                showAlert("Success", resolved == 1 ? "Feedback has been marked as resolved!"
+                        : resolved + " feedback reports have been marked as resolved!", Alert.AlertType.INFORMATION);
             } else {
-                showAlert("Error", "Failed to update feedback status. Please try again.", Alert.AlertType.ERROR);
+                showAlert("Already Resolved", "The selected feedback is already marked as resolved.", Alert.AlertType.INFORMATION);
             }
-        } catch (SQLException e) {
-            e.printStackTrace();
-            showAlert("Database Error", "Failed to update feedback: " + e.getMessage(), Alert.AlertType.ERROR);
+            loadFeedback();
+        }, "Failed to update feedback");
+    }
+
+    // Bulk actions and the first duplicate grouping can take seconds on a big table, so they run
+    // off the FX thread; the feedback actions stay disabled until the result is shown
+    private <T> void runFeedbackTask(String threadName, Callable<T> work, Consumer<T> done, String failure) {
+        Task<T> task = new Task<>() {
+            @Override
+            protected T call() throws Exception {
+                return work.call();
+            }
+        };
+        task.setOnSucceeded(e -> {
+            setFeedbackActionsDisabled(false);
+            done.accept(task.getValue());
+        });
+        task.setOnFailed(e -> {
+            setFeedbackActionsDisabled(false);
+            LOG.error(failure, task.getException());
+            showAlert("Database Error", failure + ": " + task.getException().getMessage(), Alert.AlertType.ERROR);
+        });
+        setFeedbackActionsDisabled(true);
+        Thread thread = new Thread(task, threadName);
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    private void setFeedbackActionsDisabled(boolean disabled) {
+        markResolvedButton.setDisable(disabled);
+        deleteFeedbackButton.setDisable(disabled);
+        duplicatesButton.setDisable(disabled);
+    }
+
+    @FXML
+    public void handleFeedbackFilter() {
+        feedbackOffset = 0;
+        loadFeedback();
+    }
+
+    @FXML
+    public void handlePreviousFeedback() {
+        feedbackOffset = Math.max(0, feedbackOffset - FEEDBACK_PAGE_SIZE);
+        loadFeedback();
+    }
+
+    @FXML
+    public void handleNextFeedback() {
+        feedbackOffset += FEEDBACK_PAGE_SIZE;
+        loadFeedback();
+    }
+
+    /**
+     * Lists groups of near-identical reports under the current status filter, largest first,
+     * so a burst of the same complaint can be resolved or deleted in one go.
+     */
+    @FXML
+    public void handleShowDuplicates() {
+        String status = feedbackStatus();
+        runFeedbackTask("feedback-duplicates", () -> Services.feedback().findDuplicates(status),
+                this::showDuplicates, "Failed to find duplicate feedback");
+    }
+
+    private void showDuplicates(List<FeedbackCluster> clusters) {
+        if (clusters.isEmpty()) {
+            showAlert("No Duplicates", "No near-duplicate feedback was found.", Alert.AlertType.INFORMATION);
+            return;
+        }
+
+        ListView<FeedbackCluster> list = new ListView<>(FXCollections.observableArrayList(clusters));
+        list.setPrefSize(560, 320);
+        list.getSelectionModel().selectFirst();
+        ButtonType resolveGroup = new ButtonType("Resolve Group", ButtonBar.ButtonData.OTHER);
+        ButtonType deleteGroup = new ButtonType("Delete Group", ButtonBar.ButtonData.OTHER);
+
+        Alert dialog = Dialogs.create(Alert.AlertType.INFORMATION, null);
+        dialog.setTitle("Duplicate Feedback");
+        dialog.setHeaderText(clusters.size() + " groups of similar reports");
+        dialog.getDialogPane().setContent(list);
+        dialog.getButtonTypes().setAll(resolveGroup, deleteGroup, ButtonType.CLOSE);
+
+        ButtonType choice = dialog.showAndWait().orElse(ButtonType.CLOSE);
+        FeedbackCluster cluster = list.getSelectionModel().getSelectedItem();
+        if (cluster == null || choice == ButtonType.CLOSE) {
+            return;
         }
+        if (choice == resolveGroup) {
+            resolveFeedback(cluster.getFeedbackIds());
+        } else if (choice == deleteGroup) {
+            deleteFeedback(cluster.getFeedbackIds());
+        }
+    }
+
+    private String feedbackStatus() {
+        String status = feedbackStatusFilter.getValue();
+        return status == null || ALL_STATUSES.equals(status) ? null : status;
     }
 
     // Refresh handlers
@@ -563,6 +775,28 @@ public class AdminDashboardController {
         showAlert("Refreshed", "Rooms data has been refreshed!", Alert.AlertType.INFORMATION);
     }
 
+    @FXML
+    public void handleImportRooms() {
+        // Admin imports take the owner of each room from the file's owner_id column
+        RoomImportDialog.show(rootContainer.getScene().getWindow(), 0, this::loadRooms);
+    }
+
+    // Exports read the whole table from the database, not the rows loaded into the tables
+    @FXML
+    public void handleExportUsers() {
+        TableExportDialog.show(rootContainer.getScene().getWindow(), TableExporter.Table.USERS);
+    }
+
+    @FXML
+    public void handleExportRooms() {
+        TableExportDialog.show(rootContainer.getScene().getWindow(), TableExporter.Table.ROOMS);
+    }
+
+    @FXML
+    public void handleExportFeedback() {
+        TableExportDialog.show(rootContainer.getScene().getWindow(), TableExporter.Table.FEEDBACK);
+    }
+
     @FXML
     public void handleRefreshFeedback() {
         loadFeedback();
@@ -572,12 +806,13 @@ public class AdminDashboardController {
     @FXML
     public void handleBackToLogin(ActionEvent event) {
         try {
+            dataChanges.forEach(InvalidationBus.Subscription::close);
+            dataChanges.clear();
             // Use the correct SceneManager method with ActionEvent and proper parameters
             SceneManager.switchScene(event, "/fxml/login.fxml", "/css/login.css", 1000, 620, "StudentNest - Login");
-            System.out.println("Navigating back to login page...");
+            LOG.debug("Navigating back to login page...");
         } catch (Exception e) {
-            System.err.println("Error navigating to login page: " + e.getMessage());
-            e.printStackTrace();
+            LOG.error("Error navigating to login page", e);
         }
     }
 
@@ -585,36 +820,9 @@ public class AdminDashboardController {
     private void showAlert(String title, String message, Alert.AlertType alertType) {
         Platform.runLater(() -> {
             try {
-                Alert alert = new Alert(alertType);
-                alert.setTitle(title);
-                alert.setHeaderText(null);
-                alert.setContentText(message);
-
-                // Set icon for the alert window
-                Stage alertStage = (Stage) alert.getDialogPane().getScene().getWindow();
-                URL imageUrl = getClass().getResource("/images/img.png");
-                if (imageUrl != null) {
-                    Image icon = new Image(imageUrl.toExternalForm());
-                    alertStage.getIcons().add(icon);
-                } else {
-                    System.err.println("Warning: The image file was not found. Please check the path: /images/img.png");
-                }
-
-                // Try to style the alert to match the application theme
-                try {
-                    URL cssUrl = getClass().getResource("/css/login.css");
-                    if (cssUrl != null) {
-                        alert.getDialogPane().getStylesheets().add(cssUrl.toExternalForm());
-                    } else {
-                        System.err.println("Warning: Could not apply CSS to alert dialog, file not found: /css/login.css");
-                    }
-                } catch (Exception e) {
-                    System.err.println("Error applying CSS to alert dialog: " + e.getMessage());
-                }
-
-                alert.showAndWait();
+                Dialogs.show(alertType, title, message, "/css/login.css");
             } catch (Exception e) {
-                System.err.println("Error showing alert: " + e.getMessage());
+                LOG.error("Error showing alert: {}", e.getMessage());
             }
         });
     }
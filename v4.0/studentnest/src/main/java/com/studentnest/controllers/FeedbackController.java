@@ -1,6 +1,10 @@
 package com.studentnest.controllers;
 
-import com.studentnest.database.DatabaseConnection;
+import com.studentnest.logging.Log;
+import com.studentnest.logging.Logger;
+import com.studentnest.services.ServiceException;
+import com.studentnest.services.Services;
+import com.studentnest.utils.Dialogs;
 import com.studentnest.utils.SceneManager;
 import javafx.event.ActionEvent; // Added import for ActionEvent
 import javafx.fxml.FXML;
@@ -8,15 +12,11 @@ import javafx.scene.control.Alert;
 import javafx.scene.control.TextArea;
 import javafx.scene.control.Alert.AlertType;
 
-import java.sql.Connection;
-import java.sql.PreparedStatement;
-import java.sql.SQLException;
-import java.net.URL;
-import javafx.stage.Stage;
-import javafx.scene.image.Image;
 
 public class FeedbackController {
 
+    private static final Logger LOG = Log.get("ui.feedback");
+
     @FXML
     private TextArea feedbackTextArea;
 
@@ -45,19 +45,13 @@ public class FeedbackController {
             return;
         }
 
-        try (Connection conn = DatabaseConnection.getConnection();
-             PreparedStatement stmt = conn.prepareStatement("INSERT INTO feedback_and_issues (user_id, feedback_text) VALUES (?, ?)")) {
-
-            stmt.setInt(1, LoginController.getCurrentUserId());
-            stmt.setString(2, feedbackText);
-
-            int rowsInserted = stmt.executeUpdate();
-            if (rowsInserted > 0) {
+        try {
+            if (Services.feedback().submitFeedback(LoginController.getCurrentUserId(), feedbackText)) {
                 showAlert(AlertType.INFORMATION, "Success", "Your feedback has been submitted successfully!");
                 handleBack(event); // Pass the ActionEvent to the handleBack method
             }
-        } catch (SQLException e) {
-            e.printStackTrace();
+        } catch (ServiceException e) {
+            LOG.error("Failed to submit feedback", e);
             showAlert(AlertType.ERROR, "Database Error", "Failed to submit feedback. Please try again later.");
         }
     }
@@ -89,34 +83,9 @@ public class FeedbackController {
     private void showAlert(AlertType type, String title, String message) {
         javafx.application.Platform.runLater(() -> {
             try {
-                Alert alert = new Alert(type);
-                alert.setTitle(title);
-                alert.setHeaderText(null);
-                alert.setContentText(message);
-
-                Stage alertStage = (Stage) alert.getDialogPane().getScene().getWindow();
-                URL imageUrl = getClass().getResource("/images/img.png");
-                if (imageUrl != null) {
-                    Image icon = new Image(imageUrl.toExternalForm());
-                    alertStage.getIcons().add(icon);
-                } else {
-                    System.err.println("Warning: The image file was not found. Please check the path: /images/img.png");
-                }
-
-                try {
-                    URL cssUrl = getClass().getResource("/css/login.css");
-                    if (cssUrl != null) {
-                        alert.getDialogPane().getStylesheets().add(cssUrl.toExternalForm());
-                    } else {
-                        System.err.println("Warning: Could not apply CSS to alert dialog, file not found: /css/login.css");
-                    }
-                } catch (Exception e) {
-                    System.err.println("Error applying CSS to alert dialog: " + e.getMessage());
-                }
-
-                alert.showAndWait();
+                Dialogs.show(type, title, message, "/css/login.css");
             } catch (Exception e) {
-                System.err.println("Error showing alert: " + e.getMessage());
+                LOG.error("Error showing alert: {}", e.getMessage());
             }
         });
     }
@@ -1,37 +1,74 @@
 package com.studentnest.controllers;
 
 import javafx.application.Platform;
+import com.studentnest.jfr.DataLoadEvent;
+import com.studentnest.logging.Log;
+import com.studentnest.logging.Logger;
+import com.studentnest.models.GeoPoint;
 import com.studentnest.models.Room;
+import com.studentnest.services.PriceInsights;
+import com.studentnest.services.RoomConflictException;
+import com.studentnest.services.RoomEditMerge;
+import com.studentnest.services.RoomFilterCriteria;
+import com.studentnest.services.ServiceException;
+import com.studentnest.services.Services;
+import com.studentnest.utils.Dialogs;
+import com.studentnest.utils.MapLinkParser;
+import com.studentnest.utils.PulseMonitor;
+import com.studentnest.utils.RoomImportDialog;
 import com.studentnest.utils.SceneManager;
+import com.studentnest.utils.ThemeManager;
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
+import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
+import javafx.concurrent.Task;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.*;
-import javafx.scene.image.Image;
 import javafx.scene.layout.BorderPane;
 import javafx.stage.FileChooser;
-import javafx.stage.Stage;
 
 import java.io.File;
-import java.net.URL;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
-import java.sql.*;
-
-import com.studentnest.database.DatabaseConnection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.function.Consumer;
 
 public class HouseOwnerDashboardController {
 
+    private static final Logger LOG = Log.get("ui.owner");
+
+    private static final String OLDEST_FIRST = "Oldest First";
+    // Saves of one edit before giving up on a room that keeps changing
+    private static final int MAX_SAVE_ATTEMPTS = 3;
+    private static final Map<String, Comparator<Room>> ROOM_ORDERS = new LinkedHashMap<>();
+    static {
+        ROOM_ORDERS.put(OLDEST_FIRST, Comparator.comparingInt(Room::getId));
+        ROOM_ORDERS.put("Newest First", Comparator.comparingInt(Room::getId).reversed());
+        ROOM_ORDERS.put("Price: Low to High", Comparator.comparingDouble(Room::getPrice));
+        ROOM_ORDERS.put("Price: High to Low", Comparator.comparingDouble(Room::getPrice).reversed());
+    }
+
     // ========== FXML VARIABLES ==========
     @FXML private Label welcomeLabel;
     @FXML private TextField priceField;
     @FXML private TextArea descriptionArea;
     @FXML private TextField contactField;
     @FXML private TextField mapLinkField;
+    @FXML private TextField seatsField;
     @FXML private Button addRoomButton;
     @FXML private ListView<Room> roomsList;
+    @FXML private TextField roomSearchField;
+    @FXML private ComboBox<String> roomSortComboBox;
     @FXML private Button updateRoomButton;
     @FXML private Button deleteRoomButton;
     @FXML private ComboBox<String> locationComboBox;
@@ -48,28 +85,24 @@ public class HouseOwnerDashboardController {
     // ========== INSTANCE VARIABLES ==========
     private File image1File;
     private File image2File;
-    private ObservableList<Room> rooms = FXCollections.observableArrayList();
+    private final ObservableList<Room> rooms = FXCollections.observableArrayList();
+    // Search and sort run over the loaded rooms, without a database round trip
+    private final FilteredList<Room> filteredRooms = new FilteredList<>(rooms);
+    private final SortedList<Room> sortedRooms = new SortedList<>(filteredRooms, ROOM_ORDERS.get(OLDEST_FIRST));
     private Room selectedRoom = null;
+    private final PriceInsights priceInsights = PriceInsights.getInstance();
 
     @FXML
     public void initialize() {
+        // Styled before the first CSS pass; starts dark unless another theme was picked
+        updateThemeToggleButton(ThemeManager.install(rootContainer, "/css/modern-dashboard.css", ThemeManager.Theme.DARK));
+
         // Defer initialization to ensure FXML elements are properly injected
         Platform.runLater(this::initializeComponents);
     }
 
     private void initializeComponents() {
         try {
-            // Apply CSS stylesheet programmatically
-            applyCSSStylesheet();
-
-            // Apply dark theme by default (only if rootContainer is not null)
-            if (rootContainer != null) {
-                rootContainer.getStyleClass().add("dark-theme");
-                if (themeToggleButton != null) {
-                    themeToggleButton.setText("☀"); // Set to sun icon since we're starting in dark mode
-                }
-            }
-
             // Set welcome message
             if (welcomeLabel != null) {
                 welcomeLabel.setText("Welcome, " + LoginController.getCurrentUserName() + "!");
@@ -81,9 +114,12 @@ public class HouseOwnerDashboardController {
                         "Kumkumari", "Dattopara", "Shadhupara");
             }
 
+            // Stats follow every local change to the list
+            rooms.addListener((ListChangeListener<Room>) change -> updateQuickStats());
+
             // Initialize rooms list
             if (roomsList != null) {
-                roomsList.setItems(rooms);
+                roomsList.setItems(sortedRooms);
                 roomsList.setCellFactory(lv -> new ListCell<Room>() {
                     @Override
                     protected void updateItem(Room room, boolean empty) {
@@ -91,7 +127,8 @@ public class HouseOwnerDashboardController {
                         if (empty || room == null) {
                             setText(null);
                         } else {
-                            setText(room.getLocation() + " - ৳" + room.getPrice() + "/month");
+                            setText(room.getLocation() + " - ৳" + room.getPrice() + "/month - "
+                                    + room.getAvailableSeats() + "/" + room.getNumberOfRooms() + " seats free");
                         }
                     }
                 });
@@ -105,6 +142,19 @@ public class HouseOwnerDashboardController {
                 });
             }
 
+            if (roomSearchField != null) {
+                roomSearchField.textProperty().addListener((obs, oldText, newText) -> {
+                    RoomFilterCriteria criteria = new RoomFilterCriteria(null, null, null, null, newText);
+                    filteredRooms.setPredicate(newText == null || newText.isBlank() ? null : criteria::matches);
+                });
+            }
+            if (roomSortComboBox != null) {
+                roomSortComboBox.getItems().addAll(ROOM_ORDERS.keySet());
+                roomSortComboBox.setValue(OLDEST_FIRST);
+                roomSortComboBox.valueProperty().addListener((obs, oldOrder, newOrder) ->
+                        sortedRooms.setComparator(ROOM_ORDERS.get(newOrder)));
+            }
+
             // Initialize room types combo box
             if (roomTypeComboBox != null) {
                 ObservableList<String> roomTypes = FXCollections.observableArrayList("Single", "Shared", "Family");
@@ -113,45 +163,11 @@ public class HouseOwnerDashboardController {
 
             // Load rooms and update stats
             loadRooms();
-            updateQuickStats();
-
-            System.out.println("House Owner Dashboard initialized successfully");
-
-        } catch (Exception e) {
-            System.err.println("Error during dashboard initialization: " + e.getMessage());
-            e.printStackTrace();
-        }
-    }
 
-    /**
-     * Apply CSS stylesheet programmatically
-     */
-    private void applyCSSStylesheet() {
-        try {
-            // Check if rootContainer is null
-            if (rootContainer == null) {
-                System.err.println("Warning: rootContainer is null, cannot apply CSS");
-                return;
-            }
+            LOG.info("House Owner Dashboard initialized successfully");
 
-            URL cssUrl = getClass().getResource("/css/modern-dashboard.css");
-            if (cssUrl != null) {
-                rootContainer.getStylesheets().add(cssUrl.toExternalForm());
-                System.out.println("CSS stylesheet loaded successfully");
-            } else {
-                System.err.println("Warning: CSS file not found at /css/modern-dashboard.css");
-                // Try alternative path
-                cssUrl = getClass().getResource("/modern-dashboard.css");
-                if (cssUrl != null) {
-                    rootContainer.getStylesheets().add(cssUrl.toExternalForm());
-                    System.out.println("CSS stylesheet loaded from alternative path");
-                } else {
-                    System.err.println("Error: Could not find CSS file in any expected location");
-                }
-            }
         } catch (Exception e) {
-            System.err.println("Error loading CSS stylesheet: " + e.getMessage());
-            e.printStackTrace();
+            LOG.error("Error during dashboard initialization", e);
         }
     }
 
@@ -164,46 +180,40 @@ public class HouseOwnerDashboardController {
                 totalRoomsLabel.setText(String.valueOf(rooms.size()));
             }
 
-            // For now, set occupied rooms to a placeholder
-            // You can implement actual logic to count occupied rooms from database
+            // Rooms with every seat held or reserved
             if (occupiedRoomsLabel != null) {
-                occupiedRoomsLabel.setText(String.valueOf(rooms.size() > 0 ? (int)(rooms.size() * 0.6) : 0));
+                occupiedRoomsLabel.setText(String.valueOf(rooms.stream().filter(Room::isFullyBooked).count()));
             }
         } catch (Exception e) {
-            System.err.println("Error updating quick stats: " + e.getMessage());
-            e.printStackTrace();
+            LOG.error("Error updating quick stats", e);
         }
     }
 
+    /**
+     * Reloads the whole portfolio. Only used on start and after a bulk import; single
+     * adds, updates and deletes are applied to the list in place.
+     */
     private void loadRooms() {
-        rooms.clear();
-        String sql = "SELECT id, owner_id, location, price, description, contact_number, map_link, room_type, image1_path, image2_path FROM rooms WHERE owner_id = ?";
-        try (Connection conn = DatabaseConnection.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
-            stmt.setInt(1, LoginController.getCurrentUserId());
-            try (ResultSet rs = stmt.executeQuery()) {
-                while (rs.next()) {
-                    Room room = new Room();
-                    room.setId(rs.getInt("id"));
-                    room.setOwnerId(rs.getInt("owner_id"));
-                    room.setLocation(rs.getString("location"));
-                    room.setPrice(rs.getDouble("price"));
-                    room.setDescription(rs.getString("description"));
-                    room.setContactInfo(rs.getString("contact_number"));
-                    room.setMapLink(rs.getString("map_link"));
-                    room.setRoomType(rs.getString("room_type"));
-                    room.setImage1Path(rs.getString("image1_path"));
-                    room.setImage2Path(rs.getString("image2_path"));
-                    rooms.add(room);
-                }
-            }
-        } catch (SQLException e) {
-            e.printStackTrace();
+        DataLoadEvent jfrEvent = DataLoadEvent.start("owner", "rooms");
+        try {
+            List<Room> loaded = Services.rooms().listRoomsByOwner(LoginController.getCurrentUserId());
+            loaded.forEach(priceInsights::record);
+            rooms.setAll(loaded);
+            jfrEvent.finish(rooms.size(), true);
+        } catch (ServiceException e) {
+            rooms.clear();
+            jfrEvent.finish(0, false);
+            LOG.error("Failed to load rooms", e);
             showAlert("Database Error", "Failed to load rooms.", Alert.AlertType.ERROR);
         }
+    }
 
-        // Update stats after loading rooms
-        updateQuickStats();
+    // Replaces a room in the list, so search, sort and the cell pick up its new values
+    private void replaceRoom(Room current, Room replacement) {
+        int index = rooms.indexOf(current);
+        if (index >= 0) {
+            rooms.set(index, replacement);
+        }
     }
 
     @FXML
@@ -237,6 +247,7 @@ public class HouseOwnerDashboardController {
         contactField.setText(room.getContactInfo());
         mapLinkField.setText(room.getMapLink());
         roomTypeComboBox.setValue(room.getRoomType());
+        seatsField.setText(String.valueOf(room.getNumberOfRooms()));
     }
 
     @FXML
@@ -260,33 +271,53 @@ public class HouseOwnerDashboardController {
             showAlert("Validation Error", "Please select a room type.", Alert.AlertType.WARNING);
             return;
         }
+        Integer seats = parseSeats();
+        if (seats == null) {
+            return;
+        }
+        double price;
         try {
-            double price = Double.parseDouble(priceText);
-            String sql = "INSERT INTO rooms (owner_id, location, price, description, contact_number, map_link, room_type, image1_path, image2_path) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
-            try (Connection conn = DatabaseConnection.getConnection();
-                 PreparedStatement stmt = conn.prepareStatement(sql)) {
-                stmt.setInt(1, LoginController.getCurrentUserId());
-                stmt.setString(2, location);
-                stmt.setDouble(3, price);
-                stmt.setString(4, description);
-                stmt.setString(5, contact);
-                stmt.setString(6, mapLink);
-                stmt.setString(7, roomType);
-                stmt.setString(8, image1Path);
-                stmt.setString(9, image2Path);
-
-                if (stmt.executeUpdate() > 0) {
-                    showAlert("Success", "Room added successfully!", Alert.AlertType.INFORMATION);
-                    clearForm();
-                    loadRooms(); // This will also update stats
-                }
-            }
+            price = Double.parseDouble(priceText);
         } catch (NumberFormatException e) {
             showAlert("Input Error", "Please enter a valid price", Alert.AlertType.ERROR);
-        } catch (SQLException e) {
-            e.printStackTrace();
-            showAlert("Database Error", "Failed to add room.", Alert.AlertType.ERROR);
+            return;
         }
+        // Extract coordinates once at save time so the student dashboard can index them
+        GeoPoint coordinates = MapLinkParser.parse(mapLink);
+
+        Room room = new Room();
+        room.setOwnerId(LoginController.getCurrentUserId());
+        room.setLocation(location);
+        room.setPrice(price);
+        room.setDescription(description);
+        room.setContactNumber(contact);
+        room.setMapLink(mapLink);
+        room.setRoomType(roomType);
+        room.setImage1Path(image1Path);
+        room.setImage2Path(image2Path);
+        room.setCoordinates(coordinates);
+        room.setNumberOfRooms(seats);
+        room.setAvailableSeats(seats);
+
+        // Listed right away while the insert runs, and taken out again if it fails
+        rooms.add(room);
+        runRoomTask("room-add", () -> Services.rooms().addRoom(room), id -> {
+            room.setId(id);
+            // Setting the id does not notify the list; putting the room back in its own place re-sorts it by the id
+            replaceRoom(room, room);
+            priceInsights.record(room);
+            showAlert("Success", "Room added successfully!", Alert.AlertType.INFORMATION);
+            clearForm();
+        }, error -> {
+            rooms.remove(room);
+            LOG.error("Failed to add room", error);
+            showAlert("Database Error", "Failed to add room.", Alert.AlertType.ERROR);
+        });
+    }
+
+    @FXML
+    public void handleImportRooms() {
+        RoomImportDialog.show(rootContainer.getScene().getWindow(), LoginController.getCurrentUserId(), this::loadRooms);
     }
 
     // Helper method to save the image to a local directory
@@ -312,7 +343,7 @@ public class HouseOwnerDashboardController {
             // Return the absolute path of the saved file
             return destinationFile.toAbsolutePath().toString();
         } catch (Exception e) {
-            System.err.println("Error saving image: " + e.getMessage());
+            LOG.error("Error saving image: {}", e.getMessage());
             return null;
         }
     }
@@ -335,58 +366,178 @@ public class HouseOwnerDashboardController {
             showAlert("Validation Error", "Please fill in all required fields", Alert.AlertType.WARNING);
             return;
         }
+        Integer seats = parseSeats();
+        if (seats == null) {
+            return;
+        }
 
+        double price;
         try {
-            double price = Double.parseDouble(priceText);
-
-            // Handle image updates
-            String image1Path = saveImage(image1File);
-            String image2Path = saveImage(image2File);
-
-            String sql;
-            if (image1Path != null || image2Path != null) {
-                sql = "UPDATE rooms SET location = ?, price = ?, description = ?, contact_number = ?, map_link = ?, room_type = ?" +
-                        (image1Path != null ? ", image1_path = ?" : "") +
-                        (image2Path != null ? ", image2_path = ?" : "") +
-                        " WHERE id = ?";
+            price = Double.parseDouble(priceText);
+        } catch (NumberFormatException e) {
+            showAlert("Input Error", "Please enter a valid price", Alert.AlertType.ERROR);
+            return;
+        }
+
+        // Handle image updates
+        String image1Path = saveImage(image1File);
+        String image2Path = saveImage(image2File);
+
+        GeoPoint coordinates = MapLinkParser.parse(mapLink);
+
+        Room previous = selectedRoom;
+        Room updated = new Room(previous);
+        updated.setLocation(location);
+        updated.setPrice(price);
+        updated.setDescription(description);
+        updated.setContactNumber(contact);
+        updated.setMapLink(mapLink);
+        updated.setRoomType(roomType);
+        updated.setCoordinates(coordinates);
+        // Seats added or removed change the free ones by the same amount, as the database does
+        updated.setAvailableSeats(Math.max(0, previous.getAvailableSeats() + seats - previous.getNumberOfRooms()));
+        updated.setNumberOfRooms(seats);
+        if (image1Path != null) {
+            updated.setImage1Path(image1Path);
+        }
+        if (image2Path != null) {
+            updated.setImage2Path(image2Path);
+        }
+
+        // Shown right away while the save runs, and put back if it fails. The save works on its
+        // own copy, so the room in the list is never changed off the FX thread.
+        replaceRoom(previous, updated);
+        Room edit = new Room(updated);
+        runRoomTask("room-update", () -> saveRoomEdit(previous, edit), stored -> {
+            // Unless the owner has picked another room while the save ran
+            if (selectedRoom == previous || selectedRoom == updated) {
+                clearForm();
+                selectedRoom = null;
+            }
+            if (stored != null) {
+                replaceRoom(updated, stored);
+                priceInsights.record(stored);
+            } else {
+                // Deleted from another dashboard in the meantime
+                rooms.remove(updated);
+                priceInsights.forget(updated.getId());
+                showAlert("Room Not Found", "This room no longer exists and was removed from your list.", Alert.AlertType.WARNING);
+            }
+        }, error -> {
+            replaceRoom(updated, previous);
+            if (error instanceof RoomConflictException) {
+                LOG.warn("Gave up saving room {} after {} conflicting updates",
+                        ((RoomConflictException) error).getCurrent().getId(), MAX_SAVE_ATTEMPTS);
+                showAlert("Room Busy", "This room keeps being changed elsewhere. Please try again.", Alert.AlertType.WARNING);
             } else {
-                sql = "UPDATE rooms SET location = ?, price = ?, description = ?, contact_number = ?, map_link = ?, room_type = ? WHERE id = ?";
+                LOG.error("Failed to update room", error);
+                showAlert("Database Error", "Failed to update room.", Alert.AlertType.ERROR);
             }
+        });
+    }
 
-            try (Connection conn = DatabaseConnection.getConnection();
-                 PreparedStatement stmt = conn.prepareStatement(sql)) {
-                int paramIndex = 1;
-                stmt.setString(paramIndex++, location);
-                stmt.setDouble(paramIndex++, price);
-                stmt.setString(paramIndex++, description);
-                stmt.setString(paramIndex++, contact);
-                stmt.setString(paramIndex++, mapLink);
-                stmt.setString(paramIndex++, roomType);
-
-                if (image1Path != null) {
-                    stmt.setString(paramIndex++, image1Path);
-                }
-                if (image2Path != null) {
-                    stmt.setString(paramIndex++, image2Path);
-                }
+    // Saves run off the FX thread so a slow database or API server does not freeze the dashboard;
+    // the room buttons stay disabled until the outcome is applied to the list
+    private <T> void runRoomTask(String threadName, Callable<T> work, Consumer<T> done, Consumer<Throwable> failed) {
+        Task<T> task = new Task<>() {
+            @Override
+            protected T call() throws Exception {
+                return work.call();
+            }
+        };
+        task.setOnSucceeded(e -> {
+            setRoomActionsDisabled(false);
+            done.accept(task.getValue());
+        });
+        task.setOnFailed(e -> {
+            setRoomActionsDisabled(false);
+            failed.accept(task.getException());
+        });
+        setRoomActionsDisabled(true);
+        Thread thread = new Thread(task, threadName);
+        thread.setDaemon(true);
+        thread.start();
+    }
 
-                stmt.setInt(paramIndex, selectedRoom.getId());
+    private void setRoomActionsDisabled(boolean disabled) {
+        addRoomButton.setDisable(disabled);
+        updateRoomButton.setDisable(disabled);
+        deleteRoomButton.setDisable(disabled);
+    }
 
-                if (stmt.executeUpdate() > 0) {
-                    showAlert("Success", "Room updated successfully!", Alert.AlertType.INFORMATION);
-                    clearForm();
-                    loadRooms(); // This will also update stats
-                    selectedRoom = null;
+    /**
+     * Saves an edit of {@code base} without locking the row: when someone else updated the room
+     * first, the edit is merged into their version and saved again. Fields only one side changed
+     * merge silently; fields both changed are put to the owner, who keeps either side.
+     * Runs off the FX thread; the question about conflicting fields is asked on it.
+     * @return The room as stored afterwards, or null if it no longer exists
+     */
+    private Room saveRoomEdit(Room base, Room edit) throws ServiceException {
+        Room attempt = edit;
+        boolean merged = false;
+        for (int i = 1; ; i++) {
+            try {
+                if (!Services.rooms().updateRoom(attempt)) {
+                    return null;
+                }
+                showAlert("Success", merged
+                        ? "Room updated. Changes made elsewhere in the meantime were kept."
+                        : "Room updated successfully!", Alert.AlertType.INFORMATION);
+                return attempt;
+            } catch (RoomConflictException e) {
+                if (i >= MAX_SAVE_ATTEMPTS) {
+                    throw e;
+                }
+                Room current = e.getCurrent();
+                LOG.info("Room {} changed while editing, merging into version {}", current.getId(), current.getVersion());
+                RoomEditMerge merge = RoomEditMerge.of(base, attempt, current);
+                if (!merge.hasConflicts()) {
+                    attempt = merge.getMerged();
+                } else if (askOnFxThread(() -> confirmKeepMine(merge))) {
+                    attempt = merge.getMergedKeepingMine();
+                } else {
+                    showAlert("Room Not Changed", "Your changes were discarded in favour of the other changes.",
+                            Alert.AlertType.INFORMATION);
+                    return current;
                 }
+                // The merged edit now builds on the stored version
+                base = current;
+                merged = true;
             }
-        } catch (NumberFormatException e) {
-            showAlert("Input Error", "Please enter a valid price", Alert.AlertType.ERROR);
-        } catch (SQLException e) {
-            e.printStackTrace();
-            showAlert("Database Error", "Failed to update room.", Alert.AlertType.ERROR);
         }
     }
 
+    // Waits for a dialog shown on the FX thread
+    private static boolean askOnFxThread(Callable<Boolean> question) throws ServiceException {
+        FutureTask<Boolean> answer = new FutureTask<>(question);
+        Platform.runLater(answer);
+        try {
+            return answer.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServiceException("Interrupted while waiting for an answer", e);
+        } catch (ExecutionException e) {
+            throw new ServiceException("Failed to ask the owner: " + e.getCause().getMessage(), e.getCause());
+        }
+    }
+
+    private boolean confirmKeepMine(RoomEditMerge merge) {
+        StringBuilder fields = new StringBuilder();
+        for (RoomEditMerge.Conflict conflict : merge.getConflicts()) {
+            fields.append("\n").append(conflict.getField())
+                    .append(":\n    yours: ").append(conflict.getMine())
+                    .append("\n    theirs: ").append(conflict.getTheirs());
+        }
+        ButtonType keepMine = new ButtonType("Keep Mine", ButtonBar.ButtonData.YES);
+        ButtonType useTheirs = new ButtonType("Use Theirs", ButtonBar.ButtonData.NO);
+        Alert alert = Dialogs.create(Alert.AlertType.CONFIRMATION, null);
+        alert.setTitle("Room Changed Elsewhere");
+        alert.setHeaderText("This room was changed while you were editing it");
+        alert.setContentText("Both of you changed:" + fields);
+        alert.getButtonTypes().setAll(keepMine, useTheirs);
+        return alert.showAndWait().orElse(useTheirs) == keepMine;
+    }
+
     @FXML
     public void handleDeleteRoom() {
         if (selectedRoom == null) {
@@ -394,29 +545,53 @@ public class HouseOwnerDashboardController {
             return;
         }
 
-        Alert confirmAlert = new Alert(Alert.AlertType.CONFIRMATION);
+        Alert confirmAlert = Dialogs.create(Alert.AlertType.CONFIRMATION, null);
         confirmAlert.setTitle("Confirm Delete");
         confirmAlert.setContentText("Are you sure you want to delete this room?");
 
         if (confirmAlert.showAndWait().get() == ButtonType.OK) {
-            String sql = "DELETE FROM rooms WHERE id = ?";
-            try (Connection conn = DatabaseConnection.getConnection();
-                 PreparedStatement stmt = conn.prepareStatement(sql)) {
-                stmt.setInt(1, selectedRoom.getId());
-
-                if (stmt.executeUpdate() > 0) {
+            // Removed right away and put back if the delete fails
+            Room room = selectedRoom;
+            int index = rooms.indexOf(room);
+            rooms.remove(room);
+            try {
+                // False means it was already deleted, which leaves the list right as well
+                if (Services.rooms().deleteRoom(room.getId())) {
                     showAlert("Success", "Room deleted successfully!", Alert.AlertType.INFORMATION);
-                    clearForm();
-                    loadRooms(); // This will also update stats
-                    selectedRoom = null;
                 }
-            } catch (SQLException e) {
-                e.printStackTrace();
+                priceInsights.forget(room.getId());
+                clearForm();
+                selectedRoom = null;
+            } catch (ServiceException e) {
+                if (index >= 0) {
+                    rooms.add(Math.min(index, rooms.size()), room);
+                }
+                LOG.error("Failed to delete room", e);
                 showAlert("Database Error", "Failed to delete room.", Alert.AlertType.ERROR);
             }
         }
     }
 
+    /**
+     * @return The seat count entered, 1 if left empty, or null after telling the owner it is invalid
+     */
+    private Integer parseSeats() {
+        String text = seatsField.getText() != null ? seatsField.getText().trim() : "";
+        if (text.isEmpty()) {
+            return 1;
+        }
+        try {
+            int seats = Integer.parseInt(text);
+            if (seats >= 1) {
+                return seats;
+            }
+        } catch (NumberFormatException e) {
+            // Reported below
+        }
+        showAlert("Input Error", "Seats must be a whole number of at least 1", Alert.AlertType.ERROR);
+        return null;
+    }
+
     private void clearForm() {
         locationComboBox.setValue(null);
         priceField.clear();
@@ -424,6 +599,7 @@ public class HouseOwnerDashboardController {
         contactField.clear();
         mapLinkField.clear();
         roomTypeComboBox.setValue(null);
+        seatsField.clear();
         if (image1PathLabel != null) {
             image1PathLabel.setText("No image selected");
         }
@@ -436,26 +612,27 @@ public class HouseOwnerDashboardController {
 
     @FXML
     public void handleManageRooms() {
-        System.out.println("Manage Rooms button clicked.");
+        LOG.debug("Manage Rooms button clicked.");
+    }
+
+    @FXML
+    private void handlePerformanceToggle() {
+        PulseMonitor.toggle(rootContainer.getScene().getWindow());
     }
 
     @FXML
     private void handleThemeToggle() {
-        if (rootContainer != null) {
-            if (rootContainer.getStyleClass().contains("dark-theme")) {
-                rootContainer.getStyleClass().remove("dark-theme");
-                if (themeToggleButton != null) {
-                    themeToggleButton.setText("🌙"); // Moon for dark mode
-                }
-            } else {
-                rootContainer.getStyleClass().add("dark-theme");
-                if (themeToggleButton != null) {
-                    themeToggleButton.setText("☀"); // Sun for light mode
-                }
-            }
+        updateThemeToggleButton(ThemeManager.toggle(rootContainer));
+    }
+
+    // Shows the theme the button switches to
+    private void updateThemeToggleButton(ThemeManager.Theme theme) {
+        if (themeToggleButton != null) {
+            themeToggleButton.setText(theme == ThemeManager.Theme.DARK ? "☀" : "🌙");
         }
     }
 
+
     @FXML
     public void handleFeedback(ActionEvent event) {
         try {
@@ -470,19 +647,18 @@ public class HouseOwnerDashboardController {
             if (controller != null) {
                 controller.setPreviousPage("/fxml/houseowner-dashboard.fxml", "/css/modern-dashboard.css");
             } else {
-                System.err.println("Warning: Could not get FeedbackController instance");
+                LOG.warn("Could not get FeedbackController instance");
             }
 
         } catch (Exception e) {
-            System.err.println("Error navigating to feedback page: " + e.getMessage());
-            e.printStackTrace();
+            LOG.error("Error navigating to feedback page", e);
 
             // Fallback: Navigate without getting controller
             try {
                 SceneManager.switchScene(event, "/fxml/feedback-page.fxml", "/css/styles1.css", 800, 600,
                         "StudentNest - Feedback");
             } catch (Exception fallbackError) {
-                System.err.println("Fallback navigation also failed: " + fallbackError.getMessage());
+                LOG.warn("Fallback navigation also failed: {}", fallbackError.getMessage());
                 // Show error alert to user
                 showAlert("Navigation Error", "Could not open feedback page. Please try again.", Alert.AlertType.ERROR);
             }
@@ -494,10 +670,9 @@ public class HouseOwnerDashboardController {
         try {
             // Use the correct SceneManager method with ActionEvent and proper parameters
             SceneManager.switchScene(event, "/fxml/login.fxml", "/css/login.css", 1000, 620, "StudentNest - Login");
-            System.out.println("Navigating back to login page...");
+            LOG.debug("Navigating back to login page...");
         } catch (Exception e) {
-            System.err.println("Error navigating to login page: " + e.getMessage());
-            e.printStackTrace();
+            LOG.error("Error navigating to login page", e);
         }
     }
 
@@ -505,36 +680,9 @@ public class HouseOwnerDashboardController {
     private void showAlert(String title, String message, Alert.AlertType alertType) {
         Platform.runLater(() -> {
             try {
-                Alert alert = new Alert(alertType);
-                alert.setTitle(title);
-                alert.setHeaderText(null);
-                alert.setContentText(message);
-
-                // Set icon for the alert window
-                Stage alertStage = (Stage) alert.getDialogPane().getScene().getWindow();
-                URL imageUrl = getClass().getResource("/images/img.png");
-                if (imageUrl != null) {
-                    Image icon = new Image(imageUrl.toExternalForm());
-                    alertStage.getIcons().add(icon);
-                } else {
-                    System.err.println("Warning: The image file was not found. Please check the path: /images/img.png");
-                }
-
-                // Try to style the alert to match the application theme
-                try {
-                    URL cssUrl = getClass().getResource("/css/login.css");
-                    if (cssUrl != null) {
-                        alert.getDialogPane().getStylesheets().add(cssUrl.toExternalForm());
-                    } else {
-                        System.err.println("Warning: Could not apply CSS to alert dialog, file not found: /css/login.css");
-                    }
-                } catch (Exception e) {
-                    System.err.println("Error applying CSS to alert dialog: " + e.getMessage());
-                }
-
-                alert.showAndWait();
+                Dialogs.show(alertType, title, message, "/css/login.css");
             } catch (Exception e) {
-                System.err.println("Error showing alert: " + e.getMessage());
+                LOG.error("Error showing alert: {}", e.getMessage());
             }
         });
     }
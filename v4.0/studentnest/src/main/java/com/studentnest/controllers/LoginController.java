@@ -2,17 +2,19 @@ package com.studentnest.controllers;
 
 import javafx.fxml.FXML;
 import javafx.scene.control.*;
-import com.studentnest.database.DatabaseConnection;
+import com.studentnest.jfr.LoginAttemptEvent;
+import com.studentnest.logging.Log;
+import com.studentnest.logging.Logger;
+import com.studentnest.models.User;
+import com.studentnest.services.ServiceException;
+import com.studentnest.services.Services;
+import com.studentnest.utils.Dialogs;
 import com.studentnest.utils.SceneManager;
-import javafx.scene.image.Image;
-import javafx.stage.Stage;
 import javafx.application.Platform;
 import javafx.concurrent.Task;
 import javafx.event.ActionEvent;
 import javafx.scene.Node;
 
-import java.net.URL;
-import java.sql.*;
 
 /**
  * Controller class for the login FXML file.
@@ -20,6 +22,8 @@ import java.sql.*;
  */
 public class LoginController {
 
+    private static final Logger LOG = Log.get("ui.login");
+
     // FXML Components
     @FXML private ComboBox<String> userTypeComboBox;
     @FXML private TextField usernameField;
@@ -50,10 +54,9 @@ public class LoginController {
             // Bind password fields together
             setupPasswordToggle();
 
-            System.out.println("Login controller initialized successfully");
+            LOG.info("Login controller initialized successfully");
         } catch (Exception e) {
-            System.err.println("Error initializing login controller: " + e.getMessage());
-            e.printStackTrace();
+            LOG.error("Error initializing login controller", e);
         }
     }
 
@@ -100,8 +103,7 @@ public class LoginController {
                 passwordField.positionCaret(passwordField.getText().length());
             }
         } catch (Exception e) {
-            System.err.println("Error toggling password visibility: " + e.getMessage());
-            e.printStackTrace();
+            LOG.error("Error toggling password visibility", e);
         }
     }
 
@@ -178,8 +180,7 @@ public class LoginController {
 
             new Thread(loginTask).start();
         } catch (Exception e) {
-            System.err.println("Error during login: " + e.getMessage());
-            e.printStackTrace();
+            LOG.error("Error during login", e);
 
             // Re-enable button in case of error
             loginButton.setDisable(false);
@@ -240,8 +241,7 @@ public class LoginController {
             SceneManager.switchScene(event, fxmlFile, cssFile, width, height, title);
 
         } catch (Exception e) {
-            System.err.println("Error navigating to dashboard: " + e.getMessage());
-            e.printStackTrace();
+            LOG.error("Error navigating to dashboard", e);
             showAlert("Navigation Error", "Could not load the dashboard. Please try again.", Alert.AlertType.ERROR);
         }
     }
@@ -250,46 +250,27 @@ public class LoginController {
      * Authenticate user against the database
      */
     private boolean authenticateUser(String username, String password, String userType) {
-        Connection conn = null;
-        PreparedStatement stmt = null;
-        ResultSet rs = null;
-
+        LoginAttemptEvent jfrEvent = new LoginAttemptEvent();
+        jfrEvent.begin();
+        jfrEvent.userType = userType;
         try {
-            conn = DatabaseConnection.getConnection();
-            if (conn == null) {
-                System.err.println("Database connection failed");
-                return false;
-            }
-
-            String sql = "SELECT id, name FROM users WHERE username = ? AND password = ? AND user_type = ?";
-            stmt = conn.prepareStatement(sql);
-            stmt.setString(1, username);
-            stmt.setString(2, password);
-            stmt.setString(3, userType);
-
-            rs = stmt.executeQuery();
-            if (rs.next()) {
-                currentUserId = rs.getInt("id");
-                currentUserName = rs.getString("name");
-                System.out.println("User authenticated: " + currentUserName + " (ID: " + currentUserId + ")");
+            User user = Services.auth().authenticate(username, password, userType);
+            jfrEvent.succeeded = user != null;
+            if (user != null) {
+                currentUserId = user.getId();
+                currentUserName = user.getName();
+                LOG.info("User authenticated: {} (ID: {})", currentUserName, currentUserId);
                 return true;
             } else {
-                System.out.println("Authentication failed for username: " + username);
+                LOG.info("Authentication failed for username: {}", username);
                 return false;
             }
-        } catch (SQLException e) {
-            System.err.println("Database error during authentication: " + e.getMessage());
-            e.printStackTrace();
+        } catch (ServiceException e) {
+            jfrEvent.error = true;
+            LOG.error("Error during authentication", e);
             return false;
         } finally {
-            // Clean up database resources
-            try {
-                if (rs != null) rs.close();
-                if (stmt != null) stmt.close();
-                if (conn != null) conn.close();
-            } catch (SQLException e) {
-                System.err.println("Error closing database resources: " + e.getMessage());
-            }
+            jfrEvent.commit();
         }
     }
 
@@ -301,10 +282,9 @@ public class LoginController {
         try {
             // Switch to registration scene using the SceneManager with correct parameters
             SceneManager.switchScene(event, "/fxml/registration.fxml", "/css/registration.css", 1000, 680, "StudentNest - Create Account");
-            System.out.println("Navigating to registration page...");
+            LOG.debug("Navigating to registration page...");
         } catch (Exception e) {
-            System.err.println("Error navigating to registration page: " + e.getMessage());
-            e.printStackTrace();
+            LOG.error("Error navigating to registration page", e);
             showAlert("Navigation Error", "Could not load the registration page. Please try again.", Alert.AlertType.ERROR);
         }
     }
@@ -315,34 +295,9 @@ public class LoginController {
     private void showAlert(String title, String message, Alert.AlertType alertType) {
         Platform.runLater(() -> {
             try {
-                Alert alert = new Alert(alertType);
-                alert.setTitle(title);
-                alert.setHeaderText(null);
-                alert.setContentText(message);
-
-                Stage alertStage = (Stage) alert.getDialogPane().getScene().getWindow();
-                URL imageUrl = getClass().getResource("/images/img.png");
-                if (imageUrl != null) {
-                    Image icon = new Image(imageUrl.toExternalForm());
-                    alertStage.getIcons().add(icon);
-                } else {
-                    System.err.println("Warning: The image file was not found. Please check the path: /images/img.png");
-                }
-
-                // Try to style the alert to match the application theme
-                try {
-                    URL cssUrl = getClass().getResource("/css/login.css");
-                    if (cssUrl != null) {
-                        alert.getDialogPane().getStylesheets().add(cssUrl.toExternalForm());
-                    }
-                } catch (Exception e) {
-                    // Continue without styling if no CSS is available
-                    System.err.println("Warning: Could not apply CSS to alert dialog");
-                }
-
-                alert.showAndWait();
+                Dialogs.show(alertType, title, message, "/css/login.css");
             } catch (Exception e) {
-                System.err.println("Error showing alert: " + e.getMessage());
+                LOG.error("Error showing alert: {}", e.getMessage());
             }
         });
     }
@@ -370,7 +325,7 @@ public class LoginController {
     public static void clearCurrentUser() {
         currentUserId = 0;
         currentUserName = null;
-        System.out.println("User session cleared");
+        LOG.info("User session cleared");
     }
 
     /**
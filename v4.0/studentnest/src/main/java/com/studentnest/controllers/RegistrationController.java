@@ -2,14 +2,15 @@ package com.studentnest.controllers;
 
 import javafx.fxml.FXML;
 import javafx.scene.control.*;
-import com.studentnest.database.DatabaseConnection;
+import com.studentnest.logging.Log;
+import com.studentnest.logging.Logger;
+import com.studentnest.models.User;
+import com.studentnest.services.ServiceException;
+import com.studentnest.services.Services;
+import com.studentnest.utils.Dialogs;
 import com.studentnest.utils.SceneManager;
-import javafx.scene.image.Image;
-import javafx.stage.Stage;
 import javafx.event.ActionEvent;
 
-import java.net.URL;
-import java.sql.*;
 
 /**
  * Controller class for the registration FXML file.
@@ -17,6 +18,8 @@ import java.sql.*;
  */
 public class RegistrationController {
 
+    private static final Logger LOG = Log.get("ui.registration");
+
     // FXML fields linked to the UI components in registration.fxml
     @FXML private ComboBox<String> userTypeComboBox;
     @FXML private TextField nameField;
@@ -38,10 +41,9 @@ public class RegistrationController {
             // Set the default value to "Student".
             userTypeComboBox.setValue("Student");
 
-            System.out.println("Registration controller initialized successfully");
+            LOG.info("Registration controller initialized successfully");
         } catch (Exception e) {
-            System.err.println("Error initializing registration controller: " + e.getMessage());
-            e.printStackTrace();
+            LOG.error("Error initializing registration controller", e);
         }
     }
 
@@ -109,8 +111,7 @@ public class RegistrationController {
                 showAlert("Error", "Registration failed. Username might already exist.", Alert.AlertType.ERROR);
             }
         } catch (Exception e) {
-            System.err.println("Error during registration: " + e.getMessage());
-            e.printStackTrace();
+            LOG.error("Error during registration", e);
             showAlert("Error", "An unexpected error occurred during registration.", Alert.AlertType.ERROR);
         } finally {
             // Re-enable register button
@@ -129,63 +130,18 @@ public class RegistrationController {
      * @return true if the user was successfully registered, false otherwise.
      */
     private boolean registerUser(String name, String phone, String username, String password, String userType) {
-        Connection conn = null;
-        PreparedStatement checkStmt = null;
-        PreparedStatement insertStmt = null;
-        ResultSet rs = null;
-
         try {
-            // Establish a database connection.
-            conn = DatabaseConnection.getConnection();
-            if (conn == null) {
-                System.err.println("Database connection failed");
-                return false;
-            }
-
-            // First check if username already exists
-            String checkSql = "SELECT COUNT(*) FROM users WHERE username = ?";
-            checkStmt = conn.prepareStatement(checkSql);
-            checkStmt.setString(1, username);
-            rs = checkStmt.executeQuery();
-
-            if (rs.next() && rs.getInt(1) > 0) {
-                System.out.println("Username already exists: " + username);
-                return false;
-            }
-
-            // Prepare a SQL statement to prevent SQL injection.
-            String sql = "INSERT INTO users (name, phone, username, password, user_type) VALUES (?, ?, ?, ?, ?)";
-            insertStmt = conn.prepareStatement(sql);
-            insertStmt.setString(1, name);
-            insertStmt.setString(2, phone);
-            insertStmt.setString(3, username);
-            insertStmt.setString(4, password); // Consider hashing passwords in production
-            insertStmt.setString(5, userType);
-
-            // Execute the update and check the result.
-            int result = insertStmt.executeUpdate();
-            boolean success = result > 0;
-
+            boolean success = Services.users().registerUser(new User(name, phone, username, password, userType));
             if (success) {
-                System.out.println("User registered successfully: " + username);
+                LOG.info("User registered successfully: {}", username);
+            } else {
+                LOG.info("Username already exists: {}", username);
             }
-
             return success;
-        } catch (SQLException e) {
+        } catch (ServiceException e) {
             // Print the stack trace for debugging purposes.
-            System.err.println("Database error during registration: " + e.getMessage());
-            e.printStackTrace();
+            LOG.error("Error during registration", e);
             return false;
-        } finally {
-            // Clean up database resources in proper order
-            try {
-                if (rs != null) rs.close();
-                if (checkStmt != null) checkStmt.close();
-                if (insertStmt != null) insertStmt.close();
-                if (conn != null) conn.close();
-            } catch (SQLException e) {
-                System.err.println("Error closing database resources: " + e.getMessage());
-            }
         }
     }
 
@@ -197,10 +153,9 @@ public class RegistrationController {
         try {
             // Use the correct SceneManager method with ActionEvent
             SceneManager.switchScene(event, "/fxml/login.fxml", "/css/login.css", 1000, 620, "StudentNest - Login");
-            System.out.println("Navigating back to login page...");
+            LOG.debug("Navigating back to login page...");
         } catch (Exception e) {
-            System.err.println("Error navigating to login page: " + e.getMessage());
-            e.printStackTrace();
+            LOG.error("Error navigating to login page", e);
             showAlert("Navigation Error",
                     "Unable to return to login page. Please try again.",
                     Alert.AlertType.ERROR);
@@ -216,33 +171,9 @@ public class RegistrationController {
     private void showAlert(String title, String message, Alert.AlertType alertType) {
         javafx.application.Platform.runLater(() -> {
             try {
-                Alert alert = new Alert(alertType);
-                alert.setTitle(title);
-                alert.setHeaderText(null);
-                alert.setContentText(message);
-
-                // Check if there is a primary stage and set the icon
-                Stage alertStage = (Stage) alert.getDialogPane().getScene().getWindow();
-                URL imageUrl = getClass().getResource("/images/img.png");
-                if (imageUrl != null) {
-                    Image icon = new Image(imageUrl.toExternalForm());
-                    alertStage.getIcons().add(icon);
-                } else {
-                    System.err.println("Warning: The image file was not found. Please check the path: /images/img.png");
-                }
-
-                // Style the alert to match the application theme
-                try {
-                    URL cssUrl = getClass().getResource("/css/registration.css");
-                    if (cssUrl != null) {
-                        alert.getDialogPane().getStylesheets().add(cssUrl.toExternalForm());
-                    }
-                } catch (Exception e) {
-                    System.err.println("Could not apply styles to alert dialog");
-                }
-                alert.showAndWait();
+                Dialogs.show(alertType, title, message, "/css/registration.css");
             } catch (Exception e) {
-                System.err.println("Error showing alert: " + e.getMessage());
+                LOG.error("Error showing alert: {}", e.getMessage());
             }
         });
     }
@@ -2,41 +2,73 @@ package com.studentnest.controllers;
 
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
+import com.studentnest.jfr.DataLoadEvent;
+import com.studentnest.logging.Log;
+import com.studentnest.logging.Logger;
+import com.studentnest.utils.Dialogs;
 import com.studentnest.utils.SceneManager;
 
 import com.studentnest.models.User;
+import javafx.animation.PauseTransition;
 import javafx.application.Platform;
 import javafx.scene.control.*;
-import javafx.scene.image.Image;
-import javafx.scene.image.ImageView;
 import javafx.scene.layout.BorderPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.VBox;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
-import com.studentnest.database.DatabaseConnection;
+import com.studentnest.cache.InvalidationBus;
+import com.studentnest.cache.InvalidationEvent;
+import com.studentnest.models.GeoPoint;
 import com.studentnest.models.Room;
+import com.studentnest.models.SavedSearch;
+import com.studentnest.models.SearchNotification;
+import com.studentnest.models.SeatHold;
+import com.studentnest.services.GeoIndex;
+import com.studentnest.services.PriceInsights;
+import com.studentnest.services.RoomFilterCriteria;
+import com.studentnest.services.RoomRecommender;
+import com.studentnest.services.SeatAlreadyHeldException;
+import com.studentnest.services.ServiceException;
+import com.studentnest.services.Services;
+import com.studentnest.utils.FilterPipeline;
+import com.studentnest.utils.PulseMonitor;
+import com.studentnest.utils.RoomCardFactory;
+import com.studentnest.utils.RoomDetailPane;
 import com.studentnest.utils.SceneManager;
-import javafx.stage.Stage;
+import com.studentnest.utils.ThemeManager;
+import javafx.scene.Node;
+import javafx.util.Duration;
 
-import java.io.File;
-import java.net.URL;
-import java.sql.*;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 public class StudentDashboardController {
 
+    private static final Logger LOG = Log.get("ui.student");
+
     // ========== EXISTING FXML VARIABLES ==========
     @FXML private Label welcomeLabel;
     @FXML private ComboBox<String> locationFilter;
     @FXML private ComboBox<String> priceFilter;
+    @FXML private ComboBox<String> distanceFilter;
+    @FXML private ComboBox<String> sortOrder;
+    @FXML private TextField searchField;
+    @FXML private ComboBox<SavedSearch> savedSearchFilter;
+    @FXML private Button deleteSearchButton;
     @FXML private VBox roomsContainer;
     @FXML private Button logoutButton;
     @FXML private Label userCountLabel;
     @FXML private Label roomCountLabel;
     @FXML private Button aboutUsButton;
     @FXML private Button feedbackButton;
+    @FXML private Label priceInsightsLabel;
+    @FXML private VBox recommendationsSection;
+    @FXML private HBox recommendationsContainer;
 
     // ========== NEW FXML VARIABLES FOR THEME FUNCTIONALITY ==========
     @FXML private Button themeToggleButton;
@@ -46,9 +78,34 @@ public class StudentDashboardController {
     private ObservableList<User> users = FXCollections.observableArrayList();
     private ObservableList<Room> rooms = FXCollections.observableArrayList();
     private Room selectedRoom = null;
+    private final PriceInsights priceInsights = PriceInsights.getInstance();
+    private boolean updatingPriceBuckets = false;
+    private final RoomRecommender recommender = RoomRecommender.getInstance();
+    private final GeoIndex geoIndex = GeoIndex.getInstance();
+    private final List<Integer> viewedRoomIds = new ArrayList<>();
+    private static final int MAX_VIEW_HISTORY = 20;
+    private static final int RECOMMENDATION_COUNT = 5;
+    private static final int MAX_NOTIFICATIONS_SHOWN = 10;
+
+    // Filtering runs off the FX thread; cards are built once per room and reused across filter changes
+    private static final Duration FILTER_DEBOUNCE = Duration.millis(150);
+    private static final int LATENCY_LOG_INTERVAL = 25;
+    private FilterPipeline<RoomFilterCriteria, List<Room>> filterPipeline;
+    private List<Room> roomSnapshot = new ArrayList<>();
+    private List<Room> visibleRooms = List.of();
+    private RoomDetailPane detailPane;
+    private final Map<Integer, VBox> roomCards = new HashMap<>();
+
+    // Rooms changed by other app instances; bursts are collapsed into one reload
+    private static final Duration REMOTE_RELOAD_DELAY = Duration.millis(500);
+    private final PauseTransition remoteReload = new PauseTransition(REMOTE_RELOAD_DELAY);
+    private InvalidationBus.Subscription roomChanges;
 
     @FXML
     public void initialize() {
+        // Styled before the first CSS pass; starts dark unless another theme was picked
+        updateThemeToggleButton(ThemeManager.install(rootContainer, "/css/student-dashboard.css", ThemeManager.Theme.DARK));
+
         // Defer initialization to ensure FXML elements are properly injected
         Platform.runLater(() -> {
             initializeComponents();
@@ -57,17 +114,6 @@ public class StudentDashboardController {
 
     private void initializeComponents() {
         try {
-            // Apply CSS stylesheet programmatically
-            applyCSSStylesheet();
-
-            // Apply dark theme by default (only if rootContainer is not null)
-            if (rootContainer != null) {
-                rootContainer.getStyleClass().add("dark-theme");
-                if (themeToggleButton != null) {
-                    themeToggleButton.setText("☀"); // Set to sun icon since we're starting in dark mode
-                }
-            }
-
             // Step 1: Initialize all UI components and set initial values
             initializeUIComponents();
 
@@ -80,11 +126,14 @@ public class StudentDashboardController {
             // Step 4: Update quick statistics
             updateQuickStats();
 
-            System.out.println("Student Dashboard initialized successfully");
+            // Step 5: Saved searches, and the rooms that matched them since the last visit
+            loadSavedSearches();
+            showSearchNotifications();
+
+            LOG.info("Student Dashboard initialized successfully");
 
         } catch (Exception e) {
-            System.err.println("Error during dashboard initialization: " + e.getMessage());
-            e.printStackTrace();
+            LOG.error("Error during dashboard initialization", e);
         }
     }
 
@@ -106,43 +155,46 @@ public class StudentDashboardController {
             priceFilter.getItems().addAll("All Prices", "0-5000", "5000-10000", "10000-15000", "15000+");
             priceFilter.setValue("All Prices");
         }
+
+        // Initialize distance and sort combo boxes (distances are measured from the DIU campus)
+        if (distanceFilter != null) {
+            distanceFilter.getItems().addAll("Any Distance", "Within 1 km", "Within 2 km", "Within 5 km", "Within 10 km");
+            distanceFilter.setValue("Any Distance");
+        }
+        if (sortOrder != null) {
+            sortOrder.getItems().addAll("Default Order", "Nearest to DIU");
+            sortOrder.setValue("Default Order");
+        }
     }
 
     private void setupListenersAndBindings() {
-        // Add any additional listeners here if needed
-        // The roomsContainer (VBox) will be populated dynamically in displayRooms()
+        // The roomsContainer (VBox) is populated by the filter pipeline, see displayRooms()
+        filterPipeline = new FilterPipeline<>("room-filter", FILTER_DEBOUNCE,
+                this::computeVisibleRooms, this::applyVisibleRooms);
+
+        if (searchField != null) {
+            searchField.textProperty().addListener((obs, oldText, newText) -> scheduleFilter());
+        }
+
+        remoteReload.setOnFinished(e -> loadRooms());
+        roomChanges = InvalidationBus.getInstance().subscribe(InvalidationEvent.ROOM, event -> {
+            if (!event.isLocal()) {
+                Platform.runLater(remoteReload::playFromStart);
+            }
+        });
     }
 
     /**
-     * Apply CSS stylesheet programmatically
+     * Stop background work before leaving the dashboard
      */
-    private void applyCSSStylesheet() {
-        try {
-            // Check if rootContainer is null
-            if (rootContainer == null) {
-                System.err.println("Warning: rootContainer is null, cannot apply CSS");
-                return;
-            }
-
-            URL cssUrl = getClass().getResource("/css/student-dashboard.css");
-            if (cssUrl != null) {
-                rootContainer.getStylesheets().add(cssUrl.toExternalForm());
-                System.out.println("CSS stylesheet loaded successfully");
-            } else {
-                System.err.println("Warning: CSS file not found at /css/student-dashboard.css");
-                // Try alternative path
-                cssUrl = getClass().getResource("/student-dashboard.css");
-                if (cssUrl != null) {
-                    rootContainer.getStylesheets().add(cssUrl.toExternalForm());
-                    System.out.println("CSS stylesheet loaded from alternative path");
-                } else {
-                    System.err.println("Error: Could not find CSS file in any expected location");
-                }
-            }
-        } catch (Exception e) {
-            System.err.println("Error loading CSS stylesheet: " + e.getMessage());
-            e.printStackTrace();
+    private void dispose() {
+        if (filterPipeline != null) {
+            filterPipeline.shutdown();
+        }
+        if (roomChanges != null) {
+            roomChanges.close();
         }
+        remoteReload.stop();
     }
 
     /**
@@ -160,24 +212,15 @@ public class StudentDashboardController {
                 updateUserCount();
             }
         } catch (Exception e) {
-            System.err.println("Error updating quick stats: " + e.getMessage());
-            e.printStackTrace();
+            LOG.error("Error updating quick stats", e);
         }
     }
 
     private void updateUserCount() {
         try {
-            String sql = "SELECT COUNT(*) as user_count FROM users";
-            try (Connection conn = DatabaseConnection.getConnection();
-                 Statement stmt = conn.createStatement();
-                 ResultSet rs = stmt.executeQuery(sql)) {
-                if (rs.next()) {
-                    userCountLabel.setText(String.valueOf(rs.getInt("user_count")));
-                }
-            }
-        } catch (SQLException e) {
-            System.err.println("Error updating user count: " + e.getMessage());
-            e.printStackTrace();
+            userCountLabel.setText(String.valueOf(Services.users().countUsers()));
+        } catch (ServiceException e) {
+            LOG.error("Error updating user count", e);
         }
     }
 
@@ -187,7 +230,13 @@ public class StudentDashboardController {
     private void fillRoomDetails(Room room) {
         // This method can be used if you have form fields to populate
         // For now, it's just a placeholder
-        System.out.println("Selected room: " + room.getLocation() + " - ৳" + room.getPrice());
+        LOG.debug("Selected room: {} - ৳{}", room.getLocation(), room.getPrice());
+    }
+
+    // Shows or hides the PulseMonitor overlay with frame timings
+    @FXML
+    private void handlePerformanceToggle() {
+        PulseMonitor.toggle(rootContainer.getScene().getWindow());
     }
 
     /**
@@ -195,252 +244,467 @@ public class StudentDashboardController {
      */
     @FXML
     private void handleThemeToggle() {
-        if (rootContainer != null) {
-            if (rootContainer.getStyleClass().contains("dark-theme")) {
-                rootContainer.getStyleClass().remove("dark-theme");
-                if (themeToggleButton != null) {
-                    themeToggleButton.setText("🌙"); // Moon for switching to dark mode
-                }
-            } else {
-                rootContainer.getStyleClass().add("dark-theme");
-                if (themeToggleButton != null) {
-                    themeToggleButton.setText("☀"); // Sun for switching to light mode
-                }
-            }
+        updateThemeToggleButton(ThemeManager.toggle(rootContainer));
+    }
+
+    // Shows the theme the button switches to
+    private void updateThemeToggleButton(ThemeManager.Theme theme) {
+        if (themeToggleButton != null) {
+            themeToggleButton.setText(theme == ThemeManager.Theme.DARK ? "☀" : "🌙");
         }
     }
 
+
     private void loadRooms() {
         rooms.clear();
+        DataLoadEvent jfrEvent = DataLoadEvent.start("student", "rooms");
         try {
-            Connection conn = DatabaseConnection.getConnection();
-            // Updated query to match your actual database structure
-            String sql = "SELECT r.*, u.name as owner_name " +
-                    "FROM rooms r " +
-                    "JOIN users u ON r.owner_id = u.id " +
-                    "ORDER BY r.id";
-            Statement stmt = conn.createStatement();
-            ResultSet rs = stmt.executeQuery(sql);
-
-            while (rs.next()) {
-                Room room = new Room();
-                room.setId(rs.getInt("id"));
-                room.setOwnerId(rs.getInt("owner_id"));
-                room.setLocation(rs.getString("location"));
-                room.setPrice(rs.getDouble("price"));
-                room.setDescription(rs.getString("description"));
-                room.setContactNumber(rs.getString("contact_number"));
-                room.setContactInfo(rs.getString("contact_number"));
-                room.setMapLink(rs.getString("map_link"));
-                room.setOwnerName(rs.getString("owner_name"));
-
-                // Handle images from image1_path and image2_path columns
-                room.setImages(new ArrayList<>());
-                String image1Path = rs.getString("image1_path");
-                String image2Path = rs.getString("image2_path");
-
-                if (image1Path != null && !image1Path.isEmpty()) {
-                    room.getImages().add(image1Path);
-                }
-                if (image2Path != null && !image2Path.isEmpty()) {
-                    room.getImages().add(image2Path);
-                }
-
+            Set<Integer> loadedIds = new HashSet<>();
+            for (Room room : Services.rooms().listRooms()) {
                 rooms.add(room);
-                System.out.println("Loaded room: " + room.getLocation() + " - ৳" + room.getPrice()); // Debug output
+                loadedIds.add(room.getId());
+                priceInsights.record(room);
+                geoIndex.put(room.getId(), room.getCoordinates());
             }
+            // Rooms deleted since the last load would otherwise stay in the price buckets and distance searches
+            for (Room previous : roomSnapshot) {
+                if (!loadedIds.contains(previous.getId())) {
+                    priceInsights.forget(previous.getId());
+                    geoIndex.remove(previous.getId());
+                }
+            }
+            jfrEvent.finish(rooms.size(), true);
 
-            System.out.println("Total rooms loaded: " + rooms.size()); // Debug output
+            LOG.info("Total rooms loaded: {}", rooms.size());
+            refreshPriceInsights();
+            recommender.syncAsync(rooms);
+            roomSnapshot = new ArrayList<>(rooms);
+            roomCards.clear();
             displayRooms();
             updateQuickStats(); // Update stats after loading rooms
-        } catch (SQLException e) {
-            e.printStackTrace();
+        } catch (ServiceException e) {
+            jfrEvent.finish(rooms.size(), false);
+            LOG.error("Failed to load rooms", e);
             showAlert("Database Error", "Failed to load rooms: " + e.getMessage(), Alert.AlertType.ERROR);
         }
     }
 
+    /**
+     * Re-run the current filter right away, e.g. after the rooms were reloaded
+     */
     private void displayRooms() {
-        if (roomsContainer != null) {
-            roomsContainer.getChildren().clear();
+        if (filterPipeline != null) {
+            filterPipeline.submitNow(currentCriteria());
+        }
+    }
 
-            for (Room room : rooms) {
-                if (shouldShowRoom(room)) {
-                    VBox roomCard = createRoomCard(room);
-                    roomsContainer.getChildren().add(roomCard);
-                }
-            }
+    /**
+     * Queue a filter run; bursts of changes (typing, scrolling through a combo) collapse into one
+     */
+    private void scheduleFilter() {
+        if (filterPipeline != null) {
+            filterPipeline.submit(currentCriteria());
         }
     }
 
+    private RoomFilterCriteria currentCriteria() {
+        return new RoomFilterCriteria(
+                locationFilter != null ? locationFilter.getValue() : null,
+                priceFilter != null ? priceFilter.getValue() : null,
+                distanceFilter != null ? distanceFilter.getValue() : null,
+                sortOrder != null ? sortOrder.getValue() : null,
+                searchField != null ? searchField.getText() : null);
+    }
 
-    private VBox createRoomCard(Room room) {
-        VBox card = new VBox(10);
-        card.getStyleClass().add("room-card");
+    /**
+     * Runs on the filter thread against an immutable snapshot of the loaded rooms
+     */
+    private List<Room> computeVisibleRooms(RoomFilterCriteria criteria) {
+        return criteria.apply(roomSnapshot);
+    }
+
+    /**
+     * Bring roomsContainer in line with the filter result while touching as few nodes as possible:
+     * cards that stay visible keep their place, only hidden ones are removed and new ones inserted.
+     */
+    private void applyVisibleRooms(List<Room> visibleRooms) {
+        if (roomsContainer == null) {
+            return;
+        }
+        this.visibleRooms = visibleRooms;
+        if (detailPane != null) {
+            detailPane.setRoomList(visibleRooms);
+        }
+        List<Node> target = new ArrayList<>(visibleRooms.size());
+        for (Room room : visibleRooms) {
+            target.add(roomCards.computeIfAbsent(room.getId(), id -> RoomCardFactory.createRoomCard(room, this::showRoomDetails)));
+        }
 
-        HBox imageContainer = new HBox(10);
-        imageContainer.getStyleClass().add("image-container");
-        // This loop iterates through the list of image paths for the room
-        for (String imagePath : room.getImages()) {
-            // This method loads the image and returns an ImageView
-            ImageView imageView = loadRoomImage(imagePath);
-            if (imageView != null) {
-                // If the image loads, it is added to the HBox
-                imageContainer.getChildren().add(imageView);
+        ObservableList<Node> children = roomsContainer.getChildren();
+        if (!children.equals(target)) {
+            Set<Node> targetSet = new HashSet<>(target);
+            List<Node> removed = new ArrayList<>();
+            for (Node node : children) {
+                if (!targetSet.contains(node)) {
+                    removed.add(node);
+                }
+            }
+            children.removeAll(removed);
+
+            if (isSubsequence(children, target)) {
+                for (int i = 0; i < target.size(); i++) {
+                    if (i >= children.size() || children.get(i) != target.get(i)) {
+                        children.add(i, target.get(i));
+                    }
+                }
+            } else {
+                // Order changed (e.g. a different sort), a single replace is cheapest
+                children.setAll(target);
             }
         }
 
-        // Other room details...
-        Label titleLabel = new Label("Room in " + room.getLocation());
-        titleLabel.getStyleClass().add("location-label");
+        if (filterPipeline.getCompletedCount() % LATENCY_LOG_INTERVAL == 0 && LOG.isDebugEnabled()) {
+            LOG.debug(String.format("Room filter latency: p50=%.1fms p95=%.1fms p99=%.1fms (compute p95=%.1fms, %d runs)",
+                    filterPipeline.latencyPercentile(0.50), filterPipeline.latencyPercentile(0.95),
+                    filterPipeline.latencyPercentile(0.99), filterPipeline.computePercentile(0.95),
+                    filterPipeline.getCompletedCount()));
+        }
+    }
 
-        Label priceLabel = new Label("Price: ৳" + room.getPrice() + "/month");
-        priceLabel.getStyleClass().add("price-label");
+    private static boolean isSubsequence(List<Node> candidate, List<Node> target) {
+        int j = 0;
+        for (Node node : candidate) {
+            while (j < target.size() && target.get(j) != node) {
+                j++;
+            }
+            if (j == target.size()) {
+                return false;
+            }
+            j++;
+        }
+        return true;
+    }
 
-        // Corrected code: Declare the missing variables
-        Label descriptionLabel = new Label("Description: " + room.getDescription());
-        Label contactLabel = new Label("Contact: " + room.getContactNumber());
 
-        Button contactButton = new Button("View Details");
-        contactButton.getStyleClass().add("contact-btn");
-        contactButton.setOnAction(e -> showRoomDetails(room));
+    /**
+     * Update the price summary label and rebuild the price filter buckets
+     * from the price distribution of the selected location
+     */
+    private void refreshPriceInsights() {
+        String selectedLocation = locationFilter != null ? locationFilter.getValue() : null;
 
-        // All elements, including the image container, are added to the card
-        card.getChildren().addAll(imageContainer, titleLabel, priceLabel, descriptionLabel, contactLabel, contactButton);
-        return card;
+        if (priceInsightsLabel != null) {
+            PriceInsights.PriceSummary summary = priceInsights.summaryFor(selectedLocation);
+            if (summary.isEmpty()) {
+                priceInsightsLabel.setText("No price data yet for this location");
+            } else {
+                priceInsightsLabel.setText(String.format("Typical rent: ৳%.0f  •  most rooms between ৳%.0f and ৳%.0f (%d rooms)",
+                        summary.getMedian(), summary.getP10(), summary.getP90(), summary.getCount()));
+            }
+        }
+
+        if (priceFilter != null) {
+            List<String> buckets = priceInsights.priceBuckets(selectedLocation);
+            String currentSelection = priceFilter.getValue();
+
+            updatingPriceBuckets = true;
+            try {
+                priceFilter.getItems().setAll("All Prices");
+                priceFilter.getItems().addAll(buckets);
+                priceFilter.setValue(buckets.contains(currentSelection) ? currentSelection : "All Prices");
+            } finally {
+                updatingPriceBuckets = false;
+            }
+        }
     }
 
-    private boolean shouldShowRoom(Room room) {
-        String selectedLocation = locationFilter != null ? locationFilter.getValue() : "All Locations";
-        String selectedPrice = priceFilter != null ? priceFilter.getValue() : "All Prices";
 
-        if (selectedLocation == null) selectedLocation = "All Locations";
-        if (selectedPrice == null) selectedPrice = "All Prices";
 
-        boolean locationMatch = selectedLocation.equals("All Locations") ||
-                room.getLocation().equals(selectedLocation);
+    private void loadSavedSearches() {
+        if (savedSearchFilter == null) {
+            return;
+        }
+        try {
+            savedSearchFilter.getItems().setAll(Services.savedSearches().listSavedSearches(LoginController.getCurrentUserId()));
+        } catch (ServiceException e) {
+            LOG.error("Failed to load saved searches", e);
+        }
+    }
 
-        boolean priceMatch = selectedPrice.equals("All Prices") ||
-                isPriceInRange(room.getPrice(), selectedPrice);
+    /**
+     * Tell the student about rooms that started matching their saved searches, once
+     */
+    private void showSearchNotifications() {
+        List<SearchNotification> notifications;
+        try {
+            notifications = Services.savedSearches().listUnseenNotifications(LoginController.getCurrentUserId());
+            if (notifications.isEmpty()) {
+                return;
+            }
+            Services.savedSearches().markNotificationsSeen(LoginController.getCurrentUserId());
+        } catch (ServiceException e) {
+            LOG.error("Failed to load saved search notifications", e);
+            return;
+        }
 
-        return locationMatch && priceMatch;
+        StringBuilder message = new StringBuilder();
+        for (int i = 0; i < notifications.size() && i < MAX_NOTIFICATIONS_SHOWN; i++) {
+            message.append("• ").append(notifications.get(i).getMessage()).append('\n');
+        }
+        if (notifications.size() > MAX_NOTIFICATIONS_SHOWN) {
+            message.append("...and ").append(notifications.size() - MAX_NOTIFICATIONS_SHOWN).append(" more");
+        }
+        showAlert(notifications.size() == 1 ? "1 New Match" : notifications.size() + " New Matches", message.toString().trim());
     }
 
-    private boolean isPriceInRange(double price, String priceRange) {
-        switch (priceRange) {
-            case "0-5000": return price <= 5000;
-            case "5000-10000": return price > 5000 && price <= 10000;
-            case "10000-15000": return price > 10000 && price <= 15000;
-            case "15000+": return price > 15000;
-            default: return true;
+    @FXML
+    public void handleSavedSearch() {
+        SavedSearch search = savedSearchFilter.getValue();
+        if (deleteSearchButton != null) {
+            deleteSearchButton.setDisable(search == null);
         }
+        if (search == null) {
+            return;
+        }
+        locationFilter.setValue(search.getLocation() != null ? search.getLocation() : RoomFilterCriteria.ALL_LOCATIONS);
+        refreshPriceInsights();
+        String priceRange = search.getPriceRange() != null ? search.getPriceRange() : RoomFilterCriteria.ALL_PRICES;
+        // The buckets follow the current prices, a search saved earlier may use one that is gone
+        updatingPriceBuckets = true;
+        try {
+            if (!priceFilter.getItems().contains(priceRange)) {
+                priceFilter.getItems().add(priceRange);
+            }
+            priceFilter.setValue(priceRange);
+        } finally {
+            updatingPriceBuckets = false;
+        }
+        distanceFilter.setValue(search.getDistance() != null ? search.getDistance() : "Any Distance");
+        searchField.setText(search.getSearchText() != null ? search.getSearchText() : "");
+        scheduleFilter();
     }
 
+    @FXML
+    public void handleSaveSearch() {
+        TextField nameField = new TextField();
+        nameField.setPromptText("e.g. Cheap rooms in Khagan");
+        Alert alert = Dialogs.create(Alert.AlertType.CONFIRMATION, "/css/login.css");
+        alert.setTitle("Save Search");
+        alert.setHeaderText("Get notified when a new room matches these filters");
+        alert.getDialogPane().setContent(nameField);
+        Platform.runLater(nameField::requestFocus);
+        if (alert.showAndWait().orElse(ButtonType.CANCEL) != ButtonType.OK) {
+            return;
+        }
+        String name = nameField.getText().trim();
+        if (name.isEmpty()) {
+            showAlert("Name Required", "Please give the search a name.", Alert.AlertType.WARNING);
+            return;
+        }
 
+        String text = searchField.getText() != null ? searchField.getText().trim() : "";
+        SavedSearch search = new SavedSearch(0, LoginController.getCurrentUserId(), name, locationFilter.getValue(),
+                priceFilter.getValue(), distanceFilter.getValue(), text.isEmpty() ? null : text);
+        try {
+            Services.savedSearches().saveSearch(search);
+            savedSearchFilter.getItems().add(search);
+            savedSearchFilter.setValue(search);
+        } catch (ServiceException e) {
+            LOG.error("Failed to save search", e);
+            showAlert("Database Error", "Failed to save the search: " + e.getMessage(), Alert.AlertType.ERROR);
+        }
+    }
 
-    private ImageView loadRoomImage(String imagePath) {
+    @FXML
+    public void handleDeleteSearch() {
+        SavedSearch search = savedSearchFilter.getValue();
+        if (search == null) {
+            return;
+        }
         try {
-            File file = new File(imagePath);
-            if (file.exists()) {
-                Image image = new Image(file.toURI().toString());
-                ImageView imageView = new ImageView(image);
-                imageView.setFitWidth(150);
-                imageView.setFitHeight(150);
-                imageView.setPreserveRatio(true);
-                imageView.getStyleClass().add("room-image");
-                return imageView;
-            } else {
-                System.err.println("Image file not found: " + imagePath);
-                return null;
-            }
-        } catch (Exception e) {
-            System.err.println("Error loading image: " + e.getMessage());
-            return null;
+            Services.savedSearches().deleteSavedSearch(search.getId());
+            savedSearchFilter.getItems().remove(search);
+            savedSearchFilter.setValue(null);
+        } catch (ServiceException e) {
+            LOG.error("Failed to delete saved search", e);
+            showAlert("Database Error", "Failed to delete the search: " + e.getMessage(), Alert.AlertType.ERROR);
         }
     }
 
+    /**
+     * Show a room in the side panel, built on first use and reused for every room after that
+     */
     private void showRoomDetails(Room room) {
-        Alert alert = new Alert(Alert.AlertType.INFORMATION);
-        alert.setTitle("Room Details");
-        alert.setHeaderText("Room in " + room.getLocation());
-
-        VBox content = new VBox(10);
-
-        HBox imageContainer = new HBox(10);
-        for (String imagePath : room.getImages()) {
-            ImageView imageView = loadRoomImage(imagePath);
-            if (imageView != null) {
-                imageView.setFitWidth(200);
-                imageView.setFitHeight(200);
-                imageView.getStyleClass().add("room-image-details");
-                imageContainer.getChildren().add(imageView);
+        if (detailPane == null) {
+            detailPane = new RoomDetailPane(this::recordRoomView, this::openMapLink, this::reserveSeat);
+            detailPane.setRoomList(visibleRooms);
+            rootContainer.setRight(detailPane);
+        }
+        detailPane.show(room);
+    }
+
+    /**
+     * Hold a seat of the room, then let the student confirm the reservation or give the seat back.
+     * An unconfirmed hold lapses on its own and the seat returns to the room.
+     */
+    private void reserveSeat(Room room) {
+        SeatHold hold;
+        try {
+            hold = Services.reservations().holdSeat(room.getId(), LoginController.getCurrentUserId());
+        } catch (SeatAlreadyHeldException e) {
+            showAlert("Already Reserved", "You already hold a seat in this room.", Alert.AlertType.INFORMATION);
+            return;
+        } catch (ServiceException e) {
+            if (e.getStatus() == 403) {
+                showAlert("Not Allowed", e.getMessage(), Alert.AlertType.WARNING);
+            } else if (e.getStatus() == 409) {
+                setAvailableSeats(room, 0);
+                showAlert("Fully Booked", "Sorry, the last seat of this room was just taken.", Alert.AlertType.WARNING);
+            } else {
+                LOG.error("Failed to hold seat", e);
+                showAlert("Database Error", "Failed to reserve a seat: " + e.getMessage(), Alert.AlertType.ERROR);
             }
+            return;
         }
-        content.getChildren().add(imageContainer);
+        setAvailableSeats(room, room.getAvailableSeats() - 1);
+
+        ButtonType confirm = new ButtonType("Confirm", ButtonBar.ButtonData.OK_DONE);
+        ButtonType release = new ButtonType("Release", ButtonBar.ButtonData.CANCEL_CLOSE);
+        Alert alert = Dialogs.create(Alert.AlertType.CONFIRMATION, "/css/login.css");
+        alert.setTitle("Seat Held");
+        alert.setHeaderText("A seat in " + room.getLocation() + " is held for you");
+        alert.setContentText("The hold lapses in " + hold.getMinutesLeft() + " minutes. Confirm the reservation now?");
+        alert.getButtonTypes().setAll(confirm, release);
+        boolean confirmed = alert.showAndWait().orElse(release) == confirm;
 
-        Label priceLabel = new Label("Price: ৳" + room.getPrice() + "/month");
-        Label descriptionLabel = new Label("Description: " + room.getDescription());
-        Label contactLabel = new Label("Contact: " + room.getContactNumber());
-        Label ownerLabel = new Label("Owner: " + room.getOwnerName());
+        try {
+            if (!confirmed) {
+                if (Services.reservations().releaseHold(hold.getId(), hold.getStudentId())) {
+                    setAvailableSeats(room, room.getAvailableSeats() + 1);
+                }
+            } else if (Services.reservations().confirmHold(hold.getId(), hold.getStudentId())) {
+                showAlert("Seat Reserved", "Your seat is reserved. Contact the owner at " + room.getContactNumber() + ".",
+                        Alert.AlertType.INFORMATION);
+            } else {
+                showAlert("Hold Expired", "Your hold lapsed before it was confirmed. Please try again.",
+                        Alert.AlertType.WARNING);
+                loadRooms();
+            }
+        } catch (ServiceException e) {
+            LOG.error("Failed to finish seat reservation", e);
+            showAlert("Database Error", "Failed to finish the reservation: " + e.getMessage(), Alert.AlertType.ERROR);
+        }
+    }
 
-        content.getChildren().addAll(priceLabel, descriptionLabel, contactLabel, ownerLabel);
+    // Shows a changed seat count in the detail pane and on a freshly built card
+    private void setAvailableSeats(Room room, int availableSeats) {
+        room.setAvailableSeats(Math.max(0, availableSeats));
+        roomCards.remove(room.getId());
+        displayRooms();
+        if (detailPane != null) {
+            detailPane.refreshSeats();
+        }
+    }
 
-        if (room.getMapLink() != null && !room.getMapLink().isEmpty()) {
-            Hyperlink mapLink = new Hyperlink("View on Map");
-            mapLink.setOnAction(e -> openMapLink(room.getMapLink()));
-            content.getChildren().add(mapLink);
+    /**
+     * Remember an opened room and refresh the "recommended for you" rail in the background
+     */
+    private void recordRoomView(Room room) {
+        viewedRoomIds.remove(Integer.valueOf(room.getId()));
+        viewedRoomIds.add(room.getId());
+        if (viewedRoomIds.size() > MAX_VIEW_HISTORY) {
+            viewedRoomIds.remove(0);
         }
 
-        alert.getDialogPane().setContent(content);
+        recommender.recommendAsync(viewedRoomIds, RECOMMENDATION_COUNT)
+                .thenAccept(ids -> Platform.runLater(() -> displayRecommendations(ids)))
+                .exceptionally(e -> {
+                    LOG.error("Error computing recommendations: {}", e.getMessage());
+                    return null;
+                });
+    }
 
-        // Apply styling to the alert
-        try {
-            Stage alertStage = (Stage) alert.getDialogPane().getScene().getWindow();
-            URL imageUrl = getClass().getResource("/images/img.png");
-            if (imageUrl != null) {
-                Image icon = new Image(imageUrl.toExternalForm());
-                alertStage.getIcons().add(icon);
+    private void displayRecommendations(List<Integer> roomIds) {
+        if (recommendationsContainer == null) {
+            return;
+        }
+        recommendationsContainer.getChildren().clear();
+        for (Integer id : roomIds) {
+            for (Room room : rooms) {
+                if (room.getId() == id) {
+                    recommendationsContainer.getChildren().add(createRecommendationCard(room));
+                    break;
+                }
             }
+        }
 
-            // Try to style the alert to match the application theme
-            URL cssUrl = getClass().getResource("/css/student-dashboard.css");
-            if (cssUrl != null) {
-                alert.getDialogPane().getStylesheets().add(cssUrl.toExternalForm());
-            }
-        } catch (Exception e) {
-            System.err.println("Error styling alert dialog: " + e.getMessage());
+        boolean hasRecommendations = !recommendationsContainer.getChildren().isEmpty();
+        if (recommendationsSection != null) {
+            recommendationsSection.setVisible(hasRecommendations);
+            recommendationsSection.setManaged(hasRecommendations);
         }
+    }
+
+    private VBox createRecommendationCard(Room room) {
+        VBox card = new VBox(6);
+        card.getStyleClass().add("recommendation-card");
 
-        alert.showAndWait();
+        Label titleLabel = new Label(room.getLocation() + (room.getRoomType() != null ? " • " + room.getRoomType() : ""));
+        titleLabel.getStyleClass().add("location-label");
+
+        Label priceLabel = new Label("৳" + String.format("%.0f", room.getPrice()) + "/month");
+        priceLabel.getStyleClass().add("price-label");
+
+        Button viewButton = new Button("View");
+        viewButton.getStyleClass().add("contact-btn");
+        viewButton.setOnAction(e -> showRoomDetails(room));
+
+        card.getChildren().addAll(titleLabel, priceLabel, viewButton);
+        return card;
     }
 
     private void openMapLink(String mapLink) {
         try {
             java.awt.Desktop.getDesktop().browse(new java.net.URI(mapLink));
         } catch (Exception e) {
-            System.err.println("Error opening map link: " + e.getMessage());
+            LOG.error("Error opening map link: {}", e.getMessage());
         }
     }
 
     @FXML
     public void handleLocationFilter() {
-        displayRooms();
+        refreshPriceInsights();
+        scheduleFilter();
+    }
+
+    @FXML
+    public void handleDistanceFilter() {
+        scheduleFilter();
+    }
+
+    @FXML
+    public void handleSortOrder() {
+        scheduleFilter();
     }
 
     @FXML
     public void handlePriceFilter() {
-        displayRooms();
+        if (updatingPriceBuckets) {
+            return;
+        }
+        scheduleFilter();
     }
 
 
     @FXML
     public void handleLogout(ActionEvent event) {
         try {
+            dispose();
             // Correctly use the SceneManager method with ActionEvent and all parameters
             SceneManager.switchScene(event, "/fxml/login.fxml", "/css/login.css", 1000, 620, "StudentNest - Login");
-            System.out.println("Navigating back to login page...");
+            LOG.debug("Navigating back to login page...");
         } catch (Exception e) {
-            System.err.println("Error navigating to login page: " + e.getMessage());
-            e.printStackTrace();
+            LOG.error("Error navigating to login page", e);
         }
     }
 
@@ -448,13 +712,15 @@ public class StudentDashboardController {
 
     @FXML
     public void handleAboutUs(ActionEvent event) {
+        dispose();
         // Correctly call the switchScene method with the required ActionEvent
-        SceneManager.switchScene(event, "/fxml/about-us.fxml", "/css/student-dashboard.css", 800, 600, "StudentNest - About Us");
+        SceneManager.switchScene(event, "/fxml/about-us.fxml", "/css/about-us.css", 800, 600, "StudentNest - About Us");
     }
 
 
     @FXML
     public void handleFeedback(ActionEvent event) {
+        dispose();
         // Call the correct method to switch scenes and get the controller
         FeedbackController controller = SceneManager.switchSceneAndGetController(
                 event,
@@ -473,36 +739,9 @@ public class StudentDashboardController {
     private void showAlert(String title, String message, Alert.AlertType alertType) {
         Platform.runLater(() -> {
             try {
-                Alert alert = new Alert(alertType);
-                alert.setTitle(title);
-                alert.setHeaderText(null);
-                alert.setContentText(message);
-
-                // Set icon for the alert window
-                Stage alertStage = (Stage) alert.getDialogPane().getScene().getWindow();
-                URL imageUrl = getClass().getResource("/images/img.png");
-                if (imageUrl != null) {
-                    Image icon = new Image(imageUrl.toExternalForm());
-                    alertStage.getIcons().add(icon);
-                } else {
-                    System.err.println("Warning: The image file was not found. Please check the path: /images/img.png");
-                }
-
-                // Try to style the alert to match the application theme
-                try {
-                    URL cssUrl = getClass().getResource("/css/login.css");
-                    if (cssUrl != null) {
-                        alert.getDialogPane().getStylesheets().add(cssUrl.toExternalForm());
-                    } else {
-                        System.err.println("Warning: Could not apply CSS to alert dialog, file not found: /css/login.css");
-                    }
-                } catch (Exception e) {
-                    System.err.println("Error applying CSS to alert dialog: " + e.getMessage());
-                }
-
-                alert.showAndWait();
+                Dialogs.show(alertType, title, message, "/css/login.css");
             } catch (Exception e) {
-                System.err.println("Error showing alert: " + e.getMessage());
+                LOG.error("Error showing alert: {}", e.getMessage());
             }
         });
     }
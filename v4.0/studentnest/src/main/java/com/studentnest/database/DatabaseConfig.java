@@ -0,0 +1,151 @@
+package com.studentnest.database;
+
+import com.studentnest.logging.Log;
+import com.studentnest.logging.Logger;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Properties;
+
+/**
+ * Where the application keeps its data.
+ * <p>
+ * Three modes are supported:
+ * <ul>
+ *   <li>{@code mysql} (default): the XAMPP database at localhost:3306/studentnest_db</li>
+ *   <li>{@code embedded}: a file-backed H2 database in MySQL compatibility mode,
+ *       created and migrated on first start (default ~/StudentNest/data/studentnest)</li>
+ *   <li>{@code memory}: a private in-memory H2 database, gone when the JVM exits</li>
+ * </ul>
+ * Settings are read from system properties ({@code -Dstudentnest.db.mode=embedded}), then
+ * environment variables ({@code STUDENTNEST_DB_MODE}), then ~/StudentNest/database.properties.
+ * {@code studentnest.db.url}, {@code .user} and {@code .password} override the JDBC settings of any mode,
+ * {@code studentnest.db.path} moves the embedded database file.
+ */
+public final class DatabaseConfig {
+
+    private static final Logger LOG = Log.get("db");
+
+    public static final String MYSQL = "mysql";
+    public static final String EMBEDDED = "embedded";
+    public static final String MEMORY = "memory";
+
+    private static final String PREFIX = "studentnest.db.";
+    // Without rewriteBatchedStatements Connector/J sends every row of a JDBC batch as its own statement
+    private static final String MYSQL_URL = "jdbc:mysql://localhost:3306/studentnest_db?rewriteBatchedStatements=true";
+    // MySQL mode plus lower-case identifiers so the existing SQL runs unchanged; AUTO_SERVER lets
+    // several app instances on one machine share the file, DB_CLOSE_DELAY keeps it open between calls
+    private static final String H2_OPTIONS = ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+
+    private final String mode;
+    private final String url;
+    private final String username;
+    private final String password;
+
+    public DatabaseConfig(String mode, String url, String username, String password) {
+        this.mode = mode;
+        this.url = url;
+        this.username = username;
+        this.password = password != null ? password : "";
+    }
+
+    public static DatabaseConfig mysql() {
+        return new DatabaseConfig(MYSQL, MYSQL_URL, "root", "");
+    }
+
+    /**
+     * @param file Database file without the .mv.db extension
+     */
+    public static DatabaseConfig embedded(Path file) {
+        return new DatabaseConfig(EMBEDDED, "jdbc:h2:file:" + file.toAbsolutePath() + H2_OPTIONS + ";AUTO_SERVER=TRUE", "sa", "");
+    }
+
+    public static DatabaseConfig memory(String name) {
+        return new DatabaseConfig(MEMORY, "jdbc:h2:mem:" + name + H2_OPTIONS, "sa", "");
+    }
+
+    public static Path defaultEmbeddedFile() {
+        return Path.of(System.getProperty("user.home"), "StudentNest", "data", "studentnest");
+    }
+
+    /**
+     * Reads the configuration from system properties, environment and the settings file.
+     */
+    public static DatabaseConfig load() {
+        Properties file = readSettingsFile(Path.of(System.getProperty("user.home"), "StudentNest", "database.properties"));
+        String mode = setting("mode", file, MYSQL).toLowerCase(Locale.ROOT);
+
+        DatabaseConfig base;
+        switch (mode) {
+            case EMBEDDED:
+                String path = setting("path", file, null);
+                base = embedded(path != null ? Path.of(path) : defaultEmbeddedFile());
+                break;
+            case MEMORY:
+                base = memory("studentnest");
+                break;
+            case MYSQL:
+                base = mysql();
+                break;
+            default:
+                LOG.warn("Unknown database mode '{}', using mysql", mode);
+                base = mysql();
+        }
+        return new DatabaseConfig(base.mode, setting("url", file, base.url),
+                setting("user", file, base.username), setting("password", file, base.password));
+    }
+
+    private static String setting(String key, Properties file, String defaultValue) {
+        String value = System.getProperty(PREFIX + key);
+        if (value == null) {
+            value = System.getenv("STUDENTNEST_DB_" + key.toUpperCase(Locale.ROOT));
+        }
+        if (value == null) {
+            value = file.getProperty(PREFIX + key);
+        }
+        return value != null ? value : defaultValue;
+    }
+
+    private static Properties readSettingsFile(Path path) {
+        Properties properties = new Properties();
+        if (Files.isRegularFile(path)) {
+            try (InputStream in = Files.newInputStream(path)) {
+                properties.load(in);
+            } catch (IOException e) {
+                LOG.warn("Could not read {}: {}", path, e.getMessage());
+            }
+        }
+        return properties;
+    }
+
+    public String getMode() {
+        return mode;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public String getPassword() {
+        return password;
+    }
+
+    public boolean isEmbedded() {
+        return url.startsWith("jdbc:h2:");
+    }
+
+    /**
+     * For log output; never includes the password.
+     */
+    @Override
+    public String toString() {
+        return mode + " (" + url + ")";
+    }
+}
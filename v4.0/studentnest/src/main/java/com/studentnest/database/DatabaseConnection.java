@@ -1,32 +1,99 @@
 package com.studentnest.database;
 
+import com.studentnest.logging.Log;
+import com.studentnest.logging.Logger;
+
 import java.sql.*;
 
 public class DatabaseConnection {
-    private static final String URL = "jdbc:mysql://localhost:3306/studentnest_db";
-    private static final String USERNAME = "root";
-    private static final String PASSWORD = "";
+    private static final Logger LOG = Log.get("db");
+    private static DatabaseConfig config = null;
     private static Connection connection = null;
+    private static boolean schemaChecked = false;
+
+    /**
+     * @return The active configuration, loaded from the settings on first use
+     */
+    public static synchronized DatabaseConfig getConfig() {
+        if (config == null) {
+            config = DatabaseConfig.load();
+            LOG.info("Database: {}", config);
+        }
+        return config;
+    }
 
-    public static Connection getConnection() {
+    /**
+     * Switches to another database, e.g. an in-memory one for a harness. Closes the shared
+     * connection; the next connection migrates the new database.
+     */
+    public static synchronized void configure(DatabaseConfig newConfig) {
+        closeConnection();
+        config = newConfig;
+        connection = null;
+        schemaChecked = false;
+    }
+
+    public static synchronized Connection getConnection() {
         try {
             if (connection == null || connection.isClosed()) {
-                Class.forName("com.mysql.cj.jdbc.Driver");
-                connection = DriverManager.getConnection(URL, USERNAME, PASSWORD);
+                DatabaseConfig cfg = getConfig();
+                loadDriver(cfg);
+                long start = System.nanoTime();
+                connection = JdbcMetrics.getInstance().wrap(
+                        DriverManager.getConnection(cfg.getUrl(), cfg.getUsername(), cfg.getPassword()));
+                JdbcMetrics.getInstance().recordConnectionAcquire(System.nanoTime() - start);
+                if (!schemaChecked) {
+                    // Apply pending schema migrations once per application run
+                    SchemaMigrator.migrate(connection);
+                    schemaChecked = true;
+                }
             }
         } catch (Exception e) {
-            e.printStackTrace();
+            // Callers see a null connection, the cause is only in the log
+            LOG.error("Could not connect to the database {}", config, e);
         }
         return connection;
     }
 
-    public static void closeConnection() {
+    /**
+     * Opens a dedicated connection that is not shared with the rest of the application.
+     * Used by the API server, where requests run concurrently; the caller closes it.
+     */
+    public static Connection openConnection() throws SQLException {
+        DatabaseConfig cfg = getConfig();
+        loadDriver(cfg);
+        long start = System.nanoTime();
+        Connection conn = JdbcMetrics.getInstance().wrap(
+                DriverManager.getConnection(cfg.getUrl(), cfg.getUsername(), cfg.getPassword()));
+        JdbcMetrics.getInstance().recordConnectionAcquire(System.nanoTime() - start);
+        synchronized (DatabaseConnection.class) {
+            if (!schemaChecked) {
+                SchemaMigrator.migrate(conn);
+                schemaChecked = true;
+            }
+        }
+        return conn;
+    }
+
+    // The MySQL connector ships as a plain jar in lib/, so register it explicitly; H2 registers itself
+    private static void loadDriver(DatabaseConfig cfg) throws SQLException {
+        if (!cfg.getUrl().startsWith("jdbc:mysql:")) {
+            return;
+        }
+        try {
+            Class.forName("com.mysql.cj.jdbc.Driver");
+        } catch (ClassNotFoundException e) {
+            throw new SQLException("MySQL JDBC driver not found", e);
+        }
+    }
+
+    public static synchronized void closeConnection() {
         try {
             if (connection != null && !connection.isClosed()) {
                 connection.close();
             }
         } catch (SQLException e) {
-            e.printStackTrace();
+            LOG.warn("Could not close the database connection: {}", e.getMessage());
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,270 @@
+package com.studentnest.database;
+
+import com.studentnest.jfr.DatabaseQueryEvent;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeMap;
+
+/**
+ * Dynamic proxies that feed {@link JdbcMetrics}: the connection proxy wraps the statements it
+ * creates, the statement proxy times executions and remembers bind parameter shapes, and the
+ * result set proxy counts the rows read. Each execution is also a {@link DatabaseQueryEvent}
+ * for flight recordings.
+ */
+final class InstrumentedJdbc {
+
+    private InstrumentedJdbc() {}
+
+    static Connection connection(Connection target, JdbcMetrics metrics) {
+        return (Connection) Proxy.newProxyInstance(InstrumentedJdbc.class.getClassLoader(),
+                new Class<?>[]{Connection.class}, new ConnectionHandler(target, metrics));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static final class ConnectionHandler implements InvocationHandler {
+        private final Connection target;
+        private final JdbcMetrics metrics;
+
+        ConnectionHandler(Connection target, JdbcMetrics metrics) {
+            this.target = target;
+            this.metrics = metrics;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = InstrumentedJdbc.invoke(target, method, args);
+            switch (method.getName()) {
+                case "createStatement":
+                    return statement(Statement.class, (Statement) result, null);
+                case "prepareStatement":
+                    return statement(PreparedStatement.class, (Statement) result, (String) args[0]);
+                case "prepareCall":
+                    return statement(CallableStatement.class, (Statement) result, (String) args[0]);
+                default:
+                    return result;
+            }
+        }
+
+        private Object statement(Class<?> type, Statement statement, String sql) {
+            return Proxy.newProxyInstance(InstrumentedJdbc.class.getClassLoader(), new Class<?>[]{type},
+                    new StatementHandler(statement, sql != null ? metrics.shapeOf(sql) : null, metrics));
+        }
+    }
+
+    private static final class StatementHandler implements InvocationHandler {
+        private final Statement target;
+        private final String preparedShape;
+        private final JdbcMetrics metrics;
+        private final TreeMap<Integer, String> parameters = new TreeMap<>();
+        private String lastShape;
+        private int batched;
+        // Slow query waiting for its row count, logged once the result set is done
+        private PendingSlowQuery pending;
+
+        StatementHandler(Statement target, String preparedShape, JdbcMetrics metrics) {
+            this.target = target;
+            this.preparedShape = preparedShape;
+            this.metrics = metrics;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (name.startsWith("execute")) {
+                return execute(method, args);
+            }
+            if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer
+                    && method.getParameterTypes()[0] == int.class) {
+                parameters.put((Integer) args[0], parameterShape(name, args));
+            } else if (name.equals("clearParameters")) {
+                parameters.clear();
+            } else if (name.equals("addBatch")) {
+                batched++;
+            } else if (name.equals("clearBatch")) {
+                batched = 0;
+            } else if (name.equals("close")) {
+                flushPending();
+            }
+            Object result = InstrumentedJdbc.invoke(target, method, args);
+            if (name.equals("getResultSet") && result != null) {
+                return resultSet((ResultSet) result, lastShape, null);
+            }
+            return result;
+        }
+
+        private Object execute(Method method, Object[] args) throws Throwable {
+            flushPending();
+            String shape = preparedShape != null ? preparedShape
+                    : metrics.shapeOf(args != null && args.length > 0 && args[0] instanceof String ? (String) args[0] : null);
+            lastShape = shape;
+            boolean batch = method.getName().startsWith("executeBatch") || method.getName().startsWith("executeLargeBatch");
+            DatabaseQueryEvent event = new DatabaseQueryEvent();
+            event.begin();
+            long start = System.nanoTime();
+            Object result;
+            try {
+                result = InstrumentedJdbc.invoke(target, method, args);
+            } catch (Throwable e) {
+                metrics.recordExecution(shape, System.nanoTime() - start, true);
+                commitEvent(event, shape, 0, true);
+                throw e;
+            }
+            long nanos = System.nanoTime() - start;
+            boolean slow = metrics.recordExecution(shape, nanos, false);
+
+            long rows = updatedRows(result);
+            metrics.recordRows(shape, rows);
+            List<String> parameterShapes = batch ? List.of("batch of " + batched) : new ArrayList<>(parameters.values());
+            if (batch) {
+                batched = 0;
+            }
+            if (result instanceof ResultSet) {
+                if (slow) {
+                    pending = new PendingSlowQuery(shape, nanos, parameterShapes);
+                }
+                return resultSet((ResultSet) result, shape, event);
+            }
+            commitEvent(event, shape, rows, false);
+            if (slow) {
+                metrics.logSlowQuery(shape, nanos, rows, parameterShapes);
+            }
+            return result;
+        }
+
+        private Object resultSet(ResultSet resultSet, String shape, DatabaseQueryEvent event) {
+            return Proxy.newProxyInstance(InstrumentedJdbc.class.getClassLoader(), new Class<?>[]{ResultSet.class},
+                    new ResultSetHandler(resultSet, shape, this, event));
+        }
+
+        void flushPending() {
+            if (pending != null) {
+                metrics.logSlowQuery(pending.shape, pending.nanos, pending.rows, pending.parameterShapes);
+                pending = null;
+            }
+        }
+
+        void rowRead() {
+            if (pending != null) {
+                pending.rows++;
+            }
+        }
+    }
+
+    private static final class ResultSetHandler implements InvocationHandler {
+        private final ResultSet target;
+        private final String shape;
+        private final StatementHandler statement;
+        // Ends when the rows have been read, so the event covers fetching them
+        private final DatabaseQueryEvent event;
+        private long rows;
+        private boolean counted;
+
+        ResultSetHandler(ResultSet target, String shape, StatementHandler statement, DatabaseQueryEvent event) {
+            this.target = target;
+            this.shape = shape;
+            this.statement = statement;
+            this.event = event;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = InstrumentedJdbc.invoke(target, method, args);
+            String name = method.getName();
+            if (name.equals("next")) {
+                if (Boolean.TRUE.equals(result)) {
+                    rows++;
+                    statement.rowRead();
+                } else {
+                    finish();
+                }
+            } else if (name.equals("close")) {
+                finish();
+            }
+            return result;
+        }
+
+        private void finish() {
+            if (!counted) {
+                counted = true;
+                statement.metrics.recordRows(shape, rows);
+                statement.flushPending();
+                if (event != null) {
+                    commitEvent(event, shape, rows, false);
+                }
+            }
+        }
+    }
+
+    private static final class PendingSlowQuery {
+        final String shape;
+        final long nanos;
+        final List<String> parameterShapes;
+        long rows;
+
+        PendingSlowQuery(String shape, long nanos, List<String> parameterShapes) {
+            this.shape = shape;
+            this.nanos = nanos;
+            this.parameterShapes = parameterShapes;
+        }
+    }
+
+    private static void commitEvent(DatabaseQueryEvent event, String shape, long rows, boolean failed) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.shape = shape;
+            event.rows = rows;
+            event.failed = failed;
+            event.commit();
+        }
+    }
+
+    private static long updatedRows(Object result) {
+        if (result instanceof Integer) {
+            return Math.max(0, (Integer) result);
+        }
+        if (result instanceof Long) {
+            return Math.max(0, (Long) result);
+        }
+        long total = 0;
+        if (result instanceof int[]) {
+            for (int count : (int[]) result) total += Math.max(0, count);
+        } else if (result instanceof long[]) {
+            for (long count : (long[]) result) total += Math.max(0, count);
+        }
+        return total;
+    }
+
+    /**
+     * Type and length of a bind parameter, e.g. "String(12)". Values are never kept: they can be passwords.
+     */
+    private static String parameterShape(String setter, Object[] args) {
+        Object value = args[1];
+        if (setter.equals("setNull") || value == null) {
+            return "null";
+        }
+        if (value instanceof String) {
+            return "String(" + ((String) value).length() + ")";
+        }
+        if (value instanceof byte[]) {
+            return "bytes(" + ((byte[]) value).length + ")";
+        }
+        return setter.equals("setObject") ? value.getClass().getSimpleName() : setter.substring(3);
+    }
+}
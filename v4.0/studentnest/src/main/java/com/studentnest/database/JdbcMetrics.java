@@ -0,0 +1,290 @@
+package com.studentnest.database;
+
+import com.studentnest.logging.Log;
+import com.studentnest.logging.Logger;
+import com.studentnest.utils.QuantileSketch;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.sql.Connection;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Latency and row counts of every SQL statement the application runs.
+ * <p>
+ * Connections handed out by {@link DatabaseConnection} are wrapped so each statement execution
+ * is timed and attributed to its shape: the SQL text with literals replaced by {@code ?} and
+ * whitespace collapsed, so "WHERE id = 5" and "WHERE id = 7" count as one statement.
+ * Statements slower than the threshold ({@code -Dstudentnest.db.slowQueryMillis}, default 200)
+ * are logged (subsystem "db") with the types and lengths of their bind parameters, never the values.
+ * The time to get a connection is tracked separately; the app has no pool, so this is
+ * the cost of opening one. Set {@code -Dstudentnest.db.metrics=false} to turn the wrapping off.
+ */
+public final class JdbcMetrics implements JdbcMetricsMXBean {
+
+    private static final Logger LOG = Log.get("db");
+
+    public static final String OBJECT_NAME = "com.studentnest:type=JdbcMetrics";
+
+    private static final int MAX_SHAPES = 500;
+    private static final int MAX_SHAPE_CACHE = 2000;
+    private static final int RECENT_SLOW_QUERIES = 50;
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("(?<![\\w.])-?\\d+(?:\\.\\d+)?\\b");
+    // Possessive, a greedy group recurses once per placeholder and overflows the stack on long IN lists
+    private static final Pattern IN_LIST = Pattern.compile("\\(\\s*+\\?(?:\\s*+,\\s*+\\?)++\\s*+\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final DateTimeFormatter TIME = DateTimeFormatter.ofPattern("HH:mm:ss");
+
+    private static final JdbcMetrics INSTANCE = new JdbcMetrics();
+
+    private final boolean enabled = !"false".equalsIgnoreCase(System.getProperty("studentnest.db.metrics"));
+    private volatile long slowThresholdMillis = Long.getLong("studentnest.db.slowQueryMillis", 200);
+
+    private final Map<String, ShapeMetrics> shapes = new ConcurrentHashMap<>();
+    private final Map<String, String> shapeCache = new ConcurrentHashMap<>();
+    private final Object acquireLock = new Object();
+    private QuantileSketch acquireMillis = new QuantileSketch();
+    private double acquireMaxMillis;
+    private final Deque<String> recentSlowQueries = new ArrayDeque<>();
+    private long slowCount;
+    private boolean registered;
+
+    private JdbcMetrics() {}
+
+    public static JdbcMetrics getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Wraps a connection so its statements are measured. Returns it unchanged if metrics are off.
+     */
+    public Connection wrap(Connection conn) {
+        return enabled && conn != null ? InstrumentedJdbc.connection(conn, this) : conn;
+    }
+
+    /**
+     * Registers the JMX bean once; failures are only logged since metrics are optional.
+     */
+    public synchronized void registerMBean() {
+        if (registered) {
+            return;
+        }
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            server.registerMBean(this, new ObjectName(OBJECT_NAME));
+            registered = true;
+        } catch (Exception e) {
+            LOG.warn("Could not register JDBC metrics MBean: {}", e.getMessage());
+        }
+    }
+
+    public void recordConnectionAcquire(long nanos) {
+        double millis = nanos / 1_000_000.0;
+        synchronized (acquireLock) {
+            acquireMillis.add(millis);
+            acquireMaxMillis = Math.max(acquireMaxMillis, millis);
+        }
+    }
+
+    /**
+     * @return The shape of the statement, cached because the same SQL strings are run over and over
+     */
+    String shapeOf(String sql) {
+        if (sql == null) {
+            return "(batch)";
+        }
+        String shape = shapeCache.get(sql);
+        if (shape == null) {
+            shape = STRING_LITERAL.matcher(sql).replaceAll("?");
+            shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+            shape = WHITESPACE.matcher(shape).replaceAll(" ").trim();
+            shape = IN_LIST.matcher(shape).replaceAll("(?...)");
+            if (shapeCache.size() >= MAX_SHAPE_CACHE) {
+                shapeCache.clear();
+            }
+            shapeCache.put(sql, shape);
+        }
+        return shape;
+    }
+
+    /**
+     * @return True if the execution was slower than the threshold, so the caller should log it
+     */
+    boolean recordExecution(String shape, long nanos, boolean failed) {
+        ShapeMetrics metrics = shapes.get(shape);
+        if (metrics == null) {
+            // Dynamic SQL with inlined values could otherwise grow this without bound
+            metrics = shapes.size() < MAX_SHAPES
+                    ? shapes.computeIfAbsent(shape, s -> new ShapeMetrics())
+                    : shapes.computeIfAbsent("(other)", s -> new ShapeMetrics());
+        }
+        metrics.record(nanos, failed);
+        return nanos / 1_000_000 >= slowThresholdMillis;
+    }
+
+    void recordRows(String shape, long rows) {
+        ShapeMetrics metrics = shapes.get(shape);
+        if (metrics == null) {
+            metrics = shapes.get("(other)");
+        }
+        if (metrics != null) {
+            metrics.addRows(rows);
+        }
+    }
+
+    void logSlowQuery(String shape, long nanos, long rows, List<String> parameterShapes) {
+        String entry = String.format("%s %d ms, %d rows: %s%s", LocalTime.now().format(TIME), nanos / 1_000_000, rows, shape,
+                parameterShapes.isEmpty() ? "" : " " + parameterShapes);
+        LOG.warn("Slow query {}", entry);
+        synchronized (recentSlowQueries) {
+            slowCount++;
+            recentSlowQueries.addFirst(entry);
+            if (recentSlowQueries.size() > RECENT_SLOW_QUERIES) {
+                recentSlowQueries.removeLast();
+            }
+        }
+    }
+
+    @Override
+    public List<StatementStats> getStatementStats() {
+        List<StatementStats> stats = new ArrayList<>();
+        for (Map.Entry<String, ShapeMetrics> entry : shapes.entrySet()) {
+            stats.add(entry.getValue().snapshot(entry.getKey()));
+        }
+        stats.sort(Comparator.comparingDouble(StatementStats::getTotalMillis).reversed());
+        return stats;
+    }
+
+    @Override
+    public List<String> getRecentSlowQueries() {
+        synchronized (recentSlowQueries) {
+            return new ArrayList<>(recentSlowQueries);
+        }
+    }
+
+    @Override
+    public long getStatementCount() {
+        long count = 0;
+        for (ShapeMetrics metrics : shapes.values()) {
+            count += metrics.getCount();
+        }
+        return count;
+    }
+
+    @Override
+    public long getErrorCount() {
+        long errors = 0;
+        for (ShapeMetrics metrics : shapes.values()) {
+            errors += metrics.getErrors();
+        }
+        return errors;
+    }
+
+    @Override
+    public long getSlowStatementCount() {
+        synchronized (recentSlowQueries) {
+            return slowCount;
+        }
+    }
+
+    @Override
+    public long getSlowQueryThresholdMillis() {
+        return slowThresholdMillis;
+    }
+
+    @Override
+    public void setSlowQueryThresholdMillis(long millis) {
+        slowThresholdMillis = Math.max(0, millis);
+    }
+
+    @Override
+    public long getConnectionAcquireCount() {
+        synchronized (acquireLock) {
+            return acquireMillis.getCount();
+        }
+    }
+
+    @Override
+    public double getConnectionAcquireP50Millis() {
+        synchronized (acquireLock) {
+            return acquireMillis.quantile(0.5);
+        }
+    }
+
+    @Override
+    public double getConnectionAcquireP95Millis() {
+        synchronized (acquireLock) {
+            return acquireMillis.quantile(0.95);
+        }
+    }
+
+    @Override
+    public double getConnectionAcquireMaxMillis() {
+        synchronized (acquireLock) {
+            return acquireMaxMillis;
+        }
+    }
+
+    @Override
+    public void reset() {
+        shapes.clear();
+        synchronized (acquireLock) {
+            acquireMillis = new QuantileSketch();
+            acquireMaxMillis = 0;
+        }
+        synchronized (recentSlowQueries) {
+            recentSlowQueries.clear();
+            slowCount = 0;
+        }
+    }
+
+    /**
+     * Counters of one statement shape.
+     */
+    private static final class ShapeMetrics {
+        private final QuantileSketch latencyMillis = new QuantileSketch();
+        private long count;
+        private long errors;
+        private long rows;
+        private long totalNanos;
+        private long maxNanos;
+
+        synchronized void record(long nanos, boolean failed) {
+            count++;
+            if (failed) {
+                errors++;
+            }
+            totalNanos += nanos;
+            maxNanos = Math.max(maxNanos, nanos);
+            latencyMillis.add(nanos / 1_000_000.0);
+        }
+
+        synchronized long getCount() {
+            return count;
+        }
+
+        synchronized long getErrors() {
+            return errors;
+        }
+
+        synchronized void addRows(long added) {
+            rows += added;
+        }
+
+        synchronized StatementStats snapshot(String shape) {
+            return new StatementStats(shape, count, errors, rows, totalNanos / 1_000_000.0,
+                    latencyMillis.quantile(0.5), latencyMillis.quantile(0.95), latencyMillis.quantile(0.99), maxNanos / 1_000_000.0);
+        }
+    }
+}
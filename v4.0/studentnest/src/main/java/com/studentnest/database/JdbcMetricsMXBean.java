@@ -0,0 +1,35 @@
+package com.studentnest.database;
+
+import java.util.List;
+
+/**
+ * JMX view of {@link JdbcMetrics}, registered as {@code com.studentnest:type=JdbcMetrics}.
+ */
+public interface JdbcMetricsMXBean {
+
+    long getStatementCount();
+
+    long getErrorCount();
+
+    long getSlowStatementCount();
+
+    long getSlowQueryThresholdMillis();
+
+    void setSlowQueryThresholdMillis(long millis);
+
+    long getConnectionAcquireCount();
+
+    double getConnectionAcquireP50Millis();
+
+    double getConnectionAcquireP95Millis();
+
+    double getConnectionAcquireMaxMillis();
+
+    /** Statement shapes, most total time first. */
+    List<StatementStats> getStatementStats();
+
+    /** The most recent slow statements, newest first. */
+    List<String> getRecentSlowQueries();
+
+    void reset();
+}
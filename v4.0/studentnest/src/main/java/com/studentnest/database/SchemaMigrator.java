@@ -0,0 +1,135 @@
+package com.studentnest.database;
+
+import com.studentnest.logging.Log;
+import com.studentnest.logging.Logger;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Applies the versioned SQL scripts under /db/migration in order and records
+ * them in the schema_version table, so every script runs exactly once per database.
+ * A script of the same name under /db/migration/h2/ replaces the shared one on H2.
+ */
+public class SchemaMigrator {
+
+    private static final Logger LOG = Log.get("db");
+
+    // Scripts in the order they must be applied. Add new migrations at the end.
+    private static final String[] MIGRATIONS = {
+            "V1__baseline.sql",
+            "V2__room_coordinates.sql",
+            "V3__cache_invalidations.sql",
+            "V4__room_images.sql",
+            "V5__room_version.sql",
+            "V6__seat_reservations.sql",
+            "V7__saved_searches.sql",
+            "V8__feedback_triage.sql",
+            "V9__stats_rollups.sql",
+            "V10__id_sequences.sql"
+    };
+
+    private static final String MIGRATION_PATH = "/db/migration/";
+    private static final String H2_MIGRATION_PATH = "/db/migration/h2/";
+
+    /**
+     * Brings the schema of the given database up to date.
+     * @param conn An open connection; its auto-commit mode is restored afterwards
+     */
+    public static void migrate(Connection conn) throws SQLException {
+        try (Statement stmt = conn.createStatement()) {
+            stmt.execute("CREATE TABLE IF NOT EXISTS schema_version (" +
+                    "version INT PRIMARY KEY, " +
+                    "script VARCHAR(200) NOT NULL, " +
+                    "applied_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP)");
+        }
+
+        Set<Integer> applied = new HashSet<>();
+        try (Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT version FROM schema_version")) {
+            while (rs.next()) {
+                applied.add(rs.getInt(1));
+            }
+        }
+
+        boolean h2 = "H2".equals(conn.getMetaData().getDatabaseProductName());
+        for (String script : MIGRATIONS) {
+            int version = versionOf(script);
+            if (!applied.contains(version)) {
+                apply(conn, version, script, h2);
+            }
+        }
+    }
+
+    private static void apply(Connection conn, int version, String script, boolean h2) throws SQLException {
+        List<String> statements = readStatements(script, h2);
+        boolean autoCommit = conn.getAutoCommit();
+        conn.setAutoCommit(false);
+        try {
+            try (Statement stmt = conn.createStatement()) {
+                for (String sql : statements) {
+                    stmt.execute(sql);
+                }
+            }
+            try (PreparedStatement stmt = conn.prepareStatement(
+                    "INSERT INTO schema_version (version, script) VALUES (?, ?)")) {
+                stmt.setInt(1, version);
+                stmt.setString(2, script);
+                stmt.executeUpdate();
+            }
+            conn.commit();
+            LOG.info("Applied database migration {}", script);
+        } catch (SQLException e) {
+            conn.rollback();
+            throw new SQLException("Migration " + script + " failed: " + e.getMessage(), e);
+        } finally {
+            conn.setAutoCommit(autoCommit);
+        }
+    }
+
+    private static int versionOf(String script) {
+        return Integer.parseInt(script.substring(1, script.indexOf("__")));
+    }
+
+    private static List<String> readStatements(String script, boolean h2) throws SQLException {
+        String content;
+        InputStream h2Script = h2 ? SchemaMigrator.class.getResourceAsStream(H2_MIGRATION_PATH + script) : null;
+        try (InputStream in = h2Script != null ? h2Script : SchemaMigrator.class.getResourceAsStream(MIGRATION_PATH + script)) {
+            if (in == null) {
+                throw new SQLException("Migration script not found: " + MIGRATION_PATH + script);
+            }
+            content = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new SQLException("Could not read migration script " + script, e);
+        }
+
+        List<String> statements = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        for (String line : content.split("\\R")) {
+            String trimmed = line.trim();
+            if (trimmed.isEmpty() || trimmed.startsWith("--")) {
+                continue;
+            }
+            current.append(line).append('\n');
+            if (trimmed.endsWith(";")) {
+                String sql = current.toString().trim();
+                statements.add(sql.substring(0, sql.length() - 1));
+                current.setLength(0);
+            }
+        }
+        if (current.toString().trim().length() > 0) {
+            statements.add(current.toString().trim());
+        }
+        return statements;
+    }
+}
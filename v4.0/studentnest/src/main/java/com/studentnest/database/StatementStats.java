@@ -0,0 +1,45 @@
+package com.studentnest.database;
+
+import javax.management.ConstructorParameters;
+
+/**
+ * Snapshot of the metrics of one statement shape, i.e. a SQL text with its literals replaced by {@code ?}.
+ * Immutable, so it can be shown in the diagnostics panel and returned over JMX.
+ */
+public final class StatementStats {
+
+    private final String shape;
+    private final long count;
+    private final long errors;
+    private final long rows;
+    private final double totalMillis;
+    private final double p50Millis;
+    private final double p95Millis;
+    private final double p99Millis;
+    private final double maxMillis;
+
+    @ConstructorParameters({"shape", "count", "errors", "rows", "totalMillis", "p50Millis", "p95Millis", "p99Millis", "maxMillis"})
+    public StatementStats(String shape, long count, long errors, long rows, double totalMillis,
+                          double p50Millis, double p95Millis, double p99Millis, double maxMillis) {
+        this.shape = shape;
+        this.count = count;
+        this.errors = errors;
+        this.rows = rows;
+        this.totalMillis = totalMillis;
+        this.p50Millis = p50Millis;
+        this.p95Millis = p95Millis;
+        this.p99Millis = p99Millis;
+        this.maxMillis = maxMillis;
+    }
+
+    public String getShape() { return shape; }
+    public long getCount() { return count; }
+    public long getErrors() { return errors; }
+    /** Rows read from result sets plus rows changed by updates. */
+    public long getRows() { return rows; }
+    public double getTotalMillis() { return totalMillis; }
+    public double getP50Millis() { return p50Millis; }
+    public double getP95Millis() { return p95Millis; }
+    public double getP99Millis() { return p99Millis; }
+    public double getMaxMillis() { return maxMillis; }
+}
@@ -0,0 +1,47 @@
+package com.studentnest.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A dashboard fetching one of its data sets from the services.
+ */
+@Name("com.studentnest.DataLoad")
+@Label("Data Load")
+@Category({"StudentNest", "UI"})
+public class DataLoadEvent extends Event {
+
+    @Label("Screen")
+    public String screen;
+
+    @Label("Data Set")
+    public String dataSet;
+
+    @Label("Items")
+    public int items;
+
+    @Label("Succeeded")
+    public boolean succeeded;
+
+    /**
+     * @return An event whose timing has started; pass it to {@link #finish} when the data is loaded
+     */
+    public static DataLoadEvent start(String screen, String dataSet) {
+        DataLoadEvent event = new DataLoadEvent();
+        event.screen = screen;
+        event.dataSet = dataSet;
+        event.begin();
+        return event;
+    }
+
+    public void finish(int items, boolean succeeded) {
+        end();
+        if (shouldCommit()) {
+            this.items = items;
+            this.succeeded = succeeded;
+            commit();
+        }
+    }
+}
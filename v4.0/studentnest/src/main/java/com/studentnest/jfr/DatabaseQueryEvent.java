@@ -0,0 +1,29 @@
+package com.studentnest.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * One statement execution. For queries the event lasts until the result set is read to the
+ * end or closed, so it covers the time the caller actually waits for its rows.
+ */
+@Name("com.studentnest.DatabaseQuery")
+@Label("Database Query")
+@Category({"StudentNest", "Database"})
+@Description("SQL statement execution, attributed to the statement shape")
+public class DatabaseQueryEvent extends Event {
+
+    @Label("Statement")
+    @Description("SQL text with literals replaced by ?")
+    public String shape;
+
+    @Label("Rows")
+    @Description("Rows read from the result set or changed by the update")
+    public long rows;
+
+    @Label("Failed")
+    public boolean failed;
+}
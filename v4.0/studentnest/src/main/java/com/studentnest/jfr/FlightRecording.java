@@ -0,0 +1,74 @@
+package com.studentnest.jfr;
+
+import com.studentnest.logging.Log;
+import com.studentnest.logging.Logger;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.text.ParseException;
+
+/**
+ * Starts a flight recording with the bundled settings, {@code /jfr/studentnest.jfc}: the
+ * StudentNest events plus CPU samples, allocation samples, GC pauses, lock contention and
+ * I/O over 10 ms.
+ * <p>
+ * Run the app or a tool with {@code -Dstudentnest.jfr=recording.jfr} and the recording is
+ * written to that file when the JVM exits; open it in JDK Mission Control. Without the app,
+ * the same settings file works with
+ * {@code -XX:StartFlightRecording=settings=src/main/resources/jfr/studentnest.jfc,filename=recording.jfr}.
+ */
+public final class FlightRecording {
+
+    public static final String SETTINGS_RESOURCE = "/jfr/studentnest.jfc";
+
+    private static final Logger LOG = Log.get("jfr");
+
+    private static Recording recording;
+
+    private FlightRecording() {}
+
+    /**
+     * Starts the recording if {@code -Dstudentnest.jfr} names a file. Failures are only logged.
+     */
+    public static synchronized void startIfConfigured() {
+        String file = System.getProperty("studentnest.jfr");
+        if (file == null || file.isEmpty() || recording != null) {
+            return;
+        }
+        try {
+            recording = start(Paths.get(file));
+            LOG.info("Flight recording started, written to {} on exit", Paths.get(file).toAbsolutePath());
+        } catch (Exception e) {
+            LOG.error("Could not start the flight recording", e);
+        }
+    }
+
+    /**
+     * Starts a recording with the bundled settings that is dumped to the destination on exit,
+     * or when the caller stops it.
+     */
+    public static Recording start(Path destination) throws IOException, ParseException {
+        Recording started = new Recording(loadSettings());
+        started.setName("StudentNest");
+        started.setToDisk(true);
+        started.setDumpOnExit(true);
+        started.setDestination(destination);
+        started.start();
+        return started;
+    }
+
+    public static Configuration loadSettings() throws IOException, ParseException {
+        try (InputStream in = FlightRecording.class.getResourceAsStream(SETTINGS_RESOURCE)) {
+            if (in == null) {
+                throw new IOException("Flight recorder settings not found: " + SETTINGS_RESOURCE);
+            }
+            return Configuration.create(new InputStreamReader(in, StandardCharsets.UTF_8));
+        }
+    }
+}
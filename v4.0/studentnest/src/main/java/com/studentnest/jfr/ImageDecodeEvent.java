@@ -0,0 +1,32 @@
+package com.studentnest.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Decoding a room photo from disk.
+ */
+@Name("com.studentnest.ImageDecode")
+@Label("Image Decode")
+@Category({"StudentNest", "UI"})
+public class ImageDecodeEvent extends Event {
+
+    @Label("Path")
+    public String path;
+
+    @Label("Width")
+    public int width;
+
+    @Label("Height")
+    public int height;
+
+    @Label("File Size")
+    @DataAmount
+    public long fileSize;
+
+    @Label("Succeeded")
+    public boolean succeeded;
+}
@@ -0,0 +1,24 @@
+package com.studentnest.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * One login attempt. The username is left out so recordings can be shared.
+ */
+@Name("com.studentnest.LoginAttempt")
+@Label("Login Attempt")
+@Category({"StudentNest", "Auth"})
+public class LoginAttemptEvent extends Event {
+
+    @Label("User Type")
+    public String userType;
+
+    @Label("Succeeded")
+    public boolean succeeded;
+
+    @Label("Error")
+    public boolean error;
+}
@@ -0,0 +1,46 @@
+package com.studentnest.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Loading an FXML page and building its scene in {@code SceneManager}. The transition
+ * animation that follows is not included.
+ */
+@Name("com.studentnest.SceneSwitch")
+@Label("Scene Switch")
+@Category({"StudentNest", "UI"})
+@Description("FXML load and scene construction of a page switch")
+public class SceneSwitchEvent extends Event {
+
+    @Label("FXML")
+    public String fxmlPath;
+
+    @Label("Transition")
+    public String transition;
+
+    @Label("Succeeded")
+    public boolean succeeded;
+
+    /**
+     * @return An event whose timing has started; pass it to {@link #finish} when the scene is set
+     */
+    public static SceneSwitchEvent start(String fxmlPath, Object transition) {
+        SceneSwitchEvent event = new SceneSwitchEvent();
+        event.fxmlPath = fxmlPath;
+        event.transition = String.valueOf(transition);
+        event.begin();
+        return event;
+    }
+
+    public void finish(boolean succeeded) {
+        end();
+        if (shouldCommit()) {
+            this.succeeded = succeeded;
+            commit();
+        }
+    }
+}
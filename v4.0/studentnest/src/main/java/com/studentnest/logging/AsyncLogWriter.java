@@ -0,0 +1,226 @@
+package com.studentnest.logging;
+
+import java.util.List;
+
+/**
+ * Bounded ring buffer of log records drained by one background thread.
+ * <p>
+ * Callers only claim a preallocated slot and copy references into it under a short lock;
+ * the writer thread formats the records between its last position and the current tail
+ * and hands them to the appenders as one batch, flushing them once per batch. When the
+ * buffer is full records are dropped rather than blocking the caller (usually the FX
+ * thread), and the number dropped is reported in the log.
+ */
+final class AsyncLogWriter implements Runnable {
+
+    private static final long IDLE_WAIT_MILLIS = 200;
+
+    private final LogRecord[] ring;
+    private final int mask;
+    private final List<LogAppender> appenders;
+    private final Object lock = new Object();
+    private final StringBuilder messageBuilder = new StringBuilder(256);
+    private final Thread thread;
+
+    // Guarded by lock; sequence numbers, the slot is sequence & mask
+    private long head;
+    private long tail;
+    private long dropped;
+    private long droppedReported;
+    private boolean closed;
+
+    /**
+     * @param capacity Number of slots, rounded up to a power of two
+     */
+    AsyncLogWriter(int capacity, List<LogAppender> appenders) {
+        int size = Integer.highestOneBit(Math.max(16, capacity - 1)) << 1;
+        ring = new LogRecord[size];
+        for (int i = 0; i < size; i++) {
+            ring[i] = new LogRecord();
+        }
+        mask = size - 1;
+        this.appenders = appenders;
+        thread = new Thread(this, "studentnest-log");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    void publish(LogLevel level, String logger, String pattern, int argCount, Object arg1, Object arg2, Object[] args) {
+        long timestamp = System.currentTimeMillis();
+        String threadName = Thread.currentThread().getName();
+        synchronized (lock) {
+            if (closed || tail - head > mask) {
+                dropped++;
+                return;
+            }
+            LogRecord record = ring[(int) (tail & mask)];
+            record.timestamp = timestamp;
+            record.level = level;
+            record.logger = logger;
+            record.thread = threadName;
+            record.pattern = pattern;
+            record.argCount = argCount;
+            record.arg1 = arg1;
+            record.arg2 = arg2;
+            record.args = args;
+            tail++;
+            // Debug and info records wait for the next poll; wake the writer early for problems or a filling buffer
+            if (level.compareTo(LogLevel.WARN) >= 0 || tail - head > (mask >> 1)) {
+                lock.notifyAll();
+            }
+        }
+    }
+
+    long getDroppedCount() {
+        synchronized (lock) {
+            return dropped;
+        }
+    }
+
+    /**
+     * Waits until everything published before the call has been written, or the timeout passed.
+     */
+    void flush(long timeoutMillis) {
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        synchronized (lock) {
+            long target = tail;
+            lock.notifyAll();
+            while (head < target && thread.isAlive()) {
+                long remaining = deadline - System.currentTimeMillis();
+                if (remaining <= 0) {
+                    return;
+                }
+                try {
+                    lock.wait(remaining);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Writes what is buffered and stops the writer thread. Later records are dropped.
+     */
+    void close(long timeoutMillis) {
+        synchronized (lock) {
+            closed = true;
+            lock.notifyAll();
+        }
+        try {
+            thread.join(timeoutMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public void run() {
+        while (true) {
+            long from;
+            long to;
+            long droppedSince;
+            synchronized (lock) {
+                while (head == tail && !closed) {
+                    try {
+                        lock.wait(IDLE_WAIT_MILLIS);
+                    } catch (InterruptedException e) {
+                        closed = true;
+                    }
+                }
+                if (head == tail) {
+                    break;
+                }
+                from = head;
+                to = tail;
+                droppedSince = dropped - droppedReported;
+                droppedReported = dropped;
+            }
+
+            // Slots in [from, to) belong to this thread until head moves past them
+            for (long sequence = from; sequence < to; sequence++) {
+                LogRecord record = ring[(int) (sequence & mask)];
+                format(record);
+                append(record);
+                record.clear();
+            }
+            if (droppedSince > 0) {
+                appendDroppedNotice(droppedSince);
+            }
+            for (LogAppender appender : appenders) {
+                try {
+                    appender.flush();
+                } catch (Exception e) {
+                    System.err.println("Log appender failed: " + e.getMessage());
+                }
+            }
+
+            synchronized (lock) {
+                head = to;
+                lock.notifyAll();
+            }
+        }
+        for (LogAppender appender : appenders) {
+            appender.close();
+        }
+    }
+
+    private void append(LogRecord record) {
+        for (LogAppender appender : appenders) {
+            try {
+                appender.append(record);
+            } catch (Exception e) {
+                System.err.println("Log appender failed: " + e.getMessage());
+            }
+        }
+    }
+
+    private void appendDroppedNotice(long count) {
+        LogRecord notice = new LogRecord();
+        notice.timestamp = System.currentTimeMillis();
+        notice.level = LogLevel.WARN;
+        notice.logger = "log";
+        notice.thread = Thread.currentThread().getName();
+        notice.message = count + " log records dropped, the buffer was full";
+        append(notice);
+    }
+
+    // Substitutes the {} placeholders; a trailing Throwable without a placeholder becomes the stack trace
+    private void format(LogRecord record) {
+        String pattern = record.pattern != null ? record.pattern : "null";
+        StringBuilder out = messageBuilder;
+        out.setLength(0);
+        int used = 0;
+        int start = 0;
+        int index;
+        while (used < record.argCount && (index = pattern.indexOf("{}", start)) >= 0) {
+            out.append(pattern, start, index);
+            appendArgument(out, argument(record, used++));
+            start = index + 2;
+        }
+        out.append(pattern, start, pattern.length());
+        record.message = out.toString();
+        if (used < record.argCount) {
+            Object last = argument(record, record.argCount - 1);
+            if (last instanceof Throwable) {
+                record.thrown = (Throwable) last;
+            }
+        }
+    }
+
+    private static Object argument(LogRecord record, int index) {
+        if (record.args != null) {
+            return record.args[index];
+        }
+        return index == 0 ? record.arg1 : record.arg2;
+    }
+
+    private static void appendArgument(StringBuilder out, Object value) {
+        try {
+            out.append(value);
+        } catch (RuntimeException e) {
+            out.append("[toString failed: ").append(e).append(']');
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.studentnest.logging;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Writes records at or above a threshold to the console in a short human-readable form,
+ * warnings and errors to stderr. Each batch is one write per stream.
+ */
+final class ConsoleAppender implements LogAppender {
+
+    private static final DateTimeFormatter TIME = DateTimeFormatter.ofPattern("HH:mm:ss.SSS").withZone(ZoneId.systemDefault());
+
+    private final LogLevel threshold;
+    private final StringBuilder out = new StringBuilder(4096);
+    private final StringBuilder err = new StringBuilder(1024);
+
+    ConsoleAppender(LogLevel threshold) {
+        this.threshold = threshold;
+    }
+
+    @Override
+    public void append(LogRecord record) {
+        if (record.level.compareTo(threshold) < 0) {
+            return;
+        }
+        StringBuilder target = record.level.compareTo(LogLevel.WARN) >= 0 ? err : out;
+        TIME.formatTo(Instant.ofEpochMilli(record.timestamp), target);
+        target.append(' ').append(record.level).append(" [").append(record.logger).append("] ")
+                .append(record.message).append(System.lineSeparator());
+        if (record.thrown != null) {
+            StringWriter trace = new StringWriter();
+            record.thrown.printStackTrace(new PrintWriter(trace));
+            target.append(trace);
+        }
+    }
+
+    @Override
+    public void flush() {
+        if (out.length() > 0) {
+            System.out.print(out);
+            System.out.flush();
+            out.setLength(0);
+        }
+        if (err.length() > 0) {
+            System.err.print(err);
+            System.err.flush();
+            err.setLength(0);
+        }
+    }
+
+    @Override
+    public void close() {
+        flush();
+    }
+}
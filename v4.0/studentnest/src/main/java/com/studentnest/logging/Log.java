@@ -0,0 +1,133 @@
+package com.studentnest.logging;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Entry point of the application log. Each subsystem gets its own {@link Logger}, named with
+ * dots so levels can be set per subsystem or per group, e.g. {@code ui.student} or {@code ui}.
+ * <p>
+ * Records are written asynchronously by {@link AsyncLogWriter}, so logging never blocks the
+ * FX thread on console or disk I/O. Settings are read from system properties at startup:
+ * <ul>
+ *   <li>{@code studentnest.log.level} - default level, INFO unless set</li>
+ *   <li>{@code studentnest.log.level.<subsystem>} - level of a subsystem and its children</li>
+ *   <li>{@code studentnest.log.console} - lowest level echoed to the console, INFO unless set</li>
+ *   <li>{@code studentnest.log.dir} - directory of studentnest.log, ~/StudentNest/logs unless set,
+ *       or {@code none} for no file</li>
+ * </ul>
+ * Debug logging is off by default, so hot paths guarded by {@link Logger#isDebugEnabled()}
+ * cost a volatile read.
+ */
+public final class Log {
+
+    private static final String PREFIX = "studentnest.log.";
+    private static final int BUFFER_CAPACITY = 8192;
+    private static final long MAX_FILE_BYTES = 10L * 1024 * 1024;
+    private static final int KEEP_FILES = 5;
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 2000;
+
+    private static final LogLevel DEFAULT_LEVEL = LogLevel.parse(System.getProperty(PREFIX + "level"), LogLevel.INFO);
+    private static final Map<String, Logger> loggers = new ConcurrentHashMap<>();
+    private static final Map<String, LogLevel> levelOverrides = new ConcurrentHashMap<>();
+    private static volatile AsyncLogWriter writer;
+
+    static {
+        for (String key : System.getProperties().stringPropertyNames()) {
+            if (key.startsWith(PREFIX + "level.")) {
+                levelOverrides.put(key.substring((PREFIX + "level.").length()),
+                        LogLevel.parse(System.getProperty(key), DEFAULT_LEVEL));
+            }
+        }
+    }
+
+    private Log() {}
+
+    /**
+     * @param subsystem Dotted name such as "ui.student" or "db"
+     * @return The logger of the subsystem, shared by all callers
+     */
+    public static Logger get(String subsystem) {
+        return loggers.computeIfAbsent(subsystem, name -> new Logger(name, levelOf(name)));
+    }
+
+    /**
+     * Changes the level of a subsystem and its children at runtime.
+     */
+    public static void setLevel(String subsystem, LogLevel level) {
+        levelOverrides.put(subsystem, level);
+        for (Logger logger : loggers.values()) {
+            logger.setLevel(levelOf(logger.getName()));
+        }
+    }
+
+    /**
+     * Waits up to a second for the buffered records to be written, e.g. before a tool exits.
+     */
+    public static void flush() {
+        if (writer != null) {
+            writer.flush(1000);
+        }
+    }
+
+    /**
+     * @return Records lost because the buffer was full since startup
+     */
+    public static long getDroppedCount() {
+        return writer != null ? writer.getDroppedCount() : 0;
+    }
+
+    /**
+     * @return Directory of the log files, also used for other diagnostic output such as recordings
+     */
+    public static Path getDirectory() {
+        String dir = System.getProperty(PREFIX + "dir");
+        return dir != null && !"none".equalsIgnoreCase(dir) ? Paths.get(dir)
+                : Paths.get(System.getProperty("user.home"), "StudentNest", "logs");
+    }
+
+    // The most specific override wins: "ui.student", then "ui", then the default
+    private static LogLevel levelOf(String name) {
+        String candidate = name;
+        while (true) {
+            LogLevel level = levelOverrides.get(candidate);
+            if (level != null) {
+                return level;
+            }
+            int dot = candidate.lastIndexOf('.');
+            if (dot < 0) {
+                return DEFAULT_LEVEL;
+            }
+            candidate = candidate.substring(0, dot);
+        }
+    }
+
+    static AsyncLogWriter writer() {
+        AsyncLogWriter current = writer;
+        if (current == null) {
+            synchronized (Log.class) {
+                current = writer;
+                if (current == null) {
+                    current = createWriter();
+                    writer = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    private static AsyncLogWriter createWriter() {
+        List<LogAppender> appenders = new ArrayList<>();
+        appenders.add(new ConsoleAppender(LogLevel.parse(System.getProperty(PREFIX + "console"), LogLevel.INFO)));
+        if (!"none".equalsIgnoreCase(System.getProperty(PREFIX + "dir"))) {
+            appenders.add(new RollingFileAppender(getDirectory().resolve("studentnest.log"), MAX_FILE_BYTES, KEEP_FILES));
+        }
+        AsyncLogWriter created = new AsyncLogWriter(BUFFER_CAPACITY, appenders);
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> created.close(SHUTDOWN_TIMEOUT_MILLIS), "studentnest-log-shutdown"));
+        return created;
+    }
+}
@@ -0,0 +1,16 @@
+package com.studentnest.logging;
+
+import java.io.IOException;
+
+/**
+ * Destination of formatted log records. Only the log thread calls an appender: records of
+ * one batch are appended first and flushed together at the end of the batch.
+ */
+interface LogAppender {
+
+    void append(LogRecord record) throws IOException;
+
+    void flush() throws IOException;
+
+    void close();
+}
@@ -0,0 +1,26 @@
+package com.studentnest.logging;
+
+/**
+ * Severity of a log record, lowest first. A logger set to a level drops everything below it.
+ */
+public enum LogLevel {
+    DEBUG,
+    INFO,
+    WARN,
+    ERROR,
+    OFF;
+
+    /**
+     * @return The level with this name, ignoring case, or the fallback if it is not a level
+     */
+    public static LogLevel parse(String name, LogLevel fallback) {
+        if (name == null) {
+            return fallback;
+        }
+        try {
+            return valueOf(name.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return fallback;
+        }
+    }
+}
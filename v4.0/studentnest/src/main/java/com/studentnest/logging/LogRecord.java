@@ -0,0 +1,29 @@
+package com.studentnest.logging;
+
+/**
+ * One slot of the ring buffer. Slots are allocated once and reused, so logging a message
+ * costs no allocation beyond the arguments the caller passes.
+ */
+final class LogRecord {
+    long timestamp;
+    LogLevel level;
+    String logger;
+    String thread;
+    String pattern;
+    Object arg1;
+    Object arg2;
+    Object[] args;
+    int argCount;
+    Throwable thrown;
+
+    // Set by the writer thread before the record is handed to the appenders
+    String message;
+
+    void clear() {
+        pattern = null;
+        arg1 = arg2 = null;
+        args = null;
+        thrown = null;
+        message = null;
+    }
+}
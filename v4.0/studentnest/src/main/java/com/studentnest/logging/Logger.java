@@ -0,0 +1,112 @@
+package com.studentnest.logging;
+
+/**
+ * Logger of one subsystem, obtained from {@link Log#get(String)}.
+ * <p>
+ * Messages use {@code {}} placeholders, e.g. {@code log.info("Loaded {} rooms", rooms.size())}.
+ * A disabled level returns before doing any work, and an enabled one only copies the
+ * references into the ring buffer: the message is formatted and written on the log thread.
+ * Arguments must therefore not change after the call. If the last argument is a Throwable
+ * that no placeholder uses, its stack trace is logged with the message.
+ */
+public final class Logger {
+
+    private final String name;
+    private volatile LogLevel level;
+
+    Logger(String name, LogLevel level) {
+        this.name = name;
+        this.level = level;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public LogLevel getLevel() {
+        return level;
+    }
+
+    void setLevel(LogLevel level) {
+        this.level = level;
+    }
+
+    public boolean isEnabled(LogLevel candidate) {
+        return candidate.compareTo(level) >= 0 && candidate != LogLevel.OFF;
+    }
+
+    public boolean isDebugEnabled() {
+        return isEnabled(LogLevel.DEBUG);
+    }
+
+    public void debug(String message) {
+        log(LogLevel.DEBUG, message, 0, null, null, null);
+    }
+
+    public void debug(String pattern, Object arg) {
+        log(LogLevel.DEBUG, pattern, 1, arg, null, null);
+    }
+
+    public void debug(String pattern, Object arg1, Object arg2) {
+        log(LogLevel.DEBUG, pattern, 2, arg1, arg2, null);
+    }
+
+    public void debug(String pattern, Object... args) {
+        log(LogLevel.DEBUG, pattern, args.length, null, null, args);
+    }
+
+    public void info(String message) {
+        log(LogLevel.INFO, message, 0, null, null, null);
+    }
+
+    public void info(String pattern, Object arg) {
+        log(LogLevel.INFO, pattern, 1, arg, null, null);
+    }
+
+    public void info(String pattern, Object arg1, Object arg2) {
+        log(LogLevel.INFO, pattern, 2, arg1, arg2, null);
+    }
+
+    public void info(String pattern, Object... args) {
+        log(LogLevel.INFO, pattern, args.length, null, null, args);
+    }
+
+    public void warn(String message) {
+        log(LogLevel.WARN, message, 0, null, null, null);
+    }
+
+    public void warn(String pattern, Object arg) {
+        log(LogLevel.WARN, pattern, 1, arg, null, null);
+    }
+
+    public void warn(String pattern, Object arg1, Object arg2) {
+        log(LogLevel.WARN, pattern, 2, arg1, arg2, null);
+    }
+
+    public void warn(String pattern, Object... args) {
+        log(LogLevel.WARN, pattern, args.length, null, null, args);
+    }
+
+    public void error(String message) {
+        log(LogLevel.ERROR, message, 0, null, null, null);
+    }
+
+    public void error(String pattern, Object arg) {
+        log(LogLevel.ERROR, pattern, 1, arg, null, null);
+    }
+
+    public void error(String pattern, Object arg1, Object arg2) {
+        log(LogLevel.ERROR, pattern, 2, arg1, arg2, null);
+    }
+
+    public void error(String pattern, Object... args) {
+        log(LogLevel.ERROR, pattern, args.length, null, null, args);
+    }
+
+    private void log(LogLevel candidate, String pattern, int argCount, Object arg1, Object arg2, Object[] args) {
+        if (candidate.compareTo(level) < 0) {
+            return;
+        }
+        Log.writer().publish(candidate, name, pattern, argCount, arg1, arg2, args);
+    }
+}
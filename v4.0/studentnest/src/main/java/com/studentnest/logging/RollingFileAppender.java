@@ -0,0 +1,139 @@
+package com.studentnest.logging;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Appends records to a file as one logfmt line each, e.g.
+ * {@code ts=2025-03-01T10:15:30.123 level=INFO logger=ui.student thread="JavaFX Application Thread" msg="..."},
+ * so the log can be filtered by field. Stack traces go into an {@code error} field with the
+ * line breaks escaped. The file is rolled to {@code name.1 .. name.N} when it grows past the limit.
+ */
+final class RollingFileAppender implements LogAppender {
+
+    private static final DateTimeFormatter TIMESTAMP = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSS")
+            .withZone(ZoneId.systemDefault());
+
+    private final Path file;
+    private final long maxBytes;
+    private final int keep;
+    private final StringBuilder line = new StringBuilder(512);
+    private BufferedWriter writer;
+    private long size;
+    private boolean failed;
+
+    RollingFileAppender(Path file, long maxBytes, int keep) {
+        this.file = file;
+        this.maxBytes = maxBytes;
+        this.keep = keep;
+    }
+
+    @Override
+    public void append(LogRecord record) throws IOException {
+        if (failed) {
+            return;
+        }
+        line.setLength(0);
+        line.append("ts=");
+        TIMESTAMP.formatTo(Instant.ofEpochMilli(record.timestamp), line);
+        line.append(" level=").append(record.level);
+        line.append(" logger=").append(record.logger);
+        line.append(" thread=");
+        appendQuoted(line, record.thread);
+        line.append(" msg=");
+        appendQuoted(line, record.message);
+        if (record.thrown != null) {
+            StringWriter trace = new StringWriter();
+            record.thrown.printStackTrace(new PrintWriter(trace));
+            line.append(" error=");
+            appendQuoted(line, trace.toString().trim());
+        }
+        line.append('\n');
+
+        if (writer == null || size >= maxBytes) {
+            open();
+        }
+        if (writer != null) {
+            writer.append(line);
+            size += line.length();
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        if (writer != null) {
+            writer.flush();
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            if (writer != null) {
+                writer.close();
+            }
+        } catch (IOException e) {
+            System.err.println("Could not close log file: " + e.getMessage());
+        }
+        writer = null;
+    }
+
+    private void open() throws IOException {
+        try {
+            if (writer != null) {
+                writer.close();
+                writer = null;
+                roll();
+            }
+            Files.createDirectories(file.getParent());
+            writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            size = Files.size(file);
+        } catch (IOException e) {
+            // Keep the app running without a log file rather than failing every batch
+            failed = true;
+            System.err.println("Logging to " + file + " disabled: " + e.getMessage());
+        }
+    }
+
+    private void roll() throws IOException {
+        for (int i = keep - 1; i >= 1; i--) {
+            Path older = sibling(i);
+            if (Files.exists(older)) {
+                Files.move(older, sibling(i + 1), StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+        Files.move(file, sibling(1), StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private Path sibling(int index) {
+        return file.resolveSibling(file.getFileName() + "." + index);
+    }
+
+    private static void appendQuoted(StringBuilder out, String value) {
+        out.append('"');
+        if (value != null) {
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                switch (c) {
+                    case '"': out.append("\\\""); break;
+                    case '\\': out.append("\\\\"); break;
+                    case '\n': out.append("\\n"); break;
+                    case '\r': break;
+                    case '\t': out.append("\\t"); break;
+                    default: out.append(c);
+                }
+            }
+        }
+        out.append('"');
+    }
+}
@@ -0,0 +1,43 @@
+package com.studentnest.models;
+
+import java.util.List;
+
+/**
+ * Feedback reports that say nearly the same thing, e.g. many students reporting one outage.
+ */
+public class FeedbackCluster {
+    private final List<Integer> feedbackIds;
+    private final String sampleText;
+
+    /**
+     * @param feedbackIds The reports in the group, newest first
+     * @param sampleText Text of the newest report
+     */
+    public FeedbackCluster(List<Integer> feedbackIds, String sampleText) {
+        this.feedbackIds = feedbackIds;
+        this.sampleText = sampleText;
+    }
+
+    // Getters
+    public List<Integer> getFeedbackIds() {
+        return feedbackIds;
+    }
+
+    public String getSampleText() {
+        return sampleText;
+    }
+
+    public int getSize() {
+        return feedbackIds.size();
+    }
+
+    // Shown in the duplicates list of the admin dashboard
+    @Override
+    public String toString() {
+        String text = sampleText != null ? sampleText.replaceAll("\\s+", " ").trim() : "";
+        if (text.length() > 80) {
+            text = text.substring(0, 77) + "...";
+        }
+        return feedbackIds.size() + " × " + text;
+    }
+}
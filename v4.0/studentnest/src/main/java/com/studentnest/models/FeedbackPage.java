@@ -0,0 +1,54 @@
+package com.studentnest.models;
+
+import java.util.List;
+
+/**
+ * One page of feedback from a status and search filter, with the size of the whole result.
+ */
+public class FeedbackPage {
+    private final List<Feedback> items;
+    private final int total;
+    private final int offset;
+    private final int limit;
+
+    public FeedbackPage(List<Feedback> items, int total, int offset, int limit) {
+        this.items = items;
+        this.total = total;
+        this.offset = offset;
+        this.limit = limit;
+    }
+
+    // Getters
+    public List<Feedback> getItems() {
+        return items;
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    public int getOffset() {
+        return offset;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    // Utility methods
+    public boolean hasPrevious() {
+        return offset > 0;
+    }
+
+    public boolean hasNext() {
+        return offset + items.size() < total;
+    }
+
+    public int getPageNumber() {
+        return limit > 0 ? offset / limit + 1 : 1;
+    }
+
+    public int getPageCount() {
+        return limit > 0 ? Math.max(1, (total + limit - 1) / limit) : 1;
+    }
+}
@@ -0,0 +1,66 @@
+package com.studentnest.models;
+
+/**
+ * Immutable latitude/longitude pair in decimal degrees.
+ */
+public final class GeoPoint {
+
+    // Daffodil International University, Daffodil Smart City campus (Birulia, Savar)
+    public static final GeoPoint DIU_CAMPUS = new GeoPoint(23.8766, 90.3206);
+
+    private static final double EARTH_RADIUS_KM = 6371.0088;
+
+    private final double latitude;
+    private final double longitude;
+
+    public GeoPoint(double latitude, double longitude) {
+        if (!isValid(latitude, longitude)) {
+            throw new IllegalArgumentException("Invalid coordinates: " + latitude + ", " + longitude);
+        }
+        this.latitude = latitude;
+        this.longitude = longitude;
+    }
+
+    public static boolean isValid(double latitude, double longitude) {
+        return latitude >= -90 && latitude <= 90 && longitude >= -180 && longitude <= 180
+                && !(latitude == 0 && longitude == 0);
+    }
+
+    public double getLatitude() {
+        return latitude;
+    }
+
+    public double getLongitude() {
+        return longitude;
+    }
+
+    /**
+     * Great-circle (haversine) distance to another point in kilometres.
+     */
+    public double distanceKm(GeoPoint other) {
+        double dLat = Math.toRadians(other.latitude - latitude);
+        double dLon = Math.toRadians(other.longitude - longitude);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(latitude)) * Math.cos(Math.toRadians(other.latitude))
+                * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (!(obj instanceof GeoPoint)) return false;
+        GeoPoint other = (GeoPoint) obj;
+        return Double.compare(latitude, other.latitude) == 0 && Double.compare(longitude, other.longitude) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        return Double.hashCode(latitude) * 31 + Double.hashCode(longitude);
+    }
+
+    @Override
+    public String toString() {
+        return latitude + "," + longitude;
+    }
+}
@@ -18,16 +18,24 @@ public class Room {
 
     // Additional fields that might be useful
     private boolean isAvailable;
+    // Seat inventory: numberOfRooms is the total, availableSeats what is not held or reserved
     private int numberOfRooms;
+    private int availableSeats;
     private String amenities;
     private String address;
     private String mapLink;
     private String image1Path;
     private String image2Path;
+    private Double latitude;
+    private Double longitude;
+    // Row version, incremented by every update; an update only succeeds against the version it read
+    private int version;
 
     // Default constructor
     public Room() {
         this.isAvailable = true; // Default to available
+        this.numberOfRooms = 1;
+        this.availableSeats = 1;
         this.createdAt = new Timestamp(System.currentTimeMillis());
     }
 
@@ -51,6 +59,31 @@ public class Room {
         this.isAvailable = isAvailable;
     }
 
+    // Copy constructor
+    public Room(Room other) {
+        this.id = other.id;
+        this.location = other.location;
+        this.price = other.price;
+        this.description = other.description;
+        this.ownerId = other.ownerId;
+        this.ownerName = other.ownerName;
+        this.roomType = other.roomType;
+        this.contactInfo = other.contactInfo;
+        this.createdAt = other.createdAt;
+        this.updatedAt = other.updatedAt;
+        this.isAvailable = other.isAvailable;
+        this.numberOfRooms = other.numberOfRooms;
+        this.availableSeats = other.availableSeats;
+        this.amenities = other.amenities;
+        this.address = other.address;
+        this.mapLink = other.mapLink;
+        this.image1Path = other.image1Path;
+        this.image2Path = other.image2Path;
+        this.latitude = other.latitude;
+        this.longitude = other.longitude;
+        this.version = other.version;
+    }
+
     // Getters
     public int getId() {
         return id;
@@ -105,6 +138,10 @@ public class Room {
         return numberOfRooms;
     }
 
+    public int getAvailableSeats() {
+        return availableSeats;
+    }
+
     public String getAmenities() {
         return amenities;
     }
@@ -125,6 +162,18 @@ public class Room {
         return image2Path;
     }
 
+    public Double getLatitude() {
+        return latitude;
+    }
+
+    public Double getLongitude() {
+        return longitude;
+    }
+
+    public int getVersion() {
+        return version;
+    }
+
     public List<String> getImages() {
         List<String> images = new ArrayList<>();
         if (image1Path != null) {
@@ -190,6 +239,12 @@ public class Room {
         this.numberOfRooms = numberOfRooms;
     }
 
+    // Availability follows the free seats
+    public void setAvailableSeats(int availableSeats) {
+        this.availableSeats = availableSeats;
+        this.isAvailable = availableSeats > 0;
+    }
+
     public void setAmenities(String amenities) {
         this.amenities = amenities;
     }
@@ -210,6 +265,23 @@ public class Room {
         this.image2Path = image2Path;
     }
 
+    public void setLatitude(Double latitude) {
+        this.latitude = latitude;
+    }
+
+    public void setLongitude(Double longitude) {
+        this.longitude = longitude;
+    }
+
+    public void setVersion(int version) {
+        this.version = version;
+    }
+
+    public void setCoordinates(GeoPoint point) {
+        this.latitude = point != null ? point.getLatitude() : null;
+        this.longitude = point != null ? point.getLongitude() : null;
+    }
+
     public void setImages(List<String> imagePaths) {
         if (imagePaths != null && imagePaths.size() > 0) {
             this.image1Path = imagePaths.get(0);
@@ -275,10 +347,22 @@ public class Room {
         return price > 0;
     }
 
+    public boolean isFullyBooked() {
+        return availableSeats <= 0;
+    }
+
     public boolean hasValidLocation() {
         return location != null && !location.trim().isEmpty();
     }
 
+    public boolean hasCoordinates() {
+        return latitude != null && longitude != null && GeoPoint.isValid(latitude, longitude);
+    }
+
+    public GeoPoint getCoordinates() {
+        return hasCoordinates() ? new GeoPoint(latitude, longitude) : null;
+    }
+
     public boolean isValidRoom() {
         return hasValidLocation() && hasValidPrice() && hasOwner();
     }
@@ -0,0 +1,120 @@
+package com.studentnest.models;
+
+import java.sql.Timestamp;
+
+/**
+ * A student's named set of dashboard filters. The values are the ones the filter
+ * controls show, e.g. "Khagan", "5000-10000" and "Within 2 km"; null means no filter.
+ */
+public class SavedSearch {
+    private int id;
+    private int userId;
+    private String name;
+    private String location;
+    private String priceRange;
+    private String distance;
+    private String searchText;
+    private Timestamp createdAt;
+
+    // Default constructor
+    public SavedSearch() {
+        this.createdAt = new Timestamp(System.currentTimeMillis());
+    }
+
+    // Parameterized constructor
+    public SavedSearch(int id, int userId, String name, String location, String priceRange,
+                       String distance, String searchText) {
+        this();
+        this.id = id;
+        this.userId = userId;
+        this.name = name;
+        this.location = location;
+        this.priceRange = priceRange;
+        this.distance = distance;
+        this.searchText = searchText;
+    }
+
+    // Getters
+    public int getId() {
+        return id;
+    }
+
+    public int getUserId() {
+        return userId;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getLocation() {
+        return location;
+    }
+
+    public String getPriceRange() {
+        return priceRange;
+    }
+
+    public String getDistance() {
+        return distance;
+    }
+
+    public String getSearchText() {
+        return searchText;
+    }
+
+    public Timestamp getCreatedAt() {
+        return createdAt;
+    }
+
+    // Setters
+    public void setId(int id) {
+        this.id = id;
+    }
+
+    public void setUserId(int userId) {
+        this.userId = userId;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public void setLocation(String location) {
+        this.location = location;
+    }
+
+    public void setPriceRange(String priceRange) {
+        this.priceRange = priceRange;
+    }
+
+    public void setDistance(String distance) {
+        this.distance = distance;
+    }
+
+    public void setSearchText(String searchText) {
+        this.searchText = searchText;
+    }
+
+    public void setCreatedAt(Timestamp createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    // Shown in the saved searches combo box
+    @Override
+    public String toString() {
+        return name;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        return id == ((SavedSearch) obj).id;
+    }
+
+    @Override
+    public int hashCode() {
+        return Integer.hashCode(id);
+    }
+}
@@ -0,0 +1,105 @@
+package com.studentnest.models;
+
+import java.sql.Timestamp;
+
+/**
+ * A room that started matching one of a student's saved searches.
+ */
+public class SearchNotification {
+    private int id;
+    private int savedSearchId;
+    private String searchName;
+    private int roomId;
+    private String roomLocation;
+    private double roomPrice;
+    private Timestamp createdAt;
+
+    // Default constructor
+    public SearchNotification() {
+    }
+
+    // Parameterized constructor
+    public SearchNotification(int id, int savedSearchId, String searchName, int roomId,
+                              String roomLocation, double roomPrice, Timestamp createdAt) {
+        this.id = id;
+        this.savedSearchId = savedSearchId;
+        this.searchName = searchName;
+        this.roomId = roomId;
+        this.roomLocation = roomLocation;
+        this.roomPrice = roomPrice;
+        this.createdAt = createdAt;
+    }
+
+    // Getters
+    public int getId() {
+        return id;
+    }
+
+    public int getSavedSearchId() {
+        return savedSearchId;
+    }
+
+    public String getSearchName() {
+        return searchName;
+    }
+
+    public int getRoomId() {
+        return roomId;
+    }
+
+    public String getRoomLocation() {
+        return roomLocation;
+    }
+
+    public double getRoomPrice() {
+        return roomPrice;
+    }
+
+    public Timestamp getCreatedAt() {
+        return createdAt;
+    }
+
+    // Setters
+    public void setId(int id) {
+        this.id = id;
+    }
+
+    public void setSavedSearchId(int savedSearchId) {
+        this.savedSearchId = savedSearchId;
+    }
+
+    public void setSearchName(String searchName) {
+        this.searchName = searchName;
+    }
+
+    public void setRoomId(int roomId) {
+        this.roomId = roomId;
+    }
+
+    public void setRoomLocation(String roomLocation) {
+        this.roomLocation = roomLocation;
+    }
+
+    public void setRoomPrice(double roomPrice) {
+        this.roomPrice = roomPrice;
+    }
+
+    public void setCreatedAt(Timestamp createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    // Utility methods
+    public String getMessage() {
+        return "Room in " + roomLocation + " for ৳" + String.format("%.0f", roomPrice) + " matches \"" + searchName + "\"";
+    }
+
+    @Override
+    public String toString() {
+        return "SearchNotification{" +
+                "id=" + id +
+                ", savedSearchId=" + savedSearchId +
+                ", roomId=" + roomId +
+                ", createdAt=" + createdAt +
+                '}';
+    }
+}
@@ -0,0 +1,115 @@
+package com.studentnest.models;
+
+import java.sql.Timestamp;
+
+/**
+ * A student's claim on one seat of a room. A hold keeps the seat until it is confirmed
+ * or its expiry passes; released holds have given their seat back to the room.
+ */
+public class SeatHold {
+    public static final String HELD = "HELD";
+    public static final String CONFIRMED = "CONFIRMED";
+    public static final String RELEASED = "RELEASED";
+
+    private int id;
+    private int roomId;
+    private int studentId;
+    private String status;
+    private Timestamp expiresAt;
+    private Timestamp createdAt;
+
+    // Default constructor
+    public SeatHold() {
+        this.status = HELD;
+    }
+
+    // Parameterized constructor
+    public SeatHold(int id, int roomId, int studentId, String status, Timestamp expiresAt) {
+        this.id = id;
+        this.roomId = roomId;
+        this.studentId = studentId;
+        this.status = status != null ? status : HELD;
+        this.expiresAt = expiresAt;
+    }
+
+    // Getters
+    public int getId() {
+        return id;
+    }
+
+    public int getRoomId() {
+        return roomId;
+    }
+
+    public int getStudentId() {
+        return studentId;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public Timestamp getExpiresAt() {
+        return expiresAt;
+    }
+
+    public Timestamp getCreatedAt() {
+        return createdAt;
+    }
+
+    // Setters
+    public void setId(int id) {
+        this.id = id;
+    }
+
+    public void setRoomId(int roomId) {
+        this.roomId = roomId;
+    }
+
+    public void setStudentId(int studentId) {
+        this.studentId = studentId;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public void setExpiresAt(Timestamp expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+
+    public void setCreatedAt(Timestamp createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    // Utility methods
+    public boolean isHeld() {
+        return HELD.equals(status);
+    }
+
+    public boolean isConfirmed() {
+        return CONFIRMED.equals(status);
+    }
+
+    /**
+     * @return Whole minutes left before an unconfirmed hold lapses, 0 once it has
+     */
+    public long getMinutesLeft() {
+        if (expiresAt == null) {
+            return 0;
+        }
+        long millis = expiresAt.getTime() - System.currentTimeMillis();
+        return millis > 0 ? (millis + 59_999) / 60_000 : 0;
+    }
+
+    @Override
+    public String toString() {
+        return "SeatHold{" +
+                "id=" + id +
+                ", roomId=" + roomId +
+                ", studentId=" + studentId +
+                ", status='" + status + '\'' +
+                ", expiresAt=" + expiresAt +
+                '}';
+    }
+}
@@ -0,0 +1,71 @@
+package com.studentnest.models;
+
+import java.time.LocalDate;
+
+/**
+ * One pre-aggregated statistic: how many users signed up, rooms were listed or feedback
+ * reports came in on a day or in a month, split by user type or location.
+ */
+public class StatsBucket {
+    public static final String DAY = "day";
+    public static final String MONTH = "month";
+
+    public static final String SIGNUPS = "signups";
+    public static final String ROOMS = "rooms";
+    public static final String FEEDBACK = "feedback";
+
+    private final String period;
+    private final LocalDate bucket;
+    private final String metric;
+    private final String dimension;
+    private final int count;
+    private final double priceSum;
+
+    public StatsBucket(String period, LocalDate bucket, String metric, String dimension, int count, double priceSum) {
+        this.period = period;
+        this.bucket = bucket;
+        this.metric = metric;
+        this.dimension = dimension;
+        this.count = count;
+        this.priceSum = priceSum;
+    }
+
+    // Getters
+    public String getPeriod() {
+        return period;
+    }
+
+    /**
+     * @return The day, or the first day of the month
+     */
+    public LocalDate getBucket() {
+        return bucket;
+    }
+
+    public String getMetric() {
+        return metric;
+    }
+
+    /**
+     * @return User type for signups, location for rooms, empty for feedback
+     */
+    public String getDimension() {
+        return dimension;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * @return Sum of the prices of the rooms in the bucket, 0 for other metrics
+     */
+    public double getPriceSum() {
+        return priceSum;
+    }
+
+    // Utility methods
+    public double getAveragePrice() {
+        return count > 0 ? priceSum / count : 0;
+    }
+}
@@ -0,0 +1,14 @@
+package com.studentnest.services;
+
+import com.studentnest.models.User;
+
+/**
+ * Login check for the three account types.
+ */
+public interface AuthService {
+
+    /**
+     * @return The matching user (id, name, username and type), or null if the credentials are wrong
+     */
+    User authenticate(String username, String password, String userType) throws ServiceException;
+}
@@ -0,0 +1,13 @@
+package com.studentnest.services;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Source of JDBC connections for the JDBC-backed services. Callers close the
+ * connection when they are done with it.
+ */
+@FunctionalInterface
+public interface ConnectionProvider {
+    Connection getConnection() throws SQLException;
+}
@@ -0,0 +1,269 @@
+package com.studentnest.services;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Writes the rows of an export one at a time, so tables of any size are exported without
+ * holding them in memory. Cells are strings, numbers or null. Two formats are written:
+ * <ul>
+ *   <li>CSV (RFC 4180) in UTF-8 with a byte order mark, so spreadsheets read Bangla text right</li>
+ *   <li>XLSX: the sheet XML is written straight into the zip, one row at a time</li>
+ * </ul>
+ */
+abstract class ExportWriter implements Closeable {
+
+    /**
+     * Creates the writer for the format; the file is created or truncated.
+     * @param sheetName Name of the worksheet, ignored for CSV
+     */
+    static ExportWriter open(Path file, TableExporter.Format format, String sheetName) throws IOException {
+        OutputStream out = new BufferedOutputStream(Files.newOutputStream(file), 64 * 1024);
+        return format == TableExporter.Format.XLSX ? new XlsxWriter(out, sheetName) : new CsvWriter(out);
+    }
+
+    abstract void header(List<String> columns) throws IOException;
+
+    /**
+     * @param values Cells of the row; the array may be reused for the next row
+     */
+    abstract void row(Object[] values) throws IOException;
+
+    static final class CsvWriter extends ExportWriter {
+        private final Writer out;
+
+        CsvWriter(OutputStream stream) throws IOException {
+            this.out = new BufferedWriter(new OutputStreamWriter(stream, StandardCharsets.UTF_8));
+            out.write('\uFEFF');
+        }
+
+        @Override
+        void header(List<String> columns) throws IOException {
+            row(columns.toArray());
+        }
+
+        @Override
+        void row(Object[] values) throws IOException {
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    out.write(',');
+                }
+                Object value = values[i];
+                if (value instanceof Number) {
+                    out.write(number((Number) value));
+                } else if (value != null) {
+                    text(value.toString());
+                }
+            }
+            out.write("\r\n");
+        }
+
+        private void text(String value) throws IOException {
+            // Text a spreadsheet would run as a formula (user input such as "=HYPERLINK(...)") is kept as text
+            boolean formula = !value.isEmpty() && "=+-@\t\r".indexOf(value.charAt(0)) >= 0;
+            boolean quote = formula || value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                    || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+            if (!quote) {
+                out.write(value);
+                return;
+            }
+            out.write('"');
+            if (formula) {
+                out.write('\'');
+            }
+            out.write(value.replace("\"", "\"\""));
+            out.write('"');
+        }
+
+        @Override
+        public void close() throws IOException {
+            out.close();
+        }
+    }
+
+    /**
+     * A minimal workbook: the sheet XML uses inline strings, so there is no shared string
+     * table to collect in memory. The parts describing the workbook are written at the end,
+     * once the number of sheets is known; a sheet that reaches the Excel row limit is continued
+     * on the next one.
+     */
+    static final class XlsxWriter extends ExportWriter {
+        // Rows of one worksheet in Excel, the header included
+        static final int MAX_ROWS = 1_048_576;
+        private static final int MAX_CELL_LENGTH = 32_767;
+
+        private final ZipOutputStream zip;
+        private final Writer out;
+        private final String sheetName;
+        private List<String> columns;
+        private int sheets;
+        private int rowsInSheet;
+
+        XlsxWriter(OutputStream stream, String sheetName) {
+            this.zip = new ZipOutputStream(stream, StandardCharsets.UTF_8);
+            this.out = new BufferedWriter(new OutputStreamWriter(zip, StandardCharsets.UTF_8));
+            // Sheet names are limited to 31 characters and a few are not allowed
+            String name = sheetName.replaceAll("[\\[\\]:*?/\\\\]", " ");
+            this.sheetName = name.length() > 28 ? name.substring(0, 28) : name;
+        }
+
+        @Override
+        void header(List<String> columns) throws IOException {
+            this.columns = columns;
+            startSheet();
+        }
+
+        @Override
+        void row(Object[] values) throws IOException {
+            if (rowsInSheet == MAX_ROWS) {
+                endSheet();
+                startSheet();
+            }
+            out.write("<row>");
+            for (Object value : values) {
+                String number = value instanceof Number ? number((Number) value) : null;
+                if (number != null && !number.isEmpty()) {
+                    out.write("<c><v>");
+                    out.write(number);
+                    out.write("</v></c>");
+                } else if (value != null && number == null) {
+                    inlineString(value.toString());
+                } else {
+                    out.write("<c/>");
+                }
+            }
+            out.write("</row>\n");
+            rowsInSheet++;
+        }
+
+        private void startSheet() throws IOException {
+            sheets++;
+            zip.putNextEntry(new ZipEntry("xl/worksheets/sheet" + sheets + ".xml"));
+            out.write("<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>\n"
+                    + "<worksheet xmlns=\"http://schemas.openxmlformats.org/spreadsheetml/2006/main\">"
+                    + "<sheetViews><sheetView workbookViewId=\"0\"><pane ySplit=\"1\" topLeftCell=\"A2\" state=\"frozen\"/>"
+                    + "</sheetView></sheetViews><sheetData>\n");
+            rowsInSheet = 0;
+            out.write("<row>");
+            for (String column : columns) {
+                inlineString(column);
+            }
+            out.write("</row>\n");
+            rowsInSheet++;
+        }
+
+        private void endSheet() throws IOException {
+            out.write("</sheetData></worksheet>");
+            out.flush();
+            zip.closeEntry();
+        }
+
+        private void inlineString(String value) throws IOException {
+            if (value.length() > MAX_CELL_LENGTH) {
+                value = value.substring(0, MAX_CELL_LENGTH);
+            }
+            out.write("<c t=\"inlineStr\"><is><t xml:space=\"preserve\">");
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c == '<') {
+                    out.write("&lt;");
+                } else if (c == '>') {
+                    out.write("&gt;");
+                } else if (c == '&') {
+                    out.write("&amp;");
+                } else if (c == '"') {
+                    out.write("&quot;");
+                } else if (c < 0x20 && c != '\t' && c != '\n' && c != '\r' || c == '\uFFFE' || c == '\uFFFF') {
+                    // Not allowed in XML at all, not even escaped
+                    out.write(' ');
+                } else if (Character.isSurrogate(c) && !validPair(value, i)) {
+                    out.write('\uFFFD');
+                } else {
+                    out.write(c);
+                }
+            }
+            out.write("</t></is></c>");
+        }
+
+        private static boolean validPair(String value, int i) {
+            char c = value.charAt(i);
+            if (Character.isHighSurrogate(c)) {
+                return i + 1 < value.length() && Character.isLowSurrogate(value.charAt(i + 1));
+            }
+            return i > 0 && Character.isHighSurrogate(value.charAt(i - 1));
+        }
+
+        private void part(String name, String xml) throws IOException {
+            zip.putNextEntry(new ZipEntry(name));
+            out.write("<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>\n");
+            out.write(xml);
+            out.flush();
+            zip.closeEntry();
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                if (sheets == 0) {
+                    header(List.of());
+                }
+                endSheet();
+
+                StringBuilder types = new StringBuilder("<Types xmlns=\"http://schemas.openxmlformats.org/package/2006/content-types\">"
+                        + "<Default Extension=\"rels\" ContentType=\"application/vnd.openxmlformats-package.relationships+xml\"/>"
+                        + "<Default Extension=\"xml\" ContentType=\"application/xml\"/>"
+                        + "<Override PartName=\"/xl/workbook.xml\" "
+                        + "ContentType=\"application/vnd.openxmlformats-officedocument.spreadsheetml.sheet.main+xml\"/>");
+                StringBuilder workbook = new StringBuilder("<workbook xmlns=\"http://schemas.openxmlformats.org/spreadsheetml/2006/main\" "
+                        + "xmlns:r=\"http://schemas.openxmlformats.org/officeDocument/2006/relationships\"><sheets>");
+                StringBuilder rels = new StringBuilder("<Relationships xmlns=\"http://schemas.openxmlformats.org/package/2006/relationships\">");
+                for (int i = 1; i <= sheets; i++) {
+                    types.append("<Override PartName=\"/xl/worksheets/sheet").append(i).append(".xml\" ")
+                            .append("ContentType=\"application/vnd.openxmlformats-officedocument.spreadsheetml.worksheet+xml\"/>");
+                    String name = sheets == 1 ? sheetName : sheetName + " " + i;
+                    workbook.append("<sheet name=\"").append(name.replace("&", "&amp;").replace("\"", "&quot;").replace("<", "&lt;"))
+                            .append("\" sheetId=\"").append(i).append("\" r:id=\"rId").append(i).append("\"/>");
+                    rels.append("<Relationship Id=\"rId").append(i).append("\" ")
+                            .append("Type=\"http://schemas.openxmlformats.org/officeDocument/2006/relationships/worksheet\" ")
+                            .append("Target=\"worksheets/sheet").append(i).append(".xml\"/>");
+                }
+                part("[Content_Types].xml", types.append("</Types>").toString());
+                part("_rels/.rels", "<Relationships xmlns=\"http://schemas.openxmlformats.org/package/2006/relationships\">"
+                        + "<Relationship Id=\"rId1\" "
+                        + "Type=\"http://schemas.openxmlformats.org/officeDocument/2006/relationships/officeDocument\" "
+                        + "Target=\"xl/workbook.xml\"/></Relationships>");
+                part("xl/workbook.xml", workbook.append("</sheets></workbook>").toString());
+                part("xl/_rels/workbook.xml.rels", rels.append("</Relationships>").toString());
+            } finally {
+                out.close();
+            }
+        }
+    }
+
+    // Plain digits, never the exponent form BigDecimal and double may print
+    static String number(Number value) {
+        if (value instanceof BigDecimal) {
+            return ((BigDecimal) value).toPlainString();
+        }
+        if (value instanceof Double || value instanceof Float) {
+            double d = value.doubleValue();
+            if (Double.isNaN(d) || Double.isInfinite(d)) {
+                return "";
+            }
+            return d == Math.rint(d) && Math.abs(d) < 1e15 ? String.valueOf((long) d) : BigDecimal.valueOf(d).toPlainString();
+        }
+        return value.toString();
+    }
+}
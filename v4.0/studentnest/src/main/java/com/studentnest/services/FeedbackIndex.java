@@ -0,0 +1,441 @@
+package com.studentnest.services;
+
+import com.studentnest.cache.InvalidationEvent;
+import com.studentnest.models.FeedbackCluster;
+import com.studentnest.utils.MinHash;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory analysis of the feedback table: an inverted word index for searching, and
+ * MinHash band buckets for grouping reports that say nearly the same thing.
+ * <p>
+ * The index follows the table lazily. Change notifications only record which reports
+ * changed; the next search or grouping reads all of them back in a few batched queries,
+ * so a burst of thousands of new reports costs one catch-up instead of one query each.
+ * New rows are also picked up by id, in case a notification got lost on the way.
+ */
+public class FeedbackIndex {
+
+    private static final int FETCH_BATCH_SIZE = 500;
+    // Share of equal MinHash values above which two reports count as the same
+    private static final double DUPLICATE_SIMILARITY = 0.6;
+
+    private final ConnectionProvider connections;
+    private final Map<Integer, Doc> docs = new HashMap<>();
+    private final TreeMap<String, Postings> postings = new TreeMap<>();
+    private final Map<Long, Set<Integer>> buckets = new HashMap<>();
+    private int maxId;
+    private boolean loaded;
+
+    // Written by notification threads, drained by sync() under the index lock
+    private final Set<Integer> pending = ConcurrentHashMap.newKeySet();
+    private volatile boolean resync;
+
+    public FeedbackIndex(ConnectionProvider connections) {
+        this.connections = connections;
+    }
+
+    /**
+     * Records a change to the feedback table, applied on the next read.
+     */
+    public void changed(InvalidationEvent event) {
+        if (event.isAll()) {
+            resync = true;
+            return;
+        }
+        try {
+            for (String key : event.getKeys()) {
+                pending.add(Integer.parseInt(key));
+            }
+        } catch (NumberFormatException e) {
+            resync = true;
+        }
+    }
+
+    /**
+     * Ids of the reports containing every word of the query, newest first. The last word
+     * also matches as a prefix, so results can follow the admin's typing.
+     * @param status Only reports with this status, or null for all
+     */
+    public synchronized List<Integer> search(String status, String query) throws SQLException {
+        sync();
+        List<String> words = new ArrayList<>(tokens(query));
+        if (words.isEmpty()) {
+            return List.of();
+        }
+
+        List<int[]> lists = new ArrayList<>();
+        for (int i = 0; i < words.size(); i++) {
+            int[] ids = i == words.size() - 1 ? prefixIds(words.get(i)) : exactIds(words.get(i));
+            if (ids.length == 0) {
+                return List.of();
+            }
+            lists.add(ids);
+        }
+        lists.sort(Comparator.comparingInt(ids -> ids.length));
+
+        List<Doc> found = new ArrayList<>();
+        for (int id : lists.get(0)) {
+            boolean inAll = true;
+            for (int i = 1; i < lists.size() && inAll; i++) {
+                inAll = Arrays.binarySearch(lists.get(i), id) >= 0;
+            }
+            Doc doc = docs.get(id);
+            if (inAll && doc != null && (status == null || status.equals(doc.status))) {
+                found.add(doc);
+            }
+        }
+        found.sort(NEWEST_FIRST);
+        List<Integer> ids = new ArrayList<>(found.size());
+        for (Doc doc : found) {
+            ids.add(doc.id);
+        }
+        return ids;
+    }
+
+    /**
+     * Groups of near-duplicate reports, largest first; reports without a duplicate are left out.
+     * @param status Only reports with this status, or null for all
+     */
+    public synchronized List<FeedbackCluster> duplicates(String status) throws SQLException {
+        sync();
+        Map<Integer, Integer> parent = new HashMap<>();
+        for (Set<Integer> bucket : buckets.values()) {
+            if (bucket.size() < 2) {
+                continue;
+            }
+            // Compare each report with one report of every group already seen in this bucket
+            List<Doc> anchors = new ArrayList<>();
+            for (int id : bucket) {
+                Doc doc = docs.get(id);
+                if (doc == null || (status != null && !status.equals(doc.status))) {
+                    continue;
+                }
+                boolean joined = false;
+                for (Doc anchor : anchors) {
+                    if (MinHash.similarity(doc.signature, anchor.signature) >= DUPLICATE_SIMILARITY) {
+                        union(parent, doc.id, anchor.id);
+                        joined = true;
+                        break;
+                    }
+                }
+                if (!joined) {
+                    anchors.add(doc);
+                }
+            }
+        }
+
+        Map<Integer, List<Doc>> groups = new HashMap<>();
+        for (int id : parent.keySet()) {
+            groups.computeIfAbsent(find(parent, id), k -> new ArrayList<>()).add(docs.get(id));
+        }
+        List<FeedbackCluster> clusters = new ArrayList<>();
+        for (List<Doc> group : groups.values()) {
+            if (group.size() < 2) {
+                continue;
+            }
+            group.sort(NEWEST_FIRST);
+            List<Integer> ids = new ArrayList<>(group.size());
+            for (Doc doc : group) {
+                ids.add(doc.id);
+            }
+            clusters.add(new FeedbackCluster(ids, group.get(0).text));
+        }
+        clusters.sort(Comparator.comparingInt(FeedbackCluster::getSize).reversed()
+                .thenComparing(c -> -c.getFeedbackIds().get(0)));
+        return clusters;
+    }
+
+    public synchronized int size() {
+        return docs.size();
+    }
+
+    /**
+     * Brings the index up to date with the table.
+     */
+    public synchronized void sync() throws SQLException {
+        try (Connection conn = connections.getConnection()) {
+            if (!loaded) {
+                pending.clear();
+                resync = false;
+                load(conn, "SELECT id, feedback_text, status, created_at FROM feedback_and_issues", null);
+                loaded = true;
+                return;
+            }
+            if (resync) {
+                resync = false;
+                pending.clear();
+                reconcile(conn);
+            }
+            if (!pending.isEmpty()) {
+                List<Integer> changed = new ArrayList<>();
+                for (Iterator<Integer> it = pending.iterator(); it.hasNext(); ) {
+                    changed.add(it.next());
+                    it.remove();
+                }
+                reload(conn, changed);
+            }
+            load(conn, "SELECT id, feedback_text, status, created_at FROM feedback_and_issues WHERE id > " + maxId, null);
+        }
+    }
+
+    // After a bulk change: statuses of all rows, dropping deleted rows and reading missing ones
+    private void reconcile(Connection conn) throws SQLException {
+        Set<Integer> seen = new HashSet<>();
+        List<Integer> missing = new ArrayList<>();
+        try (Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT id, status FROM feedback_and_issues")) {
+            while (rs.next()) {
+                int id = rs.getInt(1);
+                seen.add(id);
+                Doc doc = docs.get(id);
+                if (doc != null) {
+                    doc.status = status(rs.getString(2));
+                } else {
+                    missing.add(id);
+                }
+            }
+        }
+        for (Integer id : new ArrayList<>(docs.keySet())) {
+            if (!seen.contains(id)) {
+                remove(id);
+            }
+        }
+        reload(conn, missing);
+    }
+
+    // Reads the given rows back; rows that are gone leave the index
+    private void reload(Connection conn, List<Integer> ids) throws SQLException {
+        for (int from = 0; from < ids.size(); from += FETCH_BATCH_SIZE) {
+            List<Integer> batch = ids.subList(from, Math.min(ids.size(), from + FETCH_BATCH_SIZE));
+            Set<Integer> found = new HashSet<>();
+            load(conn, "SELECT id, feedback_text, status, created_at FROM feedback_and_issues WHERE id IN ("
+                    + placeholders(batch.size()) + ")", batch, found);
+            for (Integer id : batch) {
+                if (!found.contains(id)) {
+                    remove(id);
+                }
+            }
+        }
+    }
+
+    private void load(Connection conn, String sql, List<Integer> ids) throws SQLException {
+        load(conn, sql, ids, null);
+    }
+
+    private void load(Connection conn, String sql, List<Integer> ids, Set<Integer> found) throws SQLException {
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+            if (ids != null) {
+                for (int i = 0; i < ids.size(); i++) {
+                    stmt.setInt(i + 1, ids.get(i));
+                }
+            }
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    Timestamp createdAt = rs.getTimestamp("created_at");
+                    put(rs.getInt("id"), rs.getString("feedback_text"), status(rs.getString("status")),
+                            createdAt != null ? createdAt.getTime() : 0);
+                    if (found != null) {
+                        found.add(rs.getInt("id"));
+                    }
+                }
+            }
+        }
+    }
+
+    private void put(int id, String text, String status, long createdAt) {
+        Doc existing = docs.get(id);
+        if (existing != null && existing.text.equals(text)) {
+            // Feedback text never changes, only its status
+            existing.status = status;
+            return;
+        }
+        remove(id);
+        Doc doc = new Doc(id, text, status, createdAt);
+        docs.put(id, doc);
+        maxId = Math.max(maxId, id);
+        for (String word : doc.words) {
+            postings.computeIfAbsent(word, k -> new Postings()).add(id);
+        }
+        for (int band = 0; band < MinHash.BANDS; band++) {
+            buckets.computeIfAbsent(MinHash.bandKey(doc.signature, band), k -> new LinkedHashSet<>()).add(id);
+        }
+    }
+
+    private void remove(int id) {
+        Doc doc = docs.remove(id);
+        if (doc == null) {
+            return;
+        }
+        for (String word : doc.words) {
+            Postings list = postings.get(word);
+            if (list != null && list.remove(id) && list.size == 0) {
+                postings.remove(word);
+            }
+        }
+        for (int band = 0; band < MinHash.BANDS; band++) {
+            long key = MinHash.bandKey(doc.signature, band);
+            Set<Integer> bucket = buckets.get(key);
+            if (bucket != null && bucket.remove(id) && bucket.isEmpty()) {
+                buckets.remove(key);
+            }
+        }
+    }
+
+    private int[] exactIds(String word) {
+        Postings list = postings.get(word);
+        return list != null ? Arrays.copyOf(list.ids, list.size) : new int[0];
+    }
+
+    private int[] prefixIds(String prefix) {
+        Map<String, Postings> matching = postings.subMap(prefix, true, prefix + Character.MAX_VALUE, false);
+        if (matching.size() == 1) {
+            return exactIds(matching.keySet().iterator().next());
+        }
+        Set<Integer> ids = new HashSet<>();
+        for (Postings list : matching.values()) {
+            for (int i = 0; i < list.size; i++) {
+                ids.add(list.ids[i]);
+            }
+        }
+        int[] sorted = new int[ids.size()];
+        int i = 0;
+        for (int id : ids) {
+            sorted[i++] = id;
+        }
+        Arrays.sort(sorted);
+        return sorted;
+    }
+
+    /**
+     * Words of a text as the index stores them: lower case, letters (with Bangla vowel signs)
+     * and digits only, at least two characters long.
+     */
+    static Set<String> tokens(String text) {
+        Set<String> words = new LinkedHashSet<>();
+        if (text == null) {
+            return words;
+        }
+        for (String word : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{M}\\p{N}]+")) {
+            if (word.length() >= 2) {
+                words.add(word);
+            }
+        }
+        return words;
+    }
+
+    static String placeholders(int count) {
+        StringBuilder sb = new StringBuilder(count * 3);
+        for (int i = 0; i < count; i++) {
+            sb.append(i == 0 ? "?" : ", ?");
+        }
+        return sb.toString();
+    }
+
+    private static String status(String status) {
+        return status != null ? status : "Pending";
+    }
+
+    private static int find(Map<Integer, Integer> parent, int id) {
+        int root = id;
+        Integer next;
+        while ((next = parent.get(root)) != null && next != root) {
+            root = next;
+        }
+        // Path compression keeps later lookups short
+        while ((next = parent.get(id)) != null && next != root) {
+            parent.put(id, root);
+            id = next;
+        }
+        return root;
+    }
+
+    private static void union(Map<Integer, Integer> parent, int a, int b) {
+        parent.putIfAbsent(a, a);
+        parent.putIfAbsent(b, b);
+        int rootA = find(parent, a);
+        int rootB = find(parent, b);
+        if (rootA != rootB) {
+            parent.put(rootA, rootB);
+        }
+    }
+
+    private static final Comparator<Doc> NEWEST_FIRST =
+            Comparator.comparingLong((Doc doc) -> doc.createdAt).thenComparingInt(doc -> doc.id).reversed();
+
+    private static final class Doc {
+        final int id;
+        final String text;
+        final long createdAt;
+        final Set<String> words;
+        final int[] signature;
+        String status;
+
+        Doc(int id, String text, String status, long createdAt) {
+            this.id = id;
+            this.text = text != null ? text : "";
+            this.status = status;
+            this.createdAt = createdAt;
+            this.words = tokens(this.text);
+            this.signature = MinHash.signature(this.text);
+        }
+    }
+
+    /**
+     * Sorted ids of the reports containing one word; new reports mostly append at the end.
+     */
+    private static final class Postings {
+        int[] ids = new int[4];
+        int size;
+
+        void add(int id) {
+            if (size > 0 && ids[size - 1] >= id) {
+                int at = Arrays.binarySearch(ids, 0, size, id);
+                if (at >= 0) {
+                    return;
+                }
+                insert(-at - 1, id);
+                return;
+            }
+            insert(size, id);
+        }
+
+        boolean remove(int id) {
+            int at = Arrays.binarySearch(ids, 0, size, id);
+            if (at < 0) {
+                return false;
+            }
+            System.arraycopy(ids, at + 1, ids, at, size - at - 1);
+            size--;
+            return true;
+        }
+
+        private void insert(int at, int id) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            System.arraycopy(ids, at, ids, at + 1, size - at);
+            ids[at] = id;
+            size++;
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.studentnest.services;
+
+import com.studentnest.models.Feedback;
+import com.studentnest.models.FeedbackCluster;
+import com.studentnest.models.FeedbackPage;
+
+import java.util.List;
+
+/**
+ * Feedback and issue reports submitted from the dashboards.
+ */
+public interface FeedbackService {
+
+    /**
+     * @return All feedback with the submitter's username, newest first
+     */
+    List<Feedback> listFeedback() throws ServiceException;
+
+    boolean submitFeedback(int userId, String feedbackText) throws ServiceException;
+
+    boolean deleteFeedback(int feedbackId) throws ServiceException;
+
+    boolean markResolved(int feedbackId) throws ServiceException;
+
+    /**
+     * One page of feedback, newest first.
+     * @param status "Pending" or "Resolved", or null for all
+     * @param query Words the feedback must contain, the last one as a prefix; null or blank for all
+     */
+    FeedbackPage findFeedback(String status, String query, int offset, int limit) throws ServiceException;
+
+    /**
+     * @param status Only reports with this status, or null for all
+     * @return Groups of near-identical reports, largest first
+     */
+    List<FeedbackCluster> findDuplicates(String status) throws ServiceException;
+
+    /**
+     * Marks all the given reports resolved in one statement.
+     * @return The number of reports that were not resolved yet
+     */
+    int markResolved(List<Integer> feedbackIds) throws ServiceException;
+
+    /**
+     * Deletes all the given reports in one statement.
+     * @return The number of reports deleted
+     */
+    int deleteFeedback(List<Integer> feedbackIds) throws ServiceException;
+}
@@ -0,0 +1,236 @@
+package com.studentnest.services;
+
+import com.studentnest.models.GeoPoint;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.TreeSet;
+
+/**
+ * In-memory spatial index over room coordinates.
+ * <p>
+ * Rooms are bucketed into a fixed grid of ~1 km cells, so radius and nearest-K queries
+ * only look at the cells around the query point. The distance to the DIU campus is
+ * computed once when a room is indexed and kept in a sorted set, which makes
+ * "sort by distance" a plain in-order walk over the whole catalog.
+ */
+public class GeoIndex {
+
+    private static final double CELL_DEGREES = 0.01;
+    private static final double KM_PER_DEGREE = 111.32;
+    // Beyond this many rings (~100 km) a linear scan is cheaper than walking empty cells
+    private static final int MAX_RINGS = 100;
+
+    private static final GeoIndex INSTANCE = new GeoIndex();
+
+    private final Map<Long, List<Entry>> cells = new HashMap<>();
+    private final Map<Integer, Entry> entries = new HashMap<>();
+    private final TreeSet<Entry> byCampusDistance = new TreeSet<>(
+            Comparator.comparingDouble((Entry e) -> e.campusDistanceKm).thenComparingInt(e -> e.roomId));
+
+    private GeoIndex() {}
+
+    public static GeoIndex getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Adds or moves a room. A null point removes the room from the index.
+     */
+    public synchronized void put(int roomId, GeoPoint point) {
+        remove(roomId);
+        if (point == null) {
+            return;
+        }
+        Entry entry = new Entry(roomId, point, point.distanceKm(GeoPoint.DIU_CAMPUS));
+        entries.put(roomId, entry);
+        cells.computeIfAbsent(cellKey(point.getLatitude(), point.getLongitude()), k -> new ArrayList<>()).add(entry);
+        byCampusDistance.add(entry);
+    }
+
+    public synchronized void remove(int roomId) {
+        Entry entry = entries.remove(roomId);
+        if (entry == null) {
+            return;
+        }
+        long key = cellKey(entry.point.getLatitude(), entry.point.getLongitude());
+        List<Entry> cell = cells.get(key);
+        if (cell != null) {
+            cell.remove(entry);
+            if (cell.isEmpty()) {
+                cells.remove(key);
+            }
+        }
+        byCampusDistance.remove(entry);
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * @return Distance from the DIU campus in km, or null if the room has no coordinates
+     */
+    public synchronized Double campusDistanceKm(int roomId) {
+        Entry entry = entries.get(roomId);
+        return entry != null ? entry.campusDistanceKm : null;
+    }
+
+    /**
+     * All indexed room ids ordered by distance from the DIU campus, nearest first.
+     */
+    public synchronized List<Integer> roomIdsByCampusDistance() {
+        List<Integer> ids = new ArrayList<>(byCampusDistance.size());
+        for (Entry entry : byCampusDistance) {
+            ids.add(entry.roomId);
+        }
+        return ids;
+    }
+
+    /**
+     * Rooms within a radius of the given point, nearest first.
+     */
+    public synchronized List<Hit> within(GeoPoint center, double radiusKm) {
+        List<Hit> hits = new ArrayList<>();
+        if (center.equals(GeoPoint.DIU_CAMPUS)) {
+            // Campus distances are precomputed and sorted already
+            for (Entry entry : byCampusDistance) {
+                if (entry.campusDistanceKm > radiusKm) break;
+                hits.add(new Hit(entry.roomId, entry.campusDistanceKm));
+            }
+            return hits;
+        }
+
+        double latSpan = radiusKm / KM_PER_DEGREE;
+        double lonSpan = radiusKm / (KM_PER_DEGREE * Math.max(0.01, Math.cos(Math.toRadians(center.getLatitude()))));
+        long minRow = cellIndex(center.getLatitude() - latSpan);
+        long maxRow = cellIndex(center.getLatitude() + latSpan);
+        long minCol = cellIndex(center.getLongitude() - lonSpan);
+        long maxCol = cellIndex(center.getLongitude() + lonSpan);
+
+        if ((maxRow - minRow + 1) * (maxCol - minCol + 1) > cells.size()) {
+            // Huge radius: scanning the occupied cells is cheaper than walking the box
+            for (List<Entry> cell : cells.values()) {
+                collectWithin(cell, center, radiusKm, hits);
+            }
+        } else {
+            for (long row = minRow; row <= maxRow; row++) {
+                for (long col = minCol; col <= maxCol; col++) {
+                    List<Entry> cell = cells.get(key(row, col));
+                    if (cell != null) {
+                        collectWithin(cell, center, radiusKm, hits);
+                    }
+                }
+            }
+        }
+        hits.sort(Comparator.comparingDouble(Hit::getDistanceKm));
+        return hits;
+    }
+
+    /**
+     * The k rooms closest to the given point, nearest first. Searches outward ring by ring
+     * and stops as soon as no unvisited cell can contain a closer room.
+     */
+    public synchronized List<Hit> nearest(GeoPoint center, int k) {
+        PriorityQueue<Hit> best = new PriorityQueue<>(Comparator.comparingDouble(Hit::getDistanceKm).reversed());
+        if (k <= 0 || entries.isEmpty()) {
+            return new ArrayList<>();
+        }
+        long centerRow = cellIndex(center.getLatitude());
+        long centerCol = cellIndex(center.getLongitude());
+        // Smallest cell edge in km, used to bound the distance to any cell in the next ring
+        double cellKm = CELL_DEGREES * KM_PER_DEGREE * Math.max(0.01, Math.cos(Math.toRadians(Math.abs(center.getLatitude()) + 1)));
+
+        int visited = 0;
+        for (int ring = 0; visited < entries.size(); ring++) {
+            if (best.size() == k && best.peek().getDistanceKm() < ring * cellKm - cellKm) {
+                break;
+            }
+            if (ring > MAX_RINGS) {
+                best.clear();
+                for (Entry entry : entries.values()) {
+                    offer(best, k, new Hit(entry.roomId, entry.point.distanceKm(center)));
+                }
+                break;
+            }
+            for (long row = centerRow - ring; row <= centerRow + ring; row++) {
+                boolean edgeRow = row == centerRow - ring || row == centerRow + ring;
+                long step = edgeRow ? 1 : Math.max(1, 2L * ring);
+                for (long col = centerCol - ring; col <= centerCol + ring; col += step) {
+                    List<Entry> cell = cells.get(key(row, col));
+                    if (cell == null) continue;
+                    for (Entry entry : cell) {
+                        visited++;
+                        offer(best, k, new Hit(entry.roomId, entry.point.distanceKm(center)));
+                    }
+                }
+            }
+        }
+
+        List<Hit> result = new ArrayList<>(best);
+        result.sort(Comparator.comparingDouble(Hit::getDistanceKm));
+        return result;
+    }
+
+    private static void offer(PriorityQueue<Hit> best, int k, Hit hit) {
+        if (best.size() < k) {
+            best.add(hit);
+        } else if (hit.getDistanceKm() < best.peek().getDistanceKm()) {
+            best.poll();
+            best.add(hit);
+        }
+    }
+
+    private static void collectWithin(List<Entry> cell, GeoPoint center, double radiusKm, List<Hit> hits) {
+        for (Entry entry : cell) {
+            double distance = entry.point.distanceKm(center);
+            if (distance <= radiusKm) {
+                hits.add(new Hit(entry.roomId, distance));
+            }
+        }
+    }
+
+    private static long cellIndex(double degrees) {
+        return (long) Math.floor(degrees / CELL_DEGREES);
+    }
+
+    private static long cellKey(double latitude, double longitude) {
+        return key(cellIndex(latitude), cellIndex(longitude));
+    }
+
+    private static long key(long row, long col) {
+        return (row << 32) ^ (col & 0xffffffffL);
+    }
+
+    private static final class Entry {
+        final int roomId;
+        final GeoPoint point;
+        final double campusDistanceKm;
+
+        Entry(int roomId, GeoPoint point, double campusDistanceKm) {
+            this.roomId = roomId;
+            this.point = point;
+            this.campusDistanceKm = campusDistanceKm;
+        }
+    }
+
+    /**
+     * A room id together with its distance from the query point.
+     */
+    public static final class Hit {
+        private final int roomId;
+        private final double distanceKm;
+
+        public Hit(int roomId, double distanceKm) {
+            this.roomId = roomId;
+            this.distanceKm = distanceKm;
+        }
+
+        public int getRoomId() { return roomId; }
+        public double getDistanceKm() { return distanceKm; }
+    }
+}
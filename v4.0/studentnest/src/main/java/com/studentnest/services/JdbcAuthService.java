@@ -0,0 +1,49 @@
+package com.studentnest.services;
+
+import com.studentnest.database.DatabaseConnection;
+import com.studentnest.models.User;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * {@link AuthService} backed directly by the MySQL database.
+ */
+public class JdbcAuthService implements AuthService {
+
+    private final ConnectionProvider connections;
+
+    public JdbcAuthService() {
+        this(DatabaseConnection::getConnection);
+    }
+
+    public JdbcAuthService(ConnectionProvider connections) {
+        this.connections = connections;
+    }
+
+    @Override
+    public User authenticate(String username, String password, String userType) throws ServiceException {
+        String sql = "SELECT id, name FROM users WHERE username = ? AND password = ? AND user_type = ?";
+        try (Connection conn = connections.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+            stmt.setString(1, username);
+            stmt.setString(2, password);
+            stmt.setString(3, userType);
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (!rs.next()) {
+                    return null;
+                }
+                User user = new User();
+                user.setId(rs.getInt("id"));
+                user.setName(rs.getString("name"));
+                user.setUsername(username);
+                user.setUserType(userType);
+                return user;
+            }
+        } catch (SQLException e) {
+            throw new ServiceException("Database error during authentication: " + e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,245 @@
+package com.studentnest.services;
+
+import com.studentnest.cache.InvalidationBus;
+import com.studentnest.cache.InvalidationEvent;
+import com.studentnest.database.DatabaseConnection;
+import com.studentnest.models.Feedback;
+import com.studentnest.models.FeedbackCluster;
+import com.studentnest.models.FeedbackPage;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link FeedbackService} backed directly by the MySQL database. Pages without a search
+ * are read with LIMIT/OFFSET; searches and duplicate groups come from a {@link FeedbackIndex}
+ * that is built on first use and then follows the feedback change notifications.
+ */
+public class JdbcFeedbackService implements FeedbackService {
+
+    private static final String FEEDBACK_COLUMNS = "f.id, f.user_id, f.feedback_text, f.created_at, " +
+            "u.username as user_name, COALESCE(f.status, 'Pending') as status";
+
+    private final ConnectionProvider connections;
+    private FeedbackIndex index;
+
+    public JdbcFeedbackService() {
+        this(DatabaseConnection::getConnection);
+    }
+
+    public JdbcFeedbackService(ConnectionProvider connections) {
+        this.connections = connections;
+    }
+
+    @Override
+    public List<Feedback> listFeedback() throws ServiceException {
+        String sql = "SELECT " + FEEDBACK_COLUMNS + " FROM feedback_and_issues f " +
+                "JOIN users u ON f.user_id = u.id ORDER BY f.created_at DESC";
+        try (Connection conn = connections.getConnection();
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery(sql)) {
+            List<Feedback> feedback = new ArrayList<>();
+            while (rs.next()) {
+                feedback.add(mapFeedback(rs));
+            }
+            return feedback;
+        } catch (SQLException e) {
+            throw new ServiceException("Failed to load feedback: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public boolean submitFeedback(int userId, String feedbackText) throws ServiceException {
+        String sql = "INSERT INTO feedback_and_issues (user_id, feedback_text) VALUES (?, ?)";
+        try (Connection conn = connections.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+            stmt.setInt(1, userId);
+            stmt.setString(2, feedbackText);
+            if (stmt.executeUpdate() == 0) {
+                return false;
+            }
+            // The new id lets search indexes pick up just this report
+            try (ResultSet keys = stmt.getGeneratedKeys()) {
+                return published(true, keys.next() ? keys.getInt(1) : InvalidationEvent.ALL);
+            }
+        } catch (SQLException e) {
+            throw new ServiceException("Failed to submit feedback: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public boolean deleteFeedback(int feedbackId) throws ServiceException {
+        try (Connection conn = connections.getConnection();
+             PreparedStatement stmt = conn.prepareStatement("DELETE FROM feedback_and_issues WHERE id = ?")) {
+            stmt.setInt(1, feedbackId);
+            return published(stmt.executeUpdate() > 0, feedbackId);
+        } catch (SQLException e) {
+            throw new ServiceException("Failed to delete feedback: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public boolean markResolved(int feedbackId) throws ServiceException {
+        try (Connection conn = connections.getConnection();
+             PreparedStatement stmt = conn.prepareStatement("UPDATE feedback_and_issues SET status = 'Resolved' WHERE id = ?")) {
+            stmt.setInt(1, feedbackId);
+            return published(stmt.executeUpdate() > 0, feedbackId);
+        } catch (SQLException e) {
+            throw new ServiceException("Failed to update feedback: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public FeedbackPage findFeedback(String status, String query, int offset, int limit) throws ServiceException {
+        offset = Math.max(0, offset);
+        limit = Math.max(1, limit);
+        try {
+            if (query == null || query.isBlank()) {
+                return readPage(status, offset, limit);
+            }
+            List<Integer> ids = index().search(status, query);
+            List<Integer> page = offset < ids.size() ? ids.subList(offset, Math.min(ids.size(), offset + limit)) : List.of();
+            return new FeedbackPage(readByIds(page), ids.size(), offset, limit);
+        } catch (SQLException e) {
+            throw new ServiceException("Failed to load feedback: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public List<FeedbackCluster> findDuplicates(String status) throws ServiceException {
+        try {
+            return index().duplicates(status);
+        } catch (SQLException e) {
+            throw new ServiceException("Failed to group feedback: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public int markResolved(List<Integer> feedbackIds) throws ServiceException {
+        return updateAll("UPDATE feedback_and_issues SET status = 'Resolved' WHERE status <> 'Resolved' AND id IN ",
+                feedbackIds, "update feedback");
+    }
+
+    @Override
+    public int deleteFeedback(List<Integer> feedbackIds) throws ServiceException {
+        return updateAll("DELETE FROM feedback_and_issues WHERE id IN ", feedbackIds, "delete feedback");
+    }
+
+    // One statement for the whole selection
+    private int updateAll(String sqlPrefix, List<Integer> feedbackIds, String action) throws ServiceException {
+        if (feedbackIds.isEmpty()) {
+            return 0;
+        }
+        String sql = sqlPrefix + "(" + FeedbackIndex.placeholders(feedbackIds.size()) + ")";
+        try (Connection conn = connections.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+            for (int i = 0; i < feedbackIds.size(); i++) {
+                stmt.setInt(i + 1, feedbackIds.get(i));
+            }
+            int changed = stmt.executeUpdate();
+            // One event for the selection: indexes re-read these rows, or reconcile once for a large one
+            if (changed > 0) {
+                InvalidationBus.getInstance().publishBatch(InvalidationEvent.FEEDBACK, feedbackIds);
+            }
+            return changed;
+        } catch (SQLException e) {
+            throw new ServiceException("Failed to " + action + ": " + e.getMessage(), e);
+        }
+    }
+
+    private FeedbackPage readPage(String status, int offset, int limit) throws SQLException {
+        String where = status != null ? " WHERE f.status = ?" : "";
+        try (Connection conn = connections.getConnection()) {
+            int total;
+            try (PreparedStatement stmt = conn.prepareStatement("SELECT COUNT(*) FROM feedback_and_issues f" + where)) {
+                if (status != null) {
+                    stmt.setString(1, status);
+                }
+                try (ResultSet rs = stmt.executeQuery()) {
+                    total = rs.next() ? rs.getInt(1) : 0;
+                }
+            }
+
+            String sql = "SELECT " + FEEDBACK_COLUMNS + " FROM feedback_and_issues f JOIN users u ON f.user_id = u.id"
+                    + where + " ORDER BY f.created_at DESC, f.id DESC LIMIT ? OFFSET ?";
+            List<Feedback> items = new ArrayList<>();
+            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                int param = 1;
+                if (status != null) {
+                    stmt.setString(param++, status);
+                }
+                stmt.setInt(param++, limit);
+                stmt.setInt(param, offset);
+                try (ResultSet rs = stmt.executeQuery()) {
+                    while (rs.next()) {
+                        items.add(mapFeedback(rs));
+                    }
+                }
+            }
+            return new FeedbackPage(items, total, offset, limit);
+        }
+    }
+
+    // Rows in the order of the ids; ids deleted in the meantime are skipped
+    private List<Feedback> readByIds(List<Integer> ids) throws SQLException {
+        if (ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+        String sql = "SELECT " + FEEDBACK_COLUMNS + " FROM feedback_and_issues f JOIN users u ON f.user_id = u.id " +
+                "WHERE f.id IN (" + FeedbackIndex.placeholders(ids.size()) + ")";
+        Map<Integer, Feedback> byId = new HashMap<>();
+        try (Connection conn = connections.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+            for (int i = 0; i < ids.size(); i++) {
+                stmt.setInt(i + 1, ids.get(i));
+            }
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    Feedback fb = mapFeedback(rs);
+                    byId.put(fb.getId(), fb);
+                }
+            }
+        }
+        List<Feedback> items = new ArrayList<>(ids.size());
+        for (Integer id : ids) {
+            Feedback fb = byId.get(id);
+            if (fb != null) {
+                items.add(fb);
+            }
+        }
+        return items;
+    }
+
+    private synchronized FeedbackIndex index() {
+        if (index == null) {
+            index = new FeedbackIndex(connections);
+            InvalidationBus.getInstance().subscribe(InvalidationEvent.FEEDBACK, index::changed);
+        }
+        return index;
+    }
+
+    private static Feedback mapFeedback(ResultSet rs) throws SQLException {
+        Feedback fb = new Feedback();
+        fb.setId(rs.getInt("id"));
+        fb.setUserId(rs.getInt("user_id"));
+        fb.setUserName(rs.getString("user_name"));
+        fb.setFeedbackText(rs.getString("feedback_text"));
+        fb.setCreatedAt(rs.getTimestamp("created_at"));
+        fb.setStatus(rs.getString("status"));
+        return fb;
+    }
+
+    private static boolean published(boolean changed, Object key) {
+        if (changed) {
+            InvalidationBus.getInstance().publish(InvalidationEvent.FEEDBACK, key);
+        }
+        return changed;
+    }
+}
@@ -0,0 +1,237 @@
+package com.studentnest.services;
+
+import com.studentnest.cache.InvalidationBus;
+import com.studentnest.cache.InvalidationEvent;
+import com.studentnest.database.DatabaseConnection;
+import com.studentnest.models.SeatHold;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link ReservationService} backed directly by the MySQL database.
+ * <p>
+ * The seat count is the only contended row. A hold takes a seat with a conditional
+ * {@code UPDATE ... WHERE seats_available > 0}, so the database's row lock decides which of
+ * the concurrent requests get the last seats and nobody waits on a lock held across round
+ * trips. Every status change of a hold is conditional on its current status as well, which
+ * keeps a confirm racing the reaper, or two reapers on different instances, from giving a
+ * seat back twice. Confirming and releasing are also conditional on the student. A hold
+ * locks the room row before it looks for the student's earlier holds, so two concurrent
+ * holds by one student cannot both get through.
+ */
+public class JdbcReservationService implements ReservationService {
+
+    public static final long DEFAULT_HOLD_MILLIS = TimeUnit.MINUTES.toMillis(15);
+    private static final int REAP_BATCH_SIZE = 200;
+
+    private final ConnectionProvider connections;
+    private final long holdMillis;
+
+    public JdbcReservationService() {
+        this(DatabaseConnection::getConnection);
+    }
+
+    public JdbcReservationService(ConnectionProvider connections) {
+        this(connections, DEFAULT_HOLD_MILLIS);
+    }
+
+    /**
+     * @param holdMillis How long a hold keeps its seat without being confirmed
+     */
+    public JdbcReservationService(ConnectionProvider connections, long holdMillis) {
+        this.connections = connections;
+        this.holdMillis = holdMillis;
+    }
+
+    @Override
+    public SeatHold holdSeat(int roomId, int studentId) throws ServiceException {
+        try (Connection conn = connections.getConnection()) {
+            conn.setAutoCommit(false);
+            try {
+                try (PreparedStatement stmt = conn.prepareStatement("SELECT id FROM rooms WHERE id = ? FOR UPDATE")) {
+                    stmt.setInt(1, roomId);
+                    try (ResultSet rs = stmt.executeQuery()) {
+                        if (!rs.next()) {
+                            conn.rollback();
+                            throw new ServiceException("Room " + roomId + " not found", 404, null);
+                        }
+                    }
+                }
+                // Locking read, so it sees a hold committed by a concurrent request that had the room row first
+                try (PreparedStatement stmt = conn.prepareStatement(
+                        "SELECT id FROM seat_holds WHERE room_id = ? AND student_id = ? AND status IN (?, ?) FOR UPDATE")) {
+                    stmt.setInt(1, roomId);
+                    stmt.setInt(2, studentId);
+                    stmt.setString(3, SeatHold.HELD);
+                    stmt.setString(4, SeatHold.CONFIRMED);
+                    try (ResultSet rs = stmt.executeQuery()) {
+                        if (rs.next()) {
+                            conn.rollback();
+                            throw new SeatAlreadyHeldException(roomId, studentId);
+                        }
+                    }
+                }
+                try (PreparedStatement stmt = conn.prepareStatement(
+                        "UPDATE rooms SET seats_available = seats_available - 1 WHERE id = ? AND seats_available > 0")) {
+                    stmt.setInt(1, roomId);
+                    if (stmt.executeUpdate() == 0) {
+                        conn.rollback();
+                        throw new ServiceException("No seats left in room " + roomId, 409, null);
+                    }
+                }
+
+                SeatHold hold = new SeatHold(0, roomId, studentId, SeatHold.HELD,
+                        new Timestamp(System.currentTimeMillis() + holdMillis));
+                String sql = "INSERT INTO seat_holds (room_id, student_id, status, expires_at) VALUES (?, ?, ?, ?)";
+                try (PreparedStatement stmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+                    stmt.setInt(1, roomId);
+                    stmt.setInt(2, studentId);
+                    stmt.setString(3, hold.getStatus());
+                    stmt.setTimestamp(4, hold.getExpiresAt());
+                    stmt.executeUpdate();
+                    try (ResultSet keys = stmt.getGeneratedKeys()) {
+                        if (!keys.next()) {
+                            conn.rollback();
+                            throw new ServiceException("Seat hold was inserted but no id was generated");
+                        }
+                        hold.setId(keys.getInt(1));
+                    }
+                }
+                conn.commit();
+                InvalidationBus.getInstance().publish(InvalidationEvent.ROOM, roomId);
+                return hold;
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(true);
+            }
+        } catch (SQLException e) {
+            throw new ServiceException("Failed to hold seat: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public boolean confirmHold(int holdId, int studentId) throws ServiceException {
+        String sql = "UPDATE seat_holds SET status = ? WHERE id = ? AND student_id = ? AND status = ? AND expires_at > ?";
+        try (Connection conn = connections.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+            stmt.setString(1, SeatHold.CONFIRMED);
+            stmt.setInt(2, holdId);
+            stmt.setInt(3, studentId);
+            stmt.setString(4, SeatHold.HELD);
+            stmt.setTimestamp(5, new Timestamp(System.currentTimeMillis()));
+            return stmt.executeUpdate() > 0;
+        } catch (SQLException e) {
+            throw new ServiceException("Failed to confirm seat hold: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public boolean releaseHold(int holdId, int studentId) throws ServiceException {
+        try (Connection conn = connections.getConnection()) {
+            return release(conn, holdId, studentId, false);
+        } catch (SQLException e) {
+            throw new ServiceException("Failed to release seat hold: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Gives the seats of holds that expired unconfirmed back to their rooms. Safe to run
+     * on several instances at once, each expired hold is released exactly once.
+     * @return The number of holds released
+     */
+    public int releaseExpiredHolds() throws ServiceException {
+        String sql = "SELECT id FROM seat_holds WHERE status = ? AND expires_at <= ? ORDER BY expires_at LIMIT " + REAP_BATCH_SIZE;
+        try (Connection conn = connections.getConnection()) {
+            int released = 0;
+            List<Integer> expired;
+            do {
+                expired = new ArrayList<>();
+                try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                    stmt.setString(1, SeatHold.HELD);
+                    stmt.setTimestamp(2, new Timestamp(System.currentTimeMillis()));
+                    try (ResultSet rs = stmt.executeQuery()) {
+                        while (rs.next()) {
+                            expired.add(rs.getInt(1));
+                        }
+                    }
+                }
+                for (int holdId : expired) {
+                    if (release(conn, holdId, null, true)) {
+                        released++;
+                    }
+                }
+            } while (expired.size() == REAP_BATCH_SIZE);
+            return released;
+        } catch (SQLException e) {
+            throw new ServiceException("Failed to release expired seat holds: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Marks one hold released and gives its seat back, in one transaction.
+     * @param studentId Release the hold only if it belongs to this student, null for any student
+     * @param onlyUnconfirmed Release the hold only while it is still unconfirmed, as the reaper does
+     */
+    private static boolean release(Connection conn, int holdId, Integer studentId, boolean onlyUnconfirmed) throws SQLException {
+        conn.setAutoCommit(false);
+        try {
+            int roomId;
+            String select = studentId != null
+                    ? "SELECT room_id FROM seat_holds WHERE id = ? AND student_id = ?"
+                    : "SELECT room_id FROM seat_holds WHERE id = ?";
+            try (PreparedStatement stmt = conn.prepareStatement(select)) {
+                stmt.setInt(1, holdId);
+                if (studentId != null) {
+                    stmt.setInt(2, studentId);
+                }
+                try (ResultSet rs = stmt.executeQuery()) {
+                    if (!rs.next()) {
+                        conn.rollback();
+                        return false;
+                    }
+                    roomId = rs.getInt(1);
+                }
+            }
+
+            String sql = onlyUnconfirmed
+                    ? "UPDATE seat_holds SET status = ? WHERE id = ? AND status = ?"
+                    : "UPDATE seat_holds SET status = ? WHERE id = ? AND status IN (?, ?)";
+            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                stmt.setString(1, SeatHold.RELEASED);
+                stmt.setInt(2, holdId);
+                stmt.setString(3, SeatHold.HELD);
+                if (!onlyUnconfirmed) {
+                    stmt.setString(4, SeatHold.CONFIRMED);
+                }
+                if (stmt.executeUpdate() == 0) {
+                    conn.rollback();
+                    return false;
+                }
+            }
+            // Capped in case the owner lowered the seat count while the hold was out
+            try (PreparedStatement stmt = conn.prepareStatement(
+                    "UPDATE rooms SET seats_available = LEAST(seats_available + 1, seats) WHERE id = ?")) {
+                stmt.setInt(1, roomId);
+                stmt.executeUpdate();
+            }
+            conn.commit();
+            InvalidationBus.getInstance().publish(InvalidationEvent.ROOM, roomId);
+            return true;
+        } catch (SQLException e) {
+            conn.rollback();
+            throw e;
+        } finally {
+            conn.setAutoCommit(true);
+        }
+    }
+}
@@ -0,0 +1,260 @@
+package com.studentnest.services;
+
+import com.studentnest.cache.InvalidationBus;
+import com.studentnest.cache.InvalidationEvent;
+import com.studentnest.database.DatabaseConnection;
+import com.studentnest.models.Room;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@link RoomService} backed directly by the MySQL database.
+ */
+public class JdbcRoomService implements RoomService {
+
+    // Columns of rooms aliased as r, in the order mapRoom reads them
+    public static final String ROOM_COLUMNS = "r.id, r.owner_id, r.location, r.price, r.description, r.contact_number, " +
+            "r.map_link, r.room_type, r.image1_path, r.image2_path, r.latitude, r.longitude, r.created_at, r.version, " +
+            "r.seats, r.seats_available";
+
+    private final ConnectionProvider connections;
+
+    public JdbcRoomService() {
+        this(DatabaseConnection::getConnection);
+    }
+
+    public JdbcRoomService(ConnectionProvider connections) {
+        this.connections = connections;
+    }
+
+    @Override
+    public List<Room> listRooms() throws ServiceException {
+        String sql = "SELECT " + ROOM_COLUMNS + ", u.name AS owner_name " +
+                "FROM rooms r " +
+                "JOIN users u ON r.owner_id = u.id " +
+                "ORDER BY r.id";
+        try (Connection conn = connections.getConnection();
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery(sql)) {
+            List<Room> rooms = new ArrayList<>();
+            while (rs.next()) {
+                Room room = mapRoom(rs);
+                room.setOwnerName(rs.getString("owner_name"));
+                rooms.add(room);
+            }
+            return rooms;
+        } catch (SQLException e) {
+            throw new ServiceException("Failed to load rooms: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public Room findRoom(int roomId) throws ServiceException {
+        String sql = "SELECT " + ROOM_COLUMNS + ", u.name AS owner_name " +
+                "FROM rooms r " +
+                "JOIN users u ON r.owner_id = u.id " +
+                "WHERE r.id = ?";
+        try (Connection conn = connections.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+            stmt.setInt(1, roomId);
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (!rs.next()) {
+                    return null;
+                }
+                Room room = mapRoom(rs);
+                room.setOwnerName(rs.getString("owner_name"));
+                return room;
+            }
+        } catch (SQLException e) {
+            throw new ServiceException("Failed to load room: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public List<Room> listRoomsByOwner(int ownerId) throws ServiceException {
+        String sql = "SELECT " + ROOM_COLUMNS + " FROM rooms r WHERE r.owner_id = ? ORDER BY r.id";
+        try (Connection conn = connections.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+            stmt.setInt(1, ownerId);
+            List<Room> rooms = new ArrayList<>();
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    rooms.add(mapRoom(rs));
+                }
+            }
+            return rooms;
+        } catch (SQLException e) {
+            throw new ServiceException("Failed to load rooms: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public int addRoom(Room room) throws ServiceException {
+        String sql = "INSERT INTO rooms (owner_id, location, price, description, contact_number, map_link, room_type, image1_path, image2_path, latitude, longitude, seats, seats_available) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+        try (Connection conn = connections.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+            stmt.setInt(1, room.getOwnerId());
+            stmt.setString(2, room.getLocation());
+            stmt.setDouble(3, room.getPrice());
+            stmt.setString(4, room.getDescription());
+            stmt.setString(5, room.getContactNumber());
+            stmt.setString(6, room.getMapLink());
+            stmt.setString(7, room.getRoomType());
+            stmt.setString(8, room.getImage1Path());
+            stmt.setString(9, room.getImage2Path());
+            setCoordinates(stmt, 10, room);
+            // Every seat of a new room is free
+            int seats = seatCount(room);
+            stmt.setInt(12, seats);
+            stmt.setInt(13, seats);
+
+            stmt.executeUpdate();
+            try (ResultSet keys = stmt.getGeneratedKeys()) {
+                if (keys.next()) {
+                    int id = keys.getInt(1);
+                    InvalidationBus.getInstance().publish(InvalidationEvent.ROOM, id);
+                    return id;
+                }
+            }
+            throw new ServiceException("Room was inserted but no id was generated");
+        } catch (SQLException e) {
+            throw new ServiceException("Failed to add room: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public boolean updateRoom(Room room) throws ServiceException {
+        String image1Path = room.getImage1Path();
+        String image2Path = room.getImage2Path();
+        // Changing the seat count frees or takes the difference; seats_available comes first because
+        // MySQL evaluates assignments left to right, with seats still holding the old count
+        String sql = "UPDATE rooms SET location = ?, price = ?, description = ?, contact_number = ?, map_link = ?, room_type = ?, latitude = ?, longitude = ?, " +
+                "seats_available = GREATEST(seats_available + ? - seats, 0), seats = ?" +
+                (image1Path != null ? ", image1_path = ?" : "") +
+                (image2Path != null ? ", image2_path = ?" : "") +
+                ", version = version + 1 WHERE id = ? AND version = ?";
+
+        try (Connection conn = connections.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+            int paramIndex = 1;
+            stmt.setString(paramIndex++, room.getLocation());
+            stmt.setDouble(paramIndex++, room.getPrice());
+            stmt.setString(paramIndex++, room.getDescription());
+            stmt.setString(paramIndex++, room.getContactNumber());
+            stmt.setString(paramIndex++, room.getMapLink());
+            stmt.setString(paramIndex++, room.getRoomType());
+            setCoordinates(stmt, paramIndex, room);
+            paramIndex += 2;
+            int seats = seatCount(room);
+            stmt.setInt(paramIndex++, seats);
+            stmt.setInt(paramIndex++, seats);
+
+            if (image1Path != null) {
+                stmt.setString(paramIndex++, image1Path);
+            }
+            if (image2Path != null) {
+                stmt.setString(paramIndex++, image2Path);
+            }
+            stmt.setInt(paramIndex++, room.getId());
+            stmt.setInt(paramIndex, room.getVersion());
+
+            if (stmt.executeUpdate() > 0) {
+                room.setVersion(room.getVersion() + 1);
+                return published(true, room.getId());
+            }
+        } catch (SQLException e) {
+            throw new ServiceException("Failed to update room: " + e.getMessage(), e);
+        }
+        // Nothing matched: either the room is gone or someone else updated it first
+        Room current = findRoom(room.getId());
+        if (current == null) {
+            return false;
+        }
+        throw new RoomConflictException(current);
+    }
+
+    @Override
+    public boolean deleteRoom(int roomId) throws ServiceException {
+        try (Connection conn = connections.getConnection();
+             PreparedStatement stmt = conn.prepareStatement("DELETE FROM rooms WHERE id = ?")) {
+            stmt.setInt(1, roomId);
+            return published(stmt.executeUpdate() > 0, roomId);
+        } catch (SQLException e) {
+            throw new ServiceException("Failed to delete room: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public int countRoomsCreatedIn(int year, int month) throws ServiceException {
+        String sql = "SELECT COUNT(*) FROM rooms WHERE MONTH(created_at) = ? AND YEAR(created_at) = ?";
+        try (Connection conn = connections.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+            stmt.setInt(1, month);
+            stmt.setInt(2, year);
+            try (ResultSet rs = stmt.executeQuery()) {
+                return rs.next() ? rs.getInt(1) : 0;
+            }
+        } catch (SQLException e) {
+            throw new ServiceException("Failed to count rooms: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Maps the {@link #ROOM_COLUMNS} of the current row. The owner name is not part of it.
+     */
+    public static Room mapRoom(ResultSet rs) throws SQLException {
+        Room room = new Room();
+        room.setId(rs.getInt("id"));
+        room.setOwnerId(rs.getInt("owner_id"));
+        room.setLocation(rs.getString("location"));
+        room.setPrice(rs.getDouble("price"));
+        room.setDescription(rs.getString("description"));
+        room.setContactNumber(rs.getString("contact_number"));
+        room.setMapLink(rs.getString("map_link"));
+        room.setRoomType(rs.getString("room_type"));
+        room.setImage1Path(emptyToNull(rs.getString("image1_path")));
+        room.setImage2Path(emptyToNull(rs.getString("image2_path")));
+        room.setLatitude(rs.getObject("latitude") != null ? rs.getDouble("latitude") : null);
+        room.setLongitude(rs.getObject("longitude") != null ? rs.getDouble("longitude") : null);
+        room.setCreatedAt(rs.getTimestamp("created_at"));
+        room.setVersion(rs.getInt("version"));
+        room.setNumberOfRooms(rs.getInt("seats"));
+        room.setAvailableSeats(rs.getInt("seats_available"));
+        return room;
+    }
+
+    // Tell the caches of every instance that a room changed
+    private static boolean published(boolean changed, int roomId) {
+        if (changed) {
+            InvalidationBus.getInstance().publish(InvalidationEvent.ROOM, roomId);
+        }
+        return changed;
+    }
+
+    // Helper method to bind latitude/longitude, or NULLs when the room has no coordinates
+    static void setCoordinates(PreparedStatement stmt, int index, Room room) throws SQLException {
+        if (room.hasCoordinates()) {
+            stmt.setDouble(index, room.getLatitude());
+            stmt.setDouble(index + 1, room.getLongitude());
+        } else {
+            stmt.setNull(index, Types.DOUBLE);
+            stmt.setNull(index + 1, Types.DOUBLE);
+        }
+    }
+
+    // Every room offers at least one seat, also when a client left the count out
+    private static int seatCount(Room room) {
+        return Math.max(1, room.getNumberOfRooms());
+    }
+
+    private static String emptyToNull(String value) {
+        return value == null || value.isEmpty() ? null : value;
+    }
+}
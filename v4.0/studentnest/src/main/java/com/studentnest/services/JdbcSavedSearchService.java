@@ -0,0 +1,197 @@
+package com.studentnest.services;
+
+import com.studentnest.cache.InvalidationBus;
+import com.studentnest.cache.InvalidationEvent;
+import com.studentnest.database.DatabaseConnection;
+import com.studentnest.models.Room;
+import com.studentnest.models.SavedSearch;
+import com.studentnest.models.SearchNotification;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@link SavedSearchService} backed directly by the MySQL database. Also gives the
+ * {@link SavedSearchMatcher} access to every saved search and a way to queue notifications.
+ */
+public class JdbcSavedSearchService implements SavedSearchService {
+
+    private static final String SEARCH_COLUMNS = "id, user_id, name, location, price_range, distance, search_text, created_at";
+
+    private final ConnectionProvider connections;
+
+    public JdbcSavedSearchService() {
+        this(DatabaseConnection::getConnection);
+    }
+
+    public JdbcSavedSearchService(ConnectionProvider connections) {
+        this.connections = connections;
+    }
+
+    @Override
+    public List<SavedSearch> listSavedSearches(int userId) throws ServiceException {
+        String sql = "SELECT " + SEARCH_COLUMNS + " FROM saved_searches WHERE user_id = ? ORDER BY id";
+        try (Connection conn = connections.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+            stmt.setInt(1, userId);
+            return readSearches(stmt);
+        } catch (SQLException e) {
+            throw new ServiceException("Failed to load saved searches: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * @return Every saved search of every student
+     */
+    public List<SavedSearch> listAllSavedSearches() throws ServiceException {
+        String sql = "SELECT " + SEARCH_COLUMNS + " FROM saved_searches";
+        try (Connection conn = connections.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+            return readSearches(stmt);
+        } catch (SQLException e) {
+            throw new ServiceException("Failed to load saved searches: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * @return The saved search, or null if it does not exist
+     */
+    public SavedSearch findSavedSearch(int searchId) throws ServiceException {
+        String sql = "SELECT " + SEARCH_COLUMNS + " FROM saved_searches WHERE id = ?";
+        try (Connection conn = connections.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+            stmt.setInt(1, searchId);
+            List<SavedSearch> searches = readSearches(stmt);
+            return searches.isEmpty() ? null : searches.get(0);
+        } catch (SQLException e) {
+            throw new ServiceException("Failed to load saved search: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public int saveSearch(SavedSearch search) throws ServiceException {
+        String sql = "INSERT INTO saved_searches (user_id, name, location, price_range, distance, search_text) VALUES (?, ?, ?, ?, ?, ?)";
+        try (Connection conn = connections.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+            stmt.setInt(1, search.getUserId());
+            stmt.setString(2, search.getName());
+            stmt.setString(3, search.getLocation());
+            stmt.setString(4, search.getPriceRange());
+            stmt.setString(5, search.getDistance());
+            stmt.setString(6, search.getSearchText());
+            stmt.executeUpdate();
+            try (ResultSet keys = stmt.getGeneratedKeys()) {
+                if (!keys.next()) {
+                    throw new ServiceException("Saved search was inserted but no id was generated");
+                }
+                search.setId(keys.getInt(1));
+            }
+            InvalidationBus.getInstance().publish(InvalidationEvent.SAVED_SEARCH, search.getId());
+            return search.getId();
+        } catch (SQLException e) {
+            throw new ServiceException("Failed to save search: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public boolean deleteSavedSearch(int searchId) throws ServiceException {
+        try (Connection conn = connections.getConnection();
+             PreparedStatement stmt = conn.prepareStatement("DELETE FROM saved_searches WHERE id = ?")) {
+            stmt.setInt(1, searchId);
+            boolean deleted = stmt.executeUpdate() > 0;
+            if (deleted) {
+                InvalidationBus.getInstance().publish(InvalidationEvent.SAVED_SEARCH, searchId);
+            }
+            return deleted;
+        } catch (SQLException e) {
+            throw new ServiceException("Failed to delete saved search: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public List<SearchNotification> listUnseenNotifications(int userId) throws ServiceException {
+        String sql = """
+            SELECT n.id, n.saved_search_id, s.name AS search_name, n.room_id, r.location, r.price, n.created_at
+            FROM search_notifications n
+            JOIN saved_searches s ON n.saved_search_id = s.id
+            JOIN rooms r ON n.room_id = r.id
+            WHERE n.user_id = ? AND n.seen = FALSE
+            ORDER BY n.created_at DESC, n.id DESC
+            """;
+        try (Connection conn = connections.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+            stmt.setInt(1, userId);
+            try (ResultSet rs = stmt.executeQuery()) {
+                List<SearchNotification> notifications = new ArrayList<>();
+                while (rs.next()) {
+                    notifications.add(new SearchNotification(rs.getInt("id"), rs.getInt("saved_search_id"),
+                            rs.getString("search_name"), rs.getInt("room_id"), rs.getString("location"),
+                            rs.getDouble("price"), rs.getTimestamp("created_at")));
+                }
+                return notifications;
+            }
+        } catch (SQLException e) {
+            throw new ServiceException("Failed to load notifications: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public int markNotificationsSeen(int userId) throws ServiceException {
+        try (Connection conn = connections.getConnection();
+             PreparedStatement stmt = conn.prepareStatement("UPDATE search_notifications SET seen = TRUE WHERE user_id = ? AND seen = FALSE")) {
+            stmt.setInt(1, userId);
+            return stmt.executeUpdate();
+        } catch (SQLException e) {
+            throw new ServiceException("Failed to update notifications: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Queues a notification of the room for each matching search. A search that was
+     * already told about the room is skipped, so a room matching again after an edit,
+     * or matched by two instances at once, is only reported once.
+     * @return The number of notifications queued
+     */
+    public int addNotifications(Room room, List<SavedSearch> matches) throws ServiceException {
+        if (matches.isEmpty()) {
+            return 0;
+        }
+        String sql = "INSERT IGNORE INTO search_notifications (user_id, saved_search_id, room_id) VALUES (?, ?, ?)";
+        try (Connection conn = connections.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+            for (SavedSearch search : matches) {
+                stmt.setInt(1, search.getUserId());
+                stmt.setInt(2, search.getId());
+                stmt.setInt(3, room.getId());
+                stmt.addBatch();
+            }
+            int added = 0;
+            for (int count : stmt.executeBatch()) {
+                // Drivers may report "some rows" as SUCCESS_NO_INFO
+                added += count == Statement.SUCCESS_NO_INFO ? 1 : Math.max(count, 0);
+            }
+            return added;
+        } catch (SQLException e) {
+            throw new ServiceException("Failed to queue notifications: " + e.getMessage(), e);
+        }
+    }
+
+    private static List<SavedSearch> readSearches(PreparedStatement stmt) throws SQLException {
+        try (ResultSet rs = stmt.executeQuery()) {
+            List<SavedSearch> searches = new ArrayList<>();
+            while (rs.next()) {
+                SavedSearch search = new SavedSearch(rs.getInt("id"), rs.getInt("user_id"), rs.getString("name"),
+                        rs.getString("location"), rs.getString("price_range"), rs.getString("distance"),
+                        rs.getString("search_text"));
+                search.setCreatedAt(rs.getTimestamp("created_at"));
+                searches.add(search);
+            }
+            return searches;
+        }
+    }
+}
@@ -0,0 +1,480 @@
+package com.studentnest.services;
+
+import com.studentnest.database.DatabaseConnection;
+import com.studentnest.models.StatsBucket;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * {@link StatsService} backed directly by the MySQL database. Also gives the
+ * {@link StatsAggregator} the ways to bring the rollups up to date:
+ * <ul>
+ *   <li>{@link #addNewRows}: adds the rows above the metric's watermark to their day and month,
+ *       touching only the buckets they fall into</li>
+ *   <li>{@link #recomputeDays}: counts the given days again, after rows of them were edited</li>
+ *   <li>{@link #rebuild}: counts the whole table again, after rows were deleted</li>
+ * </ul>
+ * Each runs in one transaction that first locks the metric's watermark row, so aggregators of
+ * several instances sharing the database take turns and never add a row twice.
+ */
+public class JdbcStatsService implements StatsService {
+
+    // Rows added per transaction, so a first run over a large table does not hold the lock for long
+    private static final int BATCH_SIZE = 50_000;
+
+    /**
+     * Where a metric's rows come from.
+     */
+    private static final class Source {
+        final String table;
+        final String dimension;
+        final String price;
+
+        Source(String table, String dimension, String price) {
+            this.table = table;
+            this.dimension = dimension;
+            this.price = price;
+        }
+    }
+
+    private static final Map<String, Source> SOURCES = Map.of(
+            StatsBucket.SIGNUPS, new Source("users", "COALESCE(user_type, '')", "0"),
+            StatsBucket.ROOMS, new Source("rooms", "COALESCE(location, '')", "price"),
+            StatsBucket.FEEDBACK, new Source("feedback_and_issues", "''", "0"));
+
+    public static final List<String> METRICS = List.of(StatsBucket.SIGNUPS, StatsBucket.ROOMS, StatsBucket.FEEDBACK);
+
+    private final ConnectionProvider connections;
+
+    public JdbcStatsService() {
+        this(DatabaseConnection::getConnection);
+    }
+
+    public JdbcStatsService(ConnectionProvider connections) {
+        this.connections = connections;
+    }
+
+    @Override
+    public List<StatsBucket> listBuckets(String period, LocalDate from, LocalDate to) throws ServiceException {
+        if (StatsBucket.MONTH.equals(period)) {
+            from = from.withDayOfMonth(1);
+        }
+        String sql = "SELECT bucket, metric, dimension, row_count, price_sum FROM stats_rollups " +
+                "WHERE period = ? AND bucket >= ? AND bucket <= ? ORDER BY bucket, metric, dimension";
+        List<StatsBucket> buckets = new ArrayList<>();
+        try (Connection conn = connections.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+            stmt.setString(1, period);
+            stmt.setDate(2, Date.valueOf(from));
+            stmt.setDate(3, Date.valueOf(to));
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    buckets.add(new StatsBucket(period, rs.getDate("bucket").toLocalDate(), rs.getString("metric"),
+                            rs.getString("dimension"), rs.getInt("row_count"), rs.getDouble("price_sum")));
+                }
+            }
+            return buckets;
+        } catch (SQLException e) {
+            throw new ServiceException("Failed to load statistics: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Adds the rows created since the last call to the rollups.
+     * @return The number of rows added
+     */
+    public int addNewRows(String metric) throws ServiceException {
+        Source source = source(metric);
+        String sql = "SELECT id, CAST(created_at AS DATE) AS created_day, " + source.dimension + " AS dimension, " +
+                source.price + " AS price FROM " + source.table + " WHERE id > ? ORDER BY id LIMIT " + BATCH_SIZE;
+        int added = 0;
+        try (Connection conn = connections.getConnection()) {
+            while (true) {
+                int batch = inTransaction(conn, () -> {
+                    int lastId = lockWatermark(conn, metric);
+                    Map<Key, Delta> days = new HashMap<>();
+                    Map<Key, Delta> months = new HashMap<>();
+                    int rows = 0;
+                    int maxId = lastId;
+                    try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                        stmt.setInt(1, lastId);
+                        try (ResultSet rs = stmt.executeQuery()) {
+                            while (rs.next()) {
+                                rows++;
+                                maxId = rs.getInt("id");
+                                Date day = rs.getDate("created_day");
+                                if (day == null) {
+                                    continue;
+                                }
+                                LocalDate date = day.toLocalDate();
+                                String dimension = rs.getString("dimension");
+                                double price = rs.getDouble("price");
+                                days.computeIfAbsent(new Key(date, dimension), k -> new Delta()).add(price);
+                                months.computeIfAbsent(new Key(date.withDayOfMonth(1), dimension), k -> new Delta()).add(price);
+                            }
+                        }
+                    }
+                    if (rows > 0) {
+                        addDeltas(conn, StatsBucket.DAY, metric, days);
+                        addDeltas(conn, StatsBucket.MONTH, metric, months);
+                        setWatermark(conn, metric, maxId);
+                    }
+                    return rows;
+                });
+                added += batch;
+                if (batch < BATCH_SIZE) {
+                    return added;
+                }
+            }
+        } catch (SQLException e) {
+            throw new ServiceException("Failed to update " + metric + " statistics: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Counts the given days of a metric again, and the months they belong to.
+     * @return True if any of the days had changed
+     */
+    public boolean recomputeDays(String metric, Set<LocalDate> days) throws ServiceException {
+        if (days.isEmpty()) {
+            return false;
+        }
+        Source source = source(metric);
+        String sql = "SELECT " + source.dimension + " AS dimension, COUNT(*) AS row_count, SUM(" + source.price + ") AS price_sum " +
+                "FROM " + source.table + " WHERE created_at >= ? AND created_at < ? AND id <= ? GROUP BY " + source.dimension;
+        try (Connection conn = connections.getConnection()) {
+            return inTransaction(conn, () -> {
+                int lastId = lockWatermark(conn, metric);
+                Set<LocalDate> months = new TreeSet<>();
+                for (LocalDate day : days) {
+                    Map<Key, Delta> counted = new HashMap<>();
+                    try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                        stmt.setTimestamp(1, Timestamp.valueOf(day.atStartOfDay()));
+                        stmt.setTimestamp(2, Timestamp.valueOf(day.plusDays(1).atStartOfDay()));
+                        stmt.setInt(3, lastId);
+                        try (ResultSet rs = stmt.executeQuery()) {
+                            while (rs.next()) {
+                                counted.put(new Key(day, rs.getString("dimension")),
+                                        new Delta(rs.getInt("row_count"), rs.getDouble("price_sum")));
+                            }
+                        }
+                    }
+                    // Rooms publish a change for every seat hold, most of which leave the day as it was
+                    if (!counted.equals(readDay(conn, metric, day))) {
+                        deleteBuckets(conn, StatsBucket.DAY, metric, day, day.plusDays(1));
+                        insertBuckets(conn, StatsBucket.DAY, metric, counted);
+                        months.add(day.withDayOfMonth(1));
+                    }
+                }
+                for (LocalDate month : months) {
+                    rollUpMonth(conn, metric, month);
+                }
+                return !months.isEmpty();
+            });
+        } catch (SQLException e) {
+            throw new ServiceException("Failed to update " + metric + " statistics: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Counts the whole table of a metric again.
+     * @param force Rebuild even if the rollups hold as many rows as the table; without it only
+     *              deletions are caught, which is all that can change the row count
+     * @return True if the rollups were rebuilt
+     */
+    public boolean rebuild(String metric, boolean force) throws ServiceException {
+        Source source = source(metric);
+        try (Connection conn = connections.getConnection()) {
+            return inTransaction(conn, () -> {
+                int lastId = lockWatermark(conn, metric);
+                if (!force && countRows(conn, source, lastId) == countRolledUp(conn, metric)) {
+                    return false;
+                }
+                int maxId = lastId;
+                try (PreparedStatement stmt = conn.prepareStatement("SELECT COALESCE(MAX(id), 0) FROM " + source.table);
+                     ResultSet rs = stmt.executeQuery()) {
+                    if (rs.next()) {
+                        maxId = Math.max(lastId, rs.getInt(1));
+                    }
+                }
+
+                String sql = "SELECT CAST(created_at AS DATE) AS created_day, " + source.dimension + " AS dimension, " +
+                        "COUNT(*) AS row_count, SUM(" + source.price + ") AS price_sum FROM " + source.table +
+                        " WHERE id <= ? AND created_at IS NOT NULL " +
+                        "GROUP BY CAST(created_at AS DATE), " + source.dimension;
+                Map<Key, Delta> days = new HashMap<>();
+                Map<Key, Delta> months = new HashMap<>();
+                try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                    stmt.setInt(1, maxId);
+                    try (ResultSet rs = stmt.executeQuery()) {
+                        while (rs.next()) {
+                            LocalDate day = rs.getDate("created_day").toLocalDate();
+                            Delta counted = new Delta(rs.getInt("row_count"), rs.getDouble("price_sum"));
+                            days.put(new Key(day, rs.getString("dimension")), counted);
+                            months.computeIfAbsent(new Key(day.withDayOfMonth(1), rs.getString("dimension")), k -> new Delta())
+                                    .add(counted);
+                        }
+                    }
+                }
+                try (PreparedStatement stmt = conn.prepareStatement("DELETE FROM stats_rollups WHERE metric = ?")) {
+                    stmt.setString(1, metric);
+                    stmt.executeUpdate();
+                }
+                insertBuckets(conn, StatsBucket.DAY, metric, days);
+                insertBuckets(conn, StatsBucket.MONTH, metric, months);
+                setWatermark(conn, metric, maxId);
+                return true;
+            });
+        } catch (SQLException e) {
+            throw new ServiceException("Failed to rebuild " + metric + " statistics: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * @return The day the row was created on, or null if there is no such row
+     */
+    public LocalDate createdDay(String metric, int id) throws ServiceException {
+        Source source = source(metric);
+        try (Connection conn = connections.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(
+                     "SELECT CAST(created_at AS DATE) FROM " + source.table + " WHERE id = ?")) {
+            stmt.setInt(1, id);
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (!rs.next()) {
+                    return null;
+                }
+                Date day = rs.getDate(1);
+                return day != null ? day.toLocalDate() : null;
+            }
+        } catch (SQLException e) {
+            throw new ServiceException("Failed to read " + source.table + ": " + e.getMessage(), e);
+        }
+    }
+
+    private static Source source(String metric) {
+        Source source = SOURCES.get(metric);
+        if (source == null) {
+            throw new IllegalArgumentException("Unknown metric: " + metric);
+        }
+        return source;
+    }
+
+    private interface SqlWork<T> {
+        T run() throws SQLException;
+    }
+
+    private static <T> T inTransaction(Connection conn, SqlWork<T> work) throws SQLException {
+        conn.setAutoCommit(false);
+        try {
+            T result = work.run();
+            conn.commit();
+            return result;
+        } catch (SQLException | RuntimeException e) {
+            conn.rollback();
+            throw e;
+        } finally {
+            conn.setAutoCommit(true);
+        }
+    }
+
+    private static int lockWatermark(Connection conn, String metric) throws SQLException {
+        try (PreparedStatement stmt = conn.prepareStatement("SELECT last_id FROM stats_watermarks WHERE metric = ? FOR UPDATE")) {
+            stmt.setString(1, metric);
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (!rs.next()) {
+                    throw new SQLException("No statistics watermark for " + metric);
+                }
+                return rs.getInt(1);
+            }
+        }
+    }
+
+    private static void setWatermark(Connection conn, String metric, int lastId) throws SQLException {
+        try (PreparedStatement stmt = conn.prepareStatement("UPDATE stats_watermarks SET last_id = ? WHERE metric = ?")) {
+            stmt.setInt(1, lastId);
+            stmt.setString(2, metric);
+            stmt.executeUpdate();
+        }
+    }
+
+    // Adds to existing buckets and creates the missing ones; the watermark lock keeps other writers out meanwhile
+    private static void addDeltas(Connection conn, String period, String metric, Map<Key, Delta> deltas) throws SQLException {
+        Map<Key, Delta> missing = new HashMap<>();
+        String sql = "UPDATE stats_rollups SET row_count = row_count + ?, price_sum = price_sum + ? " +
+                "WHERE period = ? AND bucket = ? AND metric = ? AND dimension = ?";
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+            for (Map.Entry<Key, Delta> entry : deltas.entrySet()) {
+                stmt.setInt(1, entry.getValue().count);
+                stmt.setDouble(2, entry.getValue().priceSum);
+                stmt.setString(3, period);
+                stmt.setDate(4, Date.valueOf(entry.getKey().bucket));
+                stmt.setString(5, metric);
+                stmt.setString(6, entry.getKey().dimension);
+                if (stmt.executeUpdate() == 0) {
+                    missing.put(entry.getKey(), entry.getValue());
+                }
+            }
+        }
+        insertBuckets(conn, period, metric, missing);
+    }
+
+    private static void insertBuckets(Connection conn, String period, String metric, Map<Key, Delta> buckets) throws SQLException {
+        if (buckets.isEmpty()) {
+            return;
+        }
+        String sql = "INSERT INTO stats_rollups (period, bucket, metric, dimension, row_count, price_sum) VALUES (?, ?, ?, ?, ?, ?)";
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+            for (Map.Entry<Key, Delta> entry : buckets.entrySet()) {
+                stmt.setString(1, period);
+                stmt.setDate(2, Date.valueOf(entry.getKey().bucket));
+                stmt.setString(3, metric);
+                stmt.setString(4, entry.getKey().dimension);
+                stmt.setInt(5, entry.getValue().count);
+                stmt.setDouble(6, entry.getValue().priceSum);
+                stmt.addBatch();
+            }
+            stmt.executeBatch();
+        }
+    }
+
+    private static void deleteBuckets(Connection conn, String period, String metric, LocalDate from, LocalDate until) throws SQLException {
+        String sql = "DELETE FROM stats_rollups WHERE period = ? AND metric = ? AND bucket >= ? AND bucket < ?";
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+            stmt.setString(1, period);
+            stmt.setString(2, metric);
+            stmt.setDate(3, Date.valueOf(from));
+            stmt.setDate(4, Date.valueOf(until));
+            stmt.executeUpdate();
+        }
+    }
+
+    // A month is the sum of its days
+    private static void rollUpMonth(Connection conn, String metric, LocalDate month) throws SQLException {
+        deleteBuckets(conn, StatsBucket.MONTH, metric, month, month.plusDays(1));
+        String sql = "INSERT INTO stats_rollups (period, bucket, metric, dimension, row_count, price_sum) " +
+                "SELECT ?, CAST(? AS DATE), metric, dimension, SUM(row_count), SUM(price_sum) FROM stats_rollups " +
+                "WHERE period = ? AND metric = ? AND bucket >= ? AND bucket < ? GROUP BY metric, dimension";
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+            stmt.setString(1, StatsBucket.MONTH);
+            stmt.setDate(2, Date.valueOf(month));
+            stmt.setString(3, StatsBucket.DAY);
+            stmt.setString(4, metric);
+            stmt.setDate(5, Date.valueOf(month));
+            stmt.setDate(6, Date.valueOf(month.plusMonths(1)));
+            stmt.executeUpdate();
+        }
+    }
+
+    private static Map<Key, Delta> readDay(Connection conn, String metric, LocalDate day) throws SQLException {
+        Map<Key, Delta> buckets = new HashMap<>();
+        String sql = "SELECT dimension, row_count, price_sum FROM stats_rollups WHERE period = ? AND metric = ? AND bucket = ?";
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+            stmt.setString(1, StatsBucket.DAY);
+            stmt.setString(2, metric);
+            stmt.setDate(3, Date.valueOf(day));
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    buckets.put(new Key(day, rs.getString("dimension")),
+                            new Delta(rs.getInt("row_count"), rs.getDouble("price_sum")));
+                }
+            }
+        }
+        return buckets;
+    }
+
+    private static long countRows(Connection conn, Source source, int lastId) throws SQLException {
+        String sql = "SELECT COUNT(*) FROM " + source.table + " WHERE id <= ? AND created_at IS NOT NULL";
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+            stmt.setInt(1, lastId);
+            try (ResultSet rs = stmt.executeQuery()) {
+                return rs.next() ? rs.getLong(1) : 0;
+            }
+        }
+    }
+
+    private static long countRolledUp(Connection conn, String metric) throws SQLException {
+        String sql = "SELECT COALESCE(SUM(row_count), 0) FROM stats_rollups WHERE period = ? AND metric = ?";
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+            stmt.setString(1, StatsBucket.MONTH);
+            stmt.setString(2, metric);
+            try (ResultSet rs = stmt.executeQuery()) {
+                return rs.next() ? rs.getLong(1) : 0;
+            }
+        }
+    }
+
+    private static final class Key {
+        final LocalDate bucket;
+        final String dimension;
+
+        Key(LocalDate bucket, String dimension) {
+            this.bucket = bucket;
+            this.dimension = dimension != null ? dimension : "";
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            return bucket.equals(other.bucket) && dimension.equals(other.dimension);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(bucket, dimension);
+        }
+    }
+
+    private static final class Delta {
+        int count;
+        double priceSum;
+
+        Delta() {
+        }
+
+        Delta(int count, double priceSum) {
+            this.count = count;
+            this.priceSum = priceSum;
+        }
+
+        void add(double price) {
+            count++;
+            priceSum += price;
+        }
+
+        void add(Delta other) {
+            count += other.count;
+            priceSum += other.priceSum;
+        }
+
+        // Prices are stored with two decimals
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Delta)) {
+                return false;
+            }
+            Delta other = (Delta) o;
+            return count == other.count && Math.abs(priceSum - other.priceSum) < 0.005;
+        }
+
+        @Override
+        public int hashCode() {
+            return count;
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.studentnest.services;
+
+import com.studentnest.cache.InvalidationBus;
+import com.studentnest.cache.InvalidationEvent;
+import com.studentnest.database.DatabaseConnection;
+import com.studentnest.models.User;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link UserService} backed directly by the MySQL database.
+ */
+public class JdbcUserService implements UserService {
+
+    private final ConnectionProvider connections;
+
+    public JdbcUserService() {
+        this(DatabaseConnection::getConnection);
+    }
+
+    public JdbcUserService(ConnectionProvider connections) {
+        this.connections = connections;
+    }
+
+    @Override
+    public List<User> listUsers() throws ServiceException {
+        String sql = "SELECT id, name, phone, username, user_type FROM users WHERE user_type != 'Admin' ORDER BY created_at DESC";
+        try (Connection conn = connections.getConnection();
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery(sql)) {
+            List<User> users = new ArrayList<>();
+            while (rs.next()) {
+                User user = new User();
+                user.setId(rs.getInt("id"));
+                user.setName(rs.getString("name"));
+                user.setPhone(rs.getString("phone"));
+                user.setUsername(rs.getString("username"));
+                user.setUserType(rs.getString("user_type"));
+                users.add(user);
+            }
+            return users;
+        } catch (SQLException e) {
+            throw new ServiceException("Failed to load users: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public int countUsers() throws ServiceException {
+        try (Connection conn = connections.getConnection();
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT COUNT(*) FROM users")) {
+            return rs.next() ? rs.getInt(1) : 0;
+        } catch (SQLException e) {
+            throw new ServiceException("Failed to count users: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public Map<String, Integer> countUsersByType() throws ServiceException {
+        String sql = "SELECT user_type, COUNT(*) as count FROM users WHERE user_type != 'Admin' GROUP BY user_type";
+        try (Connection conn = connections.getConnection();
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery(sql)) {
+            Map<String, Integer> counts = new LinkedHashMap<>();
+            while (rs.next()) {
+                counts.put(rs.getString("user_type"), rs.getInt("count"));
+            }
+            return counts;
+        } catch (SQLException e) {
+            throw new ServiceException("Failed to load user statistics: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public int countUsersCreatedIn(int year, int month) throws ServiceException {
+        String sql = "SELECT COUNT(*) FROM users WHERE MONTH(created_at) = ? AND YEAR(created_at) = ? AND user_type != 'Admin'";
+        try (Connection conn = connections.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+            stmt.setInt(1, month);
+            stmt.setInt(2, year);
+            try (ResultSet rs = stmt.executeQuery()) {
+                return rs.next() ? rs.getInt(1) : 0;
+            }
+        } catch (SQLException e) {
+            throw new ServiceException("Failed to count users: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public boolean registerUser(User user) throws ServiceException {
+        try (Connection conn = connections.getConnection()) {
+            // First check if username already exists
+            try (PreparedStatement checkStmt = conn.prepareStatement("SELECT COUNT(*) FROM users WHERE username = ?")) {
+                checkStmt.setString(1, user.getUsername());
+                try (ResultSet rs = checkStmt.executeQuery()) {
+                    if (rs.next() && rs.getInt(1) > 0) {
+                        return false;
+                    }
+                }
+            }
+
+            String sql = "INSERT INTO users (name, phone, username, password, user_type) VALUES (?, ?, ?, ?, ?)";
+            try (PreparedStatement insertStmt = conn.prepareStatement(sql)) {
+                insertStmt.setString(1, user.getName());
+                insertStmt.setString(2, user.getPhone());
+                insertStmt.setString(3, user.getUsername());
+                insertStmt.setString(4, user.getPassword()); // Consider hashing passwords in production
+                insertStmt.setString(5, user.getUserType());
+                boolean registered = insertStmt.executeUpdate() > 0;
+                if (registered) {
+                    InvalidationBus.getInstance().publish(InvalidationEvent.USER, InvalidationEvent.ALL);
+                }
+                return registered;
+            }
+        } catch (SQLException e) {
+            throw new ServiceException("Failed to register user: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public boolean deleteUser(int userId) throws ServiceException {
+        try (Connection conn = connections.getConnection()) {
+            conn.setAutoCommit(false);
+            try {
+                // Rooms first (only house owners have any), then feedback, then the user
+                try (PreparedStatement stmt = conn.prepareStatement("DELETE FROM rooms WHERE owner_id = ?")) {
+                    stmt.setInt(1, userId);
+                    stmt.executeUpdate();
+                }
+                try (PreparedStatement stmt = conn.prepareStatement("DELETE FROM feedback_and_issues WHERE user_id = ?")) {
+                    stmt.setInt(1, userId);
+                    stmt.executeUpdate();
+                }
+                try (PreparedStatement stmt = conn.prepareStatement("DELETE FROM users WHERE id = ?")) {
+                    stmt.setInt(1, userId);
+                    if (stmt.executeUpdate() > 0) {
+                        conn.commit();
+                        InvalidationBus bus = InvalidationBus.getInstance();
+                        bus.publish(InvalidationEvent.USER, userId);
+                        bus.publish(InvalidationEvent.ROOM, InvalidationEvent.ALL);
+                        bus.publish(InvalidationEvent.FEEDBACK, InvalidationEvent.ALL);
+                        return true;
+                    }
+                }
+                conn.rollback();
+                return false;
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(true);
+            }
+        } catch (SQLException e) {
+            throw new ServiceException("Failed to delete user: " + e.getMessage(), e);
+        }
+    }
+}
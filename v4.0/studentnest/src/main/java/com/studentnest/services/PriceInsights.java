@@ -0,0 +1,221 @@
+package com.studentnest.services;
+
+import com.studentnest.models.Room;
+import com.studentnest.utils.QuantileSketch;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Keeps per-location and per-room-type price distributions for the rooms
+ * this client has seen. Every room is folded into a {@link QuantileSketch}
+ * as it is loaded, added or updated, so summaries and the student price
+ * filter buckets never need a full recomputation over the rooms table.
+ */
+public class PriceInsights {
+
+    public static final String ALL_LOCATIONS = "All Locations";
+
+    private static final String[] DEFAULT_BUCKETS = {"0-5000", "5000-10000", "10000-15000", "15000+"};
+    private static final int MIN_ROOMS_FOR_BUCKETS = 8;
+    private static final double BUCKET_ROUNDING = 500;
+
+    private static final PriceInsights INSTANCE = new PriceInsights();
+
+    // Sketch per "location|roomType" key
+    private final Map<String, QuantileSketch> sketches = new HashMap<>();
+    // Last recorded state per room id, so updates replace the old price
+    private final Map<Integer, Entry> entries = new HashMap<>();
+
+    private PriceInsights() {}
+
+    public static PriceInsights getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Records a room, or updates its previous entry if the room is already known.
+     * Recording the same unchanged room again is a no-op. Rooms without an id yet are
+     * ignored, since they could never be updated or forgotten again.
+     */
+    public synchronized void record(Room room) {
+        if (room == null || room.getId() <= 0 || !room.hasValidLocation() || room.getPrice() < 0) {
+            return;
+        }
+        Entry updated = new Entry(room.getLocation(), normalizeType(room.getRoomType()), room.getPrice());
+        Entry previous = entries.put(room.getId(), updated);
+        if (updated.equals(previous)) {
+            return;
+        }
+        if (previous != null) {
+            removeEntry(previous);
+        }
+        sketches.computeIfAbsent(updated.key(), k -> new QuantileSketch()).add(updated.price);
+    }
+
+    /**
+     * Removes a deleted room from the distributions.
+     */
+    public synchronized void forget(int roomId) {
+        Entry previous = entries.remove(roomId);
+        if (previous != null) {
+            removeEntry(previous);
+        }
+    }
+
+    /**
+     * Price summary over all room types at a location.
+     * @param location A location name, or {@link #ALL_LOCATIONS} / null for every location
+     */
+    public synchronized PriceSummary summaryFor(String location) {
+        return PriceSummary.of(mergedSketch(location, null));
+    }
+
+    /**
+     * Price summary for a single room type at a location.
+     */
+    public synchronized PriceSummary summaryFor(String location, String roomType) {
+        return PriceSummary.of(mergedSketch(location, normalizeType(roomType)));
+    }
+
+    /**
+     * Builds price filter buckets from the quartiles of the current distribution,
+     * rounded to whole 500s. Falls back to the fixed buckets while too few rooms are known.
+     * Labels use the same "min-max" / "min+" format that {@link #isPriceInRange} understands.
+     */
+    public synchronized List<String> priceBuckets(String location) {
+        QuantileSketch sketch = mergedSketch(location, null);
+        List<String> buckets = new ArrayList<>();
+        if (sketch.getCount() < MIN_ROOMS_FOR_BUCKETS) {
+            buckets.addAll(List.of(DEFAULT_BUCKETS));
+            return buckets;
+        }
+
+        List<Long> bounds = new ArrayList<>();
+        for (double q : new double[]{0.25, 0.5, 0.75}) {
+            long bound = Math.round(sketch.quantile(q) / BUCKET_ROUNDING) * (long) BUCKET_ROUNDING;
+            long last = bounds.isEmpty() ? 0 : bounds.get(bounds.size() - 1);
+            if (bound > last) {
+                bounds.add(bound);
+            }
+        }
+
+        long lower = 0;
+        for (long bound : bounds) {
+            buckets.add(lower + "-" + bound);
+            lower = bound;
+        }
+        buckets.add(lower + "+");
+        return buckets;
+    }
+
+    /**
+     * Checks a price against a bucket label such as "5000-10000" or "15000+".
+     * The lower bound is exclusive except for buckets starting at 0.
+     */
+    public static boolean isPriceInRange(double price, String priceRange) {
+        if (priceRange == null) {
+            return true;
+        }
+        try {
+            if (priceRange.endsWith("+")) {
+                return price > Double.parseDouble(priceRange.substring(0, priceRange.length() - 1));
+            }
+            int dash = priceRange.indexOf('-');
+            if (dash > 0) {
+                double min = Double.parseDouble(priceRange.substring(0, dash));
+                double max = Double.parseDouble(priceRange.substring(dash + 1));
+                return (min == 0 ? price >= min : price > min) && price <= max;
+            }
+        } catch (NumberFormatException e) {
+            // Not a price range label, e.g. "All Prices"
+        }
+        return true;
+    }
+
+    private QuantileSketch mergedSketch(String location, String roomType) {
+        boolean anyLocation = location == null || ALL_LOCATIONS.equals(location);
+        QuantileSketch merged = new QuantileSketch();
+        for (Map.Entry<String, QuantileSketch> e : sketches.entrySet()) {
+            String[] parts = e.getKey().split("\\|", 2);
+            if ((anyLocation || parts[0].equals(location)) && (roomType == null || parts[1].equals(roomType))) {
+                merged.merge(e.getValue());
+            }
+        }
+        return merged;
+    }
+
+    private void removeEntry(Entry entry) {
+        QuantileSketch sketch = sketches.get(entry.key());
+        if (sketch != null) {
+            sketch.remove(entry.price);
+            if (sketch.isEmpty()) {
+                sketches.remove(entry.key());
+            }
+        }
+    }
+
+    private static String normalizeType(String roomType) {
+        return roomType == null || roomType.isBlank() ? "Any" : roomType;
+    }
+
+    private static final class Entry {
+        final String location;
+        final String roomType;
+        final double price;
+
+        Entry(String location, String roomType, double price) {
+            this.location = location;
+            this.roomType = roomType;
+            this.price = price;
+        }
+
+        String key() {
+            return location + "|" + roomType;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof Entry)) return false;
+            Entry other = (Entry) obj;
+            return price == other.price && location.equals(other.location) && roomType.equals(other.roomType);
+        }
+
+        @Override
+        public int hashCode() {
+            return key().hashCode() * 31 + Double.hashCode(price);
+        }
+    }
+
+    /**
+     * Immutable snapshot of a price distribution.
+     */
+    public static final class PriceSummary {
+        private final long count;
+        private final double p10;
+        private final double median;
+        private final double p90;
+
+        private PriceSummary(long count, double p10, double median, double p90) {
+            this.count = count;
+            this.p10 = p10;
+            this.median = median;
+            this.p90 = p90;
+        }
+
+        static PriceSummary of(QuantileSketch sketch) {
+            return new PriceSummary(sketch.getCount(), sketch.quantile(0.10), sketch.quantile(0.5), sketch.quantile(0.90));
+        }
+
+        public long getCount() { return count; }
+        public double getP10() { return p10; }
+        public double getMedian() { return median; }
+        public double getP90() { return p90; }
+
+        public boolean isEmpty() {
+            return count == 0;
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.studentnest.services;
+
+import com.studentnest.models.SeatHold;
+
+/**
+ * Seat reservations: a student holds a seat of a room, which takes it out of the room's
+ * available seats, and confirms the hold before it expires. Holds that are released or
+ * expire give their seat back.
+ */
+public interface ReservationService {
+
+    /**
+     * Takes one seat of the room for the student, until the returned hold's expiry.
+     * Never hands out more seats than the room has, however many students try at once, and
+     * never more than one seat of a room to the same student.
+     * @throws SeatAlreadyHeldException if the student already holds a seat of the room
+     * @throws ServiceException with status 409 if no seat is left, 404 if the room does not exist
+     */
+    SeatHold holdSeat(int roomId, int studentId) throws ServiceException;
+
+    /**
+     * @param studentId The student who holds the seat; other students cannot confirm it
+     * @return false if the hold expired, was released first or belongs to another student
+     */
+    boolean confirmHold(int holdId, int studentId) throws ServiceException;
+
+    /**
+     * Gives the seat of a held or confirmed reservation back to the room.
+     * @param studentId The student who holds the seat; other students cannot release it
+     * @return false if the hold was already released or belongs to another student
+     */
+    boolean releaseHold(int holdId, int studentId) throws ServiceException;
+}
@@ -0,0 +1,29 @@
+package com.studentnest.services;
+
+import com.studentnest.models.Room;
+
+/**
+ * Raised by {@link RoomService#updateRoom} when the room was changed by someone else
+ * after the caller read it, i.e. the stored version no longer matches the room's version.
+ * Carries the room as it is stored now, so the caller can merge its edit and retry.
+ */
+public class RoomConflictException extends ServiceException {
+
+    private static final long serialVersionUID = 1L;
+
+    // Room is not serializable; a deserialized exception carries only the message
+    private final transient Room current;
+
+    public RoomConflictException(Room current) {
+        super("Room " + current.getId() + " was changed by someone else (now version " + current.getVersion() + ")",
+                409, null);
+        this.current = current;
+    }
+
+    /**
+     * @return The room as it is stored now, including its current version
+     */
+    public Room getCurrent() {
+        return current;
+    }
+}
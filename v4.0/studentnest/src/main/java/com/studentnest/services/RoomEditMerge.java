@@ -0,0 +1,152 @@
+package com.studentnest.services;
+
+import com.studentnest.models.Room;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Three-way merge of a room edit that lost a version race against another edit.
+ * <p>
+ * Starting from the room as it is stored now, every field the edit changed is taken from
+ * the edit, unless the other side changed the same field to a different value. Those
+ * fields are reported as conflicts and keep the stored value in {@link #getMerged()};
+ * {@link #getMergedKeepingMine()} takes the edit's values for them instead.
+ * The merged room carries the stored version, so it can be saved right away.
+ */
+public final class RoomEditMerge {
+
+    /**
+     * A field both sides changed, with the values as shown to the owner.
+     */
+    public static final class Conflict {
+        private final String field;
+        private final String mine;
+        private final String theirs;
+
+        Conflict(String field, String mine, String theirs) {
+            this.field = field;
+            this.mine = mine;
+            this.theirs = theirs;
+        }
+
+        public String getField() {
+            return field;
+        }
+
+        public String getMine() {
+            return mine;
+        }
+
+        public String getTheirs() {
+            return theirs;
+        }
+
+        @Override
+        public String toString() {
+            return field + ": yours \"" + mine + "\", theirs \"" + theirs + "\"";
+        }
+    }
+
+    private static final class Field {
+        final String label;
+        final Function<Room, Object> value;
+        final BiConsumer<Room, Room> copy;
+
+        Field(String label, Function<Room, Object> value, BiConsumer<Room, Room> copy) {
+            this.label = label;
+            this.value = value;
+            this.copy = copy;
+        }
+    }
+
+    // The fields an owner edits; copy takes the value from the second room into the first
+    private static final List<Field> FIELDS = List.of(
+            new Field("Location", Room::getLocation, (to, from) -> to.setLocation(from.getLocation())),
+            new Field("Price", Room::getPrice, (to, from) -> to.setPrice(from.getPrice())),
+            new Field("Description", Room::getDescription, (to, from) -> to.setDescription(from.getDescription())),
+            new Field("Contact", Room::getContactNumber, (to, from) -> to.setContactNumber(from.getContactNumber())),
+            new Field("Room type", Room::getRoomType, (to, from) -> to.setRoomType(from.getRoomType())),
+            new Field("Seats", Room::getNumberOfRooms, (to, from) -> to.setNumberOfRooms(from.getNumberOfRooms())),
+            // Coordinates are parsed from the map link and always travel with it
+            new Field("Map link", Room::getMapLink, (to, from) -> {
+                to.setMapLink(from.getMapLink());
+                to.setLatitude(from.getLatitude());
+                to.setLongitude(from.getLongitude());
+            }),
+            new Field("Image 1", Room::getImage1Path, (to, from) -> to.setImage1Path(from.getImage1Path())),
+            new Field("Image 2", Room::getImage2Path, (to, from) -> to.setImage2Path(from.getImage2Path()))
+    );
+
+    private final Room merged;
+    private final Room mine;
+    private final List<Field> conflictingFields;
+    private final List<Conflict> conflicts;
+
+    private RoomEditMerge(Room merged, Room mine, List<Field> conflictingFields, List<Conflict> conflicts) {
+        this.merged = merged;
+        this.mine = mine;
+        this.conflictingFields = conflictingFields;
+        this.conflicts = Collections.unmodifiableList(conflicts);
+    }
+
+    /**
+     * @param base The room as it was when the edit started
+     * @param mine The edited room
+     * @param theirs The room as it is stored now
+     */
+    public static RoomEditMerge of(Room base, Room mine, Room theirs) {
+        Room merged = new Room(theirs);
+        List<Field> conflictingFields = new ArrayList<>();
+        List<Conflict> conflicts = new ArrayList<>();
+        for (Field field : FIELDS) {
+            Object baseValue = field.value.apply(base);
+            Object mineValue = field.value.apply(mine);
+            Object theirsValue = field.value.apply(theirs);
+            if (Objects.equals(baseValue, mineValue) || Objects.equals(mineValue, theirsValue)) {
+                continue;
+            }
+            if (Objects.equals(baseValue, theirsValue)) {
+                field.copy.accept(merged, mine);
+            } else {
+                conflictingFields.add(field);
+                conflicts.add(new Conflict(field.label, display(mineValue), display(theirsValue)));
+            }
+        }
+        return new RoomEditMerge(merged, mine, conflictingFields, conflicts);
+    }
+
+    public boolean hasConflicts() {
+        return !conflicts.isEmpty();
+    }
+
+    public List<Conflict> getConflicts() {
+        return conflicts;
+    }
+
+    /**
+     * @return The stored room with the edit applied, keeping the stored values where both changed a field
+     */
+    public Room getMerged() {
+        return new Room(merged);
+    }
+
+    /**
+     * @return The stored room with the edit applied, taking the edit's values where both changed a field
+     */
+    public Room getMergedKeepingMine() {
+        Room room = new Room(merged);
+        for (Field field : conflictingFields) {
+            field.copy.accept(room, mine);
+        }
+        return room;
+    }
+
+    private static String display(Object value) {
+        return value != null ? value.toString() : "";
+    }
+}
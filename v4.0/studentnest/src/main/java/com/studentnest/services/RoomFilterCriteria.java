@@ -0,0 +1,131 @@
+package com.studentnest.services;
+
+import com.studentnest.models.Room;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CancellationException;
+
+/**
+ * Immutable snapshot of the student dashboard filters. Taken on the FX thread
+ * and evaluated on a background thread, so it never touches UI controls.
+ */
+public final class RoomFilterCriteria {
+
+    public static final String ALL_LOCATIONS = "All Locations";
+    public static final String ALL_PRICES = "All Prices";
+    public static final String NEAREST_TO_DIU = "Nearest to DIU";
+
+    private final String location;
+    private final String priceRange;
+    private final Double maxDistanceKm;
+    private final boolean sortByDistance;
+    private final String searchText;
+
+    public RoomFilterCriteria(String location, String priceRange, String distance, String sortOrder, String searchText) {
+        this.location = location != null ? location : ALL_LOCATIONS;
+        this.priceRange = priceRange != null ? priceRange : ALL_PRICES;
+        this.maxDistanceKm = parseDistance(distance);
+        this.sortByDistance = NEAREST_TO_DIU.equals(sortOrder);
+        this.searchText = searchText != null ? searchText.trim().toLowerCase(Locale.ROOT) : "";
+    }
+
+    /**
+     * Returns the matching rooms in display order. Checks for thread interruption
+     * so a superseded evaluation can be abandoned early.
+     */
+    public List<Room> apply(List<Room> rooms) {
+        List<Room> ordered = sortByDistance ? orderByCampusDistance(rooms) : rooms;
+        List<Room> result = new ArrayList<>();
+        int checked = 0;
+        for (Room room : ordered) {
+            if ((++checked & 0xFF) == 0 && Thread.currentThread().isInterrupted()) {
+                throw new CancellationException("Filter superseded");
+            }
+            if (matches(room)) {
+                result.add(room);
+            }
+        }
+        return result;
+    }
+
+    public boolean matches(Room room) {
+        boolean locationMatch = location.equals(ALL_LOCATIONS) || location.equals(room.getLocation());
+        boolean priceMatch = priceRange.equals(ALL_PRICES) || PriceInsights.isPriceInRange(room.getPrice(), priceRange);
+        return locationMatch && priceMatch && isWithinDistance(room) && matchesSearch(room);
+    }
+
+    private boolean isWithinDistance(Room room) {
+        if (maxDistanceKm == null) {
+            return true;
+        }
+        Double campusDistance = GeoIndex.getInstance().campusDistanceKm(room.getId());
+        return campusDistance != null && campusDistance <= maxDistanceKm;
+    }
+
+    private boolean matchesSearch(Room room) {
+        if (searchText.isEmpty()) {
+            return true;
+        }
+        return contains(room.getDescription()) || contains(room.getLocation())
+                || contains(room.getRoomType()) || contains(room.getOwnerName());
+    }
+
+    private boolean contains(String value) {
+        return value != null && value.toLowerCase(Locale.ROOT).contains(searchText);
+    }
+
+    /**
+     * Walks the geo index, which keeps the whole catalog sorted by campus distance.
+     * Rooms without coordinates go last, in their original order.
+     */
+    private static List<Room> orderByCampusDistance(List<Room> rooms) {
+        Map<Integer, Room> byId = new HashMap<>();
+        for (Room room : rooms) {
+            byId.put(room.getId(), room);
+        }
+        List<Room> ordered = new ArrayList<>(rooms.size());
+        for (Integer id : GeoIndex.getInstance().roomIdsByCampusDistance()) {
+            Room room = byId.remove(id);
+            if (room != null) {
+                ordered.add(room);
+            }
+        }
+        for (Room room : rooms) {
+            if (byId.containsKey(room.getId())) {
+                ordered.add(room);
+            }
+        }
+        return ordered;
+    }
+
+    // Shared with SavedSearchIndex, which must read a distance label the same way
+    static Double parseDistance(String distance) {
+        if (distance == null || !distance.startsWith("Within ")) {
+            return null;
+        }
+        try {
+            return Double.parseDouble(distance.replaceAll("[^0-9.]", ""));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (!(obj instanceof RoomFilterCriteria)) return false;
+        RoomFilterCriteria other = (RoomFilterCriteria) obj;
+        return location.equals(other.location) && priceRange.equals(other.priceRange)
+                && Objects.equals(maxDistanceKm, other.maxDistanceKm)
+                && sortByDistance == other.sortByDistance && searchText.equals(other.searchText);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(location, priceRange, maxDistanceKm, sortByDistance, searchText);
+    }
+}
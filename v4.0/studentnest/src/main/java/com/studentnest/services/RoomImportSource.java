@@ -0,0 +1,317 @@
+package com.studentnest.services;
+
+import com.studentnest.api.Json;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.StringJoiner;
+
+/**
+ * Reads the rows of a room import file one at a time, so files of any size can be imported
+ * without holding them in memory. Two formats are understood:
+ * <ul>
+ *   <li>CSV with a header row; quoted fields may contain commas, quotes ("") and line breaks</li>
+ *   <li>JSON: an array of objects, or one object per line (JSON Lines)</li>
+ * </ul>
+ * Column and field names are matched case-insensitively, with spaces and dashes read as underscores.
+ */
+abstract class RoomImportSource implements Closeable {
+
+    /**
+     * One row of the file. Either values or error is set.
+     */
+    static final class Record {
+        final int line;
+        final Map<String, String> values;
+        final String error;
+
+        Record(int line, Map<String, String> values, String error) {
+            this.line = line;
+            this.values = values;
+            this.error = error;
+        }
+    }
+
+    protected final BufferedReader reader;
+    protected int line = 1;
+    private int pushedBack = -2;
+
+    protected RoomImportSource(BufferedReader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * Opens the file by its extension: .json, .jsonl and .ndjson are JSON, anything else CSV.
+     */
+    static RoomImportSource open(Path file) throws IOException {
+        String name = file.getFileName().toString().toLowerCase(Locale.ROOT);
+        BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8);
+        try {
+            return name.endsWith(".json") || name.endsWith(".jsonl") || name.endsWith(".ndjson")
+                    ? new JsonSource(reader) : new CsvSource(reader);
+        } catch (IOException | RuntimeException e) {
+            reader.close();
+            throw e;
+        }
+    }
+
+    /**
+     * @return The next row, or null at the end of the file
+     * @throws IOException If the file cannot be read or its structure is broken beyond the current row
+     */
+    abstract Record next() throws IOException;
+
+    /**
+     * @return Up to max rows; empty at the end of the file
+     */
+    List<Record> nextChunk(int max) throws IOException {
+        List<Record> chunk = new ArrayList<>(max);
+        Record record;
+        while (chunk.size() < max && (record = next()) != null) {
+            chunk.add(record);
+        }
+        return chunk;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    protected int read() throws IOException {
+        int c;
+        if (pushedBack != -2) {
+            c = pushedBack;
+            pushedBack = -2;
+        } else {
+            c = reader.read();
+        }
+        if (c == '\n') {
+            line++;
+        }
+        return c;
+    }
+
+    protected void unread(int c) {
+        if (c == '\n') {
+            line--;
+        }
+        pushedBack = c;
+    }
+
+    static String normalizeName(String name) {
+        return name.trim().toLowerCase(Locale.ROOT).replace(' ', '_').replace('-', '_');
+    }
+
+    private static final class CsvSource extends RoomImportSource {
+
+        private final String[] header;
+
+        CsvSource(BufferedReader reader) throws IOException {
+            super(reader);
+            List<String> fields = readFields();
+            if (fields == null) {
+                throw new IOException("The file is empty");
+            }
+            // Skip the byte order mark some spreadsheet programs write
+            if (fields.get(0).startsWith("\uFEFF")) {
+                fields.set(0, fields.get(0).substring(1));
+            }
+            header = new String[fields.size()];
+            for (int i = 0; i < header.length; i++) {
+                header[i] = normalizeName(fields.get(i));
+            }
+        }
+
+        @Override
+        Record next() throws IOException {
+            List<String> fields;
+            int start;
+            do {
+                start = line;
+                fields = readFields();
+                if (fields == null) {
+                    return null;
+                }
+            } while (fields.size() == 1 && fields.get(0).isBlank());
+
+            if (fields.size() > header.length) {
+                return new Record(start, null, "Expected " + header.length + " columns but found " + fields.size());
+            }
+            Map<String, String> values = new HashMap<>();
+            for (int i = 0; i < fields.size(); i++) {
+                values.put(header[i], fields.get(i));
+            }
+            return new Record(start, values, null);
+        }
+
+        // Fields of the next record, or null at the end of the file
+        private List<String> readFields() throws IOException {
+            int c = read();
+            if (c == -1) {
+                return null;
+            }
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+            while (true) {
+                if (quoted) {
+                    if (c == -1) {
+                        throw new IOException("Unterminated quoted field before line " + line);
+                    }
+                    if (c == '"') {
+                        int following = read();
+                        if (following == '"') {
+                            field.append('"');
+                        } else {
+                            quoted = false;
+                            unread(following);
+                        }
+                    } else {
+                        field.append((char) c);
+                    }
+                } else if (c == '"' && field.length() == 0) {
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else if (c == '\n' || c == -1) {
+                    break;
+                } else if (c == '\r') {
+                    int following = read();
+                    if (following != '\n') {
+                        unread(following);
+                    }
+                    break;
+                } else {
+                    field.append((char) c);
+                }
+                c = read();
+            }
+            fields.add(field.toString());
+            return fields;
+        }
+    }
+
+    private static final class JsonSource extends RoomImportSource {
+
+        private boolean array;
+        private boolean finished;
+
+        JsonSource(BufferedReader reader) throws IOException {
+            super(reader);
+            int c = skipWhitespace();
+            if (c == '\uFEFF') {
+                c = skipWhitespace();
+            }
+            if (c == '[') {
+                array = true;
+            } else if (c == -1) {
+                finished = true;
+            } else {
+                unread(c);
+            }
+        }
+
+        @Override
+        Record next() throws IOException {
+            if (finished) {
+                return null;
+            }
+            int c = skipWhitespace();
+            if (array && c == ',') {
+                c = skipWhitespace();
+            }
+            if (c == -1 || (array && c == ']')) {
+                if (array && c == -1) {
+                    throw new IOException("Unterminated JSON array");
+                }
+                finished = true;
+                return null;
+            }
+            if (c != '{') {
+                throw new IOException("Expected a JSON object on line " + line);
+            }
+            int start = line;
+            String text = readObject();
+            try {
+                Map<String, String> values = new HashMap<>();
+                for (Map.Entry<String, Object> entry : Json.parseObject(text).entrySet()) {
+                    values.put(normalizeName(entry.getKey()), toText(entry.getValue()));
+                }
+                return new Record(start, values, null);
+            } catch (IllegalArgumentException e) {
+                return new Record(start, null, "Invalid JSON: " + e.getMessage());
+            }
+        }
+
+        // Text of the object whose opening brace was just read, found by counting braces outside strings
+        private String readObject() throws IOException {
+            StringBuilder text = new StringBuilder("{");
+            int depth = 1;
+            boolean inString = false;
+            while (depth > 0) {
+                int c = read();
+                if (c == -1) {
+                    throw new IOException("Unterminated JSON object at the end of the file");
+                }
+                text.append((char) c);
+                if (inString) {
+                    if (c == '\\') {
+                        int escaped = read();
+                        if (escaped == -1) {
+                            throw new IOException("Unterminated JSON string at the end of the file");
+                        }
+                        text.append((char) escaped);
+                    } else if (c == '"') {
+                        inString = false;
+                    }
+                } else if (c == '"') {
+                    inString = true;
+                } else if (c == '{' || c == '[') {
+                    depth++;
+                } else if (c == '}' || c == ']') {
+                    depth--;
+                }
+            }
+            return text.toString();
+        }
+
+        private int skipWhitespace() throws IOException {
+            int c;
+            do {
+                c = read();
+            } while (c == ' ' || c == '\t' || c == '\n' || c == '\r');
+            return c;
+        }
+
+        // Arrays, such as a list of images, become semicolon separated like in the CSV format
+        private static String toText(Object value) {
+            if (value == null) {
+                return null;
+            }
+            if (value instanceof List) {
+                StringJoiner joined = new StringJoiner(";");
+                for (Object item : (List<?>) value) {
+                    if (item != null) {
+                        joined.add(String.valueOf(item));
+                    }
+                }
+                return joined.toString();
+            }
+            if (value instanceof Double && (Double) value == Math.rint((Double) value)) {
+                return String.valueOf(((Double) value).longValue());
+            }
+            return String.valueOf(value);
+        }
+    }
+}
@@ -0,0 +1,531 @@
+package com.studentnest.services;
+
+import com.studentnest.cache.InvalidationBus;
+import com.studentnest.cache.InvalidationEvent;
+import com.studentnest.database.DatabaseConnection;
+import com.studentnest.logging.Log;
+import com.studentnest.logging.Logger;
+import com.studentnest.models.Room;
+import com.studentnest.utils.MapLinkParser;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * Imports many rooms at once from a CSV or JSON file (see {@link RoomImportSource} for the formats).
+ * <p>
+ * The file is streamed in chunks of {@value #CHUNK_SIZE} rows. Each chunk is validated in parallel
+ * with the same rules as the add-room form, its photos are copied into the image directory by a small
+ * thread pool, and it is then inserted by a writer thread with JDBC batches in one transaction, while
+ * the next chunk is already being read. If a chunk fails to insert it is rolled back and retried row by
+ * row, so one bad row does not cost its neighbours. Rows that cannot be imported are reported with their
+ * line number; the rest of the file is still imported.
+ * <p>
+ * Columns: location, price, description, contact_number (or contact), room_type, map_link, and
+ * image1, image2 or images (paths separated by semicolons, relative to the import file). Admin imports
+ * also need owner_id, the id of a house owner. On MySQL the insert batches are only sent as multi-row
+ * statements with {@code rewriteBatchedStatements=true}, which the default connection URL sets.
+ * <p>
+ * Needs a direct database connection, so it is not available in client mode.
+ */
+public class RoomImporter {
+
+    public static final int CHUNK_SIZE = 1000;
+
+    private static final Logger LOG = Log.get("import");
+
+    private static final int MAX_CHUNKS_IN_FLIGHT = 2;
+    private static final int MAX_REPORTED_ERRORS = 1000;
+    private static final int COPY_THREADS = Math.max(2, Math.min(8, Runtime.getRuntime().availableProcessors()));
+    private static final int MAX_CONTACT_LENGTH = 20;
+    private static final int MAX_LINK_LENGTH = 500;
+    private static final double MAX_PRICE = 99_999_999.99;
+
+    private static final List<String> LOCATIONS = List.of("Khagan", "Candgaon", "Charabag", "Kumkumari", "Dattopara", "Shadhupara");
+    private static final List<String> ROOM_TYPES = List.of("Single", "Shared", "Family");
+    private static final Set<String> IMAGE_EXTENSIONS = Set.of("png", "jpg", "jpeg");
+
+    private static final String ROOM_SQL = "INSERT INTO rooms (owner_id, location, price, description, contact_number, " +
+            "map_link, room_type, image1_path, image2_path, latitude, longitude) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String IMAGE_SQL = "INSERT INTO room_images (room_id, image_path, sort_order) VALUES (?, ?, ?)";
+
+    /**
+     * Receives the totals after every chunk, on the import's writer thread.
+     */
+    @FunctionalInterface
+    public interface ProgressListener {
+        void onProgress(int rowsRead, int imported, int failed);
+    }
+
+    /**
+     * A row that could not be imported.
+     */
+    public static final class RowError {
+        private final int line;
+        private final String message;
+
+        public RowError(int line, String message) {
+            this.line = line;
+            this.message = message;
+        }
+
+        public int getLine() {
+            return line;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+
+        @Override
+        public String toString() {
+            return "Line " + line + ": " + message;
+        }
+    }
+
+    /**
+     * Outcome of an import. Only the first {@value #MAX_REPORTED_ERRORS} errors are kept.
+     */
+    public static final class Result {
+        private final int imported;
+        private final int failed;
+        private final List<RowError> errors;
+        private final long elapsedMillis;
+        private final boolean cancelled;
+
+        Result(int imported, int failed, List<RowError> errors, long elapsedMillis, boolean cancelled) {
+            this.imported = imported;
+            this.failed = failed;
+            this.errors = Collections.unmodifiableList(errors);
+            this.elapsedMillis = elapsedMillis;
+            this.cancelled = cancelled;
+        }
+
+        public int getImported() {
+            return imported;
+        }
+
+        public int getFailed() {
+            return failed;
+        }
+
+        public List<RowError> getErrors() {
+            return errors;
+        }
+
+        public long getElapsedMillis() {
+            return elapsedMillis;
+        }
+
+        public boolean isCancelled() {
+            return cancelled;
+        }
+    }
+
+    // A validated row: either a room with the photos still to copy, or the reason it was rejected
+    private static final class Row {
+        final int line;
+        final Room room;
+        final List<Path> imageSources;
+        final String error;
+        List<CompletableFuture<String>> copies = List.of();
+
+        Row(int line, Room room, List<Path> imageSources, String error) {
+            this.line = line;
+            this.room = room;
+            this.imageSources = imageSources;
+            this.error = error;
+        }
+
+        static Row rejected(int line, String error) {
+            return new Row(line, null, List.of(), error);
+        }
+    }
+
+    private final ConnectionProvider connections;
+    private final Path imageDir;
+    private final AtomicInteger copySequence = new AtomicInteger();
+    private volatile boolean cancelled;
+
+    // Totals of the running import, updated by the reading and the writer thread
+    private final AtomicInteger rowsRead = new AtomicInteger();
+    private final AtomicInteger imported = new AtomicInteger();
+    private final AtomicInteger failed = new AtomicInteger();
+    private final List<RowError> errors = Collections.synchronizedList(new ArrayList<>());
+
+    public RoomImporter() {
+        this(DatabaseConnection::openConnection, defaultImageDir());
+    }
+
+    /**
+     * @param connections Source of a connection dedicated to the import; it is closed at the end
+     * @param imageDir Directory the photos are copied into
+     */
+    public RoomImporter(ConnectionProvider connections, Path imageDir) {
+        this.connections = connections;
+        this.imageDir = imageDir;
+    }
+
+    public static Path defaultImageDir() {
+        return Path.of(System.getProperty("user.home"), "StudentNest", "room_images");
+    }
+
+    /**
+     * Stops the running import after the chunk being inserted. Rooms already imported are kept.
+     */
+    public void cancel() {
+        cancelled = true;
+    }
+
+    /**
+     * Imports the rooms of a file. One importer runs one import at a time.
+     * @param ownerId Owner of every imported room, or 0 to take it from the owner_id column (admin import)
+     * @param listener Progress callback, may be null
+     * @throws ServiceException If the file or the database cannot be read at all; row problems are
+     *                          reported in the result instead
+     */
+    public Result importFile(Path file, int ownerId, ProgressListener listener) throws ServiceException {
+        long start = System.nanoTime();
+        cancelled = false;
+        rowsRead.set(0);
+        imported.set(0);
+        failed.set(0);
+        errors.clear();
+
+        Path baseDir = file.toAbsolutePath().getParent();
+        Map<Path, CompletableFuture<String>> copied = new ConcurrentHashMap<>();
+        ExecutorService copier = Executors.newFixedThreadPool(COPY_THREADS, daemonThreads("room-import-images"));
+        ExecutorService writer = Executors.newSingleThreadExecutor(daemonThreads("room-import-writer"));
+        Deque<CompletableFuture<Void>> inFlight = new ArrayDeque<>();
+
+        try (RoomImportSource source = RoomImportSource.open(file);
+             Connection conn = connections.getConnection()) {
+            Set<Integer> owners = ownerId > 0 ? Set.of(ownerId) : loadOwnerIds(conn);
+            boolean autoCommit = conn.getAutoCommit();
+            conn.setAutoCommit(false);
+            try {
+                List<RoomImportSource.Record> chunk;
+                while (!cancelled && !(chunk = source.nextChunk(CHUNK_SIZE)).isEmpty()) {
+                    List<Row> rows = chunk.parallelStream()
+                            .map(record -> validate(record, ownerId, owners, baseDir))
+                            .collect(Collectors.toList());
+                    // Start the photo copies now so they overlap with the inserts of the previous chunk
+                    for (Row row : rows) {
+                        if (row.error == null && !row.imageSources.isEmpty()) {
+                            row.copies = row.imageSources.stream()
+                                    .map(src -> copied.computeIfAbsent(src,
+                                            s -> CompletableFuture.supplyAsync(() -> copyImage(s), copier)))
+                                    .collect(Collectors.toList());
+                        }
+                    }
+                    rowsRead.addAndGet(chunk.size());
+                    inFlight.add(CompletableFuture.runAsync(() -> writeChunk(conn, rows, listener), writer));
+                    while (inFlight.size() > MAX_CHUNKS_IN_FLIGHT) {
+                        inFlight.poll().join();
+                    }
+                }
+                for (CompletableFuture<Void> pending : inFlight) {
+                    pending.join();
+                }
+            } finally {
+                conn.setAutoCommit(autoCommit);
+            }
+        } catch (IOException e) {
+            throw new ServiceException("Failed to read " + file.getFileName() + ": " + e.getMessage(), e);
+        } catch (SQLException e) {
+            throw new ServiceException("Failed to import rooms: " + e.getMessage(), e);
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            throw new ServiceException("Failed to import rooms: " + cause.getMessage(), cause);
+        } finally {
+            writer.shutdownNow();
+            copier.shutdownNow();
+            if (imported.get() > 0) {
+                InvalidationBus.getInstance().publish(InvalidationEvent.ROOM, InvalidationEvent.ALL);
+            }
+        }
+
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        LOG.info("Imported {} of {} rooms from {} in {} ms", imported.get(), rowsRead.get(), file.getFileName(), elapsedMillis);
+        List<RowError> reported;
+        synchronized (errors) {
+            reported = new ArrayList<>(errors);
+        }
+        reported.sort((a, b) -> Integer.compare(a.line, b.line));
+        return new Result(imported.get(), failed.get(), reported, elapsedMillis, cancelled);
+    }
+
+    private Row validate(RoomImportSource.Record record, int ownerId, Set<Integer> owners, Path baseDir) {
+        if (record.error != null) {
+            return Row.rejected(record.line, record.error);
+        }
+        Map<String, String> values = record.values;
+
+        int owner = ownerId;
+        String ownerText = value(values, "owner_id");
+        if (ownerText != null) {
+            try {
+                owner = Integer.parseInt(ownerText);
+            } catch (NumberFormatException e) {
+                return Row.rejected(record.line, "owner_id is not a number");
+            }
+        } else if (ownerId <= 0) {
+            return Row.rejected(record.line, "owner_id is required");
+        }
+        if (!owners.contains(owner)) {
+            return Row.rejected(record.line, ownerId > 0 ? "owner_id must be your own id" : "No house owner with id " + owner);
+        }
+
+        String location = match(value(values, "location"), LOCATIONS);
+        if (location == null) {
+            return Row.rejected(record.line, "location must be one of " + String.join(", ", LOCATIONS));
+        }
+        String roomType = match(value(values, "room_type"), ROOM_TYPES);
+        if (roomType == null) {
+            return Row.rejected(record.line, "room_type must be one of " + String.join(", ", ROOM_TYPES));
+        }
+        String priceText = value(values, "price");
+        double price;
+        try {
+            price = priceText != null ? Double.parseDouble(priceText.replace(",", "")) : Double.NaN;
+        } catch (NumberFormatException e) {
+            price = Double.NaN;
+        }
+        if (!(price > 0 && price <= MAX_PRICE)) {
+            return Row.rejected(record.line, "price must be a positive number");
+        }
+        String description = value(values, "description");
+        if (description == null) {
+            return Row.rejected(record.line, "description is required");
+        }
+        String contact = value(values, "contact_number");
+        if (contact == null) {
+            contact = value(values, "contact");
+        }
+        if (contact == null || contact.length() > MAX_CONTACT_LENGTH) {
+            return Row.rejected(record.line, "contact_number is required, at most " + MAX_CONTACT_LENGTH + " characters");
+        }
+        String mapLink = value(values, "map_link");
+        if (mapLink != null && mapLink.length() > MAX_LINK_LENGTH) {
+            return Row.rejected(record.line, "map_link is longer than " + MAX_LINK_LENGTH + " characters");
+        }
+
+        List<Path> images = new ArrayList<>();
+        for (String column : new String[]{"image1", "image2", "images"}) {
+            String paths = value(values, column);
+            if (paths == null) {
+                continue;
+            }
+            for (String path : paths.split(";")) {
+                if (path.isBlank()) {
+                    continue;
+                }
+                Path image = baseDir.resolve(path.trim()).normalize();
+                String name = image.getFileName().toString();
+                String extension = name.substring(name.lastIndexOf('.') + 1).toLowerCase(Locale.ROOT);
+                if (!IMAGE_EXTENSIONS.contains(extension)) {
+                    return Row.rejected(record.line, "Image " + path.trim() + " is not a PNG or JPEG file");
+                }
+                if (!Files.isRegularFile(image)) {
+                    return Row.rejected(record.line, "Image " + path.trim() + " does not exist");
+                }
+                images.add(image);
+            }
+        }
+
+        Room room = new Room();
+        room.setOwnerId(owner);
+        room.setLocation(location);
+        room.setPrice(price);
+        room.setDescription(description);
+        room.setContactNumber(contact);
+        room.setMapLink(mapLink);
+        room.setRoomType(roomType);
+        room.setCoordinates(MapLinkParser.parse(mapLink));
+        return new Row(record.line, room, images, null);
+    }
+
+    // Runs on the writer thread, one chunk at a time
+    private void writeChunk(Connection conn, List<Row> rows, ProgressListener listener) {
+        List<Row> ready = new ArrayList<>(rows.size());
+        List<List<String>> readyImages = new ArrayList<>(rows.size());
+        for (Row row : rows) {
+            if (row.error != null) {
+                reject(row.line, row.error);
+                continue;
+            }
+            try {
+                List<String> paths = new ArrayList<>(row.copies.size());
+                for (CompletableFuture<String> copy : row.copies) {
+                    paths.add(copy.join());
+                }
+                ready.add(row);
+                readyImages.add(paths);
+            } catch (CompletionException e) {
+                reject(row.line, "Could not copy image: " + e.getCause().getMessage());
+            }
+        }
+
+        try {
+            if (!ready.isEmpty()) {
+                try {
+                    insert(conn, ready, readyImages);
+                    conn.commit();
+                    imported.addAndGet(ready.size());
+                } catch (SQLException e) {
+                    conn.rollback();
+                    LOG.debug("Batch insert failed, retrying the chunk row by row: {}", e.getMessage());
+                    insertOneByOne(conn, ready, readyImages);
+                }
+            }
+        } catch (SQLException e) {
+            throw new CompletionException(e);
+        }
+        if (listener != null) {
+            listener.onProgress(rowsRead.get(), imported.get(), failed.get());
+        }
+    }
+
+    private void insertOneByOne(Connection conn, List<Row> rows, List<List<String>> images) throws SQLException {
+        for (int i = 0; i < rows.size(); i++) {
+            try {
+                insert(conn, rows.subList(i, i + 1), images.subList(i, i + 1));
+                conn.commit();
+                imported.incrementAndGet();
+            } catch (SQLException e) {
+                conn.rollback();
+                reject(rows.get(i).line, e.getMessage());
+            }
+        }
+    }
+
+    private static void insert(Connection conn, List<Row> rows, List<List<String>> images) throws SQLException {
+        int[] ids = new int[rows.size()];
+        try (PreparedStatement stmt = conn.prepareStatement(ROOM_SQL, Statement.RETURN_GENERATED_KEYS)) {
+            for (int i = 0; i < rows.size(); i++) {
+                Room room = rows.get(i).room;
+                List<String> paths = images.get(i);
+                stmt.setInt(1, room.getOwnerId());
+                stmt.setString(2, room.getLocation());
+                stmt.setDouble(3, room.getPrice());
+                stmt.setString(4, room.getDescription());
+                stmt.setString(5, room.getContactNumber());
+                stmt.setString(6, room.getMapLink());
+                stmt.setString(7, room.getRoomType());
+                stmt.setString(8, paths.size() > 0 ? paths.get(0) : null);
+                stmt.setString(9, paths.size() > 1 ? paths.get(1) : null);
+                JdbcRoomService.setCoordinates(stmt, 10, room);
+                stmt.addBatch();
+            }
+            stmt.executeBatch();
+            try (ResultSet keys = stmt.getGeneratedKeys()) {
+                int i = 0;
+                while (keys.next() && i < ids.length) {
+                    ids[i++] = keys.getInt(1);
+                }
+                if (i != ids.length) {
+                    throw new SQLException("Expected " + ids.length + " generated ids but got " + i);
+                }
+            }
+        }
+        boolean hasImages = false;
+        try (PreparedStatement stmt = conn.prepareStatement(IMAGE_SQL)) {
+            for (int i = 0; i < rows.size(); i++) {
+                List<String> paths = images.get(i);
+                for (int p = 0; p < paths.size(); p++) {
+                    stmt.setInt(1, ids[i]);
+                    stmt.setString(2, paths.get(p));
+                    stmt.setInt(3, p);
+                    stmt.addBatch();
+                    hasImages = true;
+                }
+            }
+            if (hasImages) {
+                stmt.executeBatch();
+            }
+        }
+    }
+
+    // Each source file is copied once, however many rows refer to it
+    private String copyImage(Path source) {
+        try {
+            Files.createDirectories(imageDir);
+            String fileName = System.currentTimeMillis() + "_" + copySequence.incrementAndGet() + "_" + source.getFileName();
+            Path destination = imageDir.resolve(fileName);
+            Files.copy(source, destination);
+            return destination.toAbsolutePath().toString();
+        } catch (IOException e) {
+            throw new CompletionException(e);
+        }
+    }
+
+    private void reject(int line, String message) {
+        failed.incrementAndGet();
+        synchronized (errors) {
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new RowError(line, message));
+            }
+        }
+    }
+
+    private static Set<Integer> loadOwnerIds(Connection conn) throws SQLException {
+        Set<Integer> ids = new HashSet<>();
+        try (Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT id FROM users WHERE user_type = 'House Owner'")) {
+            while (rs.next()) {
+                ids.add(rs.getInt(1));
+            }
+        }
+        return ids;
+    }
+
+    // Trimmed value of a column, null when it is missing or blank
+    private static String value(Map<String, String> values, String column) {
+        String value = values.get(column);
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+
+    // The allowed value matching text regardless of case, or null
+    private static String match(String text, List<String> allowed) {
+        if (text != null) {
+            for (String candidate : allowed) {
+                if (candidate.equalsIgnoreCase(text)) {
+                    return candidate;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static ThreadFactory daemonThreads(String name) {
+        AtomicInteger count = new AtomicInteger();
+        return r -> {
+            Thread t = new Thread(r, name + "-" + count.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        };
+    }
+}
@@ -0,0 +1,412 @@
+package com.studentnest.services;
+
+import com.studentnest.models.Room;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Content-based "recommended for you" engine for the student dashboard.
+ * <p>
+ * Every room is turned into a sparse, L2-normalised feature vector over its location,
+ * room type, price band and description terms (TF-IDF). For each room the engine keeps
+ * a precomputed list of its most similar rooms; the lists are maintained incrementally
+ * on a background thread as rooms are indexed or removed. Only rooms whose version changed
+ * are indexed again, and reverse maps keep a removal down to the room's own features and the
+ * lists it appears in. A recommendation request only
+ * merges the neighbour lists of the rooms the student opened, so it costs
+ * O(viewed rooms x NEIGHBORS) regardless of the catalog size.
+ */
+public class RoomRecommender {
+
+    private static final int NEIGHBORS = 12;
+    // Max rooms taken from each shared-feature posting list when looking for neighbours
+    private static final int CANDIDATES_PER_FEATURE = 400;
+    private static final int MAX_TERMS = 20;
+
+    private static final float LOCATION_WEIGHT = 1.0f;
+    private static final float TYPE_WEIGHT = 0.6f;
+    private static final float PRICE_WEIGHT = 0.9f;
+    private static final float TERM_WEIGHT = 0.8f;
+
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "an", "and", "the", "with", "for", "to", "of", "in", "on", "at", "near", "min",
+            "is", "are", "room", "rooms", "available", "from", "per", "all");
+
+    private static final RoomRecommender INSTANCE = new RoomRecommender();
+
+    private final ExecutorService worker = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "room-recommender");
+        t.setDaemon(true);
+        return t;
+    });
+
+    // All state below is only touched on the worker thread
+    private final Map<Integer, SparseVector> vectors = new HashMap<>();
+    private final Map<Integer, Integer> versions = new HashMap<>();
+    private final Map<Integer, Neighbor[]> neighbors = new HashMap<>();
+    // Rooms whose neighbour list holds the key room
+    private final Map<Integer, Set<Integer>> neighborOf = new HashMap<>();
+    // Feature -> rooms having it, newest first, keyed by the sequence number the room was indexed with
+    private final Map<String, NavigableMap<Long, Integer>> postings = new HashMap<>();
+    private final Map<Integer, Long> sequences = new HashMap<>();
+    private final Map<Integer, Set<String>> roomFeatures = new HashMap<>();
+    private final Map<String, Integer> documentFrequency = new HashMap<>();
+    private final Map<Integer, Set<String>> roomTerms = new HashMap<>();
+    private long nextSequence;
+
+    private RoomRecommender() {}
+
+    public static RoomRecommender getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Indexes new rooms and re-indexes edited ones in the background, refreshing the affected
+     * neighbour lists. Rooms already indexed at their current version are skipped.
+     */
+    public CompletableFuture<Void> indexAsync(Collection<Room> rooms) {
+        List<Room> snapshot = new ArrayList<>(rooms);
+        return CompletableFuture.runAsync(() -> snapshot.forEach(this::index), worker);
+    }
+
+    /**
+     * Brings the index in line with the full catalog in the background: like {@link #indexAsync},
+     * and rooms missing from the catalog are removed. The first call indexes every room, later
+     * ones only what changed since.
+     */
+    public CompletableFuture<Void> syncAsync(Collection<Room> catalog) {
+        List<Room> snapshot = new ArrayList<>(catalog);
+        return CompletableFuture.runAsync(() -> {
+            Set<Integer> gone = new HashSet<>(vectors.keySet());
+            for (Room room : snapshot) {
+                if (room != null) {
+                    gone.remove(room.getId());
+                }
+                index(room);
+            }
+            gone.forEach(this::remove);
+        }, worker);
+    }
+
+    /**
+     * Removes a deleted room in the background.
+     */
+    public CompletableFuture<Void> removeAsync(int roomId) {
+        return CompletableFuture.runAsync(() -> remove(roomId), worker);
+    }
+
+    /**
+     * Scores rooms against the student's viewing history in the background.
+     * More recently viewed rooms count more. Rooms already viewed are never recommended.
+     *
+     * @param viewedRoomIds Room ids in viewing order, oldest first
+     * @param limit Number of recommendations to return
+     * @return Room ids ordered from best to worst match
+     */
+    public CompletableFuture<List<Integer>> recommendAsync(List<Integer> viewedRoomIds, int limit) {
+        List<Integer> history = new ArrayList<>(viewedRoomIds);
+        return CompletableFuture.supplyAsync(() -> recommend(history, limit), worker);
+    }
+
+    private List<Integer> recommend(List<Integer> history, int limit) {
+        Set<Integer> viewed = new HashSet<>(history);
+        Map<Integer, Float> scores = new HashMap<>();
+        float recency = 1.0f;
+        for (int i = history.size() - 1; i >= 0; i--) {
+            Neighbor[] list = neighbors.get(history.get(i));
+            if (list != null) {
+                for (Neighbor n : list) {
+                    if (!viewed.contains(n.roomId)) {
+                        scores.merge(n.roomId, n.score * recency, Float::sum);
+                    }
+                }
+            }
+            recency *= 0.8f;
+        }
+
+        // Bounded min-heap keeps only the best `limit` candidates
+        PriorityQueue<Map.Entry<Integer, Float>> top = new PriorityQueue<>(Map.Entry.comparingByValue());
+        for (Map.Entry<Integer, Float> entry : scores.entrySet()) {
+            if (top.size() < limit) {
+                top.add(entry);
+            } else if (entry.getValue() > top.peek().getValue()) {
+                top.poll();
+                top.add(entry);
+            }
+        }
+
+        List<Integer> result = new ArrayList<>(top.size());
+        while (!top.isEmpty()) {
+            result.add(top.poll().getKey());
+        }
+        Collections.reverse(result);
+        return result;
+    }
+
+    private void index(Room room) {
+        if (room == null || room.getId() <= 0 || !room.hasValidLocation()) {
+            return;
+        }
+        int id = room.getId();
+        if (vectors.containsKey(id)) {
+            if (versions.get(id) == room.getVersion()) {
+                return;
+            }
+            remove(id);
+        }
+
+        Set<String> terms = extractTerms(room.getDescription());
+        for (String term : terms) {
+            documentFrequency.merge(term, 1, Integer::sum);
+        }
+        roomTerms.put(id, terms);
+
+        Map<String, Float> features = new LinkedHashMap<>();
+        features.put("loc:" + room.getLocation(), LOCATION_WEIGHT);
+        if (room.getRoomType() != null) {
+            features.put("type:" + room.getRoomType(), TYPE_WEIGHT);
+        }
+        // Neighbouring price bands share part of the weight, so similar prices score higher
+        int band = priceBand(room.getPrice());
+        features.put("price:" + band, PRICE_WEIGHT);
+        features.merge("price:" + (band - 1), PRICE_WEIGHT * 0.4f, Float::sum);
+        features.merge("price:" + (band + 1), PRICE_WEIGHT * 0.4f, Float::sum);
+        int roomCount = Math.max(vectors.size() + 1, 2);
+        for (String term : terms) {
+            float idf = (float) Math.log((double) roomCount / documentFrequency.get(term)) + 1f;
+            features.put("term:" + term, TERM_WEIGHT * idf / (float) Math.sqrt(terms.size()));
+        }
+
+        SparseVector vector = SparseVector.of(features);
+        vectors.put(id, vector);
+        versions.put(id, room.getVersion());
+
+        // Candidate generation: rooms sharing at least one feature
+        Set<Integer> candidates = new HashSet<>();
+        for (String feature : features.keySet()) {
+            NavigableMap<Long, Integer> posting = postings.get(feature);
+            if (posting != null) {
+                int taken = 0;
+                for (Integer other : posting.values()) {
+                    if (taken++ >= CANDIDATES_PER_FEATURE) break;
+                    candidates.add(other);
+                }
+            }
+        }
+
+        PriorityQueue<Neighbor> best = new PriorityQueue<>(Comparator.comparingDouble(n -> n.score));
+        for (Integer otherId : candidates) {
+            SparseVector other = vectors.get(otherId);
+            if (other == null || otherId == id) continue;
+            float score = vector.dot(other);
+            if (score <= 0) continue;
+            offer(best, new Neighbor(otherId, score));
+            // Incrementally refresh the other room's list if the new room beats its worst neighbour
+            Neighbor[] current = neighbors.get(otherId);
+            Neighbor[] updated = insertNeighbor(current, new Neighbor(id, score));
+            if (updated != current) {
+                neighbors.put(otherId, updated);
+                neighborOf.computeIfAbsent(id, k -> new HashSet<>()).add(otherId);
+                if (current != null && current.length >= NEIGHBORS) {
+                    unlink(current[current.length - 1].roomId, otherId);
+                }
+            }
+        }
+        Neighbor[] list = best.toArray(new Neighbor[0]);
+        Arrays.sort(list, (a, b) -> Float.compare(b.score, a.score));
+        setNeighbors(id, list);
+
+        long sequence = nextSequence++;
+        sequences.put(id, sequence);
+        roomFeatures.put(id, features.keySet());
+        for (String feature : features.keySet()) {
+            postings.computeIfAbsent(feature, k -> new TreeMap<>(Comparator.reverseOrder())).put(sequence, id);
+        }
+    }
+
+    // Replaces a neighbour list and keeps neighborOf in step with it
+    private void setNeighbors(int roomId, Neighbor[] list) {
+        Neighbor[] previous = list.length > 0 ? neighbors.put(roomId, list) : neighbors.remove(roomId);
+        if (previous != null) {
+            for (Neighbor n : previous) {
+                unlink(n.roomId, roomId);
+            }
+        }
+        for (Neighbor n : list) {
+            neighborOf.computeIfAbsent(n.roomId, k -> new HashSet<>()).add(roomId);
+        }
+    }
+
+    private void unlink(int neighborId, int ownerId) {
+        Set<Integer> owners = neighborOf.get(neighborId);
+        if (owners != null) {
+            owners.remove(ownerId);
+            if (owners.isEmpty()) {
+                neighborOf.remove(neighborId);
+            }
+        }
+    }
+
+    private void remove(int roomId) {
+        SparseVector vector = vectors.remove(roomId);
+        if (vector == null) {
+            return;
+        }
+        versions.remove(roomId);
+        setNeighbors(roomId, new Neighbor[0]);
+        Set<Integer> owners = neighborOf.remove(roomId);
+        if (owners != null) {
+            for (int owner : owners) {
+                Neighbor[] list = neighbors.get(owner);
+                if (list != null) {
+                    neighbors.put(owner, Arrays.stream(list).filter(x -> x.roomId != roomId).toArray(Neighbor[]::new));
+                }
+            }
+        }
+        Long sequence = sequences.remove(roomId);
+        Set<String> features = roomFeatures.remove(roomId);
+        if (sequence != null && features != null) {
+            for (String feature : features) {
+                NavigableMap<Long, Integer> posting = postings.get(feature);
+                if (posting != null) {
+                    posting.remove(sequence);
+                    if (posting.isEmpty()) {
+                        postings.remove(feature);
+                    }
+                }
+            }
+        }
+        Set<String> terms = roomTerms.remove(roomId);
+        if (terms != null) {
+            for (String term : terms) {
+                documentFrequency.computeIfPresent(term, (k, v) -> v > 1 ? v - 1 : null);
+            }
+        }
+    }
+
+    private static void offer(PriorityQueue<Neighbor> heap, Neighbor candidate) {
+        if (heap.size() < NEIGHBORS) {
+            heap.add(candidate);
+        } else if (candidate.score > heap.peek().score) {
+            heap.poll();
+            heap.add(candidate);
+        }
+    }
+
+    private static Neighbor[] insertNeighbor(Neighbor[] list, Neighbor candidate) {
+        if (list == null) {
+            return new Neighbor[]{candidate};
+        }
+        if (list.length >= NEIGHBORS && candidate.score <= list[list.length - 1].score) {
+            return list;
+        }
+        int size = Math.min(list.length + 1, NEIGHBORS);
+        Neighbor[] updated = new Neighbor[size];
+        int src = 0;
+        boolean inserted = false;
+        for (int i = 0; i < size; i++) {
+            if (!inserted && (src >= list.length || candidate.score > list[src].score)) {
+                updated[i] = candidate;
+                inserted = true;
+            } else {
+                updated[i] = list[src++];
+            }
+        }
+        return updated;
+    }
+
+    private static int priceBand(double price) {
+        // ~15% wide bands on a log scale
+        return price <= 0 ? 0 : (int) Math.round(Math.log(price) / Math.log(1.15));
+    }
+
+    private static Set<String> extractTerms(String description) {
+        Set<String> terms = new LinkedHashSet<>();
+        if (description == null) {
+            return terms;
+        }
+        for (String token : description.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (token.length() > 1 && !STOP_WORDS.contains(token) && !token.chars().allMatch(Character::isDigit)) {
+                terms.add(token);
+                if (terms.size() >= MAX_TERMS) break;
+            }
+        }
+        return terms;
+    }
+
+    private static final class Neighbor {
+        final int roomId;
+        final float score;
+
+        Neighbor(int roomId, float score) {
+            this.roomId = roomId;
+            this.score = score;
+        }
+    }
+
+    /**
+     * Sparse vector with hashed feature ids sorted ascending for a linear-time dot product.
+     */
+    private static final class SparseVector {
+        final int[] indices;
+        final float[] values;
+
+        private SparseVector(int[] indices, float[] values) {
+            this.indices = indices;
+            this.values = values;
+        }
+
+        static SparseVector of(Map<String, Float> features) {
+            Map<Integer, Float> hashed = new TreeMap<>();
+            double norm = 0;
+            for (Map.Entry<String, Float> f : features.entrySet()) {
+                hashed.merge(f.getKey().hashCode(), f.getValue(), Float::sum);
+            }
+            for (float v : hashed.values()) {
+                norm += v * v;
+            }
+            float scale = norm > 0 ? (float) (1 / Math.sqrt(norm)) : 0;
+            int[] idx = new int[hashed.size()];
+            float[] val = new float[hashed.size()];
+            int i = 0;
+            for (Map.Entry<Integer, Float> e : hashed.entrySet()) {
+                idx[i] = e.getKey();
+                val[i++] = e.getValue() * scale;
+            }
+            return new SparseVector(idx, val);
+        }
+
+        float dot(SparseVector other) {
+            float sum = 0;
+            int i = 0, j = 0;
+            while (i < indices.length && j < other.indices.length) {
+                if (indices[i] == other.indices[j]) {
+                    sum += values[i++] * other.values[j++];
+                } else if (indices[i] < other.indices[j]) {
+                    i++;
+                } else {
+                    j++;
+                }
+            }
+            return sum;
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.studentnest.services;
+
+import com.studentnest.models.Room;
+
+import java.util.List;
+
+/**
+ * Room catalog operations shared by the student, house owner and admin dashboards.
+ */
+public interface RoomService {
+
+    /**
+     * @return Every room with its owner's name, ordered by id
+     */
+    List<Room> listRooms() throws ServiceException;
+
+    /**
+     * @return The room with its owner's name, or null if it does not exist
+     */
+    Room findRoom(int roomId) throws ServiceException;
+
+    List<Room> listRoomsByOwner(int ownerId) throws ServiceException;
+
+    /**
+     * @return The generated room id
+     */
+    int addRoom(Room room) throws ServiceException;
+
+    /**
+     * Updates the editable fields of a room. Image paths that are null keep their stored value.
+     * The update only applies if the stored version still equals the room's version; on success
+     * the room's version is advanced to match the stored one.
+     * @return false if the room no longer exists
+     * @throws RoomConflictException if the room was updated by someone else since it was read
+     */
+    boolean updateRoom(Room room) throws ServiceException;
+
+    boolean deleteRoom(int roomId) throws ServiceException;
+
+    int countRoomsCreatedIn(int year, int month) throws ServiceException;
+}
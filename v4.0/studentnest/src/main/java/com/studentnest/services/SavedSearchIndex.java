@@ -0,0 +1,251 @@
+package com.studentnest.services;
+
+import com.studentnest.models.Room;
+import com.studentnest.models.SavedSearch;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Inverted index from room attributes to the saved searches they can satisfy, so a
+ * changed room is checked against a handful of candidates instead of every search.
+ * <p>
+ * Searches are filed under their location ("All Locations" being a location of its own)
+ * and then by price range: closed ranges in every 1000 taka cell they cover, "min+" ranges
+ * in a map sorted by their lower bound, and searches without a price filter in a plain set.
+ * A room's location and price therefore select the candidates in two lookups. Each candidate
+ * is then checked against the exact price bounds, distance and search text, with the room's
+ * campus distance and lower-cased texts looked up once per room rather than once per search.
+ * The checks follow {@link RoomFilterCriteria#matches}; the SavedSearchBenchmark in the benchmarks module compares the two.
+ */
+public class SavedSearchIndex {
+
+    private static final double PRICE_CELL = 1000;
+    // Wider closed ranges are kept in one list instead of being filed in every cell
+    private static final int MAX_CELLS_PER_SEARCH = 50;
+
+    private final Map<String, PricePostings> byLocation = new HashMap<>();
+    private final Map<Integer, Entry> entries = new HashMap<>();
+
+    /**
+     * Adds a search, or replaces the one with the same id.
+     */
+    public synchronized void put(SavedSearch search) {
+        remove(search.getId());
+        Entry entry = new Entry(search);
+        entries.put(search.getId(), entry);
+        byLocation.computeIfAbsent(entry.locationKey, k -> new PricePostings()).add(entry);
+    }
+
+    public synchronized void remove(int searchId) {
+        Entry entry = entries.remove(searchId);
+        if (entry == null) {
+            return;
+        }
+        PricePostings postings = byLocation.get(entry.locationKey);
+        if (postings != null) {
+            postings.remove(entry);
+            if (postings.isEmpty()) {
+                byLocation.remove(entry.locationKey);
+            }
+        }
+    }
+
+    /**
+     * Replaces the whole index with the given searches.
+     */
+    public synchronized void reset(Collection<SavedSearch> searches) {
+        byLocation.clear();
+        entries.clear();
+        for (SavedSearch search : searches) {
+            put(search);
+        }
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Returns every search the room satisfies. Searches with a distance filter only match
+     * rooms that are in the {@link GeoIndex}.
+     */
+    public synchronized List<SavedSearch> match(Room room) {
+        RoomView view = new RoomView(room);
+        List<SavedSearch> matches = new ArrayList<>();
+        PricePostings anywhere = byLocation.get(RoomFilterCriteria.ALL_LOCATIONS);
+        if (anywhere != null) {
+            anywhere.collect(view, matches);
+        }
+        if (room.getLocation() != null && !RoomFilterCriteria.ALL_LOCATIONS.equals(room.getLocation())) {
+            PricePostings local = byLocation.get(room.getLocation());
+            if (local != null) {
+                local.collect(view, matches);
+            }
+        }
+        return matches;
+    }
+
+    private static long cell(double price) {
+        return (long) Math.floor(price / PRICE_CELL);
+    }
+
+    /**
+     * The searches of one location, by price range.
+     */
+    private static final class PricePostings {
+        private final Set<Entry> anyPrice = new LinkedHashSet<>();
+        private final Set<Entry> wide = new LinkedHashSet<>();
+        private final Map<Long, Set<Entry>> cells = new HashMap<>();
+        private final TreeMap<Double, Set<Entry>> openEnded = new TreeMap<>();
+
+        void add(Entry entry) {
+            if (entry.min == null) {
+                anyPrice.add(entry);
+            } else if (entry.max == null) {
+                openEnded.computeIfAbsent(entry.min, k -> new LinkedHashSet<>()).add(entry);
+            } else if (cell(entry.max) - cell(entry.min) >= MAX_CELLS_PER_SEARCH) {
+                wide.add(entry);
+            } else {
+                for (long c = cell(entry.min); c <= cell(entry.max); c++) {
+                    cells.computeIfAbsent(c, k -> new LinkedHashSet<>()).add(entry);
+                }
+            }
+        }
+
+        void remove(Entry entry) {
+            if (entry.min == null) {
+                anyPrice.remove(entry);
+            } else if (entry.max == null) {
+                removeFrom(openEnded, entry.min, entry);
+            } else if (!wide.remove(entry)) {
+                for (long c = cell(entry.min); c <= cell(entry.max); c++) {
+                    removeFrom(cells, c, entry);
+                }
+            }
+        }
+
+        boolean isEmpty() {
+            return anyPrice.isEmpty() && wide.isEmpty() && cells.isEmpty() && openEnded.isEmpty();
+        }
+
+        /**
+         * Adds the searches of this location the room satisfies.
+         */
+        void collect(RoomView room, List<SavedSearch> out) {
+            collect(anyPrice, room, out);
+            collect(wide, room, out);
+            Set<Entry> cell = cells.get(cell(room.price));
+            if (cell != null) {
+                collect(cell, room, out);
+            }
+            // "min+" is exclusive of its lower bound
+            for (Set<Entry> below : openEnded.headMap(room.price, false).values()) {
+                collect(below, room, out);
+            }
+        }
+
+        private static void collect(Set<Entry> candidates, RoomView room, List<SavedSearch> out) {
+            for (Entry entry : candidates) {
+                if (entry.accepts(room)) {
+                    out.add(entry.search);
+                }
+            }
+        }
+
+        private static <K> void removeFrom(Map<K, Set<Entry>> map, K key, Entry entry) {
+            Set<Entry> set = map.get(key);
+            if (set != null && set.remove(entry) && set.isEmpty()) {
+                map.remove(key);
+            }
+        }
+    }
+
+    /**
+     * What the filters look at of a room, worked out once per match.
+     */
+    private static final class RoomView {
+        final double price;
+        final Double campusDistanceKm;
+        private final Room room;
+        private String[] texts;
+
+        RoomView(Room room) {
+            this.room = room;
+            this.price = room.getPrice();
+            this.campusDistanceKm = GeoIndex.getInstance().campusDistanceKm(room.getId());
+        }
+
+        boolean contains(String searchText) {
+            if (texts == null) {
+                texts = new String[]{lower(room.getDescription()), lower(room.getLocation()),
+                        lower(room.getRoomType()), lower(room.getOwnerName())};
+            }
+            for (String text : texts) {
+                if (text != null && text.contains(searchText)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private static String lower(String value) {
+            return value != null ? value.toLowerCase(Locale.ROOT) : null;
+        }
+    }
+
+    private static final class Entry {
+        final SavedSearch search;
+        final String locationKey;
+        // Price bounds as PriceInsights reads the label; null min means no price filter, null max "min+"
+        final Double min;
+        final Double max;
+        final Double maxDistanceKm;
+        final String searchText;
+
+        Entry(SavedSearch search) {
+            this.search = search;
+            this.locationKey = search.getLocation() != null ? search.getLocation() : RoomFilterCriteria.ALL_LOCATIONS;
+            this.maxDistanceKm = RoomFilterCriteria.parseDistance(search.getDistance());
+            this.searchText = search.getSearchText() != null ? search.getSearchText().trim().toLowerCase(Locale.ROOT) : "";
+
+            Double low = null;
+            Double high = null;
+            String range = search.getPriceRange();
+            try {
+                if (range != null && range.endsWith("+")) {
+                    low = Double.parseDouble(range.substring(0, range.length() - 1));
+                } else if (range != null && range.indexOf('-') > 0) {
+                    int dash = range.indexOf('-');
+                    low = Double.parseDouble(range.substring(0, dash));
+                    high = Double.parseDouble(range.substring(dash + 1));
+                }
+            } catch (NumberFormatException e) {
+                // "All Prices" or a label PriceInsights accepts everything for
+                low = null;
+                high = null;
+            }
+            this.min = low;
+            this.max = high;
+        }
+
+        boolean accepts(RoomView room) {
+            if (min != null) {
+                if (max == null ? room.price <= min : (min == 0 ? room.price < min : room.price <= min) || room.price > max) {
+                    return false;
+                }
+            }
+            if (maxDistanceKm != null && (room.campusDistanceKm == null || room.campusDistanceKm > maxDistanceKm)) {
+                return false;
+            }
+            return searchText.isEmpty() || room.contains(searchText);
+        }
+    }
+}
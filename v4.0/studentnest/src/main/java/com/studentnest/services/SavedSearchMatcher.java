@@ -0,0 +1,168 @@
+package com.studentnest.services;
+
+import com.studentnest.cache.InvalidationBus;
+import com.studentnest.cache.InvalidationEvent;
+import com.studentnest.logging.Log;
+import com.studentnest.logging.Logger;
+import com.studentnest.models.Room;
+import com.studentnest.models.SavedSearch;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Background task matching new and edited rooms against every saved search and queueing
+ * a notification for each search a room starts to match.
+ * <p>
+ * Only room changes made by this instance are matched, every instance sharing the database
+ * runs a matcher of its own; saved searches are followed from all instances, so the
+ * {@link SavedSearchIndex} always holds every search. The room version tells edits apart
+ * from seat holds, which publish room changes as well but never make a room match.
+ */
+public class SavedSearchMatcher implements AutoCloseable {
+
+    private static final Logger LOG = Log.get("saved-searches");
+
+    private final RoomService rooms;
+    private final JdbcSavedSearchService searches;
+    private final SavedSearchIndex index = new SavedSearchIndex();
+    // Last matched version of every room, touched on the matcher thread only
+    private final Map<Integer, Integer> roomVersions = new HashMap<>();
+    private final List<InvalidationBus.Subscription> subscriptions = new ArrayList<>();
+    private ExecutorService executor;
+
+    public SavedSearchMatcher(RoomService rooms, JdbcSavedSearchService searches) {
+        this.rooms = rooms;
+        this.searches = searches;
+    }
+
+    /**
+     * Loads the searches and the current catalog, then starts following changes.
+     */
+    public synchronized SavedSearchMatcher start() {
+        if (executor == null) {
+            executor = Executors.newSingleThreadExecutor(r -> {
+                Thread t = new Thread(r, "saved-search-matcher");
+                t.setDaemon(true);
+                return t;
+            });
+            submit(this::load);
+            InvalidationBus bus = InvalidationBus.getInstance();
+            subscriptions.add(bus.subscribe(InvalidationEvent.ROOM, event -> {
+                if (event.isLocal()) {
+                    submit(() -> roomChanged(event));
+                }
+            }));
+            subscriptions.add(bus.subscribe(InvalidationEvent.SAVED_SEARCH, event -> submit(() -> searchChanged(event))));
+        }
+        return this;
+    }
+
+    private synchronized void submit(Task task) {
+        if (executor == null) {
+            return;
+        }
+        executor.execute(() -> {
+            try {
+                task.run();
+            } catch (ServiceException e) {
+                LOG.warn("Matching saved searches failed: {}", e.getMessage());
+            } catch (RuntimeException e) {
+                // Keep the matcher thread alive for the next change
+                LOG.error("Saved search matcher failed", e);
+            }
+        });
+    }
+
+    private void load() throws ServiceException {
+        index.reset(searches.listAllSavedSearches());
+        roomVersions.clear();
+        GeoIndex geoIndex = GeoIndex.getInstance();
+        for (Room room : rooms.listRooms()) {
+            roomVersions.put(room.getId(), room.getVersion());
+            geoIndex.put(room.getId(), room.getCoordinates());
+        }
+        LOG.info("Matching {} saved searches against {} rooms", index.size(), roomVersions.size());
+    }
+
+    private void roomChanged(InvalidationEvent event) throws ServiceException {
+        if (event.isAll()) {
+            // Bulk change such as an import: match whatever is new or was edited
+            Set<Integer> gone = new HashSet<>(roomVersions.keySet());
+            int queued = 0;
+            for (Room room : rooms.listRooms()) {
+                gone.remove(room.getId());
+                queued += match(room);
+            }
+            roomVersions.keySet().removeAll(gone);
+            if (queued > 0) {
+                LOG.info("Queued {} saved search notifications after a catalog change", queued);
+            }
+            return;
+        }
+        int roomId = Integer.parseInt(event.getKey());
+        Room room = rooms.findRoom(roomId);
+        if (room == null) {
+            roomVersions.remove(roomId);
+            GeoIndex.getInstance().remove(roomId);
+        } else {
+            match(room);
+        }
+    }
+
+    /**
+     * @return The number of notifications queued for the room
+     */
+    private int match(Room room) throws ServiceException {
+        Integer previous = roomVersions.put(room.getId(), room.getVersion());
+        if (previous != null && previous == room.getVersion()) {
+            return 0;
+        }
+        GeoIndex.getInstance().put(room.getId(), room.getCoordinates());
+        if (room.isFullyBooked()) {
+            return 0;
+        }
+        List<SavedSearch> matches = index.match(room);
+        int queued = searches.addNotifications(room, matches);
+        if (queued > 0) {
+            LOG.debug("Room {} matched {} saved searches", room.getId(), queued);
+        }
+        return queued;
+    }
+
+    private void searchChanged(InvalidationEvent event) throws ServiceException {
+        if (event.isAll()) {
+            index.reset(searches.listAllSavedSearches());
+            return;
+        }
+        int searchId = Integer.parseInt(event.getKey());
+        SavedSearch search = searches.findSavedSearch(searchId);
+        if (search == null) {
+            index.remove(searchId);
+        } else {
+            index.put(search);
+        }
+    }
+
+    private interface Task {
+        void run() throws ServiceException;
+    }
+
+    @Override
+    public synchronized void close() {
+        for (InvalidationBus.Subscription subscription : subscriptions) {
+            subscription.close();
+        }
+        subscriptions.clear();
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+    }
+}
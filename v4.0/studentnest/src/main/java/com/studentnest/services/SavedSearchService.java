@@ -0,0 +1,35 @@
+package com.studentnest.services;
+
+import com.studentnest.models.SavedSearch;
+import com.studentnest.models.SearchNotification;
+
+import java.util.List;
+
+/**
+ * Filters students saved from their dashboard, and the notifications queued for them
+ * when a new or edited room starts matching one.
+ */
+public interface SavedSearchService {
+
+    /**
+     * @return The student's saved searches, oldest first
+     */
+    List<SavedSearch> listSavedSearches(int userId) throws ServiceException;
+
+    /**
+     * @return The id of the new saved search
+     */
+    int saveSearch(SavedSearch search) throws ServiceException;
+
+    boolean deleteSavedSearch(int searchId) throws ServiceException;
+
+    /**
+     * @return Notifications the student has not seen yet, newest first
+     */
+    List<SearchNotification> listUnseenNotifications(int userId) throws ServiceException;
+
+    /**
+     * @return The number of notifications that were marked seen
+     */
+    int markNotificationsSeen(int userId) throws ServiceException;
+}
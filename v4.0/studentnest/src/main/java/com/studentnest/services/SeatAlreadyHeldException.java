@@ -0,0 +1,24 @@
+package com.studentnest.services;
+
+/**
+ * Raised by {@link ReservationService#holdSeat} when the student already holds or has
+ * confirmed a seat of the room. A 409 like a sold out room, but the room may still have
+ * seats for other students.
+ */
+public class SeatAlreadyHeldException extends ServiceException {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Marks this failure in the API's error responses, which otherwise only carry a status and a message.
+     */
+    public static final String REASON = "seat-already-held";
+
+    public SeatAlreadyHeldException(int roomId, int studentId) {
+        this("Student " + studentId + " already holds a seat in room " + roomId);
+    }
+
+    public SeatAlreadyHeldException(String message) {
+        super(message, 409, null);
+    }
+}
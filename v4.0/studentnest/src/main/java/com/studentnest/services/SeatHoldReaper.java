@@ -0,0 +1,70 @@
+package com.studentnest.services;
+
+import com.studentnest.logging.Log;
+import com.studentnest.logging.Logger;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Background task giving the seats of expired, unconfirmed holds back to their rooms.
+ * Every instance working on the database runs one; they may overlap safely.
+ */
+public class SeatHoldReaper implements AutoCloseable {
+
+    private static final Logger LOG = Log.get("reservations");
+    private static final long DEFAULT_INTERVAL_MILLIS = TimeUnit.SECONDS.toMillis(30);
+
+    private final JdbcReservationService reservations;
+    private final long intervalMillis;
+    private ScheduledExecutorService scheduler;
+
+    public SeatHoldReaper(JdbcReservationService reservations) {
+        this(reservations, DEFAULT_INTERVAL_MILLIS);
+    }
+
+    public SeatHoldReaper(JdbcReservationService reservations, long intervalMillis) {
+        this.reservations = reservations;
+        this.intervalMillis = intervalMillis;
+    }
+
+    public synchronized SeatHoldReaper start() {
+        if (scheduler == null) {
+            scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread t = new Thread(r, "seat-hold-reaper");
+                t.setDaemon(true);
+                return t;
+            });
+            scheduler.scheduleWithFixedDelay(this::reap, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        }
+        return this;
+    }
+
+    /**
+     * @return The number of holds released by this pass
+     */
+    public int reap() {
+        try {
+            int released = reservations.releaseExpiredHolds();
+            if (released > 0) {
+                LOG.info("Released {} expired seat holds", released);
+            }
+            return released;
+        } catch (ServiceException e) {
+            LOG.warn("Releasing expired seat holds failed: {}", e.getMessage());
+        } catch (RuntimeException e) {
+            // Never let an exception cancel the scheduled pass
+            LOG.error("Seat hold reaper failed", e);
+        }
+        return 0;
+    }
+
+    @Override
+    public synchronized void close() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+    }
+}
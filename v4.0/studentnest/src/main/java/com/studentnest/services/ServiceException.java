@@ -0,0 +1,32 @@
+package com.studentnest.services;
+
+/**
+ * Raised by the service layer when an operation cannot be completed, whether the
+ * backing store is the local database or the StudentNest API server.
+ */
+public class ServiceException extends Exception {
+
+    private static final long serialVersionUID = 1L;
+
+    private final int status;
+
+    public ServiceException(String message) {
+        this(message, 500, null);
+    }
+
+    public ServiceException(String message, Throwable cause) {
+        this(message, 500, cause);
+    }
+
+    public ServiceException(String message, int status, Throwable cause) {
+        super(message, cause);
+        this.status = status;
+    }
+
+    /**
+     * @return HTTP-style status code describing the failure (500 for database errors)
+     */
+    public int getStatus() {
+        return status;
+    }
+}
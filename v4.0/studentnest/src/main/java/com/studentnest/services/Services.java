@@ -0,0 +1,112 @@
+package com.studentnest.services;
+
+import com.studentnest.api.ApiClient;
+import com.studentnest.api.ApiServer;
+import com.studentnest.api.HttpAuthService;
+import com.studentnest.api.HttpFeedbackService;
+import com.studentnest.api.HttpReservationService;
+import com.studentnest.api.HttpRoomService;
+import com.studentnest.api.HttpSavedSearchService;
+import com.studentnest.api.HttpStatsService;
+import com.studentnest.api.HttpUserService;
+import com.studentnest.database.DatabaseConnection;
+import com.studentnest.logging.Log;
+import com.studentnest.logging.Logger;
+
+/**
+ * Entry point the controllers use to reach the service layer.
+ * <p>
+ * By default the services talk to the local database. Starting the app with
+ * {@code -Dstudentnest.mode=client} routes every call to a StudentNest API server
+ * instead ({@code -Dstudentnest.server=http://host:port}, default localhost).
+ */
+public final class Services {
+
+    private static final Logger LOG = Log.get("app");
+
+    public static final String MODE_PROPERTY = "studentnest.mode";
+    public static final String SERVER_PROPERTY = "studentnest.server";
+    public static final String CLIENT_MODE = "client";
+
+    private static RoomService roomService;
+    private static UserService userService;
+    private static FeedbackService feedbackService;
+    private static AuthService authService;
+    private static ReservationService reservationService;
+    private static SavedSearchService savedSearchService;
+    private static StatsService statsService;
+    private static SeatHoldReaper seatHoldReaper;
+    private static SavedSearchMatcher savedSearchMatcher;
+    private static StatsAggregator statsAggregator;
+
+    private Services() {}
+
+    public static boolean isClientMode() {
+        return CLIENT_MODE.equalsIgnoreCase(System.getProperty(MODE_PROPERTY, "local"));
+    }
+
+    public static synchronized RoomService rooms() {
+        init();
+        return roomService;
+    }
+
+    public static synchronized UserService users() {
+        init();
+        return userService;
+    }
+
+    public static synchronized FeedbackService feedback() {
+        init();
+        return feedbackService;
+    }
+
+    public static synchronized AuthService auth() {
+        init();
+        return authService;
+    }
+
+    public static synchronized ReservationService reservations() {
+        init();
+        return reservationService;
+    }
+
+    public static synchronized SavedSearchService savedSearches() {
+        init();
+        return savedSearchService;
+    }
+
+    public static synchronized StatsService stats() {
+        init();
+        return statsService;
+    }
+
+    private static void init() {
+        if (roomService != null) {
+            return;
+        }
+        if (isClientMode()) {
+            ApiClient client = new ApiClient(System.getProperty(SERVER_PROPERTY, "http://localhost:" + ApiServer.DEFAULT_PORT));
+            roomService = new HttpRoomService(client);
+            userService = new HttpUserService(client);
+            feedbackService = new HttpFeedbackService(client);
+            authService = new HttpAuthService(client);
+            reservationService = new HttpReservationService(client);
+            savedSearchService = new HttpSavedSearchService(client);
+            statsService = new HttpStatsService(client);
+            LOG.info("Using StudentNest server at {}", client.getBaseUrl());
+        } else {
+            roomService = new JdbcRoomService();
+            userService = new JdbcUserService();
+            feedbackService = new JdbcFeedbackService();
+            authService = new JdbcAuthService();
+            reservationService = new JdbcReservationService();
+            savedSearchService = new JdbcSavedSearchService();
+            statsService = new JdbcStatsService();
+            // On their own connections, so a pass never shares a transaction with the dashboards
+            seatHoldReaper = new SeatHoldReaper(new JdbcReservationService(DatabaseConnection::openConnection)).start();
+            savedSearchMatcher = new SavedSearchMatcher(new JdbcRoomService(DatabaseConnection::openConnection),
+                    new JdbcSavedSearchService(DatabaseConnection::openConnection)).start();
+            statsAggregator = new StatsAggregator(new JdbcStatsService(DatabaseConnection::openConnection)).start();
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package com.studentnest.services;
+
+import com.studentnest.cache.InvalidationBus;
+import com.studentnest.cache.InvalidationEvent;
+import com.studentnest.logging.Log;
+import com.studentnest.logging.Logger;
+import com.studentnest.models.StatsBucket;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Background task keeping the statistics rollups up to date, so the admin Stats tab never
+ * has to count the tables themselves.
+ * <p>
+ * Changes made by this instance are collected for a moment and then applied together: new
+ * rows are added to their buckets, edited rooms and users have their day counted again and
+ * deletions, which only show up as a row count lower than the rollups, rebuild the metric.
+ * A periodic pass does the same for every metric, which picks up rows added by instances
+ * that do not run an aggregator. Publishes a {@link InvalidationEvent#STATS} change whenever
+ * the rollups changed.
+ */
+public class StatsAggregator implements AutoCloseable {
+
+    private static final Logger LOG = Log.get("stats");
+
+    // How long changes are collected before a pass, so a burst costs one pass
+    private static final long COLLECT_MILLIS = 1_000;
+    private static final long PERIOD_SECONDS = 60;
+
+    private final JdbcStatsService stats;
+    // Pending work, guarded by this
+    private final Set<String> pendingMetrics = new HashSet<>();
+    private final Map<String, Set<Integer>> pendingIds = new HashMap<>();
+    private boolean passScheduled;
+    private final List<InvalidationBus.Subscription> subscriptions = new ArrayList<>();
+    private ScheduledExecutorService executor;
+
+    public StatsAggregator(JdbcStatsService stats) {
+        this.stats = stats;
+    }
+
+    /**
+     * Checks the rollups against the tables, catches up with the rows added meanwhile and
+     * starts following changes.
+     */
+    public synchronized StatsAggregator start() {
+        if (executor == null) {
+            executor = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread t = new Thread(r, "stats-aggregator");
+                t.setDaemon(true);
+                return t;
+            });
+            submit(this::load);
+            executor.scheduleWithFixedDelay(() -> run(() -> pass(new HashSet<>(JdbcStatsService.METRICS), Map.of())),
+                    PERIOD_SECONDS, PERIOD_SECONDS, TimeUnit.SECONDS);
+            InvalidationBus bus = InvalidationBus.getInstance();
+            subscriptions.add(bus.subscribe(InvalidationEvent.ROOM, event -> changed(StatsBucket.ROOMS, event)));
+            subscriptions.add(bus.subscribe(InvalidationEvent.FEEDBACK, event -> changed(StatsBucket.FEEDBACK, event)));
+            subscriptions.add(bus.subscribe(InvalidationEvent.USER, event -> {
+                // Deleting a user deletes their rooms and feedback as well
+                changed(StatsBucket.SIGNUPS, event);
+                changed(StatsBucket.ROOMS, null);
+                changed(StatsBucket.FEEDBACK, null);
+            }));
+        }
+        return this;
+    }
+
+    private synchronized void changed(String metric, InvalidationEvent event) {
+        if (executor == null || (event != null && !event.isLocal())) {
+            return;
+        }
+        pendingMetrics.add(metric);
+        // Feedback is only counted, its edits never move a bucket
+        if (event != null && !event.isAll() && !StatsBucket.FEEDBACK.equals(metric)) {
+            pendingIds.computeIfAbsent(metric, k -> new HashSet<>()).add(Integer.parseInt(event.getKey()));
+        }
+        if (!passScheduled) {
+            passScheduled = true;
+            executor.schedule(() -> run(this::collectedPass), COLLECT_MILLIS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private synchronized void submit(Task task) {
+        if (executor != null) {
+            executor.execute(() -> run(task));
+        }
+    }
+
+    private void run(Task task) {
+        try {
+            task.run();
+        } catch (ServiceException e) {
+            LOG.warn("Updating statistics failed: {}", e.getMessage());
+        } catch (RuntimeException e) {
+            // Keep the aggregator thread alive for the next change
+            LOG.error("Statistics aggregator failed", e);
+        }
+    }
+
+    private void load() throws ServiceException {
+        long start = System.currentTimeMillis();
+        boolean changed = false;
+        for (String metric : JdbcStatsService.METRICS) {
+            changed |= stats.rebuild(metric, false);
+            changed |= stats.addNewRows(metric) > 0;
+        }
+        LOG.info("Statistics rollups up to date in {} ms", System.currentTimeMillis() - start);
+        if (changed) {
+            InvalidationBus.getInstance().publish(InvalidationEvent.STATS, InvalidationEvent.ALL);
+        }
+    }
+
+    private void collectedPass() throws ServiceException {
+        Set<String> metrics;
+        Map<String, Set<Integer>> ids;
+        synchronized (this) {
+            metrics = new HashSet<>(pendingMetrics);
+            ids = new HashMap<>(pendingIds);
+            pendingMetrics.clear();
+            pendingIds.clear();
+            passScheduled = false;
+        }
+        pass(metrics, ids);
+    }
+
+    /**
+     * @param ids Rows of the metrics that were edited or deleted
+     */
+    private void pass(Set<String> metrics, Map<String, Set<Integer>> ids) throws ServiceException {
+        boolean changed = false;
+        for (String metric : JdbcStatsService.METRICS) {
+            if (!metrics.contains(metric)) {
+                continue;
+            }
+            int added = stats.addNewRows(metric);
+            changed |= added > 0;
+
+            Set<LocalDate> days = new HashSet<>();
+            for (int id : ids.getOrDefault(metric, Set.of())) {
+                LocalDate day = stats.createdDay(metric, id);
+                // A deleted row has no day; the row count check below catches it
+                if (day != null) {
+                    days.add(day);
+                }
+            }
+            changed |= stats.recomputeDays(metric, days);
+            if (stats.rebuild(metric, false)) {
+                LOG.info("Rebuilt {} statistics after rows were deleted", metric);
+                changed = true;
+            }
+            if (added > 0) {
+                LOG.debug("Added {} rows to the {} statistics", added, metric);
+            }
+        }
+        if (changed) {
+            InvalidationBus.getInstance().publish(InvalidationEvent.STATS, InvalidationEvent.ALL);
+        }
+    }
+
+    private interface Task {
+        void run() throws ServiceException;
+    }
+
+    @Override
+    public synchronized void close() {
+        for (InvalidationBus.Subscription subscription : subscriptions) {
+            subscription.close();
+        }
+        subscriptions.clear();
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+    }
+}
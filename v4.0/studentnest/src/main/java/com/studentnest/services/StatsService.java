@@ -0,0 +1,22 @@
+package com.studentnest.services;
+
+import com.studentnest.models.StatsBucket;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Daily and monthly statistics for the admin Stats tab, read from the rollups the
+ * {@link StatsAggregator} keeps up to date.
+ */
+public interface StatsService {
+
+    /**
+     * Every metric of every bucket in the range, in one read.
+     * @param period {@link StatsBucket#DAY} or {@link StatsBucket#MONTH}
+     * @param from First day of the range; for months, any day of the first month
+     * @param to Last day of the range, inclusive
+     * @return The buckets that have data, oldest first; empty buckets are left out
+     */
+    List<StatsBucket> listBuckets(String period, LocalDate from, LocalDate to) throws ServiceException;
+}
@@ -0,0 +1,307 @@
+package com.studentnest.services;
+
+import com.studentnest.database.DatabaseConnection;
+import com.studentnest.logging.Log;
+import com.studentnest.logging.Logger;
+
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Exports a whole admin table to a CSV or XLSX file (see {@link ExportWriter}) in constant memory.
+ * <p>
+ * The rows are read with a forward-only, read-only cursor and written as they arrive; nothing
+ * is collected into a list. On MySQL, Connector/J only streams a result set when the fetch
+ * size is {@link Integer#MIN_VALUE}, otherwise it reads every row into memory first; H2 is
+ * asked for lazy query execution, so it does not buffer the result either. Rows come in
+ * primary key order, which both databases can read straight from the index without sorting.
+ * <p>
+ * The file is written next to its target under a temporary name and only moved into place
+ * once it is complete, so a cancelled or failed export leaves no half-written file behind.
+ * Needs a direct database connection, so it is not available in client mode.
+ */
+public class TableExporter {
+
+    public static final int FETCH_SIZE = 1000;
+
+    private static final Logger LOG = Log.get("export");
+
+    private static final int PROGRESS_EVERY = 10_000;
+    private static final DateTimeFormatter TIMESTAMP_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    /**
+     * The tables an admin can export. Passwords are never part of an export.
+     */
+    public enum Table {
+        USERS("Users", "users",
+                "SELECT id, name, username, phone, user_type, created_at FROM users ORDER BY id",
+                List.of("ID", "Name", "Username", "Phone", "User Type", "Created")),
+        ROOMS("Rooms", "rooms",
+                "SELECT r.id, r.owner_id, u.name, r.location, r.price, r.room_type, r.seats, r.seats_available, " +
+                        "r.contact_number, r.description, r.map_link, r.latitude, r.longitude, r.created_at " +
+                        "FROM rooms r LEFT JOIN users u ON r.owner_id = u.id ORDER BY r.id",
+                List.of("ID", "Owner ID", "Owner", "Location", "Price", "Room Type", "Seats", "Seats Available",
+                        "Contact", "Description", "Map Link", "Latitude", "Longitude", "Created")),
+        FEEDBACK("Feedback", "feedback_and_issues",
+                "SELECT f.id, f.user_id, u.username, f.feedback_text, COALESCE(f.status, 'Pending'), f.created_at " +
+                        "FROM feedback_and_issues f LEFT JOIN users u ON f.user_id = u.id ORDER BY f.id",
+                List.of("ID", "User ID", "User", "Feedback", "Status", "Created"));
+
+        private final String title;
+        private final String tableName;
+        private final String sql;
+        private final List<String> columns;
+
+        Table(String title, String tableName, String sql, List<String> columns) {
+            this.title = title;
+            this.tableName = tableName;
+            this.sql = sql;
+            this.columns = columns;
+        }
+
+        public String getTitle() {
+            return title;
+        }
+    }
+
+    public enum Format {
+        CSV("csv"), XLSX("xlsx");
+
+        private final String extension;
+
+        Format(String extension) {
+            this.extension = extension;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+
+        /**
+         * @return The format of the file's extension, or null if it has neither
+         */
+        public static Format of(Path file) {
+            String name = file.getFileName().toString().toLowerCase(Locale.ROOT);
+            for (Format format : values()) {
+                if (name.endsWith("." + format.extension)) {
+                    return format;
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Receives the totals every {@value #PROGRESS_EVERY} rows and at the end, on the export's thread.
+     */
+    @FunctionalInterface
+    public interface ProgressListener {
+        /**
+         * @param total Rows counted before the export started; rows added meanwhile may make
+         *              written exceed it
+         */
+        void onProgress(long written, long total);
+    }
+
+    /**
+     * Outcome of an export. A cancelled export wrote no file.
+     */
+    public static final class Result {
+        private final long rows;
+        private final long elapsedMillis;
+        private final boolean cancelled;
+
+        Result(long rows, long elapsedMillis, boolean cancelled) {
+            this.rows = rows;
+            this.elapsedMillis = elapsedMillis;
+            this.cancelled = cancelled;
+        }
+
+        public long getRows() {
+            return rows;
+        }
+
+        public long getElapsedMillis() {
+            return elapsedMillis;
+        }
+
+        public boolean isCancelled() {
+            return cancelled;
+        }
+    }
+
+    private final ConnectionProvider connections;
+    private volatile boolean cancelled;
+
+    public TableExporter() {
+        this(DatabaseConnection::openConnection);
+    }
+
+    /**
+     * @param connections Source of a connection dedicated to the export; it is closed at the end.
+     *                    A streaming MySQL result set blocks every other statement on its connection,
+     *                    so this must not be the connection the rest of the application shares.
+     */
+    public TableExporter(ConnectionProvider connections) {
+        this.connections = connections;
+    }
+
+    /**
+     * Stops the running export at the next row and discards the file.
+     */
+    public void cancel() {
+        cancelled = true;
+    }
+
+    /**
+     * Exports a table. One exporter runs one export at a time.
+     * @param format Format to write, or null to go by the file's extension (CSV if it has neither)
+     * @param listener Progress callback, may be null
+     */
+    public Result export(Table table, Path file, Format format, ProgressListener listener) throws ServiceException {
+        long start = System.nanoTime();
+        cancelled = false;
+        if (format == null) {
+            format = Format.of(file) != null ? Format.of(file) : Format.CSV;
+        }
+        Path target = file.toAbsolutePath();
+        Path partial = target.resolveSibling(target.getFileName() + ".part");
+
+        long written = 0;
+        boolean complete = false;
+        try (Connection conn = connections.getConnection()) {
+            long total = count(conn, table);
+            boolean autoCommit = conn.getAutoCommit();
+            // Connector/J streaming and H2 lazy results both want the cursor outside a multi-statement transaction
+            conn.setAutoCommit(true);
+            boolean mysql = conn.getMetaData().getDatabaseProductName().toLowerCase(Locale.ROOT).contains("mysql");
+            if (!mysql) {
+                setLazy(conn, true);
+            }
+            try (ExportWriter writer = ExportWriter.open(partial, format, table.title);
+                 Statement stmt = conn.createStatement(ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+                stmt.setFetchSize(mysql ? Integer.MIN_VALUE : FETCH_SIZE);
+                writer.header(table.columns);
+                try (ResultSet rs = stmt.executeQuery(table.sql)) {
+                    ResultSetMetaData meta = rs.getMetaData();
+                    int[] types = new int[meta.getColumnCount()];
+                    for (int i = 0; i < types.length; i++) {
+                        types[i] = meta.getColumnType(i + 1);
+                    }
+                    Object[] values = new Object[types.length];
+                    while (!cancelled && rs.next()) {
+                        for (int i = 0; i < types.length; i++) {
+                            values[i] = value(rs, i + 1, types[i]);
+                        }
+                        writer.row(values);
+                        if (++written % PROGRESS_EVERY == 0 && listener != null) {
+                            listener.onProgress(written, total);
+                        }
+                    }
+                }
+                complete = !cancelled;
+            } finally {
+                if (!mysql) {
+                    setLazy(conn, false);
+                }
+                conn.setAutoCommit(autoCommit);
+            }
+            if (listener != null) {
+                listener.onProgress(written, total);
+            }
+        } catch (SQLException e) {
+            throw new ServiceException("Failed to read " + table.tableName + ": " + e.getMessage(), e);
+        } catch (IOException e) {
+            throw new ServiceException("Failed to write " + target.getFileName() + ": " + e.getMessage(), e);
+        } finally {
+            if (!complete) {
+                deleteQuietly(partial);
+            }
+        }
+
+        try {
+            moveIntoPlace(partial, target);
+        } catch (IOException e) {
+            deleteQuietly(partial);
+            throw new ServiceException("Failed to write " + target.getFileName() + ": " + e.getMessage(), e);
+        }
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        if (cancelled) {
+            LOG.info("Export of {} cancelled after {} rows", table.tableName, written);
+        } else {
+            LOG.info("Exported {} rows of {} to {} in {} ms", written, table.tableName, target, elapsedMillis);
+        }
+        return new Result(written, elapsedMillis, cancelled);
+    }
+
+    private static long count(Connection conn, Table table) throws SQLException {
+        try (Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT COUNT(*) FROM " + table.tableName)) {
+            return rs.next() ? rs.getLong(1) : 0;
+        }
+    }
+
+    // Numbers stay numbers so spreadsheets can sum them; timestamps are written as text a spreadsheet recognises
+    private static Object value(ResultSet rs, int column, int type) throws SQLException {
+        switch (type) {
+            case Types.INTEGER:
+            case Types.SMALLINT:
+            case Types.TINYINT:
+            case Types.BIGINT:
+                long l = rs.getLong(column);
+                return rs.wasNull() ? null : l;
+            case Types.DECIMAL:
+            case Types.NUMERIC:
+                return rs.getBigDecimal(column);
+            case Types.DOUBLE:
+            case Types.FLOAT:
+            case Types.REAL:
+                double d = rs.getDouble(column);
+                return rs.wasNull() ? null : d;
+            case Types.TIMESTAMP:
+            case Types.TIMESTAMP_WITH_TIMEZONE:
+                Timestamp timestamp = rs.getTimestamp(column);
+                return timestamp != null ? timestamp.toLocalDateTime().format(TIMESTAMP_FORMAT) : null;
+            default:
+                return rs.getString(column);
+        }
+    }
+
+    private static void setLazy(Connection conn, boolean lazy) throws SQLException {
+        try (Statement stmt = conn.createStatement()) {
+            stmt.execute("SET LAZY_QUERY_EXECUTION " + (lazy ? "TRUE" : "FALSE"));
+        }
+    }
+
+    private static void moveIntoPlace(Path partial, Path target) throws IOException {
+        if (!Files.exists(partial)) {
+            return;
+        }
+        try {
+            Files.move(partial, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(partial, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            LOG.warn("Could not delete {}: {}", file, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.studentnest.services;
+
+import com.studentnest.models.User;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * User account operations. Admin accounts are never listed or counted.
+ */
+public interface UserService {
+
+    /**
+     * @return Non-admin users, newest first
+     */
+    List<User> listUsers() throws ServiceException;
+
+    int countUsers() throws ServiceException;
+
+    /**
+     * @return Number of non-admin users per user type
+     */
+    Map<String, Integer> countUsersByType() throws ServiceException;
+
+    int countUsersCreatedIn(int year, int month) throws ServiceException;
+
+    /**
+     * @return false if the username is already taken
+     */
+    boolean registerUser(User user) throws ServiceException;
+
+    /**
+     * Deletes a user together with their rooms and feedback in one transaction.
+     */
+    boolean deleteUser(int userId) throws ServiceException;
+}
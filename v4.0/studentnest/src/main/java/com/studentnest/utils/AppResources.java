@@ -0,0 +1,83 @@
+package com.studentnest.utils;
+
+import com.studentnest.logging.Log;
+import com.studentnest.logging.Logger;
+import javafx.scene.image.Image;
+
+import java.net.URL;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Application-wide cache of bundled resources. Every icon is decoded once and every stylesheet
+ * URL resolved once, so windows and dialogs opened later cost no classpath lookup or image decode.
+ * A missing resource is reported once and then remembered as missing.
+ */
+public final class AppResources {
+
+    public static final String APP_ICON = "/images/img.png";
+
+    private static final Logger LOG = Log.get("ui");
+
+    private static final Map<String, Optional<Image>> images = new ConcurrentHashMap<>();
+    private static final Map<String, Optional<String>> stylesheets = new ConcurrentHashMap<>();
+
+    private AppResources() {}
+
+    /**
+     * @return The StudentNest logo used as window icon, or null if it is missing from the build
+     */
+    public static Image appIcon() {
+        return image(APP_ICON);
+    }
+
+    /**
+     * @param path Classpath resource such as "/images/img.png"
+     * @return The decoded image, shared by all callers, or null if the resource does not exist
+     */
+    public static Image image(String path) {
+        return images.computeIfAbsent(path, p -> {
+            URL url = AppResources.class.getResource(p);
+            if (url == null) {
+                LOG.warn("Image resource not found: {}", p);
+                return Optional.empty();
+            }
+            return Optional.of(new Image(url.toExternalForm()));
+        }).orElse(null);
+    }
+
+    /**
+     * @param path Classpath resource such as "/css/login.css"
+     * @return The URL to add to a stylesheet list, or null if the resource does not exist
+     */
+    public static String stylesheet(String path) {
+        if (path == null || path.isBlank()) {
+            return null;
+        }
+        return stylesheets.computeIfAbsent(path, p -> {
+            URL url = AppResources.class.getResource(p);
+            if (url == null) {
+                LOG.warn("Stylesheet not found: {}", p);
+                return Optional.empty();
+            }
+            return Optional.of(url.toExternalForm());
+        }).orElse(null);
+    }
+
+    /**
+     * Adds a stylesheet to a scene's or node's list unless it is missing or already there.
+     * @return false if the stylesheet does not exist
+     */
+    public static boolean addStylesheet(List<String> target, String path) {
+        String url = stylesheet(path);
+        if (url == null) {
+            return false;
+        }
+        if (!target.contains(url)) {
+            target.add(url);
+        }
+        return true;
+    }
+}
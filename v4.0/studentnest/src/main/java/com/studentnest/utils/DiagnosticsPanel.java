@@ -0,0 +1,126 @@
+package com.studentnest.utils;
+
+import com.studentnest.database.JdbcMetrics;
+import com.studentnest.database.StatementStats;
+import javafx.animation.KeyFrame;
+import javafx.animation.Timeline;
+import javafx.beans.property.ReadOnlyObjectWrapper;
+import javafx.beans.property.ReadOnlyStringWrapper;
+import javafx.geometry.Insets;
+import javafx.scene.Scene;
+import javafx.scene.control.Button;
+import javafx.scene.control.Label;
+import javafx.scene.control.ListView;
+import javafx.scene.control.TableCell;
+import javafx.scene.control.TableColumn;
+import javafx.scene.control.TableView;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.Priority;
+import javafx.scene.layout.Region;
+import javafx.scene.layout.VBox;
+import javafx.stage.Stage;
+import javafx.stage.Window;
+import javafx.util.Duration;
+
+import java.util.function.Function;
+
+/**
+ * Window with the JDBC statement metrics: latency percentiles per statement shape,
+ * connection acquire times and the recent slow queries. Opened from the admin sidebar
+ * or with Ctrl+Shift+D, and refreshed every two seconds while it is showing.
+ */
+public class DiagnosticsPanel {
+
+    private static final Duration REFRESH_INTERVAL = Duration.seconds(2);
+
+    private static DiagnosticsPanel instance;
+
+    private final Stage stage = new Stage();
+    private final TableView<StatementStats> statementsTable = new TableView<>();
+    private final ListView<String> slowQueriesList = new ListView<>();
+    private final Label summaryLabel = new Label();
+    private final Label connectionLabel = new Label();
+    private final Timeline refresher = new Timeline(new KeyFrame(REFRESH_INTERVAL, e -> refresh()));
+
+    private DiagnosticsPanel() {
+        TableColumn<StatementStats, String> shapeColumn = new TableColumn<>("Statement");
+        shapeColumn.setCellValueFactory(data -> new ReadOnlyStringWrapper(data.getValue().getShape()));
+        shapeColumn.setPrefWidth(420);
+        statementsTable.getColumns().add(shapeColumn);
+        statementsTable.getColumns().add(numberColumn("Calls", StatementStats::getCount, "%,.0f"));
+        statementsTable.getColumns().add(numberColumn("Errors", StatementStats::getErrors, "%,.0f"));
+        statementsTable.getColumns().add(numberColumn("Rows", StatementStats::getRows, "%,.0f"));
+        statementsTable.getColumns().add(numberColumn("p50 ms", StatementStats::getP50Millis, "%.2f"));
+        statementsTable.getColumns().add(numberColumn("p95 ms", StatementStats::getP95Millis, "%.2f"));
+        statementsTable.getColumns().add(numberColumn("p99 ms", StatementStats::getP99Millis, "%.2f"));
+        statementsTable.getColumns().add(numberColumn("Max ms", StatementStats::getMaxMillis, "%.2f"));
+        statementsTable.getColumns().add(numberColumn("Total ms", StatementStats::getTotalMillis, "%,.0f"));
+        statementsTable.setPlaceholder(new Label("No statements recorded yet"));
+        VBox.setVgrow(statementsTable, Priority.ALWAYS);
+
+        slowQueriesList.setPrefHeight(160);
+        slowQueriesList.setPlaceholder(new Label("No slow queries"));
+
+        Button resetButton = new Button("Reset");
+        resetButton.setOnAction(e -> {
+            JdbcMetrics.getInstance().reset();
+            refresh();
+        });
+        Region spacer = new Region();
+        HBox.setHgrow(spacer, Priority.ALWAYS);
+        HBox header = new HBox(10, summaryLabel, spacer, resetButton);
+
+        VBox root = new VBox(8, header, connectionLabel, statementsTable, new Label("Recent slow queries"), slowQueriesList);
+        root.setPadding(new Insets(12));
+
+        stage.setTitle("StudentNest - Diagnostics");
+        stage.setScene(new Scene(root, 1000, 600));
+        refresher.setCycleCount(Timeline.INDEFINITE);
+        stage.setOnShown(e -> refresher.play());
+        stage.setOnHidden(e -> refresher.stop());
+    }
+
+    /**
+     * Shows the panel, creating it on first use. Must be called on the FX thread.
+     * @param owner Window the panel stays on top of, may be null
+     */
+    public static void show(Window owner) {
+        if (instance == null) {
+            instance = new DiagnosticsPanel();
+            if (owner != null) {
+                instance.stage.initOwner(owner);
+            }
+        }
+        instance.refresh();
+        instance.stage.show();
+        instance.stage.toFront();
+    }
+
+    private void refresh() {
+        JdbcMetrics metrics = JdbcMetrics.getInstance();
+        statementsTable.getItems().setAll(metrics.getStatementStats());
+        slowQueriesList.getItems().setAll(metrics.getRecentSlowQueries());
+        summaryLabel.setText(String.format("%,d statements, %,d errors, %,d slower than %d ms",
+                metrics.getStatementCount(), metrics.getErrorCount(), metrics.getSlowStatementCount(),
+                metrics.getSlowQueryThresholdMillis()));
+        connectionLabel.setText(String.format("Connections opened: %,d (p50 %.1f ms, p95 %.1f ms, max %.1f ms)",
+                metrics.getConnectionAcquireCount(), metrics.getConnectionAcquireP50Millis(),
+                metrics.getConnectionAcquireP95Millis(), metrics.getConnectionAcquireMaxMillis()));
+    }
+
+    private static TableColumn<StatementStats, Number> numberColumn(String title, Function<StatementStats, Number> value,
+                                                                    String format) {
+        TableColumn<StatementStats, Number> column = new TableColumn<>(title);
+        column.setCellValueFactory(data -> new ReadOnlyObjectWrapper<>(value.apply(data.getValue())));
+        column.setCellFactory(c -> new TableCell<>() {
+            @Override
+            protected void updateItem(Number item, boolean empty) {
+                super.updateItem(item, empty);
+                setText(empty || item == null ? null : String.format(format, item.doubleValue()));
+            }
+        });
+        column.setStyle("-fx-alignment: CENTER-RIGHT;");
+        column.setPrefWidth(75);
+        return column;
+    }
+}
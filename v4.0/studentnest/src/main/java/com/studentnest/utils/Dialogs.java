@@ -0,0 +1,59 @@
+package com.studentnest.utils;
+
+import javafx.scene.control.Alert;
+import javafx.scene.image.Image;
+import javafx.stage.Stage;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Factory for the application's alert dialogs, with the StudentNest icon and the screen's
+ * stylesheet already applied from {@link AppResources}.
+ * <p>
+ * Message alerts are kept after they close and reused for the next message of the same type
+ * and stylesheet, so showing one only sets its texts. An alert that is still open (e.g. a
+ * message shown from within another) is never reused; a new one is made instead.
+ * All methods must be called on the FX thread.
+ */
+public final class Dialogs {
+
+    // Closed message alerts by type and stylesheet, waiting for their next message
+    private static final Map<String, Alert> messageAlerts = new HashMap<>();
+
+    private Dialogs() {}
+
+    /**
+     * @param stylesheet Classpath stylesheet for the dialog pane, or null for the default look
+     * @return A new alert with the icon and stylesheet applied, for dialogs with custom content
+     */
+    public static Alert create(Alert.AlertType type, String stylesheet) {
+        Alert alert = new Alert(type);
+        Image icon = AppResources.appIcon();
+        if (icon != null) {
+            ((Stage) alert.getDialogPane().getScene().getWindow()).getIcons().add(icon);
+        }
+        if (stylesheet != null) {
+            AppResources.addStylesheet(alert.getDialogPane().getStylesheets(), stylesheet);
+        }
+        return alert;
+    }
+
+    /**
+     * Shows a message without header and waits until it is closed.
+     */
+    public static void show(Alert.AlertType type, String title, String message, String stylesheet) {
+        String key = type + "|" + stylesheet;
+        Alert alert = messageAlerts.get(key);
+        if (alert == null || alert.isShowing()) {
+            alert = create(type, stylesheet);
+            messageAlerts.putIfAbsent(key, alert);
+        }
+        alert.setTitle(title);
+        alert.setHeaderText(null);
+        alert.setContentText(message);
+        // A reused dialog keeps the size of its previous message unless it is measured again
+        alert.getDialogPane().getScene().getWindow().sizeToScene();
+        alert.showAndWait();
+    }
+}
@@ -0,0 +1,132 @@
+package com.studentnest.utils;
+
+import javafx.animation.PauseTransition;
+import javafx.application.Platform;
+import javafx.util.Duration;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Debounced, cancellable query pipeline for filter UIs.
+ * <p>
+ * {@link #submit} is called from the FX thread on every input change. Inputs are
+ * debounced, the latest one is computed on a background thread, and any computation
+ * that is still running when a newer input arrives is cancelled. Only the result of
+ * the most recent input is handed to the apply callback, on the FX thread.
+ * End-to-end latency (last input to applied result) is recorded in a quantile sketch.
+ *
+ * @param <Q> Query type, must be immutable
+ * @param <R> Result type
+ */
+public class FilterPipeline<Q, R> {
+
+    private final PauseTransition debounce;
+    private final Function<Q, R> compute;
+    private final Consumer<R> apply;
+    private final ExecutorService executor;
+
+    private final QuantileSketch latencyMillis = new QuantileSketch();
+    private final QuantileSketch computeMillis = new QuantileSketch();
+
+    // Only touched on the FX thread
+    private Q pendingQuery;
+    private long pendingSince;
+    private long generation;
+    private Future<?> running;
+
+    public FilterPipeline(String name, Duration debounceDelay, Function<Q, R> compute, Consumer<R> apply) {
+        this.compute = compute;
+        this.apply = apply;
+        this.debounce = new PauseTransition(debounceDelay);
+        this.debounce.setOnFinished(e -> dispatch());
+        this.executor = Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, name);
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /**
+     * Queues a query. Must be called on the FX thread.
+     */
+    public void submit(Q query) {
+        pendingQuery = query;
+        pendingSince = System.nanoTime();
+        debounce.playFromStart();
+    }
+
+    /**
+     * Runs a query without waiting for the debounce delay, e.g. after data was reloaded.
+     */
+    public void submitNow(Q query) {
+        pendingQuery = query;
+        pendingSince = System.nanoTime();
+        debounce.stop();
+        dispatch();
+    }
+
+    private void dispatch() {
+        Q query = pendingQuery;
+        long submittedAt = pendingSince;
+        long thisGeneration = ++generation;
+        if (running != null) {
+            running.cancel(true);
+        }
+
+        running = executor.submit(() -> {
+            long start = System.nanoTime();
+            R result;
+            try {
+                result = compute.apply(query);
+            } catch (CancellationException e) {
+                return;
+            }
+            long computed = System.nanoTime();
+
+            Platform.runLater(() -> {
+                if (thisGeneration != generation) {
+                    return; // superseded while waiting for the FX thread
+                }
+                apply.accept(result);
+                synchronized (latencyMillis) {
+                    computeMillis.add((computed - start) / 1_000_000.0);
+                    latencyMillis.add((System.nanoTime() - submittedAt) / 1_000_000.0);
+                }
+            });
+        });
+    }
+
+    /**
+     * @return End-to-end latency at the given quantile in milliseconds, NaN if nothing ran yet
+     */
+    public double latencyPercentile(double quantile) {
+        synchronized (latencyMillis) {
+            return latencyMillis.quantile(quantile);
+        }
+    }
+
+    /**
+     * @return Background compute time at the given quantile in milliseconds
+     */
+    public double computePercentile(double quantile) {
+        synchronized (latencyMillis) {
+            return computeMillis.quantile(quantile);
+        }
+    }
+
+    public long getCompletedCount() {
+        synchronized (latencyMillis) {
+            return latencyMillis.getCount();
+        }
+    }
+
+    public void shutdown() {
+        debounce.stop();
+        executor.shutdownNow();
+    }
+}
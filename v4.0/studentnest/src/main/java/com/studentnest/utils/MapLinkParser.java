@@ -0,0 +1,61 @@
+package com.studentnest.utils;
+
+import com.studentnest.models.GeoPoint;
+
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Extracts coordinates from the map links owners paste into the room form.
+ * Understands the common Google Maps, OpenStreetMap and geo: URI formats.
+ * Shortened links (e.g. maps.app.goo.gl) carry no coordinates and return null.
+ */
+public class MapLinkParser {
+
+    private static final String NUMBER = "(-?\\d{1,3}(?:\\.\\d+)?)";
+    private static final String PAIR = NUMBER + "\\s*,\\s*" + NUMBER;
+
+    // Ordered from most to least precise: the !3d!4d pair is the actual pin, @ is only the viewport centre
+    private static final Pattern[] PATTERNS = {
+            Pattern.compile("!3d" + NUMBER + "!4d" + NUMBER),
+            Pattern.compile("[?&](?:q|query|ll|destination|daddr|center|sll)=(?:loc:)?" + PAIR),
+            Pattern.compile("[?&]mlat=" + NUMBER + "&mlon=" + NUMBER),
+            Pattern.compile("#map=\\d+/" + NUMBER + "/" + NUMBER),
+            Pattern.compile("@" + PAIR),
+            Pattern.compile("^geo:" + PAIR),
+            Pattern.compile("^\\s*" + PAIR + "\\s*$")
+    };
+
+    /**
+     * @param mapLink A map URL or a plain "lat,lng" pair
+     * @return The coordinates, or null if the link does not contain any
+     */
+    public static GeoPoint parse(String mapLink) {
+        if (mapLink == null || mapLink.isBlank()) {
+            return null;
+        }
+        String link = mapLink.trim();
+        try {
+            link = URLDecoder.decode(link, StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            // Malformed escape sequence, match against the raw link
+        }
+        for (Pattern pattern : PATTERNS) {
+            Matcher matcher = pattern.matcher(link);
+            if (matcher.find()) {
+                try {
+                    double latitude = Double.parseDouble(matcher.group(1));
+                    double longitude = Double.parseDouble(matcher.group(2));
+                    if (GeoPoint.isValid(latitude, longitude)) {
+                        return new GeoPoint(latitude, longitude);
+                    }
+                } catch (NumberFormatException e) {
+                    // Try the next pattern
+                }
+            }
+        }
+        return null;
+    }
+}
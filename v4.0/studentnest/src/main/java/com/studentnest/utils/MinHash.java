@@ -0,0 +1,100 @@
+package com.studentnest.utils;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Random;
+
+/**
+ * MinHash signatures of short texts, for finding near duplicates without comparing every
+ * pair. Texts are cut into overlapping character shingles; the share of equal signature
+ * values of two texts estimates the Jaccard similarity of their shingle sets.
+ * <p>
+ * For locality sensitive hashing the signature is split into {@link #BANDS} bands of
+ * {@link #ROWS} values. Texts sharing any band key are candidate duplicates; with 16 bands
+ * of 4 rows, pairs above ~50% similarity very likely share one, pairs below ~25% rarely do.
+ */
+public final class MinHash {
+
+    public static final int BANDS = 16;
+    public static final int ROWS = 4;
+    public static final int SIZE = BANDS * ROWS;
+
+    private static final int SHINGLE_LENGTH = 5;
+    private static final long[] MULTIPLIERS = new long[SIZE];
+    private static final long[] ADDENDS = new long[SIZE];
+
+    static {
+        // Fixed seed: signatures must stay comparable between runs and instances
+        Random random = new Random(0x5EED_F00DL);
+        for (int i = 0; i < SIZE; i++) {
+            MULTIPLIERS[i] = random.nextLong() | 1;
+            ADDENDS[i] = random.nextLong();
+        }
+    }
+
+    private MinHash() {}
+
+    /**
+     * Signature of a text; case, punctuation and runs of white space are ignored.
+     */
+    public static int[] signature(String text) {
+        int[] signature = new int[SIZE];
+        Arrays.fill(signature, Integer.MAX_VALUE);
+        String normalized = normalize(text);
+        if (normalized.length() <= SHINGLE_LENGTH) {
+            update(signature, normalized.hashCode());
+            return signature;
+        }
+        for (int i = 0; i + SHINGLE_LENGTH <= normalized.length(); i++) {
+            update(signature, normalized.substring(i, i + SHINGLE_LENGTH).hashCode());
+        }
+        return signature;
+    }
+
+    /**
+     * @return Estimated Jaccard similarity of the two texts, 0.0 - 1.0
+     */
+    public static double similarity(int[] a, int[] b) {
+        int equal = 0;
+        for (int i = 0; i < SIZE; i++) {
+            if (a[i] == b[i]) {
+                equal++;
+            }
+        }
+        return (double) equal / SIZE;
+    }
+
+    /**
+     * Hash of one band of a signature; keys of different bands never collide on purpose.
+     */
+    public static long bandKey(int[] signature, int band) {
+        long key = band;
+        for (int i = band * ROWS; i < (band + 1) * ROWS; i++) {
+            key = key * 0x100000001B3L + signature[i];
+        }
+        return mix(key);
+    }
+
+    private static void update(int[] signature, int shingleHash) {
+        for (int i = 0; i < SIZE; i++) {
+            int value = (int) (mix(shingleHash * MULTIPLIERS[i] + ADDENDS[i]) >>> 33);
+            if (value < signature[i]) {
+                signature[i] = value;
+            }
+        }
+    }
+
+    private static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return text.toLowerCase(Locale.ROOT).replaceAll("[^\\p{L}\\p{M}\\p{N}]+", " ").trim();
+    }
+
+    // Finalizer of SplitMix64, spreads the bits of a multiplied hash
+    private static long mix(long x) {
+        x = (x ^ (x >>> 30)) * 0xBF58476D1CE4E5B9L;
+        x = (x ^ (x >>> 27)) * 0x94D049BB133111EBL;
+        return x ^ (x >>> 31);
+    }
+}
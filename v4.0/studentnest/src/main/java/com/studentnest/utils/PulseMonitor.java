@@ -0,0 +1,423 @@
+package com.studentnest.utils;
+
+import com.studentnest.logging.Log;
+import com.studentnest.logging.Logger;
+import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+import javafx.stage.Stage;
+import javafx.stage.Window;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Measures how smoothly the FX Application Thread keeps up while enabled:
+ * <ul>
+ *   <li>frame interval: time between pulses, 16.7 ms at 60 Hz when nothing blocks the thread</li>
+ *   <li>pulse work: from the animation phase to the end of CSS and layout of every scene</li>
+ *   <li>CSS + layout: time between the pre- and post-layout pulse listeners of the scenes</li>
+ *   <li>node count of the primary stage's scene, counted once a second</li>
+ *   <li>long tasks: stretches longer than the budget ({@code -Dstudentnest.fx.pulseBudgetMillis},
+ *       default 50) in which no pulse ran. A watchdog thread samples the FX thread's stack every
+ *       few milliseconds during such a stretch, so the log shows what kept it busy.</li>
+ * </ul>
+ * Rendering happens after the listeners and is not visible through the public API, so pulse
+ * work excludes it. While enabled an AnimationTimer keeps pulses running every frame, which
+ * costs some CPU; when disabled the monitor only adds a flag check to each layout pass.
+ * <p>
+ * Every frame is recorded; disabling the monitor writes the recording as CSV, with the long
+ * task stacks next to it, in the log directory. {@link SceneManager} installs the monitor
+ * on every scene it creates; {@link PulseOverlay} shows the numbers on top of the window.
+ */
+public final class PulseMonitor {
+
+    private static final Logger LOG = Log.get("ui.pulse");
+    private static final PulseMonitor INSTANCE = new PulseMonitor();
+
+    private static final long BUDGET_NANOS = Long.getLong("studentnest.fx.pulseBudgetMillis", 50) * 1_000_000;
+    private static final long SAMPLE_INTERVAL_MILLIS = 5;
+    private static final long NODE_COUNT_INTERVAL_NANOS = 1_000_000_000L;
+    private static final int RECORDING_FRAMES = 20_000;
+    private static final int RECENT_LONG_TASKS = 20;
+    private static final int STACK_DEPTH = 15;
+    private static final DateTimeFormatter FILE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private final Map<Scene, Boolean> installed = new WeakHashMap<>();
+    private final AnimationTimer frameTimer = new AnimationTimer() {
+        @Override
+        public void handle(long now) {
+            onFrame();
+        }
+    };
+
+    // Only touched on the FX thread
+    private boolean enabled;
+    private long startNanos;
+    private long frameStartNanos;
+    private long layoutStartNanos;
+    private long layoutNanos;
+    private long lastLayoutEndNanos;
+    private long lastNodeCountNanos;
+    private int nodeCount;
+    private QuantileSketch windowFrameMillis = new QuantileSketch();
+    private QuantileSketch windowPulseMillis = new QuantileSketch();
+    private QuantileSketch windowLayoutMillis = new QuantileSketch();
+    private double windowMaxFrameMillis;
+    private QuantileSketch frameMillis = new QuantileSketch();
+    private long frames;
+    private long slowFrames;
+    private final long[] recordedAt = new long[RECORDING_FRAMES];
+    private final float[] recordedFrame = new float[RECORDING_FRAMES];
+    private final float[] recordedPulse = new float[RECORDING_FRAMES];
+    private final float[] recordedLayout = new float[RECORDING_FRAMES];
+    private final int[] recordedNodes = new int[RECORDING_FRAMES];
+    private int recorded;
+
+    // Shared with the watchdog thread
+    private volatile long heartbeatNanos;
+    private volatile Thread fxThread;
+    private Thread watchdog;
+    private final Deque<LongTask> longTasks = new ArrayDeque<>();
+    private long longTaskCount;
+
+    private PulseMonitor() {}
+
+    public static PulseMonitor getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Adds the layout listeners to a scene; installing the same scene again does nothing.
+     * Must be called on the FX thread.
+     */
+    public void install(Scene scene) {
+        if (scene == null || installed.containsKey(scene)) {
+            return;
+        }
+        installed.put(scene, Boolean.TRUE);
+        scene.addPreLayoutPulseListener(() -> {
+            if (enabled) {
+                layoutStartNanos = System.nanoTime();
+            }
+        });
+        scene.addPostLayoutPulseListener(() -> {
+            if (enabled && layoutStartNanos != 0) {
+                long now = System.nanoTime();
+                layoutNanos += now - layoutStartNanos;
+                lastLayoutEndNanos = now;
+                layoutStartNanos = 0;
+                heartbeatNanos = now;
+            }
+        });
+    }
+
+    /**
+     * Installs the monitor on the stage's current and future scenes.
+     */
+    public void attach(Stage stage) {
+        install(stage.getScene());
+        stage.sceneProperty().addListener((obs, oldScene, newScene) -> install(newScene));
+        if (Boolean.getBoolean("studentnest.fx.monitor")) {
+            Platform.runLater(() -> PulseOverlay.show(stage));
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Starts or stops measuring. Stopping writes the recording. Must be called on the FX thread.
+     */
+    public void setEnabled(boolean enable) {
+        if (enable == enabled) {
+            return;
+        }
+        enabled = enable;
+        if (enable) {
+            startNanos = System.nanoTime();
+            heartbeatNanos = startNanos;
+            frameStartNanos = 0;
+            frames = 0;
+            frameMillis = new QuantileSketch();
+            slowFrames = 0;
+            recorded = 0;
+            nodeCount = 0;
+            lastNodeCountNanos = 0;
+            synchronized (longTasks) {
+                longTasks.clear();
+                longTaskCount = 0;
+            }
+            fxThread = Thread.currentThread();
+            frameTimer.start();
+            watchdog = new Thread(this::watch, "fx-pulse-watchdog");
+            watchdog.setDaemon(true);
+            watchdog.start();
+            LOG.info("Pulse monitor started, budget {} ms", BUDGET_NANOS / 1_000_000);
+        } else {
+            frameTimer.stop();
+            watchdog.interrupt();
+            watchdog = null;
+            LOG.info("Pulse monitor stopped: {} frames, {} slower than {} ms, frame p95 {} ms", frames, slowFrames,
+                    BUDGET_NANOS / 1_000_000, String.format("%.1f", frameMillis.quantile(0.95)));
+            saveRecording();
+        }
+    }
+
+    private void onFrame() {
+        long now = System.nanoTime();
+        heartbeatNanos = now;
+        if (frameStartNanos != 0) {
+            // The previous pulse is complete: its layout listeners have run
+            double frame = (now - frameStartNanos) / 1_000_000.0;
+            double pulse = lastLayoutEndNanos > frameStartNanos ? (lastLayoutEndNanos - frameStartNanos) / 1_000_000.0 : 0;
+            double layout = layoutNanos / 1_000_000.0;
+            windowFrameMillis.add(frame);
+            windowPulseMillis.add(pulse);
+            windowLayoutMillis.add(layout);
+            windowMaxFrameMillis = Math.max(windowMaxFrameMillis, frame);
+            frameMillis.add(frame);
+            frames++;
+            if (now - frameStartNanos > BUDGET_NANOS) {
+                slowFrames++;
+            }
+            if (recorded < RECORDING_FRAMES) {
+                recordedAt[recorded] = frameStartNanos - startNanos;
+                recordedFrame[recorded] = (float) frame;
+                recordedPulse[recorded] = (float) pulse;
+                recordedLayout[recorded] = (float) layout;
+                recordedNodes[recorded] = nodeCount;
+                recorded++;
+            }
+        }
+        frameStartNanos = now;
+        layoutNanos = 0;
+        if (now - lastNodeCountNanos > NODE_COUNT_INTERVAL_NANOS) {
+            lastNodeCountNanos = now;
+            Stage stage = SceneManager.getPrimaryStage();
+            nodeCount = stage != null && stage.getScene() != null ? countNodes(stage.getScene().getRoot()) : 0;
+        }
+    }
+
+    private static int countNodes(Node node) {
+        int count = 1;
+        if (node instanceof Parent) {
+            for (Node child : ((Parent) node).getChildrenUnmodifiable()) {
+                count += countNodes(child);
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Statistics since the previous call, for the overlay. Must be called on the FX thread.
+     */
+    public Snapshot takeSnapshot() {
+        Snapshot snapshot;
+        synchronized (longTasks) {
+            LongTask last = longTasks.peekFirst();
+            snapshot = new Snapshot(windowFrameMillis.getCount(), windowFrameMillis.quantile(0.5),
+                    windowFrameMillis.quantile(0.95), windowMaxFrameMillis, windowPulseMillis.quantile(0.95),
+                    windowLayoutMillis.quantile(0.95), nodeCount, slowFrames, longTaskCount,
+                    last != null ? last.durationMillis : 0);
+        }
+        windowFrameMillis = new QuantileSketch();
+        windowPulseMillis = new QuantileSketch();
+        windowLayoutMillis = new QuantileSketch();
+        windowMaxFrameMillis = 0;
+        return snapshot;
+    }
+
+    /**
+     * @return The most recent long tasks, newest first
+     */
+    public List<LongTask> getLongTasks() {
+        synchronized (longTasks) {
+            return new ArrayList<>(longTasks);
+        }
+    }
+
+    // Watchdog thread: samples the FX thread while it has not reached a pulse within the budget
+    private void watch() {
+        long stallStart = 0;
+        Map<String, Integer> samples = new HashMap<>();
+        int sampleCount = 0;
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                Thread.sleep(SAMPLE_INTERVAL_MILLIS);
+            } catch (InterruptedException e) {
+                return;
+            }
+            long heartbeat = heartbeatNanos;
+            long gap = System.nanoTime() - heartbeat;
+            if (gap > BUDGET_NANOS) {
+                if (sampleCount > 0 && stallStart != heartbeat) {
+                    // The thread got through one pulse and blocked again before the next check
+                    recordLongTask(new LongTask(LocalDateTime.now(), (heartbeat - stallStart) / 1_000_000, sampleCount,
+                            new HashMap<>(samples)));
+                    samples.clear();
+                    sampleCount = 0;
+                }
+                if (sampleCount == 0) {
+                    stallStart = heartbeat;
+                }
+                Thread thread = fxThread;
+                if (thread != null) {
+                    samples.merge(formatStack(thread.getStackTrace()), 1, Integer::sum);
+                    sampleCount++;
+                }
+            } else if (sampleCount > 0) {
+                recordLongTask(new LongTask(LocalDateTime.now(), (heartbeat - stallStart) / 1_000_000, sampleCount,
+                        new HashMap<>(samples)));
+                samples.clear();
+                sampleCount = 0;
+            }
+        }
+    }
+
+    private void recordLongTask(LongTask task) {
+        synchronized (longTasks) {
+            longTaskCount++;
+            longTasks.addFirst(task);
+            if (longTasks.size() > RECENT_LONG_TASKS) {
+                longTasks.removeLast();
+            }
+        }
+        LOG.warn("FX thread blocked for {} ms ({} samples), most often in:\n{}", task.durationMillis, task.sampleCount,
+                task.hottestStack());
+    }
+
+    private static String formatStack(StackTraceElement[] stack) {
+        StringBuilder out = new StringBuilder();
+        for (int i = 0; i < stack.length && i < STACK_DEPTH; i++) {
+            out.append("    at ").append(stack[i]).append('\n');
+        }
+        return out.toString();
+    }
+
+    private void saveRecording() {
+        if (recorded == 0) {
+            return;
+        }
+        StringBuilder csv = new StringBuilder("time_ms,frame_ms,pulse_ms,layout_ms,nodes\n");
+        for (int i = 0; i < recorded; i++) {
+            csv.append(String.format("%.1f,%.2f,%.2f,%.2f,%d%n", recordedAt[i] / 1_000_000.0, recordedFrame[i],
+                    recordedPulse[i], recordedLayout[i], recordedNodes[i]));
+        }
+        List<LongTask> tasks = getLongTasks();
+        // Written off the FX thread so saving does not show up as a stall of its own
+        Thread writer = new Thread(() -> {
+            Path dir = Log.getDirectory();
+            String name = "pulse-" + LocalDateTime.now().format(FILE_TIME);
+            try {
+                Files.createDirectories(dir);
+                Files.writeString(dir.resolve(name + ".csv"), csv, StandardCharsets.UTF_8);
+                if (!tasks.isEmpty()) {
+                    try (PrintWriter out = new PrintWriter(Files.newBufferedWriter(dir.resolve(name + "-long-tasks.txt")))) {
+                        for (LongTask task : tasks) {
+                            task.print(out);
+                        }
+                    }
+                }
+                LOG.info("Pulse recording saved to {}", dir.resolve(name + ".csv"));
+            } catch (IOException e) {
+                LOG.error("Could not save the pulse recording", e);
+            }
+        }, "fx-pulse-recording");
+        writer.setDaemon(false);
+        writer.start();
+    }
+
+    /**
+     * Show the overlay on the window if the monitor is off, otherwise hide it and stop.
+     */
+    public static void toggle(Window owner) {
+        if (getInstance().isEnabled()) {
+            PulseOverlay.hide();
+        } else {
+            PulseOverlay.show(owner);
+        }
+    }
+
+    /**
+     * Frame statistics of the last overlay interval.
+     */
+    public static final class Snapshot {
+        public final long frames;
+        public final double frameP50Millis;
+        public final double frameP95Millis;
+        public final double frameMaxMillis;
+        public final double pulseP95Millis;
+        public final double layoutP95Millis;
+        public final int nodeCount;
+        public final long slowFrames;
+        public final long longTasks;
+        public final long lastLongTaskMillis;
+
+        Snapshot(long frames, double frameP50Millis, double frameP95Millis, double frameMaxMillis, double pulseP95Millis,
+                 double layoutP95Millis, int nodeCount, long slowFrames, long longTasks, long lastLongTaskMillis) {
+            this.frames = frames;
+            this.frameP50Millis = frameP50Millis;
+            this.frameP95Millis = frameP95Millis;
+            this.frameMaxMillis = frameMaxMillis;
+            this.pulseP95Millis = pulseP95Millis;
+            this.layoutP95Millis = layoutP95Millis;
+            this.nodeCount = nodeCount;
+            this.slowFrames = slowFrames;
+            this.longTasks = longTasks;
+            this.lastLongTaskMillis = lastLongTaskMillis;
+        }
+    }
+
+    /**
+     * A stretch in which the FX thread did not reach a pulse, with the sampled stacks.
+     */
+    public static final class LongTask {
+        public final LocalDateTime endedAt;
+        public final long durationMillis;
+        public final int sampleCount;
+        private final Map<String, Integer> stacks;
+
+        LongTask(LocalDateTime endedAt, long durationMillis, int sampleCount, Map<String, Integer> stacks) {
+            this.endedAt = endedAt;
+            this.durationMillis = durationMillis;
+            this.sampleCount = sampleCount;
+            this.stacks = stacks;
+        }
+
+        public String hottestStack() {
+            String hottest = "";
+            int best = 0;
+            for (Map.Entry<String, Integer> entry : stacks.entrySet()) {
+                if (entry.getValue() > best) {
+                    best = entry.getValue();
+                    hottest = entry.getKey();
+                }
+            }
+            return hottest;
+        }
+
+        void print(PrintWriter out) {
+            out.printf("%s: blocked %d ms, %d samples%n", endedAt, durationMillis, sampleCount);
+            stacks.entrySet().stream()
+                    .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                    .forEach(entry -> out.printf("  %d samples%n%s", entry.getValue(), entry.getKey()));
+            out.println();
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.studentnest.utils;
+
+import javafx.animation.KeyFrame;
+import javafx.animation.Timeline;
+import javafx.scene.control.Label;
+import javafx.stage.Popup;
+import javafx.stage.Window;
+import javafx.util.Duration;
+
+/**
+ * Small panel in the top right corner of a window with the {@link PulseMonitor} numbers of the
+ * last second. Showing it starts the monitor, hiding it stops the monitor and saves the recording.
+ */
+public final class PulseOverlay {
+
+    private static final double MARGIN = 12;
+
+    private static Popup popup;
+    private static Label label;
+    private static Timeline refresher;
+    private static Window shownOn;
+
+    private PulseOverlay() {}
+
+    /**
+     * Must be called on the FX thread.
+     */
+    public static void show(Window owner) {
+        if (owner == null) {
+            return;
+        }
+        if (popup == null) {
+            label = new Label();
+            label.setMouseTransparent(true);
+            label.setStyle("-fx-font-family: monospace; -fx-font-size: 11px; -fx-text-fill: #e8ffe8;"
+                    + " -fx-background-color: rgba(20, 20, 20, 0.8); -fx-background-radius: 6; -fx-padding: 6 10 6 10;");
+            popup = new Popup();
+            popup.getContent().add(label);
+            popup.setAutoHide(false);
+            refresher = new Timeline(new KeyFrame(Duration.seconds(1), e -> refresh()));
+            refresher.setCycleCount(Timeline.INDEFINITE);
+        }
+        PulseMonitor.getInstance().setEnabled(true);
+        label.setText("Measuring...");
+        if (shownOn != owner) {
+            popup.hide();
+            shownOn = owner;
+            // Keep the panel in the corner when the window moves or the scene changes size
+            owner.xProperty().addListener((obs, o, n) -> position());
+            owner.yProperty().addListener((obs, o, n) -> position());
+            owner.widthProperty().addListener((obs, o, n) -> position());
+        }
+        popup.show(owner);
+        position();
+        refresher.play();
+    }
+
+    public static void hide() {
+        if (popup != null) {
+            refresher.stop();
+            popup.hide();
+        }
+        PulseMonitor.getInstance().setEnabled(false);
+    }
+
+    private static void position() {
+        if (popup != null && popup.isShowing() && shownOn != null) {
+            popup.setX(shownOn.getX() + shownOn.getWidth() - label.getWidth() - MARGIN * 2);
+            popup.setY(shownOn.getY() + MARGIN * 3);
+        }
+    }
+
+    private static void refresh() {
+        PulseMonitor.Snapshot s = PulseMonitor.getInstance().takeSnapshot();
+        label.setText(String.format("%3d fps   frame p50 %5.1f  p95 %5.1f  max %5.1f ms%n"
+                        + "pulse p95 %5.1f ms   css+layout p95 %5.1f ms%n"
+                        + "nodes %,d   slow frames %d   long tasks %d%s",
+                s.frames, s.frameP50Millis, s.frameP95Millis, s.frameMaxMillis, s.pulseP95Millis, s.layoutP95Millis,
+                s.nodeCount, s.slowFrames, s.longTasks,
+                s.longTasks > 0 ? " (last " + s.lastLongTaskMillis + " ms)" : ""));
+        position();
+    }
+}
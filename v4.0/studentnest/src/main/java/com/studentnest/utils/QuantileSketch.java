@@ -0,0 +1,186 @@
+package com.studentnest.utils;
+
+/**
+ * Streaming quantile sketch with a fixed relative accuracy (DDSketch style).
+ * Values are counted in logarithmically sized buckets, so a quantile estimate
+ * is always within {@code relativeAccuracy} of the true value. Unlike KLL or
+ * t-digest the buckets are plain counters, which means values can also be
+ * removed again - needed when a room's price is edited or the room is deleted.
+ * Only non-negative values are supported.
+ */
+public class QuantileSketch {
+
+    private static final int INITIAL_BUCKETS = 64;
+
+    private final double relativeAccuracy;
+    private final double logGamma;
+
+    private long[] counts = new long[INITIAL_BUCKETS];
+    private int offset;            // bucket index stored at counts[0]
+    private boolean empty = true;  // true until the first non-zero value arrives
+    private long zeroCount;
+    private long totalCount;
+    private double sum;
+
+    /**
+     * Creates a sketch with 1% relative accuracy.
+     */
+    public QuantileSketch() {
+        this(0.01);
+    }
+
+    /**
+     * @param relativeAccuracy Maximum relative error of quantile estimates, e.g. 0.01 for 1%
+     */
+    public QuantileSketch(double relativeAccuracy) {
+        if (relativeAccuracy <= 0 || relativeAccuracy >= 1) {
+            throw new IllegalArgumentException("Relative accuracy must be between 0 and 1");
+        }
+        this.relativeAccuracy = relativeAccuracy;
+        double gamma = (1 + relativeAccuracy) / (1 - relativeAccuracy);
+        this.logGamma = Math.log(gamma);
+    }
+
+    /**
+     * Adds one occurrence of a value.
+     */
+    public void add(double value) {
+        add(value, 1);
+    }
+
+    /**
+     * Removes one occurrence of a value that was previously added.
+     * Removing a value that was never added is ignored.
+     */
+    public void remove(double value) {
+        add(value, -1);
+    }
+
+    private void add(double value, long delta) {
+        if (value < 0 || Double.isNaN(value) || Double.isInfinite(value)) {
+            throw new IllegalArgumentException("Value must be a finite, non-negative number: " + value);
+        }
+        if (value == 0) {
+            if (delta < 0 && zeroCount == 0) {
+                return;
+            }
+            zeroCount += delta;
+        } else {
+            int index = bucketIndex(value);
+            if (delta < 0) {
+                int slot = index - offset;
+                if (empty || slot < 0 || slot >= counts.length || counts[slot] == 0) {
+                    return;
+                }
+                counts[slot] += delta;
+            } else {
+                ensureCapacity(index);
+                counts[index - offset] += delta;
+            }
+        }
+        totalCount += delta;
+        sum += value * delta;
+    }
+
+    /**
+     * Merges all values of another sketch with the same accuracy into this one.
+     */
+    public void merge(QuantileSketch other) {
+        if (other.relativeAccuracy != relativeAccuracy) {
+            throw new IllegalArgumentException("Cannot merge sketches with different accuracy");
+        }
+        if (!other.empty) {
+            for (int i = 0; i < other.counts.length; i++) {
+                if (other.counts[i] != 0) {
+                    int index = other.offset + i;
+                    ensureCapacity(index);
+                    counts[index - offset] += other.counts[i];
+                }
+            }
+        }
+        zeroCount += other.zeroCount;
+        totalCount += other.totalCount;
+        sum += other.sum;
+    }
+
+    /**
+     * Returns the estimated value at the given quantile (0.0 - 1.0),
+     * or {@code Double.NaN} if the sketch is empty.
+     */
+    public double quantile(double q) {
+        if (q < 0 || q > 1) {
+            throw new IllegalArgumentException("Quantile must be between 0 and 1: " + q);
+        }
+        if (totalCount <= 0) {
+            return Double.NaN;
+        }
+        long rank = (long) Math.floor(q * (totalCount - 1));
+        if (rank < zeroCount) {
+            return 0;
+        }
+        long seen = zeroCount;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen > rank) {
+                return bucketValue(offset + i);
+            }
+        }
+        return bucketValue(offset + counts.length - 1);
+    }
+
+    public long getCount() {
+        return totalCount;
+    }
+
+    public double getMean() {
+        return totalCount > 0 ? sum / totalCount : Double.NaN;
+    }
+
+    public boolean isEmpty() {
+        return totalCount <= 0;
+    }
+
+    public double getRelativeAccuracy() {
+        return relativeAccuracy;
+    }
+
+    /**
+     * Returns an independent copy of this sketch.
+     */
+    public QuantileSketch copy() {
+        QuantileSketch copy = new QuantileSketch(relativeAccuracy);
+        copy.merge(this);
+        return copy;
+    }
+
+    private int bucketIndex(double value) {
+        return (int) Math.ceil(Math.log(value) / logGamma);
+    }
+
+    private double bucketValue(int index) {
+        // Midpoint of the bucket (gamma^(i-1), gamma^i] that keeps the relative error bound
+        return 2 * Math.exp(index * logGamma) / (1 + Math.exp(logGamma));
+    }
+
+    private void ensureCapacity(int index) {
+        if (empty) {
+            offset = index - counts.length / 2;
+            empty = false;
+        }
+        int slot = index - offset;
+        if (slot >= 0 && slot < counts.length) {
+            return;
+        }
+        int newOffset = Math.min(offset, index);
+        int newEnd = Math.max(offset + counts.length, index + 1);
+        int newLength = Math.max(counts.length * 2, newEnd - newOffset);
+        // Spare room goes to the side that ran out, or values creeping down would double the array every time
+        if (index < offset) {
+            newOffset = newEnd - newLength;
+        }
+        long[] grown = new long[newLength];
+        System.arraycopy(counts, 0, grown, offset - newOffset, counts.length);
+        counts = grown;
+        offset = newOffset;
+    }
+}
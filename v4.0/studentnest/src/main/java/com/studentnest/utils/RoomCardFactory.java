@@ -0,0 +1,125 @@
+package com.studentnest.utils;
+
+import com.studentnest.jfr.ImageDecodeEvent;
+import com.studentnest.logging.Log;
+import com.studentnest.logging.Logger;
+import com.studentnest.models.Room;
+import com.studentnest.services.GeoIndex;
+import javafx.scene.control.Button;
+import javafx.scene.control.Label;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.VBox;
+
+import java.io.File;
+import java.util.function.Consumer;
+
+/**
+ * Builds the room cards shown on the student dashboard.
+ * Kept free of controller state so it can be reused and benchmarked headless.
+ */
+public final class RoomCardFactory {
+
+    private static final Logger LOG = Log.get("ui.cards");
+
+    public static final double CARD_IMAGE_SIZE = 150;
+
+    private RoomCardFactory() {}
+
+    /**
+     * @param onViewDetails Called when the "View Details" button is pressed
+     */
+    public static VBox createRoomCard(Room room, Consumer<Room> onViewDetails) {
+        VBox card = new VBox(10);
+        card.getStyleClass().add("room-card");
+
+        HBox imageContainer = new HBox(10);
+        imageContainer.getStyleClass().add("image-container");
+        for (String imagePath : room.getImages()) {
+            ImageView imageView = loadRoomImage(imagePath);
+            if (imageView != null) {
+                imageContainer.getChildren().add(imageView);
+            }
+        }
+
+        Label titleLabel = new Label("Room in " + room.getLocation());
+        titleLabel.getStyleClass().add("location-label");
+
+        Label priceLabel = new Label("Price: ৳" + room.getPrice() + "/month");
+        priceLabel.getStyleClass().add("price-label");
+
+        Label descriptionLabel = new Label("Description: " + room.getDescription());
+        Label contactLabel = new Label("Contact: " + room.getContactNumber());
+
+        Double campusDistance = GeoIndex.getInstance().campusDistanceKm(room.getId());
+        Label distanceLabel = new Label(campusDistance != null
+                ? String.format("📍 %.1f km from DIU", campusDistance)
+                : "📍 Distance unknown");
+        distanceLabel.getStyleClass().add("distance-label");
+
+        Label seatsLabel = createSeatsLabel(room);
+
+        Button contactButton = new Button("View Details");
+        contactButton.getStyleClass().add("contact-btn");
+        contactButton.setOnAction(e -> onViewDetails.accept(room));
+
+        card.getChildren().addAll(imageContainer, titleLabel, priceLabel, descriptionLabel, contactLabel, distanceLabel, seatsLabel, contactButton);
+        return card;
+    }
+
+    /**
+     * @return A label with the room's free seats, greyed out once it is fully booked
+     */
+    public static Label createSeatsLabel(Room room) {
+        Label seatsLabel = new Label();
+        seatsLabel.getStyleClass().add("seats-label");
+        updateSeatsLabel(seatsLabel, room);
+        return seatsLabel;
+    }
+
+    public static void updateSeatsLabel(Label seatsLabel, Room room) {
+        seatsLabel.setText(room.isFullyBooked()
+                ? "🛏 Fully booked"
+                : String.format("🛏 %d of %d seats free", room.getAvailableSeats(), room.getNumberOfRooms()));
+        seatsLabel.getStyleClass().remove("fully-booked");
+        if (room.isFullyBooked()) {
+            seatsLabel.getStyleClass().add("fully-booked");
+        }
+    }
+
+    /**
+     * Loads a room image from disk into a 150px thumbnail view.
+     *
+     * @return The image view, or null if the file is missing or unreadable
+     */
+    public static ImageView loadRoomImage(String imagePath) {
+        ImageDecodeEvent jfrEvent = new ImageDecodeEvent();
+        jfrEvent.begin();
+        jfrEvent.path = imagePath;
+        try {
+            File file = new File(imagePath);
+            if (file.exists()) {
+                Image image = new Image(file.toURI().toString());
+                jfrEvent.fileSize = file.length();
+                jfrEvent.width = (int) image.getWidth();
+                jfrEvent.height = (int) image.getHeight();
+                jfrEvent.succeeded = !image.isError();
+                ImageView imageView = new ImageView(image);
+                imageView.setFitWidth(CARD_IMAGE_SIZE);
+                imageView.setFitHeight(CARD_IMAGE_SIZE);
+                imageView.setPreserveRatio(true);
+                imageView.getStyleClass().add("room-image");
+                return imageView;
+            } else {
+                LOG.warn("Image file not found: {}", imagePath);
+                return null;
+            }
+        } catch (Exception e) {
+            LOG.error("Error loading image: {}", e.getMessage());
+            return null;
+        } finally {
+            jfrEvent.commit();
+        }
+    }
+}
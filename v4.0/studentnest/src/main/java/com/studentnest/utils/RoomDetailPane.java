@@ -0,0 +1,265 @@
+package com.studentnest.utils;
+
+import com.studentnest.models.Room;
+import com.studentnest.services.GeoIndex;
+import javafx.beans.binding.Bindings;
+import javafx.geometry.Pos;
+import javafx.scene.control.Button;
+import javafx.scene.control.Hyperlink;
+import javafx.scene.control.Label;
+import javafx.scene.control.ScrollPane;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.Priority;
+import javafx.scene.layout.Region;
+import javafx.scene.layout.VBox;
+
+import java.io.File;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Side panel with the details of one room, replacing the modal details dialog of the student
+ * dashboard. The nodes are built once and rebound to each room that is shown.
+ * <p>
+ * Photos are decoded at the panel's size on JavaFX's background loader and kept in a small
+ * LRU cache. Whenever a room is shown, the photos of the rooms next to it in the current list
+ * are requested too, so stepping to the previous or next room finds them already decoded.
+ * Must only be used on the FX thread.
+ */
+public class RoomDetailPane extends VBox {
+
+    public static final double IMAGE_WIDTH = 320;
+    public static final double IMAGE_HEIGHT = 220;
+
+    private static final int MAX_IMAGES_SHOWN = 4;
+    private static final int PREFETCH_RADIUS = 2;
+    private static final int MAX_CACHED_IMAGES = 48;
+
+    private final Consumer<Room> onRoomShown;
+    private final Consumer<String> onOpenMap;
+    private final Consumer<Room> onReserve;
+
+    // Least recently shown images are dropped first
+    private final Map<String, Image> images = new LinkedHashMap<>(64, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Image> eldest) {
+            return size() > MAX_CACHED_IMAGES;
+        }
+    };
+
+    private final Label titleLabel = new Label();
+    private final Label priceLabel = new Label();
+    private final Label typeLabel = new Label();
+    private final Label distanceLabel = new Label();
+    private final Label descriptionLabel = new Label();
+    private final Label contactLabel = new Label();
+    private final Label ownerLabel = new Label();
+    private final Label seatsLabel = RoomCardFactory.createSeatsLabel(new Room());
+    private final Button reserveButton = new Button("Reserve a Seat");
+    private final Hyperlink mapLink = new Hyperlink("View on Map");
+    private final ImageView[] imageViews = new ImageView[MAX_IMAGES_SHOWN];
+    private final Button previousButton = new Button("‹ Previous");
+    private final Button nextButton = new Button("Next ›");
+
+    private List<Room> roomList = List.of();
+    private Room room;
+
+    /**
+     * @param onRoomShown Called for every room shown, also when stepping through the list
+     * @param onOpenMap Called with the map link when "View on Map" is clicked
+     * @param onReserve Called with the shown room when "Reserve a Seat" is clicked
+     */
+    public RoomDetailPane(Consumer<Room> onRoomShown, Consumer<String> onOpenMap, Consumer<Room> onReserve) {
+        super(10);
+        this.onRoomShown = onRoomShown;
+        this.onOpenMap = onOpenMap;
+        this.onReserve = onReserve;
+        getStyleClass().add("room-detail-pane");
+        setPrefWidth(IMAGE_WIDTH + 40);
+
+        Button closeButton = new Button("✕");
+        closeButton.getStyleClass().add("theme-toggle-btn");
+        closeButton.setOnAction(e -> hide());
+        Region spacer = new Region();
+        HBox.setHgrow(spacer, Priority.ALWAYS);
+        titleLabel.getStyleClass().add("room-title");
+        titleLabel.setWrapText(true);
+        HBox header = new HBox(8, titleLabel, spacer, closeButton);
+        header.setAlignment(Pos.CENTER_LEFT);
+
+        VBox imageBox = new VBox(8);
+        for (int i = 0; i < imageViews.length; i++) {
+            ImageView view = new ImageView();
+            view.setFitWidth(IMAGE_WIDTH);
+            view.setFitHeight(IMAGE_HEIGHT);
+            view.setPreserveRatio(true);
+            view.getStyleClass().add("room-image-details");
+            // Hide the slot while it has no photo or the file could not be decoded
+            view.visibleProperty().bind(view.imageProperty().isNotNull()
+                    .and(Bindings.selectBoolean(view.imageProperty(), "error").not()));
+            view.managedProperty().bind(view.visibleProperty());
+            imageViews[i] = view;
+            imageBox.getChildren().add(view);
+        }
+
+        priceLabel.getStyleClass().add("room-price");
+        typeLabel.getStyleClass().add("room-detail");
+        distanceLabel.getStyleClass().add("distance-label");
+        descriptionLabel.getStyleClass().add("room-description");
+        descriptionLabel.setWrapText(true);
+        contactLabel.getStyleClass().add("room-detail");
+        ownerLabel.getStyleClass().add("room-detail");
+        mapLink.setOnAction(e -> {
+            if (room != null) {
+                onOpenMap.accept(room.getMapLink());
+            }
+        });
+
+        reserveButton.getStyleClass().add("contact-btn");
+        reserveButton.setOnAction(e -> {
+            if (room != null) {
+                onReserve.accept(room);
+            }
+        });
+
+        VBox details = new VBox(8, imageBox, priceLabel, typeLabel, distanceLabel, seatsLabel, descriptionLabel,
+                contactLabel, ownerLabel, mapLink, reserveButton);
+        ScrollPane scroller = new ScrollPane(details);
+        scroller.setFitToWidth(true);
+        scroller.getStyleClass().add("rooms-scroll");
+        VBox.setVgrow(scroller, Priority.ALWAYS);
+
+        previousButton.getStyleClass().add("contact-btn");
+        nextButton.getStyleClass().add("contact-btn");
+        previousButton.setOnAction(e -> step(-1));
+        nextButton.setOnAction(e -> step(1));
+        Region navSpacer = new Region();
+        HBox.setHgrow(navSpacer, Priority.ALWAYS);
+        HBox navigation = new HBox(8, previousButton, navSpacer, nextButton);
+
+        getChildren().addAll(header, scroller, navigation);
+        hide();
+    }
+
+    /**
+     * Shows a room, prefetching the photos of its neighbours in the current list.
+     */
+    public void show(Room room) {
+        this.room = room;
+        titleLabel.setText("Room in " + room.getLocation());
+        priceLabel.setText("৳" + room.getPrice() + "/month");
+        typeLabel.setText(room.getRoomType() != null ? room.getRoomType() + " room" : "");
+        Double campusDistance = GeoIndex.getInstance().campusDistanceKm(room.getId());
+        distanceLabel.setText(campusDistance != null
+                ? String.format("📍 %.1f km from DIU", campusDistance)
+                : "📍 Distance unknown");
+        descriptionLabel.setText("Description: " + room.getDescription());
+        contactLabel.setText("Contact: " + room.getContactNumber());
+        ownerLabel.setText("Owner: " + room.getOwnerName());
+        boolean hasMap = room.getMapLink() != null && !room.getMapLink().isEmpty();
+        mapLink.setVisible(hasMap);
+        mapLink.setManaged(hasMap);
+        refreshSeats();
+
+        List<String> paths = room.getImages();
+        for (int i = 0; i < imageViews.length; i++) {
+            imageViews[i].setImage(i < paths.size() ? image(paths.get(i)) : null);
+        }
+
+        setVisible(true);
+        setManaged(true);
+        updateNavigation();
+        prefetchNeighbours();
+        onRoomShown.accept(room);
+    }
+
+    /**
+     * Shows the seat count of the current room again, after it was held or released.
+     */
+    public void refreshSeats() {
+        if (room != null) {
+            RoomCardFactory.updateSeatsLabel(seatsLabel, room);
+            reserveButton.setDisable(room.isFullyBooked());
+        }
+    }
+
+    public void hide() {
+        setVisible(false);
+        setManaged(false);
+        room = null;
+        for (ImageView view : imageViews) {
+            view.setImage(null);
+        }
+    }
+
+    public boolean isShowing() {
+        return room != null;
+    }
+
+    /**
+     * Sets the list that previous/next step through, normally the rooms currently visible on the dashboard.
+     */
+    public void setRoomList(List<Room> rooms) {
+        roomList = rooms;
+        if (room != null) {
+            updateNavigation();
+            prefetchNeighbours();
+        }
+    }
+
+    private void step(int direction) {
+        int index = indexOfCurrent();
+        int target = index + direction;
+        if (index >= 0 && target >= 0 && target < roomList.size()) {
+            show(roomList.get(target));
+        }
+    }
+
+    private void updateNavigation() {
+        int index = indexOfCurrent();
+        previousButton.setDisable(index <= 0);
+        nextButton.setDisable(index < 0 || index >= roomList.size() - 1);
+    }
+
+    private void prefetchNeighbours() {
+        int index = indexOfCurrent();
+        if (index < 0) {
+            return;
+        }
+        for (int offset = 1; offset <= PREFETCH_RADIUS; offset++) {
+            prefetch(index + offset);
+            prefetch(index - offset);
+        }
+    }
+
+    private void prefetch(int index) {
+        if (index >= 0 && index < roomList.size()) {
+            List<String> paths = roomList.get(index).getImages();
+            for (int i = 0; i < paths.size() && i < MAX_IMAGES_SHOWN; i++) {
+                image(paths.get(i));
+            }
+        }
+    }
+
+    private int indexOfCurrent() {
+        if (room == null) {
+            return -1;
+        }
+        for (int i = 0; i < roomList.size(); i++) {
+            if (roomList.get(i).getId() == room.getId()) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    // Starts decoding on the background loader the first time a path is asked for
+    private Image image(String path) {
+        return images.computeIfAbsent(path, p ->
+                new Image(new File(p).toURI().toString(), IMAGE_WIDTH, IMAGE_HEIGHT, true, true, true));
+    }
+}
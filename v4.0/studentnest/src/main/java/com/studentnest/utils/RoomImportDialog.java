@@ -0,0 +1,137 @@
+package com.studentnest.utils;
+
+import com.studentnest.logging.Log;
+import com.studentnest.logging.Logger;
+import com.studentnest.services.RoomImporter;
+import com.studentnest.services.Services;
+import javafx.application.Platform;
+import javafx.concurrent.Task;
+import javafx.geometry.Insets;
+import javafx.scene.Scene;
+import javafx.scene.control.Alert;
+import javafx.scene.control.Button;
+import javafx.scene.control.Label;
+import javafx.scene.control.ListView;
+import javafx.scene.control.ProgressBar;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.Priority;
+import javafx.scene.layout.Region;
+import javafx.scene.layout.VBox;
+import javafx.stage.FileChooser;
+import javafx.stage.Modality;
+import javafx.stage.Stage;
+import javafx.stage.Window;
+
+import java.io.File;
+
+/**
+ * Lets a house owner or an admin pick a CSV or JSON file and imports its rooms with
+ * {@link RoomImporter}, showing the progress and the rows that could not be imported.
+ */
+public class RoomImportDialog {
+
+    private static final Logger LOG = Log.get("ui.import");
+
+    private final RoomImporter importer = new RoomImporter();
+    private final Stage stage = new Stage();
+    private final ProgressBar progressBar = new ProgressBar(ProgressBar.INDETERMINATE_PROGRESS);
+    private final Label statusLabel = new Label("Starting...");
+    private final ListView<String> errorsList = new ListView<>();
+    private final Button closeButton = new Button("Cancel");
+
+    private RoomImportDialog(Window owner, File file) {
+        progressBar.setMaxWidth(Double.MAX_VALUE);
+        errorsList.setPlaceholder(new Label("No problems so far"));
+        VBox.setVgrow(errorsList, Priority.ALWAYS);
+
+        Region spacer = new Region();
+        HBox.setHgrow(spacer, Priority.ALWAYS);
+        HBox buttons = new HBox(10, spacer, closeButton);
+
+        VBox root = new VBox(8, new Label("Importing " + file.getName()), progressBar, statusLabel,
+                new Label("Rows not imported"), errorsList, buttons);
+        root.setPadding(new Insets(12));
+
+        stage.setTitle("StudentNest - Import Rooms");
+        stage.setScene(new Scene(root, 560, 420));
+        if (owner != null) {
+            stage.initOwner(owner);
+        }
+        stage.initModality(Modality.WINDOW_MODAL);
+    }
+
+    /**
+     * Asks for a file and imports it. Must be called on the FX thread.
+     * @param owner Window the dialog belongs to, may be null
+     * @param ownerId Owner of the imported rooms, or 0 to take it from the file's owner_id column
+     * @param onImported Runs on the FX thread after an import that added rooms
+     */
+    public static void show(Window owner, int ownerId, Runnable onImported) {
+        if (Services.isClientMode()) {
+            Dialogs.show(Alert.AlertType.INFORMATION, "Import Rooms",
+                    "Bulk import needs a direct database connection and is not available in client mode.", null);
+            return;
+        }
+        FileChooser fileChooser = new FileChooser();
+        fileChooser.setTitle("Import Rooms");
+        fileChooser.getExtensionFilters().addAll(
+                new FileChooser.ExtensionFilter("Room Files", "*.csv", "*.json", "*.jsonl"),
+                new FileChooser.ExtensionFilter("All Files", "*.*")
+        );
+        File file = fileChooser.showOpenDialog(owner);
+        if (file != null) {
+            new RoomImportDialog(owner, file).start(file, ownerId, onImported);
+        }
+    }
+
+    private void start(File file, int ownerId, Runnable onImported) {
+        Task<RoomImporter.Result> task = new Task<>() {
+            @Override
+            protected RoomImporter.Result call() throws Exception {
+                return importer.importFile(file.toPath(), ownerId, (read, imported, failed) ->
+                        Platform.runLater(() -> statusLabel.setText(String.format(
+                                "Read %,d rows: %,d imported, %,d failed", read, imported, failed))));
+            }
+        };
+        task.setOnSucceeded(e -> {
+            RoomImporter.Result result = task.getValue();
+            progressBar.setProgress(1);
+            statusLabel.setText(String.format("%s %,d rooms in %.1f s, %,d rows failed",
+                    result.isCancelled() ? "Cancelled after importing" : "Imported",
+                    result.getImported(), result.getElapsedMillis() / 1000.0, result.getFailed()));
+            result.getErrors().forEach(error -> errorsList.getItems().add(error.toString()));
+            if (result.getFailed() > result.getErrors().size()) {
+                errorsList.getItems().add(String.format("... and %,d more", result.getFailed() - result.getErrors().size()));
+            }
+            finished();
+            if (result.getImported() > 0 && onImported != null) {
+                onImported.run();
+            }
+        });
+        task.setOnFailed(e -> {
+            LOG.error("Room import failed", task.getException());
+            progressBar.setProgress(0);
+            statusLabel.setText("Import failed: " + task.getException().getMessage());
+            finished();
+        });
+
+        closeButton.setOnAction(e -> {
+            importer.cancel();
+            closeButton.setDisable(true);
+            statusLabel.setText("Cancelling after the current batch...");
+        });
+        // Closing the window while importing cancels too
+        stage.setOnCloseRequest(e -> importer.cancel());
+
+        Thread thread = new Thread(task, "room-import");
+        thread.setDaemon(true);
+        thread.start();
+        stage.show();
+    }
+
+    private void finished() {
+        closeButton.setText("Close");
+        closeButton.setDisable(false);
+        closeButton.setOnAction(e -> stage.close());
+    }
+}
@@ -1,5 +1,8 @@
 package com.studentnest.utils;
 
+import com.studentnest.jfr.SceneSwitchEvent;
+import com.studentnest.logging.Log;
+import com.studentnest.logging.Logger;
 import javafx.animation.FadeTransition;
 import javafx.animation.TranslateTransition;
 import javafx.event.ActionEvent;
@@ -18,6 +21,8 @@ import java.io.IOException;
  */
 public class SceneManager {
 
+    private static final Logger LOG = Log.get("ui");
+
 
     // Inside public class SceneManager { ...
 
@@ -30,6 +35,7 @@ public class SceneManager {
      */
     public static void setPrimaryStage(Stage stage) {
         primaryStage = stage;
+        PulseMonitor.getInstance().attach(stage);
     }
 
     /**
@@ -39,6 +45,38 @@ public class SceneManager {
     public static Stage getPrimaryStage() {
         return primaryStage;
     }
+    /**
+     * Creates a scene with the pulse monitor installed, so every page can be measured.
+     */
+    private static Scene createScene(Parent root) {
+        Scene scene = new Scene(root);
+        PulseMonitor.getInstance().install(scene);
+        return scene;
+    }
+
+    private static Scene createScene(Parent root, double width, double height) {
+        Scene scene = new Scene(root, width, height);
+        PulseMonitor.getInstance().install(scene);
+        return scene;
+    }
+
+    /**
+     * Adds a page's stylesheet to its scene, unless the page root already has it, as the
+     * themed dashboards do. A second copy would make every node match all its rules twice.
+     */
+    private static void addSceneStylesheet(Scene scene, String cssPath) {
+        if (cssPath == null || cssPath.trim().isEmpty()) {
+            return;
+        }
+        String url = AppResources.stylesheet(cssPath);
+        if (url == null) {
+            // Continue without CSS styling if the file is missing
+            LOG.warn("Could not load CSS file: {}", cssPath);
+        } else if (!scene.getRoot().getStylesheets().contains(url)) {
+            AppResources.addStylesheet(scene.getStylesheets(), cssPath);
+        }
+    }
+
     /**
      * Navigation animation types
      */
@@ -69,6 +107,8 @@ public class SceneManager {
      * @param transitionType Type of transition animation
      */
     public static void switchScene(ActionEvent event, String fxmlPath, String title, TransitionType transitionType) {
+        SceneSwitchEvent jfrEvent = SceneSwitchEvent.start(fxmlPath, transitionType);
+        boolean switched = false;
         try {
             // Get current stage
             Stage currentStage = (Stage) ((Node) event.getSource()).getScene().getWindow();
@@ -99,11 +139,13 @@ public class SceneManager {
                     applyDirectTransition(currentStage, newRoot, title);
                     break;
             }
+            switched = true;
 
         } catch (IOException e) {
-            System.err.println("Error loading scene: " + fxmlPath);
-            e.printStackTrace();
+            LOG.error("Error loading scene: {}", fxmlPath, e);
             showNavigationError("Could not load the requested page. Please try again.");
+        } finally {
+            jfrEvent.finish(switched);
         }
     }
 
@@ -129,6 +171,8 @@ public class SceneManager {
      * @param transitionType Type of transition animation
      */
     public static void switchScene(ActionEvent event, String fxmlPath, String cssPath, double width, double height, TransitionType transitionType) {
+        SceneSwitchEvent jfrEvent = SceneSwitchEvent.start(fxmlPath, transitionType);
+        boolean switched = false;
         try {
             // Get current stage
             Stage currentStage = (Stage) ((Node) event.getSource()).getScene().getWindow();
@@ -138,18 +182,10 @@ public class SceneManager {
             Parent newRoot = loader.load();
 
             // Create new scene with specified dimensions
-            Scene newScene = new Scene(newRoot, width, height);
+            Scene newScene = createScene(newRoot, width, height);
 
             // Apply CSS if provided
-            if (cssPath != null && !cssPath.trim().isEmpty()) {
-                try {
-                    String cssResource = SceneManager.class.getResource(cssPath).toExternalForm();
-                    newScene.getStylesheets().add(cssResource);
-                } catch (Exception cssException) {
-                    System.err.println("Warning: Could not load CSS file: " + cssPath);
-                    // Continue without CSS styling
-                }
-            }
+            addSceneStylesheet(newScene, cssPath);
 
             // Store the new scene for transition
             final Scene sceneToApply = newScene;
@@ -182,15 +218,16 @@ public class SceneManager {
             // Set window dimensions
             currentStage.setWidth(width);
             currentStage.setHeight(height);
+            switched = true;
 
         } catch (IOException e) {
-            System.err.println("Error loading scene: " + fxmlPath);
-            e.printStackTrace();
+            LOG.error("Error loading scene: {}", fxmlPath, e);
             showNavigationError("Could not load the requested page. Please try again.");
         } catch (Exception e) {
-            System.err.println("Error loading CSS or setting scene dimensions: " + cssPath);
-            e.printStackTrace();
+            LOG.error("Error loading CSS or setting scene dimensions: {}", cssPath, e);
             showNavigationError("Could not apply styling or set window dimensions.");
+        } finally {
+            jfrEvent.finish(switched);
         }
     }
 
@@ -218,6 +255,8 @@ public class SceneManager {
      * @param transitionType Type of transition animation
      */
     public static void switchScene(ActionEvent event, String fxmlPath, String cssPath, double width, double height, String title, TransitionType transitionType) {
+        SceneSwitchEvent jfrEvent = SceneSwitchEvent.start(fxmlPath, transitionType);
+        boolean switched = false;
         try {
             // Get current stage
             Stage currentStage = (Stage) ((Node) event.getSource()).getScene().getWindow();
@@ -227,18 +266,10 @@ public class SceneManager {
             Parent newRoot = loader.load();
 
             // Create new scene with specified dimensions
-            Scene newScene = new Scene(newRoot, width, height);
+            Scene newScene = createScene(newRoot, width, height);
 
             // Apply CSS if provided
-            if (cssPath != null && !cssPath.trim().isEmpty()) {
-                try {
-                    String cssResource = SceneManager.class.getResource(cssPath).toExternalForm();
-                    newScene.getStylesheets().add(cssResource);
-                } catch (Exception cssException) {
-                    System.err.println("Warning: Could not load CSS file: " + cssPath);
-                    // Continue without CSS styling
-                }
-            }
+            addSceneStylesheet(newScene, cssPath);
 
             // Store the new scene for transition
             final Scene sceneToApply = newScene;
@@ -270,15 +301,16 @@ public class SceneManager {
             // Set window dimensions
             currentStage.setWidth(width);
             currentStage.setHeight(height);
+            switched = true;
 
         } catch (IOException e) {
-            System.err.println("Error loading scene: " + fxmlPath);
-            e.printStackTrace();
+            LOG.error("Error loading scene: {}", fxmlPath, e);
             showNavigationError("Could not load the requested page. Please try again.");
         } catch (Exception e) {
-            System.err.println("Error loading CSS or setting scene dimensions: " + cssPath);
-            e.printStackTrace();
+            LOG.error("Error loading CSS or setting scene dimensions: {}", cssPath, e);
             showNavigationError("Could not apply styling or set window dimensions.");
+        } finally {
+            jfrEvent.finish(switched);
         }
     }
 
@@ -295,7 +327,7 @@ public class SceneManager {
 
         fadeOut.setOnFinished(e -> {
             // Switch scene
-            Scene newScene = new Scene(newRoot);
+            Scene newScene = createScene(newRoot);
             stage.setScene(newScene);
             stage.setTitle(title);
 
@@ -324,7 +356,7 @@ public class SceneManager {
 
         slideOut.setOnFinished(e -> {
             // Switch scene
-            Scene newScene = new Scene(newRoot);
+            Scene newScene = createScene(newRoot);
             stage.setScene(newScene);
             stage.setTitle(title);
 
@@ -400,7 +432,7 @@ public class SceneManager {
      * Applies direct transition (no animation)
      */
     private static void applyDirectTransition(Stage stage, Parent newRoot, String title) {
-        Scene newScene = new Scene(newRoot);
+        Scene newScene = createScene(newRoot);
         stage.setScene(newScene);
         stage.setTitle(title);
     }
@@ -430,7 +462,7 @@ public class SceneManager {
      */
     private static void showNavigationError(String message) {
         // You can implement this to show a toast notification or alert
-        System.err.println("Navigation Error: " + message);
+        LOG.error("Navigation error: {}", message);
         // TODO: Implement proper error notification UI
     }
 
@@ -442,22 +474,26 @@ public class SceneManager {
      * @return The controller instance
      */
     public static <T> T switchSceneAndGetController(ActionEvent event, String fxmlPath, String title) {
+        SceneSwitchEvent jfrEvent = SceneSwitchEvent.start(fxmlPath, TransitionType.NONE);
+        boolean switched = false;
         try {
             Stage currentStage = (Stage) ((Node) event.getSource()).getScene().getWindow();
 
             FXMLLoader loader = new FXMLLoader(SceneManager.class.getResource(fxmlPath));
             Parent newRoot = loader.load();
 
-            Scene newScene = new Scene(newRoot);
+            Scene newScene = createScene(newRoot);
             currentStage.setScene(newScene);
             currentStage.setTitle(title);
 
+            switched = true;
             return loader.getController();
 
         } catch (IOException e) {
-            System.err.println("Error loading scene with controller: " + fxmlPath);
-            e.printStackTrace();
+            LOG.error("Error loading scene with controller: {}", fxmlPath, e);
             return null;
+        } finally {
+            jfrEvent.finish(switched);
         }
     }
 
@@ -0,0 +1,142 @@
+package com.studentnest.utils;
+
+import com.studentnest.logging.Log;
+import com.studentnest.logging.Logger;
+import com.studentnest.services.Services;
+import com.studentnest.services.TableExporter;
+import javafx.application.Platform;
+import javafx.concurrent.Task;
+import javafx.geometry.Insets;
+import javafx.scene.Scene;
+import javafx.scene.control.Alert;
+import javafx.scene.control.Button;
+import javafx.scene.control.Label;
+import javafx.scene.control.ProgressBar;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.Priority;
+import javafx.scene.layout.Region;
+import javafx.scene.layout.VBox;
+import javafx.stage.FileChooser;
+import javafx.stage.Modality;
+import javafx.stage.Stage;
+import javafx.stage.Window;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Locale;
+
+/**
+ * Lets an admin save a whole table as CSV or XLSX with {@link TableExporter}, showing the
+ * progress. The rows go from the database straight to the file; the tables on screen are
+ * not touched, so an export covers every row, not only the ones loaded.
+ */
+public class TableExportDialog {
+
+    private static final Logger LOG = Log.get("ui.export");
+
+    private final TableExporter exporter = new TableExporter();
+    private final Stage stage = new Stage();
+    private final ProgressBar progressBar = new ProgressBar(ProgressBar.INDETERMINATE_PROGRESS);
+    private final Label statusLabel = new Label("Starting...");
+    private final Button closeButton = new Button("Cancel");
+
+    private TableExportDialog(Window owner, TableExporter.Table table, File file) {
+        progressBar.setMaxWidth(Double.MAX_VALUE);
+
+        Region spacer = new Region();
+        HBox.setHgrow(spacer, Priority.ALWAYS);
+        HBox buttons = new HBox(10, spacer, closeButton);
+
+        VBox root = new VBox(8, new Label("Exporting " + table.getTitle().toLowerCase(Locale.ROOT) + " to " + file.getName()),
+                progressBar, statusLabel, buttons);
+        root.setPadding(new Insets(12));
+
+        stage.setTitle("StudentNest - Export " + table.getTitle());
+        stage.setScene(new Scene(root, 460, 150));
+        if (owner != null) {
+            stage.initOwner(owner);
+        }
+        stage.initModality(Modality.WINDOW_MODAL);
+    }
+
+    /**
+     * Asks for a file and exports the table into it. Must be called on the FX thread.
+     * @param owner Window the dialog belongs to, may be null
+     */
+    public static void show(Window owner, TableExporter.Table table) {
+        if (Services.isClientMode()) {
+            Dialogs.show(Alert.AlertType.INFORMATION, "Export " + table.getTitle(),
+                    "Export needs a direct database connection and is not available in client mode.", null);
+            return;
+        }
+        FileChooser fileChooser = new FileChooser();
+        fileChooser.setTitle("Export " + table.getTitle());
+        FileChooser.ExtensionFilter csv = new FileChooser.ExtensionFilter("CSV File", "*.csv");
+        FileChooser.ExtensionFilter xlsx = new FileChooser.ExtensionFilter("Excel Workbook", "*.xlsx");
+        fileChooser.getExtensionFilters().addAll(csv, xlsx);
+        fileChooser.setInitialFileName(table.getTitle().toLowerCase(Locale.ROOT) + "-" + LocalDate.now() + ".csv");
+        File file = fileChooser.showSaveDialog(owner);
+        if (file == null) {
+            return;
+        }
+        // Some platforms return the name as typed, without the extension of the chosen filter
+        TableExporter.Format format = TableExporter.Format.of(file.toPath());
+        if (format == null) {
+            format = fileChooser.getSelectedExtensionFilter() == xlsx ? TableExporter.Format.XLSX : TableExporter.Format.CSV;
+            file = new File(file.getPath() + "." + format.getExtension());
+        }
+        new TableExportDialog(owner, table, file).start(table, file.toPath(), format);
+    }
+
+    private void start(TableExporter.Table table, Path file, TableExporter.Format format) {
+        Task<TableExporter.Result> task = new Task<>() {
+            @Override
+            protected TableExporter.Result call() throws Exception {
+                return exporter.export(table, file, format, (written, total) ->
+                        Platform.runLater(() -> {
+                            if (total > 0) {
+                                progressBar.setProgress(Math.min(1.0, (double) written / total));
+                            }
+                            statusLabel.setText(String.format("Written %,d of %,d rows", written, total));
+                        }));
+            }
+        };
+        task.setOnSucceeded(e -> {
+            TableExporter.Result result = task.getValue();
+            if (result.isCancelled()) {
+                progressBar.setProgress(0);
+                statusLabel.setText("Export cancelled, no file was written");
+            } else {
+                progressBar.setProgress(1);
+                statusLabel.setText(String.format("Exported %,d rows in %.1f s", result.getRows(), result.getElapsedMillis() / 1000.0));
+            }
+            finished();
+        });
+        task.setOnFailed(e -> {
+            LOG.error("Export failed", task.getException());
+            progressBar.setProgress(0);
+            statusLabel.setText("Export failed: " + task.getException().getMessage());
+            finished();
+        });
+
+        closeButton.setOnAction(e -> {
+            exporter.cancel();
+            closeButton.setDisable(true);
+            statusLabel.setText("Cancelling...");
+        });
+        // Closing the window while exporting cancels too
+        stage.setOnCloseRequest(e -> exporter.cancel());
+
+        Thread thread = new Thread(task, "table-export");
+        thread.setDaemon(true);
+        thread.start();
+        stage.show();
+    }
+
+    private void finished() {
+        closeButton.setText("Close");
+        closeButton.setDisable(false);
+        closeButton.setOnAction(e -> stage.close());
+    }
+}
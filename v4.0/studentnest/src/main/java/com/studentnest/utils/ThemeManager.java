@@ -0,0 +1,84 @@
+package com.studentnest.utils;
+
+import com.studentnest.logging.Log;
+import com.studentnest.logging.Logger;
+import javafx.css.PseudoClass;
+import javafx.scene.Parent;
+
+import java.util.List;
+
+/**
+ * Light and dark themes of the dashboards.
+ * <p>
+ * A dashboard root gets the shared base stylesheet, its own stylesheet and both palette
+ * overlays, which only define looked-up colors. The dark palette is selected by the
+ * {@code :dark} pseudo-class on the root, so switching themes is a style update of the
+ * existing nodes: JavaFX recomputes the values that depend on the palette, but does not
+ * match selectors or build style maps again as it does when a style class changes.
+ * <p>
+ * The theme picked with the toggle button is remembered for the rest of the session and
+ * used by every dashboard opened afterwards. All methods must be called on the FX thread.
+ */
+public final class ThemeManager {
+
+    public enum Theme {
+        LIGHT,
+        DARK;
+
+        public Theme toggled() {
+            return this == DARK ? LIGHT : DARK;
+        }
+    }
+
+    public static final String BASE_STYLESHEET = "/css/theme/base.css";
+    public static final String LIGHT_PALETTE = "/css/theme/light.css";
+    public static final String DARK_PALETTE = "/css/theme/dark.css";
+
+    public static final PseudoClass DARK = PseudoClass.getPseudoClass("dark");
+
+    private static final Logger LOG = Log.get("ui");
+
+    // Null until the user toggles a theme; each dashboard then starts with its own default
+    private static Theme chosenTheme;
+
+    private ThemeManager() {}
+
+    /**
+     * Adds the theme stylesheets to a dashboard root and applies the current theme.
+     * Call it before the root is shown, so the first CSS pass already uses the theme.
+     * @param dashboardStylesheet Classpath stylesheet of the dashboard, e.g. "/css/student-dashboard.css"
+     * @param defaultTheme Theme to start with if the user has not picked one yet
+     * @return The theme applied
+     */
+    public static Theme install(Parent root, String dashboardStylesheet, Theme defaultTheme) {
+        List<String> stylesheets = root.getStylesheets();
+        // Order matters: dashboard rules override base rules, palettes come last
+        for (String path : List.of(BASE_STYLESHEET, dashboardStylesheet, LIGHT_PALETTE, DARK_PALETTE)) {
+            if (!AppResources.addStylesheet(stylesheets, path)) {
+                LOG.error("Could not find theme stylesheet {}", path);
+            }
+        }
+        Theme theme = chosenTheme != null ? chosenTheme : defaultTheme;
+        apply(root, theme);
+        return theme;
+    }
+
+    /**
+     * Switches a dashboard root to the other theme and remembers it for dashboards opened later.
+     * @return The theme now applied
+     */
+    public static Theme toggle(Parent root) {
+        chosenTheme = current(root).toggled();
+        apply(root, chosenTheme);
+        LOG.debug("Switched to {} theme", chosenTheme);
+        return chosenTheme;
+    }
+
+    public static Theme current(Parent root) {
+        return root.getPseudoClassStates().contains(DARK) ? Theme.DARK : Theme.LIGHT;
+    }
+
+    public static void apply(Parent root, Theme theme) {
+        root.pseudoClassStateChanged(DARK, theme == Theme.DARK);
+    }
+}
@@ -3,12 +3,21 @@ module studentnest {
     requires javafx.fxml;
     requires java.sql;
     requires java.desktop;
+    requires java.net.http;
+    requires java.management;
+    requires jdk.jfr;
+    requires jdk.httpserver;
 
     // Export packages that contain classes used by FXML
     exports com.studentnest;
+    exports com.studentnest.api;
+    exports com.studentnest.cache;
     exports com.studentnest.controllers;
     exports com.studentnest.models;
     exports com.studentnest.database;
+    exports com.studentnest.jfr;
+    exports com.studentnest.logging;
+    exports com.studentnest.services;
     exports com.studentnest.utils;
 
     // Open packages for FXML reflection
@@ -0,0 +1 @@
+-- Nothing to do on MySQL, AUTO_INCREMENT is safe there. The H2 version of this script is in h2/.
@@ -0,0 +1,3 @@
+-- Coordinates extracted from the owner's map link when a room is saved
+ALTER TABLE rooms ADD COLUMN latitude DOUBLE NULL;
+ALTER TABLE rooms ADD COLUMN longitude DOUBLE NULL;
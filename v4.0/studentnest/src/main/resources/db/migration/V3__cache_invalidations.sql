@@ -0,0 +1,8 @@
+-- Change feed for the cache invalidation bus; rows older than a few minutes are pruned by the app
+CREATE TABLE IF NOT EXISTS cache_invalidations (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    entity_type VARCHAR(30) NOT NULL,
+    entity_key VARCHAR(100) NOT NULL,
+    origin VARCHAR(64) NOT NULL,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
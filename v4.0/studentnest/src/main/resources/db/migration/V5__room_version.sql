@@ -0,0 +1,2 @@
+-- Row version for optimistic concurrency: every update checks and increments it
+ALTER TABLE rooms ADD COLUMN version INT NOT NULL DEFAULT 0;
@@ -0,0 +1,18 @@
+-- Seat inventory per room: seats_available is decremented by every hold and given back when a hold is released
+ALTER TABLE rooms ADD COLUMN seats INT NOT NULL DEFAULT 1;
+ALTER TABLE rooms ADD COLUMN seats_available INT NOT NULL DEFAULT 1;
+
+-- A student's claim on one seat: HELD until it is confirmed or expires, RELEASED once the seat is given back
+CREATE TABLE IF NOT EXISTS seat_holds (
+    id INT AUTO_INCREMENT PRIMARY KEY,
+    room_id INT NOT NULL,
+    student_id INT NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    expires_at TIMESTAMP NOT NULL,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    FOREIGN KEY (room_id) REFERENCES rooms(id) ON DELETE CASCADE,
+    FOREIGN KEY (student_id) REFERENCES users(id) ON DELETE CASCADE
+);
+
+-- The reaper looks for expired holds
+CREATE INDEX idx_seat_holds_status_expires ON seat_holds (status, expires_at);
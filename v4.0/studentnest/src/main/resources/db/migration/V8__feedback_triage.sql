@@ -0,0 +1,4 @@
+-- Feedback is paged by status, newest first; rows from before the column had a default count as Pending
+UPDATE feedback_and_issues SET status = 'Pending' WHERE status IS NULL;
+
+CREATE INDEX idx_feedback_status_created ON feedback_and_issues (status, created_at);
@@ -0,0 +1,29 @@
+-- Pre-aggregated statistics for the admin Stats tab, one row per bucket, metric and dimension.
+-- period is 'day' or 'month'; a month bucket is the first day of the month. The dimension is the
+-- user type for signups, the location for rooms and empty for feedback. price_sum is the sum of
+-- the room prices, so averages can be worked out over any range of buckets.
+CREATE TABLE IF NOT EXISTS stats_rollups (
+    period VARCHAR(5) NOT NULL,
+    bucket DATE NOT NULL,
+    metric VARCHAR(20) NOT NULL,
+    dimension VARCHAR(100) NOT NULL,
+    row_count INT NOT NULL,
+    price_sum DECIMAL(16,2) NOT NULL,
+    PRIMARY KEY (period, bucket, metric, dimension)
+);
+
+-- Highest source row id already counted per metric; rows above it are still to be added.
+-- Aggregators lock their metric's row, so instances sharing the database never count a row twice.
+CREATE TABLE IF NOT EXISTS stats_watermarks (
+    metric VARCHAR(20) PRIMARY KEY,
+    last_id INT NOT NULL
+);
+
+INSERT INTO stats_watermarks (metric, last_id) VALUES ('signups', 0);
+INSERT INTO stats_watermarks (metric, last_id) VALUES ('rooms', 0);
+INSERT INTO stats_watermarks (metric, last_id) VALUES ('feedback', 0);
+
+-- Edited rows have their day recomputed
+CREATE INDEX idx_users_created ON users (created_at);
+CREATE INDEX idx_rooms_created ON rooms (created_at);
+CREATE INDEX idx_feedback_created ON feedback_and_issues (created_at);
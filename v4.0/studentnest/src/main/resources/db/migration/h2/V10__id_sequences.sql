@@ -0,0 +1,44 @@
+-- H2 in MySQL mode moves an AUTO_INCREMENT column's sequence up to every inserted value without
+-- a lock, so two sessions inserting at once can set it back and the next insert reuses an id.
+-- Ids therefore come from plain sequences on H2: the identity is dropped and the column defaults
+-- to the next value of a sequence that continues after the highest existing id.
+
+ALTER TABLE users ALTER COLUMN id DROP IDENTITY;
+CREATE SEQUENCE IF NOT EXISTS users_id_seq;
+ALTER SEQUENCE users_id_seq RESTART WITH (SELECT COALESCE(MAX(id), 0) + 1 FROM users);
+ALTER TABLE users ALTER COLUMN id SET DEFAULT NEXT VALUE FOR users_id_seq;
+
+ALTER TABLE rooms ALTER COLUMN id DROP IDENTITY;
+CREATE SEQUENCE IF NOT EXISTS rooms_id_seq;
+ALTER SEQUENCE rooms_id_seq RESTART WITH (SELECT COALESCE(MAX(id), 0) + 1 FROM rooms);
+ALTER TABLE rooms ALTER COLUMN id SET DEFAULT NEXT VALUE FOR rooms_id_seq;
+
+ALTER TABLE feedback_and_issues ALTER COLUMN id DROP IDENTITY;
+CREATE SEQUENCE IF NOT EXISTS feedback_and_issues_id_seq;
+ALTER SEQUENCE feedback_and_issues_id_seq RESTART WITH (SELECT COALESCE(MAX(id), 0) + 1 FROM feedback_and_issues);
+ALTER TABLE feedback_and_issues ALTER COLUMN id SET DEFAULT NEXT VALUE FOR feedback_and_issues_id_seq;
+
+ALTER TABLE cache_invalidations ALTER COLUMN id DROP IDENTITY;
+CREATE SEQUENCE IF NOT EXISTS cache_invalidations_id_seq;
+ALTER SEQUENCE cache_invalidations_id_seq RESTART WITH (SELECT COALESCE(MAX(id), 0) + 1 FROM cache_invalidations);
+ALTER TABLE cache_invalidations ALTER COLUMN id SET DEFAULT NEXT VALUE FOR cache_invalidations_id_seq;
+
+ALTER TABLE room_images ALTER COLUMN id DROP IDENTITY;
+CREATE SEQUENCE IF NOT EXISTS room_images_id_seq;
+ALTER SEQUENCE room_images_id_seq RESTART WITH (SELECT COALESCE(MAX(id), 0) + 1 FROM room_images);
+ALTER TABLE room_images ALTER COLUMN id SET DEFAULT NEXT VALUE FOR room_images_id_seq;
+
+ALTER TABLE seat_holds ALTER COLUMN id DROP IDENTITY;
+CREATE SEQUENCE IF NOT EXISTS seat_holds_id_seq;
+ALTER SEQUENCE seat_holds_id_seq RESTART WITH (SELECT COALESCE(MAX(id), 0) + 1 FROM seat_holds);
+ALTER TABLE seat_holds ALTER COLUMN id SET DEFAULT NEXT VALUE FOR seat_holds_id_seq;
+
+ALTER TABLE saved_searches ALTER COLUMN id DROP IDENTITY;
+CREATE SEQUENCE IF NOT EXISTS saved_searches_id_seq;
+ALTER SEQUENCE saved_searches_id_seq RESTART WITH (SELECT COALESCE(MAX(id), 0) + 1 FROM saved_searches);
+ALTER TABLE saved_searches ALTER COLUMN id SET DEFAULT NEXT VALUE FOR saved_searches_id_seq;
+
+ALTER TABLE search_notifications ALTER COLUMN id DROP IDENTITY;
+CREATE SEQUENCE IF NOT EXISTS search_notifications_id_seq;
+ALTER SEQUENCE search_notifications_id_seq RESTART WITH (SELECT COALESCE(MAX(id), 0) + 1 FROM search_notifications);
+ALTER TABLE search_notifications ALTER COLUMN id SET DEFAULT NEXT VALUE FOR search_notifications_id_seq;
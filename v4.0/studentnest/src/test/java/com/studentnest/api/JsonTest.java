@@ -0,0 +1,78 @@
+package com.studentnest.api;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class JsonTest {
+
+    @Test
+    void writesNestedValues() {
+        Map<String, Object> room = new LinkedHashMap<>();
+        room.put("id", 7);
+        room.put("price", 5000.0);
+        room.put("rating", 4.5);
+        room.put("available", true);
+        room.put("images", List.of("a.png", "b.png"));
+        room.put("owner", null);
+        assertEquals("{\"id\":7,\"price\":5000,\"rating\":4.5,\"available\":true,"
+                + "\"images\":[\"a.png\",\"b.png\"],\"owner\":null}", Json.write(room));
+    }
+
+    @Test
+    void escapesStrings() {
+        assertEquals("\"say \\\"hi\\\"\\\\\\n\\t\\u0001\"", Json.write("say \"hi\"\\\n\t\u0001"));
+        assertEquals("\"ঢাকা\"", Json.write("ঢাকা"));
+    }
+
+    @Test
+    void writesNonFiniteNumbersAsNull() {
+        assertEquals("[null,null]", Json.write(Arrays.asList(Double.NaN, Double.POSITIVE_INFINITY)));
+    }
+
+    @Test
+    void parsesNumbersAsLongOrDouble() {
+        List<Object> values = Json.parseArray("[1, -20, 2.5, 1e3, true, false, null]");
+        assertEquals(Arrays.asList(1L, -20L, 2.5, 1000.0, true, false, null), values);
+    }
+
+    @Test
+    void parsesEscapes() {
+        assertEquals("a\"b\\c\ndé/", Json.parse("\"a\\\"b\\\\c\\nd\\u00e9\\/\""));
+    }
+
+    @Test
+    void roundTripsObjects() {
+        Map<String, Object> value = new LinkedHashMap<>();
+        value.put("name", "Room \"A\"\nSecond line");
+        value.put("tags", List.of("quiet", "wifi"));
+        value.put("nested", Map.of("seats", 2L));
+        assertEquals(value, Json.parseObject(Json.write(value)));
+    }
+
+    @Test
+    void parsesEmptyContainersWithWhitespace() {
+        Map<String, Object> value = Json.parseObject(" { \"a\" : [ ] , \"b\" : { } } ");
+        assertEquals(List.of(), value.get("a"));
+        assertEquals(Map.of(), value.get("b"));
+        assertNull(Json.parse("null"));
+    }
+
+    @Test
+    void rejectsMalformedInput() {
+        assertThrows(IllegalArgumentException.class, () -> Json.parse("{\"a\":1"));
+        assertThrows(IllegalArgumentException.class, () -> Json.parse("[1,]"));
+        assertThrows(IllegalArgumentException.class, () -> Json.parse("\"open"));
+        assertThrows(IllegalArgumentException.class, () -> Json.parse("{} extra"));
+        assertThrows(IllegalArgumentException.class, () -> Json.parse("{a:1}"));
+        assertThrows(IllegalArgumentException.class, () -> Json.parseObject("[]"));
+        assertThrows(IllegalArgumentException.class, () -> Json.parseArray("{}"));
+    }
+}
@@ -0,0 +1,94 @@
+package com.studentnest.services;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+class ExportWriterTest {
+
+    @TempDir
+    Path dir;
+
+    private String csv(Object... values) throws IOException {
+        Path file = dir.resolve("export.csv");
+        try (ExportWriter writer = ExportWriter.open(file, TableExporter.Format.CSV, "Rooms")) {
+            writer.row(values);
+        }
+        String text = Files.readString(file, StandardCharsets.UTF_8);
+        assertEquals('\uFEFF', text.charAt(0));
+        assertTrue(text.endsWith("\r\n"));
+        return text.substring(1, text.length() - 2);
+    }
+
+    @Test
+    void plainCsvCellsAreNotQuoted() throws IOException {
+        assertEquals("Ashulia,5000,,ঢাকা", csv("Ashulia", 5000, null, "ঢাকা"));
+    }
+
+    @Test
+    void csvQuotesSeparatorsQuotesAndLineBreaks() throws IOException {
+        assertEquals("\"Road 5, House 2\",\"say \"\"hi\"\"\",\"two\nlines\",\"cr\rhere\"",
+                csv("Road 5, House 2", "say \"hi\"", "two\nlines", "cr\rhere"));
+    }
+
+    @Test
+    void csvKeepsFormulasAsText() throws IOException {
+        assertEquals("\"'=HYPERLINK(\"\"x\"\")\",\"'+880\",\"'-5\",\"'@sum\"",
+                csv("=HYPERLINK(\"x\")", "+880", "-5", "@sum"));
+        // Negative numbers are numbers, not formulas
+        assertEquals("-5", csv(-5));
+    }
+
+    @Test
+    void numbersAreWrittenWithoutExponent() {
+        assertEquals("5000", ExportWriter.number(5000.0));
+        assertEquals("12.5", ExportWriter.number(12.5));
+        assertEquals(0.00001, Double.parseDouble(ExportWriter.number(0.00001)));
+        assertFalse(ExportWriter.number(0.00001).contains("E"));
+        assertEquals("10000000000000000", ExportWriter.number(1e16));
+        assertEquals("100", ExportWriter.number(new BigDecimal("1E+2")));
+        assertEquals("", ExportWriter.number(Double.NaN));
+        assertEquals("42", ExportWriter.number(42L));
+    }
+
+    @Test
+    void xlsxEscapesMarkupAndDropsInvalidCharacters() throws IOException {
+        Path file = dir.resolve("export.xlsx");
+        try (ExportWriter writer = ExportWriter.open(file, TableExporter.Format.XLSX, "Rooms & Seats")) {
+            writer.header(List.of("Location", "Price"));
+            writer.row(new Object[]{"<b>\"A&B\"</b>\u0001", 5000.0});
+            writer.row(new Object[]{"broken \uD800 pair", Double.NaN});
+        }
+
+        String sheet = entry(file, "xl/worksheets/sheet1.xml");
+        assertTrue(sheet.contains("<t xml:space=\"preserve\">&lt;b&gt;&quot;A&amp;B&quot;&lt;/b&gt; </t>"), sheet);
+        assertTrue(sheet.contains("<c><v>5000</v></c>"), sheet);
+        assertTrue(sheet.contains("broken \uFFFD pair"), sheet);
+        assertTrue(sheet.contains("<c/>"), sheet);
+        assertTrue(entry(file, "xl/workbook.xml").contains("name=\"Rooms &amp; Seats\""));
+    }
+
+    private static String entry(Path file, String name) throws IOException {
+        try (ZipInputStream zip = new ZipInputStream(Files.newInputStream(file), StandardCharsets.UTF_8)) {
+            for (ZipEntry entry = zip.getNextEntry(); entry != null; entry = zip.getNextEntry()) {
+                if (entry.getName().equals(name)) {
+                    return new String(zip.readAllBytes(), StandardCharsets.UTF_8);
+                }
+            }
+        }
+        return fail("Missing " + name);
+    }
+}
@@ -0,0 +1,151 @@
+package com.studentnest.services;
+
+import com.studentnest.cache.InvalidationEvent;
+import com.studentnest.database.DatabaseConfig;
+import com.studentnest.database.SchemaMigrator;
+import com.studentnest.models.FeedbackCluster;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FeedbackIndexTest {
+
+    private static final AtomicInteger DATABASES = new AtomicInteger();
+
+    private DatabaseConfig config;
+    // Kept open so the in-memory database lives for the whole test
+    private Connection conn;
+    private int userId;
+    private FeedbackIndex index;
+
+    @BeforeEach
+    void createDatabase() throws SQLException {
+        config = DatabaseConfig.memory("feedback-index-" + DATABASES.incrementAndGet());
+        conn = connect();
+        SchemaMigrator.migrate(conn);
+        try (Statement stmt = conn.createStatement()) {
+            stmt.executeUpdate("INSERT INTO users (name, phone, username, password, user_type) "
+                    + "VALUES ('Student', '01700000000', 'student', 'x', 'Student')");
+            try (ResultSet rs = stmt.executeQuery("SELECT id FROM users")) {
+                rs.next();
+                userId = rs.getInt(1);
+            }
+        }
+        index = new FeedbackIndex(this::connect);
+    }
+
+    @AfterEach
+    void dropDatabase() throws SQLException {
+        try (Statement stmt = conn.createStatement()) {
+            stmt.execute("DROP ALL OBJECTS");
+        }
+        conn.close();
+    }
+
+    private Connection connect() throws SQLException {
+        return DriverManager.getConnection(config.getUrl(), config.getUsername(), config.getPassword());
+    }
+
+    private int report(String text) throws SQLException {
+        try (PreparedStatement stmt = conn.prepareStatement(
+                "INSERT INTO feedback_and_issues (user_id, feedback_text) VALUES (?, ?)", Statement.RETURN_GENERATED_KEYS)) {
+            stmt.setInt(1, userId);
+            stmt.setString(2, text);
+            stmt.executeUpdate();
+            try (ResultSet keys = stmt.getGeneratedKeys()) {
+                keys.next();
+                return keys.getInt(1);
+            }
+        }
+    }
+
+    private void execute(String sql) throws SQLException {
+        try (Statement stmt = conn.createStatement()) {
+            stmt.executeUpdate(sql);
+        }
+    }
+
+    private static InvalidationEvent event(String key) {
+        return new InvalidationEvent(InvalidationEvent.FEEDBACK, key, "test", System.currentTimeMillis(), true);
+    }
+
+    @Test
+    void searchMatchesEveryWordAndTheLastAsPrefix() throws SQLException {
+        int leak = report("Water leak in the bathroom ceiling");
+        int water = report("No water since Monday");
+        report("The landlord does not answer the phone");
+
+        assertEquals(List.of(water, leak), index.search(null, "water"));
+        assertEquals(List.of(leak), index.search(null, "water bath"));
+        assertEquals(List.of(), index.search(null, "water phone"));
+        assertEquals(List.of(), index.search(null, " "));
+    }
+
+    @Test
+    void newRowsArePickedUpWithoutANotification() throws SQLException {
+        report("Water leak in the bathroom ceiling");
+        index.sync();
+        assertEquals(1, index.size());
+        int later = report("Water heater broken");
+        assertEquals(List.of(later), index.search(null, "heater"));
+    }
+
+    @Test
+    void statusChangesFollowNotifications() throws SQLException {
+        int first = report("Water leak in the bathroom ceiling");
+        int second = report("Water heater broken");
+        assertEquals(List.of(second, first), index.search("Pending", "water"));
+
+        execute("UPDATE feedback_and_issues SET status = 'Resolved' WHERE id = " + first);
+        index.changed(event(InvalidationEvent.keyOf(List.of(first))));
+        assertEquals(List.of(second), index.search("Pending", "water"));
+        assertEquals(List.of(first), index.search("Resolved", "water"));
+    }
+
+    @Test
+    void batchedAndAllNotificationsDropDeletedRows() throws SQLException {
+        int first = report("Water leak in the bathroom ceiling");
+        int second = report("Water heater broken");
+        int third = report("Water pressure too low");
+        index.sync();
+        assertEquals(3, index.size());
+
+        execute("DELETE FROM feedback_and_issues WHERE id IN (" + first + ", " + second + ")");
+        index.changed(event(InvalidationEvent.keyOf(List.of(first, second))));
+        assertEquals(List.of(third), index.search(null, "water"));
+
+        execute("DELETE FROM feedback_and_issues");
+        index.changed(event(InvalidationEvent.ALL));
+        index.sync();
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    void duplicatesGroupNearlyIdenticalReports() throws SQLException {
+        int a = report("The water supply in the room on Road 5 has been broken for three days");
+        int b = report("The water supply in the room on Road 5 has been broken for four days");
+        int c = report("the water supply in the room on road 5 has been broken for three days!!");
+        report("Please add a filter for rooms with a balcony and attached bathroom");
+
+        List<FeedbackCluster> clusters = index.duplicates(null);
+        assertEquals(1, clusters.size());
+        assertEquals(List.of(c, b, a), clusters.get(0).getFeedbackIds());
+
+        execute("UPDATE feedback_and_issues SET status = 'Resolved' WHERE id IN (" + a + ", " + b + ")");
+        index.changed(event(InvalidationEvent.keyOf(List.of(a, b))));
+        assertTrue(index.duplicates("Pending").isEmpty());
+        assertEquals(List.of(b, a), index.duplicates("Resolved").get(0).getFeedbackIds());
+    }
+}
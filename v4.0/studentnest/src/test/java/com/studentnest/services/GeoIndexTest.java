@@ -0,0 +1,124 @@
+package com.studentnest.services;
+
+import com.studentnest.models.GeoPoint;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GeoIndexTest {
+
+    // The index is shared by the whole application; these ids stay clear of real rooms
+    private static final int FIRST_ID = 900_000;
+
+    private final GeoIndex index = GeoIndex.getInstance();
+    private final List<Integer> added = new ArrayList<>();
+
+    @AfterEach
+    void removeRooms() {
+        for (int id : added) {
+            index.remove(id);
+        }
+    }
+
+    private void put(int id, double latitude, double longitude) {
+        index.put(id, new GeoPoint(latitude, longitude));
+        added.add(id);
+    }
+
+    @Test
+    void ordersRoomsByCampusDistance() {
+        put(FIRST_ID, 23.90, 90.32);
+        put(FIRST_ID + 1, 23.877, 90.321);
+        put(FIRST_ID + 2, 23.80, 90.40);
+        assertEquals(List.of(FIRST_ID + 1, FIRST_ID, FIRST_ID + 2), index.roomIdsByCampusDistance());
+        assertEquals(new GeoPoint(23.90, 90.32).distanceKm(GeoPoint.DIU_CAMPUS),
+                index.campusDistanceKm(FIRST_ID), 1e-9);
+    }
+
+    @Test
+    void movingAndRemovingUpdateTheIndex() {
+        put(FIRST_ID, 23.90, 90.32);
+        put(FIRST_ID, 23.877, 90.321);
+        assertEquals(1, index.size());
+        assertTrue(index.campusDistanceKm(FIRST_ID) < 1);
+
+        index.put(FIRST_ID, null);
+        assertNull(index.campusDistanceKm(FIRST_ID));
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    void withinMatchesALinearScan() {
+        List<GeoPoint> points = randomPoints(500);
+        GeoPoint center = new GeoPoint(23.85, 90.35);
+        for (double radius : new double[]{0.5, 2, 5, 50}) {
+            List<Integer> expected = new ArrayList<>();
+            for (int i = 0; i < points.size(); i++) {
+                if (points.get(i).distanceKm(center) <= radius) {
+                    expected.add(FIRST_ID + i);
+                }
+            }
+            expected.sort(Comparator.comparingDouble(id -> points.get(id - FIRST_ID).distanceKm(center)));
+            assertEquals(expected, ids(index.within(center, radius)), "radius " + radius);
+        }
+    }
+
+    @Test
+    void withinTheCampusUsesTheSortedDistances() {
+        List<GeoPoint> points = randomPoints(200);
+        List<GeoIndex.Hit> hits = index.within(GeoPoint.DIU_CAMPUS, 3);
+        for (GeoIndex.Hit hit : hits) {
+            assertTrue(hit.getDistanceKm() <= 3);
+        }
+        long expected = points.stream().filter(p -> p.distanceKm(GeoPoint.DIU_CAMPUS) <= 3).count();
+        assertEquals(expected, hits.size());
+    }
+
+    @Test
+    void nearestMatchesALinearScan() {
+        List<GeoPoint> points = randomPoints(500);
+        GeoPoint center = new GeoPoint(23.83, 90.30);
+        List<Integer> all = new ArrayList<>(added);
+        all.sort(Comparator.comparingDouble(id -> points.get(id - FIRST_ID).distanceKm(center)));
+        assertEquals(all.subList(0, 10), ids(index.nearest(center, 10)));
+        assertEquals(all, ids(index.nearest(center, 1000)));
+        assertTrue(index.nearest(center, 0).isEmpty());
+    }
+
+    @Test
+    void nearestFallsBackToAScanForFarAwayPoints() {
+        randomPoints(50);
+        GeoPoint london = new GeoPoint(51.5, -0.12);
+        List<GeoIndex.Hit> hits = index.nearest(london, 3);
+        assertEquals(3, hits.size());
+        assertTrue(hits.get(0).getDistanceKm() <= hits.get(2).getDistanceKm());
+    }
+
+    // Rooms scattered over ~20 km around the campus
+    private List<GeoPoint> randomPoints(int count) {
+        Random random = new Random(7);
+        List<GeoPoint> points = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            GeoPoint point = new GeoPoint(23.78 + random.nextDouble() * 0.2, 90.25 + random.nextDouble() * 0.2);
+            put(FIRST_ID + i, point.getLatitude(), point.getLongitude());
+            points.add(point);
+        }
+        return points;
+    }
+
+    private static List<Integer> ids(List<GeoIndex.Hit> hits) {
+        List<Integer> ids = new ArrayList<>();
+        for (GeoIndex.Hit hit : hits) {
+            ids.add(hit.getRoomId());
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,106 @@
+package com.studentnest.services;
+
+import com.studentnest.models.Room;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RoomEditMergeTest {
+
+    private static Room base() {
+        Room room = new Room(7, "Ashulia", 5000, "Single room near campus", 3, "Owner");
+        room.setRoomType("Single");
+        room.setContactNumber("01700000000");
+        room.setNumberOfRooms(2);
+        room.setMapLink("geo:23.87,90.32");
+        room.setLatitude(23.87);
+        room.setLongitude(90.32);
+        room.setVersion(4);
+        return room;
+    }
+
+    @Test
+    void changesToDifferentFieldsAreCombined() {
+        Room base = base();
+        Room mine = new Room(base);
+        mine.setPrice(5500);
+        Room theirs = new Room(base);
+        theirs.setDescription("Single room, newly painted");
+        theirs.setVersion(5);
+
+        RoomEditMerge merge = RoomEditMerge.of(base, mine, theirs);
+
+        assertFalse(merge.hasConflicts());
+        Room merged = merge.getMerged();
+        assertEquals(5500, merged.getPrice());
+        assertEquals("Single room, newly painted", merged.getDescription());
+        assertEquals(5, merged.getVersion());
+    }
+
+    @Test
+    void sameChangeOnBothSidesIsNoConflict() {
+        Room base = base();
+        Room mine = new Room(base);
+        mine.setPrice(6000);
+        Room theirs = new Room(base);
+        theirs.setPrice(6000);
+
+        assertFalse(RoomEditMerge.of(base, mine, theirs).hasConflicts());
+    }
+
+    @Test
+    void differentChangesToOneFieldConflict() {
+        Room base = base();
+        Room mine = new Room(base);
+        mine.setPrice(5500);
+        mine.setNumberOfRooms(3);
+        Room theirs = new Room(base);
+        theirs.setPrice(6000);
+
+        RoomEditMerge merge = RoomEditMerge.of(base, mine, theirs);
+
+        assertTrue(merge.hasConflicts());
+        List<RoomEditMerge.Conflict> conflicts = merge.getConflicts();
+        assertEquals(1, conflicts.size());
+        assertEquals("Price", conflicts.get(0).getField());
+        assertEquals("5500.0", conflicts.get(0).getMine());
+        assertEquals("6000.0", conflicts.get(0).getTheirs());
+
+        assertEquals(6000, merge.getMerged().getPrice());
+        assertEquals(3, merge.getMerged().getNumberOfRooms());
+        assertEquals(5500, merge.getMergedKeepingMine().getPrice());
+        assertEquals(3, merge.getMergedKeepingMine().getNumberOfRooms());
+    }
+
+    @Test
+    void coordinatesFollowTheMapLink() {
+        Room base = base();
+        Room mine = new Room(base);
+        mine.setMapLink("geo:23.90,90.30");
+        mine.setLatitude(23.90);
+        mine.setLongitude(90.30);
+        Room theirs = new Room(base);
+        theirs.setLatitude(null);
+
+        Room merged = RoomEditMerge.of(base, mine, theirs).getMerged();
+
+        assertEquals("geo:23.90,90.30", merged.getMapLink());
+        assertEquals(23.90, merged.getLatitude());
+        assertEquals(90.30, merged.getLongitude());
+    }
+
+    @Test
+    void mergedRoomsAreCopies() {
+        Room base = base();
+        Room mine = new Room(base);
+        mine.setPrice(5500);
+        RoomEditMerge merge = RoomEditMerge.of(base, mine, new Room(base));
+
+        merge.getMerged().setPrice(1);
+        assertEquals(5500, merge.getMerged().getPrice());
+    }
+}
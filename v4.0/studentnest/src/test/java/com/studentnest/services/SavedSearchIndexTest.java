@@ -0,0 +1,141 @@
+package com.studentnest.services;
+
+import com.studentnest.models.GeoPoint;
+import com.studentnest.models.Room;
+import com.studentnest.models.SavedSearch;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SavedSearchIndexTest {
+
+    private static final String ALL = RoomFilterCriteria.ALL_LOCATIONS;
+
+    private final SavedSearchIndex index = new SavedSearchIndex();
+
+    private static SavedSearch search(int id, String location, String priceRange) {
+        return search(id, location, priceRange, null, null);
+    }
+
+    private static SavedSearch search(int id, String location, String priceRange, String distance, String text) {
+        return new SavedSearch(id, 1, "Search " + id, location, priceRange, distance, text);
+    }
+
+    private List<Integer> matches(Room room) {
+        List<Integer> ids = new ArrayList<>();
+        for (SavedSearch search : index.match(room)) {
+            ids.add(search.getId());
+        }
+        ids.sort(null);
+        return ids;
+    }
+
+    private static Room room(String location, double price) {
+        return new Room(1, location, price, "Quiet single room", 2, "Owner");
+    }
+
+    @Test
+    void closedRangesIncludeTheUpperBoundOnly() {
+        index.put(search(1, ALL, "5000-10000"));
+        assertEquals(List.of(), matches(room("Ashulia", 5000)));
+        assertEquals(List.of(1), matches(room("Ashulia", 5000.5)));
+        assertEquals(List.of(1), matches(room("Ashulia", 10000)));
+        assertEquals(List.of(), matches(room("Ashulia", 10000.5)));
+    }
+
+    @Test
+    void rangesFromZeroIncludeZero() {
+        index.put(search(1, ALL, "0-5000"));
+        assertEquals(List.of(1), matches(room("Ashulia", 0)));
+        assertEquals(List.of(1), matches(room("Ashulia", 5000)));
+        assertEquals(List.of(), matches(room("Ashulia", 5001)));
+    }
+
+    @Test
+    void openEndedRangesExcludeTheirLowerBound() {
+        index.put(search(1, ALL, "15000+"));
+        index.put(search(2, ALL, "20000+"));
+        assertEquals(List.of(), matches(room("Ashulia", 15000)));
+        assertEquals(List.of(1), matches(room("Ashulia", 15001)));
+        assertEquals(List.of(1, 2), matches(room("Ashulia", 80000)));
+    }
+
+    @Test
+    void wideRangesAreCheckedExactly() {
+        index.put(search(1, ALL, "1000-900000"));
+        assertEquals(List.of(), matches(room("Ashulia", 1000)));
+        assertEquals(List.of(1), matches(room("Ashulia", 450000)));
+        assertEquals(List.of(), matches(room("Ashulia", 900001)));
+    }
+
+    @Test
+    void unparsableRangesAcceptEveryPrice() {
+        index.put(search(1, ALL, RoomFilterCriteria.ALL_PRICES));
+        index.put(search(2, ALL, null));
+        index.put(search(3, ALL, "cheap-ish"));
+        assertEquals(List.of(1, 2, 3), matches(room("Ashulia", 0)));
+        assertEquals(List.of(1, 2, 3), matches(room("Ashulia", 1_000_000)));
+    }
+
+    @Test
+    void agreesWithTheFilterCriteriaAtEveryBoundary() {
+        String[] ranges = {"0-5000", "5000-10000", "10000-15000", "15000+", "2500-2600", RoomFilterCriteria.ALL_PRICES};
+        for (int i = 0; i < ranges.length; i++) {
+            index.put(search(i, ALL, ranges[i]));
+        }
+        for (double price : new double[]{0, 1, 2500, 2550, 2600, 4999.99, 5000, 5000.01, 10000, 15000, 15000.01, 99999}) {
+            List<Integer> expected = new ArrayList<>();
+            for (int i = 0; i < ranges.length; i++) {
+                if (new RoomFilterCriteria(ALL, ranges[i], null, null, null).matches(room("Ashulia", price))) {
+                    expected.add(i);
+                }
+            }
+            assertEquals(expected, matches(room("Ashulia", price)), "price " + price);
+        }
+    }
+
+    @Test
+    void locationsAreMatchedExactlyOrByAllLocations() {
+        index.put(search(1, "Ashulia", RoomFilterCriteria.ALL_PRICES));
+        index.put(search(2, "Savar", RoomFilterCriteria.ALL_PRICES));
+        index.put(search(3, ALL, RoomFilterCriteria.ALL_PRICES));
+        assertEquals(List.of(1, 3), matches(room("Ashulia", 4000)));
+        assertEquals(List.of(3), matches(room("Mirpur", 4000)));
+    }
+
+    @Test
+    void searchTextAndDistanceAreChecked() {
+        index.put(search(1, ALL, RoomFilterCriteria.ALL_PRICES, null, "  QUIET "));
+        index.put(search(2, ALL, RoomFilterCriteria.ALL_PRICES, null, "balcony"));
+        index.put(search(3, ALL, RoomFilterCriteria.ALL_PRICES, "Within 1 km", null));
+
+        Room room = room("Ashulia", 4000);
+        room.setId(900_100);
+        assertEquals(List.of(1), matches(room));
+
+        GeoIndex.getInstance().put(room.getId(), new GeoPoint(23.877, 90.321));
+        try {
+            assertEquals(List.of(1, 3), matches(room));
+        } finally {
+            GeoIndex.getInstance().remove(room.getId());
+        }
+    }
+
+    @Test
+    void putReplacesAndRemoveForgets() {
+        index.put(search(1, "Ashulia", "0-5000"));
+        index.put(search(1, "Savar", "0-5000"));
+        assertEquals(List.of(), matches(room("Ashulia", 4000)));
+        assertEquals(List.of(1), matches(room("Savar", 4000)));
+
+        index.remove(1);
+        assertEquals(0, index.size());
+        assertEquals(List.of(), matches(room("Savar", 4000)));
+
+        index.reset(List.of(search(4, ALL, "15000+"), search(5, ALL, "0-5000")));
+        assertEquals(List.of(5), matches(room("Savar", 4000)));
+    }
+}
@@ -0,0 +1,58 @@
+package com.studentnest.utils;
+
+import com.studentnest.models.GeoPoint;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class MapLinkParserTest {
+
+    @Test
+    void readsTheGoogleMapsPinBeforeTheViewport() {
+        GeoPoint point = MapLinkParser.parse("https://www.google.com/maps/place/Ashulia/@23.9000,90.3000,15z/"
+                + "data=!3m1!4b1!4m6!3m5!1s0x0:0x0!8m2!3d23.8766!4d90.3206");
+        assertEquals(new GeoPoint(23.8766, 90.3206), point);
+    }
+
+    @Test
+    void readsTheGoogleMapsViewport() {
+        assertEquals(new GeoPoint(23.8766, 90.3206),
+                MapLinkParser.parse("https://www.google.com/maps/@23.8766,90.3206,17z"));
+    }
+
+    @Test
+    void readsQueryParameters() {
+        assertEquals(new GeoPoint(23.8766, 90.3206),
+                MapLinkParser.parse("https://maps.google.com/?q=23.8766,90.3206"));
+        assertEquals(new GeoPoint(23.8766, 90.3206),
+                MapLinkParser.parse("https://www.google.com/maps/search/?api=1&query=23.8766%2C90.3206"));
+    }
+
+    @Test
+    void readsOpenStreetMapLinks() {
+        assertEquals(new GeoPoint(23.8766, 90.3206),
+                MapLinkParser.parse("https://www.openstreetmap.org/?mlat=23.8766&mlon=90.3206#map=17/23.8766/90.3206"));
+        assertEquals(new GeoPoint(23.8766, 90.3206),
+                MapLinkParser.parse("https://www.openstreetmap.org/#map=17/23.8766/90.3206"));
+    }
+
+    @Test
+    void readsGeoUrisAndPlainPairs() {
+        assertEquals(new GeoPoint(23.8766, 90.3206), MapLinkParser.parse("geo:23.8766,90.3206?z=17"));
+        assertEquals(new GeoPoint(-33.5, 151.25), MapLinkParser.parse("  -33.5 , 151.25 "));
+    }
+
+    @Test
+    void returnsNullWithoutCoordinates() {
+        assertNull(MapLinkParser.parse(null));
+        assertNull(MapLinkParser.parse(" "));
+        assertNull(MapLinkParser.parse("https://maps.app.goo.gl/AbCdEf123"));
+        assertNull(MapLinkParser.parse("Near the DIU campus gate"));
+    }
+
+    @Test
+    void rejectsOutOfRangeCoordinates() {
+        assertNull(MapLinkParser.parse("geo:123.0,90.0"));
+    }
+}
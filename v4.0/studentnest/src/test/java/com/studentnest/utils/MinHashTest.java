@@ -0,0 +1,55 @@
+package com.studentnest.utils;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MinHashTest {
+
+    private static final String REPORT = "The water supply in the room on Road 5 has been broken for three days";
+
+    @Test
+    void signaturesIgnoreCasePunctuationAndSpacing() {
+        assertArrayEquals(MinHash.signature(REPORT),
+                MinHash.signature("  the WATER supply, in the room on road 5 -- has been broken for three days!"));
+    }
+
+    @Test
+    void nearDuplicatesAreSimilar() {
+        int[] a = MinHash.signature(REPORT);
+        int[] b = MinHash.signature("The water supply in the room on Road 5 has been broken for four days");
+        assertTrue(MinHash.similarity(a, b) > 0.6, "similarity " + MinHash.similarity(a, b));
+    }
+
+    @Test
+    void unrelatedTextsAreNotSimilar() {
+        int[] a = MinHash.signature(REPORT);
+        int[] b = MinHash.signature("Please add a filter for rooms with a balcony and attached bathroom");
+        assertTrue(MinHash.similarity(a, b) < 0.2, "similarity " + MinHash.similarity(a, b));
+    }
+
+    @Test
+    void identicalSignaturesShareEveryBand() {
+        int[] a = MinHash.signature(REPORT);
+        int[] b = MinHash.signature(REPORT);
+        assertEquals(1.0, MinHash.similarity(a, b));
+        for (int band = 0; band < MinHash.BANDS; band++) {
+            assertEquals(MinHash.bandKey(a, band), MinHash.bandKey(b, band));
+        }
+    }
+
+    @Test
+    void bandKeysDifferBetweenBands() {
+        int[] signature = new int[MinHash.SIZE];
+        assertNotEquals(MinHash.bandKey(signature, 0), MinHash.bandKey(signature, 1));
+    }
+
+    @Test
+    void shortAndEmptyTextsStillGetASignature() {
+        assertEquals(MinHash.SIZE, MinHash.signature("ok").length);
+        assertArrayEquals(MinHash.signature(null), MinHash.signature("  ...  "));
+    }
+}
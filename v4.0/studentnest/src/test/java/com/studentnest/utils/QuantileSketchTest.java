@@ -0,0 +1,109 @@
+package com.studentnest.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class QuantileSketchTest {
+
+    @Test
+    void emptySketchHasNoQuantiles() {
+        QuantileSketch sketch = new QuantileSketch();
+        assertTrue(sketch.isEmpty());
+        assertTrue(Double.isNaN(sketch.quantile(0.5)));
+        assertTrue(Double.isNaN(sketch.getMean()));
+    }
+
+    @Test
+    void quantilesStayWithinRelativeAccuracy() {
+        QuantileSketch sketch = new QuantileSketch(0.01);
+        double[] values = new double[10_000];
+        Random random = new Random(42);
+        for (int i = 0; i < values.length; i++) {
+            values[i] = 1000 + random.nextDouble() * 49_000;
+            sketch.add(values[i]);
+        }
+        Arrays.sort(values);
+        for (double q : new double[]{0, 0.1, 0.25, 0.5, 0.75, 0.9, 0.99, 1}) {
+            double expected = values[(int) Math.floor(q * (values.length - 1))];
+            assertEquals(expected, sketch.quantile(q), expected * 0.01, "q=" + q);
+        }
+        assertEquals(values.length, sketch.getCount());
+    }
+
+    @Test
+    void zerosAreCountedSeparately() {
+        QuantileSketch sketch = new QuantileSketch();
+        sketch.add(0);
+        sketch.add(0);
+        sketch.add(5000);
+        assertEquals(0, sketch.quantile(0.5));
+        assertEquals(5000, sketch.quantile(1), 50);
+    }
+
+    @Test
+    void removeUndoesAdd() {
+        QuantileSketch sketch = new QuantileSketch();
+        sketch.add(3000);
+        sketch.add(8000);
+        sketch.remove(8000);
+        assertEquals(1, sketch.getCount());
+        assertEquals(3000, sketch.quantile(1), 30);
+        assertEquals(3000, sketch.getMean(), 1e-9);
+    }
+
+    @Test
+    void removingAnUnknownValueIsIgnored() {
+        QuantileSketch sketch = new QuantileSketch();
+        sketch.remove(4000);
+        sketch.remove(0);
+        assertTrue(sketch.isEmpty());
+        sketch.add(4000);
+        sketch.remove(90_000);
+        assertEquals(1, sketch.getCount());
+    }
+
+    @Test
+    void growsInBothDirections() {
+        QuantileSketch sketch = new QuantileSketch();
+        double smallest = 1_000_000;
+        for (double value = smallest; value >= 0.001; value /= 3) {
+            sketch.add(value);
+            smallest = value;
+        }
+        sketch.add(1e9);
+        assertEquals(smallest, sketch.quantile(0), smallest * 0.01);
+        assertEquals(1e9, sketch.quantile(1), 1e9 * 0.01);
+    }
+
+    @Test
+    void mergeAndCopyCombineCounts() {
+        QuantileSketch a = new QuantileSketch();
+        QuantileSketch b = new QuantileSketch();
+        for (int i = 1; i <= 100; i++) {
+            a.add(i);
+            b.add(i + 100);
+        }
+        QuantileSketch merged = a.copy();
+        merged.merge(b);
+        assertEquals(200, merged.getCount());
+        assertEquals(100, a.getCount());
+        assertEquals(100, merged.quantile(0.5), 1);
+        assertEquals(100.5, merged.getMean(), 1e-9);
+    }
+
+    @Test
+    void rejectsInvalidInput() {
+        QuantileSketch sketch = new QuantileSketch();
+        assertThrows(IllegalArgumentException.class, () -> sketch.add(-1));
+        assertThrows(IllegalArgumentException.class, () -> sketch.add(Double.NaN));
+        assertThrows(IllegalArgumentException.class, () -> sketch.quantile(1.5));
+        assertThrows(IllegalArgumentException.class, () -> new QuantileSketch(0));
+        assertThrows(IllegalArgumentException.class, () -> sketch.merge(new QuantileSketch(0.05)));
+    }
+}
@@ -0,0 +1,377 @@
+package com.studentnest.tools;
+
+import com.studentnest.database.DatabaseConfig;
+import com.studentnest.database.DatabaseConnection;
+import com.studentnest.database.SchemaMigrator;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.GradientPaint;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+/**
+ * Fills a database with synthetic users, rooms, room photos and feedback so performance
+ * work can be judged against realistic volumes instead of a handful of dev rows.
+ * <p>
+ * Rooms are spread over the six areas around DIU, each with its own centre and rent level.
+ * Prices are log-normal around the area median and scaled by room type. About 10% of the
+ * rooms have no map link, as in real listings. Users are {@code student<n>} and
+ * {@code owner<n>}, all with the password {@link #PASSWORD}.
+ * <p>
+ * Usage: DataGenerator &lt;jdbc-url|app&gt; [rooms=100000] [feedback=1000000] [students=20000] [owners=2000] [image-dir]
+ * <br>{@code app} uses the application's configured database (see {@link DatabaseConfig}), e.g. with
+ * {@code -Dstudentnest.db.mode=embedded} to prepare an offline demo. For MySQL URLs add
+ * {@code rewriteBatchedStatements=true}, otherwise every row is a round trip.
+ * Photos are written once to the image directory (default ~/StudentNest/room_images) and shared by the rooms.
+ */
+public class DataGenerator {
+
+    public static final String PASSWORD = "password123";
+
+    private static final int BATCH_SIZE = 5000;
+    private static final int IMAGE_POOL_SIZE = 24;
+    private static final long HISTORY_MILLIS = 730L * 24 * 60 * 60 * 1000;
+
+    /**
+     * A neighbourhood around the campus: centre, median rent and share of the listings.
+     */
+    private static final class Area {
+        final String name;
+        final double latitude;
+        final double longitude;
+        final double medianPrice;
+        final double weight;
+
+        Area(String name, double latitude, double longitude, double medianPrice, double weight) {
+            this.name = name;
+            this.latitude = latitude;
+            this.longitude = longitude;
+            this.medianPrice = medianPrice;
+            this.weight = weight;
+        }
+    }
+
+    private static final Area[] AREAS = {
+            new Area("Khagan", 23.8741, 90.3162, 6500, 0.28),
+            new Area("Dattopara", 23.8801, 90.3288, 5500, 0.20),
+            new Area("Candgaon", 23.8836, 90.3124, 5000, 0.16),
+            new Area("Charabag", 23.8652, 90.3251, 4500, 0.14),
+            new Area("Kumkumari", 23.8907, 90.3331, 4000, 0.11),
+            new Area("Shadhupara", 23.8689, 90.3048, 4500, 0.11)
+    };
+
+    private static final double[] AREA_WEIGHTS = new double[AREAS.length];
+
+    static {
+        for (int i = 0; i < AREAS.length; i++) {
+            AREA_WEIGHTS[i] = AREAS[i].weight;
+        }
+    }
+
+    private static final String[] ROOM_TYPES = {"Single", "Shared", "Family"};
+    private static final double[] ROOM_TYPE_WEIGHTS = {0.45, 0.40, 0.15};
+    private static final double[] ROOM_TYPE_PRICE_FACTORS = {1.0, 0.6, 2.4};
+
+    private static final String[] FEATURES = {"attached bathroom", "balcony", "24h water supply", "gas line",
+            "lift", "generator backup", "wifi included", "furnished", "rooftop access", "CCTV", "quiet floor",
+            "kitchen access", "near bus stop", "tiled floor", "south facing"};
+
+    private static final String[] FEEDBACK_TEMPLATES = {
+            "The filter for %s does not show all rooms.",
+            "Owner in %s did not answer the phone.",
+            "Please add more rooms near %s.",
+            "The price shown for a room in %s is outdated.",
+            "Photos of a room in %s do not load.",
+            "Great app, found a seat in %s within a day!",
+            "Map link for a room in %s points to the wrong place.",
+            "Room in %s is already rented but still listed."
+    };
+
+    private final int students;
+    private final int owners;
+    private final int rooms;
+    private final int feedback;
+    private final Random random;
+    private final long now = System.currentTimeMillis();
+
+    public DataGenerator(int students, int owners, int rooms, int feedback, long seed) {
+        this.students = students;
+        this.owners = Math.max(1, owners);
+        this.rooms = rooms;
+        this.feedback = feedback;
+        this.random = new Random(seed);
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length == 0) {
+            System.err.println("Usage: DataGenerator <jdbc-url|app> [rooms] [feedback] [students] [owners] [image-dir]");
+            System.exit(2);
+        }
+        int rooms = args.length > 1 ? Integer.parseInt(args[1]) : 100_000;
+        int feedback = args.length > 2 ? Integer.parseInt(args[2]) : 1_000_000;
+        int students = args.length > 3 ? Integer.parseInt(args[3]) : 20_000;
+        int owners = args.length > 4 ? Integer.parseInt(args[4]) : 2_000;
+        Path imageDir = args.length > 5 ? Path.of(args[5]) : defaultImageDir();
+
+        try (Connection conn = "app".equals(args[0]) ? DatabaseConnection.openConnection() : DriverManager.getConnection(args[0])) {
+            new DataGenerator(students, owners, rooms, feedback, 42).generate(conn, imageDir);
+        }
+    }
+
+    public static Path defaultImageDir() {
+        return Path.of(System.getProperty("user.home"), "StudentNest", "room_images");
+    }
+
+    /**
+     * Migrates the schema and inserts everything. Expects a database without generated users.
+     */
+    public void generate(Connection conn, Path imageDir) throws SQLException, IOException {
+        SchemaMigrator.migrate(conn);
+        if (alreadyGenerated(conn)) {
+            throw new IllegalStateException("Database already contains generated users (student1 exists)");
+        }
+        List<String> photos = writeImagePool(imageDir);
+
+        long start = System.nanoTime();
+        boolean autoCommit = conn.getAutoCommit();
+        conn.setAutoCommit(false);
+        try {
+            int[] studentIds = insertUsers(conn, "Student", "student", students);
+            int[] ownerIds = insertUsers(conn, "House Owner", "owner", owners);
+            insertRooms(conn, ownerIds, photos);
+            insertFeedback(conn, studentIds, ownerIds);
+            conn.commit();
+        } catch (SQLException | RuntimeException e) {
+            conn.rollback();
+            throw e;
+        } finally {
+            conn.setAutoCommit(autoCommit);
+        }
+        System.out.printf("Generated %,d users, %,d rooms and %,d feedback rows in %.1f s%n",
+                students + owners, rooms, feedback, (System.nanoTime() - start) / 1e9);
+    }
+
+    private static boolean alreadyGenerated(Connection conn) throws SQLException {
+        try (PreparedStatement stmt = conn.prepareStatement("SELECT COUNT(*) FROM users WHERE username = 'student1'");
+             ResultSet rs = stmt.executeQuery()) {
+            return rs.next() && rs.getInt(1) > 0;
+        }
+    }
+
+    private int[] insertUsers(Connection conn, String userType, String prefix, int count) throws SQLException {
+        String sql = "INSERT INTO users (name, phone, username, password, user_type, created_at) VALUES (?, ?, ?, ?, ?, ?)";
+        int[] ids = new int[count];
+        try (PreparedStatement stmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+            int batched = 0;
+            int collected = 0;
+            for (int i = 1; i <= count; i++) {
+                stmt.setString(1, (userType.equals("Student") ? "Student " : "Owner ") + i);
+                stmt.setString(2, phoneNumber());
+                stmt.setString(3, prefix + i);
+                stmt.setString(4, PASSWORD);
+                stmt.setString(5, userType);
+                stmt.setTimestamp(6, pastTimestamp());
+                stmt.addBatch();
+                if (++batched == BATCH_SIZE || i == count) {
+                    collected = executeBatch(conn, stmt, ids, collected);
+                    batched = 0;
+                }
+            }
+        }
+        System.out.printf("Inserted %,d %s users%n", count, userType);
+        return ids;
+    }
+
+    private void insertRooms(Connection conn, int[] ownerIds, List<String> photos) throws SQLException {
+        String roomSql = "INSERT INTO rooms (owner_id, location, price, description, contact_number, map_link, room_type, " +
+                "image1_path, image2_path, latitude, longitude, created_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+        String imageSql = "INSERT INTO room_images (room_id, image_path, sort_order) VALUES (?, ?, ?)";
+        int[] roomIds = new int[BATCH_SIZE];
+        List<String[]> batchPhotos = new ArrayList<>(BATCH_SIZE);
+        try (PreparedStatement roomStmt = conn.prepareStatement(roomSql, Statement.RETURN_GENERATED_KEYS);
+             PreparedStatement imageStmt = conn.prepareStatement(imageSql)) {
+            for (int i = 1; i <= rooms; i++) {
+                Area area = pickArea();
+                int typeIndex = pick(ROOM_TYPE_WEIGHTS);
+                String[] roomPhotos = pickPhotos(photos);
+
+                roomStmt.setInt(1, ownerIds[random.nextInt(ownerIds.length)]);
+                roomStmt.setString(2, area.name);
+                roomStmt.setDouble(3, price(area, typeIndex));
+                roomStmt.setString(4, description(area, ROOM_TYPES[typeIndex]));
+                roomStmt.setString(5, phoneNumber());
+                if (random.nextInt(10) == 0) {
+                    roomStmt.setString(6, null);
+                    roomStmt.setObject(10, null);
+                    roomStmt.setObject(11, null);
+                } else {
+                    double latitude = area.latitude + random.nextGaussian() * 0.004;
+                    double longitude = area.longitude + random.nextGaussian() * 0.004;
+                    roomStmt.setString(6, String.format(Locale.ROOT, "https://www.google.com/maps?q=%.6f,%.6f", latitude, longitude));
+                    roomStmt.setDouble(10, latitude);
+                    roomStmt.setDouble(11, longitude);
+                }
+                roomStmt.setString(7, ROOM_TYPES[typeIndex]);
+                roomStmt.setString(8, roomPhotos.length > 0 ? roomPhotos[0] : null);
+                roomStmt.setString(9, roomPhotos.length > 1 ? roomPhotos[1] : null);
+                roomStmt.setTimestamp(12, pastTimestamp());
+                roomStmt.addBatch();
+                batchPhotos.add(roomPhotos);
+
+                if (batchPhotos.size() == BATCH_SIZE || i == rooms) {
+                    int inserted = executeBatch(conn, roomStmt, roomIds, 0);
+                    for (int r = 0; r < inserted; r++) {
+                        String[] paths = batchPhotos.get(r);
+                        for (int p = 0; p < paths.length; p++) {
+                            imageStmt.setInt(1, roomIds[r]);
+                            imageStmt.setString(2, paths[p]);
+                            imageStmt.setInt(3, p);
+                            imageStmt.addBatch();
+                        }
+                    }
+                    imageStmt.executeBatch();
+                    conn.commit();
+                    batchPhotos.clear();
+                    if (i % 20_000 == 0 || i == rooms) {
+                        System.out.printf("Inserted %,d rooms%n", i);
+                    }
+                }
+            }
+        }
+    }
+
+    private void insertFeedback(Connection conn, int[] studentIds, int[] ownerIds) throws SQLException {
+        String sql = "INSERT INTO feedback_and_issues (user_id, feedback_text, status, created_at) VALUES (?, ?, ?, ?)";
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+            for (int i = 1; i <= feedback; i++) {
+                // Mostly students; owners report the odd issue too
+                int[] authors = random.nextInt(10) == 0 || studentIds.length == 0 ? ownerIds : studentIds;
+                stmt.setInt(1, authors[random.nextInt(authors.length)]);
+                stmt.setString(2, String.format(FEEDBACK_TEMPLATES[random.nextInt(FEEDBACK_TEMPLATES.length)], pickArea().name));
+                stmt.setString(3, random.nextInt(10) < 3 ? "Resolved" : "Pending");
+                stmt.setTimestamp(4, pastTimestamp());
+                stmt.addBatch();
+                if (i % BATCH_SIZE == 0 || i == feedback) {
+                    stmt.executeBatch();
+                    conn.commit();
+                }
+                if (i % 200_000 == 0 || i == feedback) {
+                    System.out.printf("Inserted %,d feedback rows%n", i);
+                }
+            }
+        }
+    }
+
+    /**
+     * Executes the batch, commits, and copies the generated keys into ids starting at offset.
+     * @return The offset after the copied keys
+     */
+    private static int executeBatch(Connection conn, PreparedStatement stmt, int[] ids, int offset) throws SQLException {
+        stmt.executeBatch();
+        try (ResultSet keys = stmt.getGeneratedKeys()) {
+            while (keys.next()) {
+                ids[offset++] = keys.getInt(1);
+            }
+        }
+        conn.commit();
+        return offset;
+    }
+
+    private Area pickArea() {
+        return AREAS[pick(AREA_WEIGHTS)];
+    }
+
+    private int pick(double[] weights) {
+        double total = 0;
+        for (double weight : weights) {
+            total += weight;
+        }
+        double target = random.nextDouble() * total;
+        for (int i = 0; i < weights.length; i++) {
+            target -= weights[i];
+            if (target < 0) {
+                return i;
+            }
+        }
+        return weights.length - 1;
+    }
+
+    // Log-normal around the area median, rounded to 500 taka like real listings
+    private double price(Area area, int typeIndex) {
+        double price = area.medianPrice * ROOM_TYPE_PRICE_FACTORS[typeIndex] * Math.exp(random.nextGaussian() * 0.3);
+        return Math.max(1500, Math.round(price / 500) * 500);
+    }
+
+    private String description(Area area, String roomType) {
+        StringBuilder text = new StringBuilder(roomType).append(" room in ").append(area.name).append(" with ");
+        int features = 2 + random.nextInt(4);
+        for (int i = 0; i < features; i++) {
+            if (i > 0) text.append(i == features - 1 ? " and " : ", ");
+            text.append(FEATURES[random.nextInt(FEATURES.length)]);
+        }
+        return text.append('.').toString();
+    }
+
+    private String[] pickPhotos(List<String> photos) {
+        if (photos.isEmpty()) {
+            return new String[0];
+        }
+        String[] picked = new String[1 + random.nextInt(4)];
+        for (int i = 0; i < picked.length; i++) {
+            picked[i] = photos.get(random.nextInt(photos.size()));
+        }
+        return picked;
+    }
+
+    private String phoneNumber() {
+        return "01" + (3 + random.nextInt(7)) + String.format("%08d", random.nextInt(100_000_000));
+    }
+
+    // Skewed towards recent dates, like a growing user base
+    private Timestamp pastTimestamp() {
+        double age = random.nextDouble();
+        return new Timestamp(now - (long) (age * age * HISTORY_MILLIS));
+    }
+
+    /**
+     * Writes a small pool of photo-like JPEGs that the generated rooms point to.
+     * Existing files are kept, so repeated runs reuse the pool.
+     */
+    private static List<String> writeImagePool(Path imageDir) throws IOException {
+        Files.createDirectories(imageDir);
+        List<String> paths = new ArrayList<>();
+        Random random = new Random(7);
+        for (int i = 0; i < IMAGE_POOL_SIZE; i++) {
+            Path file = imageDir.resolve("generated_" + i + ".jpg");
+            if (!Files.exists(file)) {
+                BufferedImage image = new BufferedImage(1280, 960, BufferedImage.TYPE_INT_RGB);
+                Graphics2D g = image.createGraphics();
+                g.setPaint(new GradientPaint(0, 0, new Color(random.nextInt(0xffffff)), 1280, 960, new Color(random.nextInt(0xffffff))));
+                g.fillRect(0, 0, 1280, 960);
+                for (int s = 0; s < 40; s++) {
+                    g.setColor(new Color(random.nextInt(0xffffff)));
+                    g.fillRect(random.nextInt(1280), random.nextInt(960), 20 + random.nextInt(300), 20 + random.nextInt(300));
+                }
+                g.dispose();
+                ImageIO.write(image, "jpg", file.toFile());
+            }
+            paths.add(file.toAbsolutePath().toString());
+        }
+        return paths;
+    }
+}
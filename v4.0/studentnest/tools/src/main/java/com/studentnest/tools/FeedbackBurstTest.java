@@ -0,0 +1,259 @@
+package com.studentnest.tools;
+
+import com.studentnest.cache.InvalidationBus;
+import com.studentnest.database.DatabaseConfig;
+import com.studentnest.database.DatabaseConnection;
+import com.studentnest.models.Feedback;
+import com.studentnest.models.FeedbackCluster;
+import com.studentnest.models.FeedbackPage;
+import com.studentnest.services.ConnectionProvider;
+import com.studentnest.services.JdbcFeedbackService;
+import com.studentnest.services.ServiceException;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Floods the feedback table the way a campus-wide outage would: thousands of reports
+ * submitted at once from many threads, a good part of them the same complaint in slightly
+ * different words. The admin console's search, duplicate grouping and paging must then
+ * account for every report, and a second burst must show up without a full reload.
+ * <p>
+ * Each planted complaint has a word no other report uses, so searching for that word must
+ * find exactly its copies, and the duplicate groups must hold each complaint's copies
+ * together and nothing else.
+ * <p>
+ * Usage: FeedbackBurstTest [reports=5000] [threads=16] [seed=42]
+ * <br>Runs against an in-memory H2 database in MySQL mode. Exits with status 1 if a check failed.
+ */
+public class FeedbackBurstTest {
+
+    private static final String[] COMPLAINTS = {
+            "The wifi router on the third floor has been down since monday morning, nobody can attend online classes",
+            "There is a water leak from the ceiling in the reading room and the floor is getting slippery",
+            "The elevator in block B keeps stopping between floors, students got stuck there twice this week",
+            "Mosquitoes everywhere in the dormitory after the drain outside was blocked, please send someone",
+            "The generator did not start during yesterday's power cut and the whole hostel was dark for hours",
+            "Hot water has not worked in the shared bathrooms of the girls hostel for more than ten days",
+    };
+    // The word each complaint is searched by; none of them appears in the filler reports
+    private static final String[] MARKERS = {"router", "leak", "elevator", "mosquitoes", "generator", "bathrooms"};
+    private static final String[] FILLER = {
+            "room", "rent", "owner", "map", "price", "bus", "campus", "slow", "app", "login", "photo", "review",
+            "student", "seat", "booking", "crash", "search", "filter", "balcony", "kitchen", "noise", "parking",
+            "deposit", "contract", "payment", "location", "distance", "furniture", "window", "door", "light", "fan",
+    };
+    private static final String[] ENDINGS = {"", "!", " please fix", " again", "!!", "."};
+
+    private final JdbcFeedbackService feedback;
+    private final List<Integer> userIds;
+    private final Random random;
+    private final List<String> failures = new ArrayList<>();
+    // Copies of each complaint submitted so far
+    private final int[] planted = new int[COMPLAINTS.length];
+
+    public FeedbackBurstTest(JdbcFeedbackService feedback, List<Integer> userIds, long seed) {
+        this.feedback = feedback;
+        this.userIds = userIds;
+        this.random = new Random(seed);
+    }
+
+    public static void main(String[] args) throws Exception {
+        int reports = args.length > 0 ? Integer.parseInt(args[0]) : 5000;
+        int threads = args.length > 1 ? Integer.parseInt(args[1]) : 16;
+        long seed = args.length > 2 ? Long.parseLong(args[2]) : 42;
+        if (System.getProperty(InvalidationBus.TRANSPORT_PROPERTY) == null) {
+            System.setProperty(InvalidationBus.TRANSPORT_PROPERTY, "none");
+        }
+
+        // Every call gets a dedicated connection, as on the API server, so the submitters really run concurrently
+        DatabaseConnection.configure(DatabaseConfig.memory("feedback-burst"));
+        ConnectionProvider connections = DatabaseConnection::openConnection;
+        // Kept open so the in-memory database lives for the whole run
+        try (Connection conn = connections.getConnection()) {
+            List<Integer> userIds = new ArrayList<>();
+            for (int i = 0; i < 50; i++) {
+                userIds.add(insertStudent(conn, i));
+            }
+            FeedbackBurstTest test = new FeedbackBurstTest(new JdbcFeedbackService(connections), userIds, seed);
+            System.exit(test.run(reports, threads) ? 0 : 1);
+        }
+    }
+
+    /**
+     * @return True if every check passed
+     */
+    public boolean run(int reports, int threads) throws Exception {
+        System.out.printf("%,d reports per burst from %d threads%n", reports, threads);
+
+        burst("first burst", reports, threads);
+        long begin = System.nanoTime();
+        feedback.findFeedback(null, MARKERS[0], 0, 1);
+        System.out.printf("index built in %.0f ms%n", (System.nanoTime() - begin) / 1_000_000.0);
+        checkAll(reports);
+
+        // The index is live now; the second burst must be picked up incrementally
+        burst("second burst", reports, threads);
+        begin = System.nanoTime();
+        feedback.findFeedback(null, MARKERS[0], 0, 1);
+        System.out.printf("index caught up in %.0f ms%n", (System.nanoTime() - begin) / 1_000_000.0);
+        checkAll(2 * reports);
+
+        // Resolving one complaint's group is a single statement and leaves the pending view
+        FeedbackCluster group = clusterOf(feedback.findDuplicates("Pending"), feedback.findFeedback(null, MARKERS[0], 0, 1).getTotal(), 0);
+        if (group != null) {
+            int pendingBefore = feedback.findFeedback("Pending", null, 0, 1).getTotal();
+            begin = System.nanoTime();
+            int resolved = feedback.markResolved(group.getFeedbackIds());
+            System.out.printf("resolved a group of %,d in %.0f ms%n", resolved, (System.nanoTime() - begin) / 1_000_000.0);
+            check("reports resolved", group.getSize(), resolved);
+            check("pending after resolve", pendingBefore - resolved, feedback.findFeedback("Pending", null, 0, 1).getTotal());
+            check("pending search after resolve", 0, feedback.findFeedback("Pending", MARKERS[0], 0, 1).getTotal());
+        }
+
+        if (failures.isEmpty()) {
+            System.out.println("OK: every report found, every complaint grouped on its own");
+            return true;
+        }
+        for (String failure : failures) {
+            System.out.println("FAILED: " + failure);
+        }
+        return false;
+    }
+
+    private void checkAll(int expectedTotal) throws ServiceException {
+        FeedbackPage first = feedback.findFeedback(null, null, 0, 50);
+        check("total reports", expectedTotal, first.getTotal());
+        int paged = 0;
+        for (int offset = 0; offset < first.getTotal(); offset += 500) {
+            paged += feedback.findFeedback(null, null, offset, 500).getItems().size();
+        }
+        check("reports over all pages", expectedTotal, paged);
+
+        long begin = System.nanoTime();
+        for (int i = 0; i < MARKERS.length; i++) {
+            check("matches for '" + MARKERS[i] + "'", planted[i], feedback.findFeedback(null, MARKERS[i], 0, 50).getTotal());
+        }
+        // The last word is taken as a prefix, as while typing
+        check("matches for 'mosq'", planted[3], feedback.findFeedback(null, "mosq", 0, 50).getTotal());
+        System.out.printf("search: %.2f ms per query%n", (System.nanoTime() - begin) / 1_000_000.0 / (MARKERS.length + 1));
+
+        begin = System.nanoTime();
+        List<FeedbackCluster> clusters = feedback.findDuplicates(null);
+        System.out.printf("duplicates: %,d groups in %.0f ms%n", clusters.size(), (System.nanoTime() - begin) / 1_000_000.0);
+        for (int i = 0; i < MARKERS.length; i++) {
+            if (planted[i] > 1 && clusterOf(clusters, planted[i], i) == null) {
+                failures.add("copies of complaint '" + MARKERS[i] + "' were not grouped together");
+            }
+        }
+    }
+
+    /**
+     * @return The group holding every copy of the complaint and nothing else, or null
+     */
+    private FeedbackCluster clusterOf(List<FeedbackCluster> clusters, int copies, int complaint) throws ServiceException {
+        Set<Integer> ids = new HashSet<>();
+        for (Feedback item : feedback.findFeedback(null, MARKERS[complaint], 0, Math.max(1, copies)).getItems()) {
+            ids.add(item.getId());
+        }
+        for (FeedbackCluster cluster : clusters) {
+            if (cluster.getSize() == ids.size() && ids.containsAll(cluster.getFeedbackIds())) {
+                return cluster;
+            }
+        }
+        return null;
+    }
+
+    private void burst(String name, int reports, int threads) throws InterruptedException {
+        List<String> texts = new ArrayList<>(reports);
+        for (int i = 0; i < reports; i++) {
+            // About a third of the burst is one of the planted complaints
+            if (random.nextInt(3) == 0) {
+                int complaint = random.nextInt(COMPLAINTS.length);
+                planted[complaint]++;
+                texts.add(variant(COMPLAINTS[complaint]));
+            } else {
+                texts.add(filler());
+            }
+        }
+
+        AtomicInteger next = new AtomicInteger();
+        AtomicInteger errors = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(threads);
+        long begin = System.nanoTime();
+        for (int t = 0; t < threads; t++) {
+            Thread thread = new Thread(() -> {
+                for (int i = next.getAndIncrement(); i < texts.size(); i = next.getAndIncrement()) {
+                    try {
+                        if (!feedback.submitFeedback(userIds.get(i % userIds.size()), texts.get(i))) {
+                            errors.incrementAndGet();
+                        }
+                    } catch (ServiceException e) {
+                        errors.incrementAndGet();
+                        System.err.println("Submit failed: " + e.getMessage());
+                    }
+                }
+                done.countDown();
+            }, "submit-" + t);
+            thread.start();
+        }
+        done.await();
+        double elapsed = (System.nanoTime() - begin) / 1_000_000.0;
+        System.out.printf("%-12s %,d reports in %.0f ms (%,.0f per second)%n", name, reports, elapsed, reports / elapsed * 1000);
+        check(name + " errors", 0, errors.get());
+    }
+
+    // The same complaint as typed by another student: other case, punctuation or a word more
+    private String variant(String complaint) {
+        String text = complaint + ENDINGS[random.nextInt(ENDINGS.length)];
+        int style = random.nextInt(3);
+        if (style == 0) {
+            return text.toUpperCase(Locale.ROOT);
+        }
+        if (style == 1) {
+            return Character.toUpperCase(text.charAt(0)) + text.substring(1);
+        }
+        return text;
+    }
+
+    private String filler() {
+        StringBuilder text = new StringBuilder();
+        int words = 6 + random.nextInt(10);
+        for (int i = 0; i < words; i++) {
+            text.append(FILLER[random.nextInt(FILLER.length)]).append(' ');
+        }
+        return text.append(random.nextInt(100_000)).toString();
+    }
+
+    private void check(String what, long expected, long actual) {
+        if (expected != actual) {
+            failures.add(what + ": expected " + expected + ", got " + actual);
+        }
+    }
+
+    private static int insertStudent(Connection conn, int n) throws SQLException {
+        String sql = "INSERT INTO users (name, phone, username, password, user_type) VALUES (?, ?, ?, ?, 'Student')";
+        try (PreparedStatement stmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+            stmt.setString(1, "student-" + n);
+            stmt.setString(2, "01700000000");
+            stmt.setString(3, "burst-" + n);
+            stmt.setString(4, "burst-test");
+            stmt.executeUpdate();
+            try (ResultSet keys = stmt.getGeneratedKeys()) {
+                keys.next();
+                return keys.getInt(1);
+            }
+        }
+    }
+}
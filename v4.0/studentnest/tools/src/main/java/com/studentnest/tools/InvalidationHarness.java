@@ -0,0 +1,129 @@
+package com.studentnest.tools;
+
+import com.studentnest.cache.DatabaseInvalidationTransport;
+import com.studentnest.cache.InvalidationBus;
+import com.studentnest.cache.InvalidationEvent;
+import com.studentnest.cache.InvalidationTransport;
+import com.studentnest.cache.MulticastInvalidationTransport;
+import com.studentnest.database.DatabaseConnection;
+import com.studentnest.database.SchemaMigrator;
+import com.studentnest.services.ConnectionProvider;
+import com.studentnest.utils.QuantileSketch;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Runs N cache instances in one JVM, each with its own invalidation bus and transport,
+ * and measures how long a change published by one instance takes to reach all others.
+ * <p>
+ * Usage: InvalidationHarness multicast|db [instances=5] [rounds=50] [jdbc-url]
+ * <br>Without a JDBC URL the db transport uses the application's MySQL database.
+ * Exits with status 1 if any instance missed a change.
+ */
+public class InvalidationHarness {
+
+    private static final long CONVERGENCE_TIMEOUT_MILLIS = 10_000;
+    private static final int CACHED_KEYS = 1000;
+
+    /**
+     * One simulated application instance: a bus and a room cache subscribed to it.
+     */
+    private static final class Instance {
+        final InvalidationBus bus;
+        final Map<String, String> roomCache = new ConcurrentHashMap<>();
+        final AtomicReference<CountDownLatch> pending = new AtomicReference<>();
+
+        Instance(InvalidationTransport transport) {
+            bus = new InvalidationBus(transport);
+            for (int i = 0; i < CACHED_KEYS; i++) {
+                roomCache.put(String.valueOf(i), "room " + i);
+            }
+            bus.subscribe(InvalidationEvent.ROOM, event -> {
+                if (event.isAll()) {
+                    roomCache.clear();
+                } else {
+                    roomCache.remove(event.getKey());
+                }
+                CountDownLatch latch = pending.get();
+                if (latch != null && !event.isLocal()) {
+                    latch.countDown();
+                }
+            });
+            bus.start();
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        String transportType = args.length > 0 ? args[0] : "multicast";
+        int instanceCount = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+        int rounds = args.length > 2 ? Integer.parseInt(args[2]) : 50;
+        String jdbcUrl = args.length > 3 ? args[3] : null;
+
+        ConnectionProvider connections = null;
+        if (transportType.equals("db")) {
+            connections = jdbcUrl != null ? () -> DriverManager.getConnection(jdbcUrl) : DatabaseConnection::openConnection;
+            try (Connection conn = connections.getConnection()) {
+                SchemaMigrator.migrate(conn);
+            }
+        }
+
+        List<Instance> instances = new ArrayList<>();
+        for (int i = 0; i < instanceCount; i++) {
+            InvalidationTransport transport = transportType.equals("db")
+                    ? new DatabaseInvalidationTransport(connections)
+                    : new MulticastInvalidationTransport();
+            instances.add(new Instance(transport));
+        }
+        // Give multicast group joins a moment to settle
+        Thread.sleep(200);
+
+        System.out.println("Invalidation harness: " + instanceCount + " instances over " + transportType + ", " + rounds + " rounds");
+        QuantileSketch convergence = new QuantileSketch();
+        int failedRounds = 0;
+        double worst = 0;
+
+        for (int round = 0; round < rounds; round++) {
+            Instance publisher = instances.get(round % instanceCount);
+            String key = String.valueOf(round % CACHED_KEYS);
+            CountDownLatch latch = new CountDownLatch(instanceCount - 1);
+            for (Instance instance : instances) {
+                instance.pending.set(instance == publisher ? null : latch);
+            }
+
+            long start = System.nanoTime();
+            publisher.bus.publish(InvalidationEvent.ROOM, key);
+            boolean converged = latch.await(CONVERGENCE_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+            double elapsedMillis = (System.nanoTime() - start) / 1_000_000.0;
+
+            for (Instance instance : instances) {
+                if (instance.roomCache.containsKey(key)) {
+                    converged = false;
+                }
+            }
+            if (converged) {
+                convergence.add(elapsedMillis);
+                worst = Math.max(worst, elapsedMillis);
+            } else {
+                failedRounds++;
+                System.err.println("Round " + round + ": " + latch.getCount() + " instance(s) still hold room " + key);
+            }
+        }
+
+        for (Instance instance : instances) {
+            instance.bus.close();
+        }
+
+        System.out.println(String.format("Converged %d/%d rounds: p50=%.1fms p95=%.1fms p99=%.1fms max=%.1fms",
+                rounds - failedRounds, rounds, convergence.quantile(0.50), convergence.quantile(0.95),
+                convergence.quantile(0.99), worst));
+        System.exit(failedRounds == 0 ? 0 : 1);
+    }
+}
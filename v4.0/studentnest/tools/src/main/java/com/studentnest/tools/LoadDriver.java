@@ -0,0 +1,227 @@
+package com.studentnest.tools;
+
+import com.studentnest.api.ApiClient;
+import com.studentnest.api.HttpAuthService;
+import com.studentnest.api.HttpRoomService;
+import com.studentnest.database.DatabaseConfig;
+import com.studentnest.database.JdbcMetrics;
+import com.studentnest.jfr.FlightRecording;
+import com.studentnest.models.Room;
+import com.studentnest.models.User;
+import com.studentnest.services.AuthService;
+import com.studentnest.services.ConnectionProvider;
+import com.studentnest.services.GeoIndex;
+import com.studentnest.services.JdbcAuthService;
+import com.studentnest.services.JdbcRoomService;
+import com.studentnest.services.RoomFilterCriteria;
+import com.studentnest.services.RoomService;
+import com.studentnest.utils.QuantileSketch;
+
+import javax.imageio.ImageIO;
+import java.io.File;
+import java.nio.file.Files;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Simulates concurrent students going through the app: log in, load the room catalog,
+ * change filters a few times and open the details of some of the matching rooms.
+ * <p>
+ * Usage: LoadDriver [students=20] [seconds=60] [rooms=10000] [target]
+ * <br>Without a target an in-memory H2 database in MySQL mode is filled by {@link DataGenerator}
+ * first, so the run needs no network or MySQL. The target can be a JDBC URL of a database the
+ * generator has filled, or the http:// address of an API server.
+ * <p>
+ * Opening details decodes the room photos with ImageIO as a stand-in for the JavaFX image
+ * loader, which needs a running toolkit. Exits with status 1 if any operation failed.
+ * Add {@code -Dstudentnest.jfr=load.jfr} to record the run with the bundled flight recorder settings.
+ */
+public class LoadDriver {
+
+    private static final int FILTERS_PER_SESSION = 5;
+    private static final int DETAILS_PER_FILTER = 2;
+    private static final long REPORT_INTERVAL_MILLIS = 10_000;
+
+    private static final String[] LOCATIONS = {RoomFilterCriteria.ALL_LOCATIONS, "Khagan", "Candgaon", "Charabag",
+            "Kumkumari", "Dattopara", "Shadhupara"};
+    private static final String[] PRICES = {RoomFilterCriteria.ALL_PRICES, "0-5000", "5000-10000", "10000-15000", "15000+"};
+    private static final String[] DISTANCES = {"Any Distance", "Within 1 km", "Within 2 km", "Within 5 km"};
+    private static final String[] SORT_ORDERS = {"Default Order", RoomFilterCriteria.NEAREST_TO_DIU};
+    private static final String[] SEARCHES = {"", "", "", "balcony", "wifi", "furnished"};
+
+    private final Map<String, QuantileSketch> latencies = new LinkedHashMap<>();
+    private final AtomicLong sessions = new AtomicLong();
+    private final AtomicLong errors = new AtomicLong();
+
+    private final AuthService auth;
+    private final RoomService rooms;
+    private final int userCount;
+
+    public LoadDriver(AuthService auth, RoomService rooms, int userCount) {
+        this.auth = auth;
+        this.rooms = rooms;
+        this.userCount = userCount;
+        for (String operation : new String[]{"login", "listRooms", "filter", "details", "session"}) {
+            latencies.put(operation, new QuantileSketch());
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        int students = args.length > 0 ? Integer.parseInt(args[0]) : 20;
+        int seconds = args.length > 1 ? Integer.parseInt(args[1]) : 60;
+        int roomCount = args.length > 2 ? Integer.parseInt(args[2]) : 10_000;
+        String target = args.length > 3 ? args[3] : null;
+        FlightRecording.startIfConfigured();
+
+        AuthService auth;
+        RoomService roomService;
+        int userCount;
+        if (target != null && target.startsWith("http")) {
+            ApiClient client = new ApiClient(target);
+            auth = new HttpAuthService(client);
+            roomService = new HttpRoomService(client);
+            userCount = students;
+        } else {
+            DatabaseConfig standIn = DatabaseConfig.memory("loadtest");
+            // Wrapped like the app's connections, so statement metrics and flight recorder events cover the run
+            JdbcMetrics metrics = JdbcMetrics.getInstance();
+            ConnectionProvider connections = target != null
+                    ? () -> metrics.wrap(DriverManager.getConnection(target))
+                    : () -> metrics.wrap(DriverManager.getConnection(standIn.getUrl(), standIn.getUsername(), standIn.getPassword()));
+            userCount = Math.max(1000, students);
+            if (target == null) {
+                try (Connection conn = connections.getConnection()) {
+                    new DataGenerator(userCount, 500, roomCount, roomCount * 10, 42)
+                            .generate(conn, Files.createTempDirectory("studentnest-load"));
+                }
+            }
+            auth = new JdbcAuthService(connections);
+            roomService = new JdbcRoomService(connections);
+        }
+
+        LoadDriver driver = new LoadDriver(auth, roomService, userCount);
+        driver.indexCatalog();
+        boolean clean = driver.run(students, seconds);
+        System.exit(clean ? 0 : 1);
+    }
+
+    /**
+     * Puts the catalog coordinates into the geo index once, like the dashboard does after loading.
+     */
+    void indexCatalog() throws Exception {
+        for (Room room : rooms.listRooms()) {
+            GeoIndex.getInstance().put(room.getId(), room.getCoordinates());
+        }
+    }
+
+    /**
+     * Runs the students until the time is up and prints a latency summary.
+     * @return True if no operation failed
+     */
+    public boolean run(int students, int seconds) throws InterruptedException {
+        System.out.printf("Running %d students for %d s...%n", students, seconds);
+        long start = System.currentTimeMillis();
+        long deadline = start + seconds * 1000L;
+        ExecutorService pool = Executors.newFixedThreadPool(students);
+        for (int i = 0; i < students; i++) {
+            pool.submit(() -> {
+                while (System.currentTimeMillis() < deadline) {
+                    runSession();
+                }
+            });
+        }
+        pool.shutdown();
+        while (!pool.awaitTermination(REPORT_INTERVAL_MILLIS, TimeUnit.MILLISECONDS)) {
+            System.out.printf("  %,d sessions, %,d errors after %d s%n",
+                    sessions.get(), errors.get(), (System.currentTimeMillis() - start) / 1000);
+        }
+        printSummary((System.currentTimeMillis() - start) / 1000.0);
+        return errors.get() == 0;
+    }
+
+    private void runSession() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long sessionStart = System.nanoTime();
+        try {
+            String username = "student" + (1 + random.nextInt(userCount));
+            User user = timed("login", () -> auth.authenticate(username, DataGenerator.PASSWORD, "Student"));
+            if (user == null) {
+                System.err.println("Login failed for " + username);
+                errors.incrementAndGet();
+                return;
+            }
+            List<Room> catalog = timed("listRooms", rooms::listRooms);
+
+            for (int f = 0; f < FILTERS_PER_SESSION; f++) {
+                RoomFilterCriteria criteria = new RoomFilterCriteria(pick(LOCATIONS), pick(PRICES),
+                        pick(DISTANCES), pick(SORT_ORDERS), pick(SEARCHES));
+                List<Room> visible = timed("filter", () -> criteria.apply(catalog));
+                for (int d = 0; d < DETAILS_PER_FILTER && !visible.isEmpty(); d++) {
+                    Room room = visible.get(random.nextInt(visible.size()));
+                    timed("details", () -> openDetails(room));
+                }
+            }
+            record("session", System.nanoTime() - sessionStart);
+            sessions.incrementAndGet();
+        } catch (Exception e) {
+            System.err.println("Session failed: " + e.getMessage());
+            errors.incrementAndGet();
+        }
+    }
+
+    // Decodes every photo of the room, as the details dialog does
+    private static int openDetails(Room room) throws Exception {
+        int decoded = 0;
+        for (String path : room.getImages()) {
+            File file = new File(path);
+            if (file.exists() && ImageIO.read(file) != null) {
+                decoded++;
+            }
+        }
+        return decoded;
+    }
+
+    private interface Operation<T> {
+        T call() throws Exception;
+    }
+
+    private <T> T timed(String operation, Operation<T> call) throws Exception {
+        long start = System.nanoTime();
+        T result = call.call();
+        record(operation, System.nanoTime() - start);
+        return result;
+    }
+
+    private void record(String operation, long nanos) {
+        QuantileSketch sketch = latencies.get(operation);
+        synchronized (sketch) {
+            sketch.add(nanos / 1_000_000.0);
+        }
+    }
+
+    private static String pick(String[] values) {
+        return values[ThreadLocalRandom.current().nextInt(values.length)];
+    }
+
+    private void printSummary(double elapsedSeconds) {
+        System.out.printf("%nCompleted %,d sessions in %.0f s (%.1f sessions/s), %,d errors%n",
+                sessions.get(), elapsedSeconds, sessions.get() / elapsedSeconds, errors.get());
+        System.out.printf("%-10s %10s %10s %10s %10s %10s%n", "operation", "count", "ops/s", "p50 ms", "p95 ms", "p99 ms");
+        for (Map.Entry<String, QuantileSketch> entry : latencies.entrySet()) {
+            QuantileSketch sketch = entry.getValue();
+            synchronized (sketch) {
+                System.out.printf("%-10s %,10d %10.1f %10.2f %10.2f %10.2f%n", entry.getKey(), sketch.getCount(),
+                        sketch.getCount() / elapsedSeconds, sketch.quantile(0.5), sketch.quantile(0.95), sketch.quantile(0.99));
+            }
+        }
+    }
+}
@@ -0,0 +1,281 @@
+package com.studentnest.tools;
+
+import com.studentnest.cache.InvalidationBus;
+import com.studentnest.database.DatabaseConfig;
+import com.studentnest.database.JdbcMetrics;
+import com.studentnest.database.SchemaMigrator;
+import com.studentnest.models.SeatHold;
+import com.studentnest.services.ConnectionProvider;
+import com.studentnest.services.JdbcReservationService;
+import com.studentnest.services.SeatAlreadyHeldException;
+import com.studentnest.services.SeatHoldReaper;
+import com.studentnest.services.ServiceException;
+import com.studentnest.utils.QuantileSketch;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Shows that seat holds never oversell a room: every attempt hits the same room at once,
+ * each on its own thread and connection, and the tool then checks that exactly as many
+ * holds were granted as the room had seats. Half of the holds are confirmed, the rest are
+ * left to expire and are given back by two reapers running at the same time; a second
+ * rush must then get exactly the seats that came back, and students who kept a confirmed
+ * seat must be refused a second one.
+ * <p>
+ * Usage: ReservationLoadTest [attempts=1000] [seats=10] [jdbc-url]
+ * <br>Without a JDBC URL an in-memory H2 database in MySQL mode is used. A URL must point at
+ * a scratch database: the tool adds a house owner, one student per attempt and a room.
+ * Exits with status 1 if a room was oversold or the seat count did not add up.
+ */
+public class ReservationLoadTest {
+
+    private static final long HOLD_MILLIS = 2_000;
+    private static final long RUN_ID = System.currentTimeMillis() / 1000;
+
+    private final JdbcReservationService reservations;
+    private final ConnectionProvider connections;
+    private final List<Integer> studentIds;
+    private final List<String> failures = new ArrayList<>();
+
+    public ReservationLoadTest(ConnectionProvider connections, List<Integer> studentIds) {
+        this.connections = connections;
+        this.studentIds = studentIds;
+        this.reservations = new JdbcReservationService(connections, HOLD_MILLIS);
+    }
+
+    public static void main(String[] args) throws Exception {
+        int attempts = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+        int seats = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+        String target = args.length > 2 ? args[2] : null;
+        // Seat changes are published as room invalidations, nobody is listening to them here
+        if (System.getProperty(InvalidationBus.TRANSPORT_PROPERTY) == null) {
+            System.setProperty(InvalidationBus.TRANSPORT_PROPERTY, "none");
+        }
+
+        DatabaseConfig standIn = DatabaseConfig.memory("reservations");
+        JdbcMetrics metrics = JdbcMetrics.getInstance();
+        ConnectionProvider connections = target != null
+                ? () -> metrics.wrap(DriverManager.getConnection(target))
+                : () -> metrics.wrap(DriverManager.getConnection(standIn.getUrl(), standIn.getUsername(), standIn.getPassword()));
+
+        int roomId;
+        List<Integer> studentIds;
+        // Kept open so the in-memory database lives for the whole run
+        try (Connection conn = connections.getConnection()) {
+            SchemaMigrator.migrate(conn);
+            int ownerId = insertUser(conn, "owner", "House Owner");
+            studentIds = new ArrayList<>(attempts);
+            for (int i = 0; i < attempts; i++) {
+                studentIds.add(insertUser(conn, "student-" + i, "Student"));
+            }
+            roomId = insertRoom(conn, ownerId, seats);
+
+            ReservationLoadTest test = new ReservationLoadTest(connections, studentIds);
+            boolean clean = test.run(roomId, seats);
+            System.exit(clean ? 0 : 1);
+        }
+    }
+
+    /**
+     * @return True if every check passed
+     */
+    public boolean run(int roomId, int seats) throws Exception {
+        System.out.printf("%,d students reserving a room with %d seats%n", studentIds.size(), seats);
+
+        List<SeatHold> granted = rush("first rush", roomId, 0);
+        check("holds granted", Math.min(seats, studentIds.size()), granted.size());
+        check("free seats after the rush", seats - granted.size(), freeSeats(roomId));
+        check("held seats in seat_holds", granted.size(), countHolds(roomId, SeatHold.HELD));
+        if (!granted.isEmpty()) {
+            SeatHold first = granted.get(0);
+            check("second hold by the same student refused", 1, refusedAsHeld(roomId, first.getStudentId()) ? 1 : 0);
+            check("confirm by another student refused", 0, reservations.confirmHold(first.getId(), first.getStudentId() + 1) ? 1 : 0);
+            check("release by another student refused", 0, reservations.releaseHold(first.getId(), first.getStudentId() + 1) ? 1 : 0);
+        }
+
+        // Confirm every other hold, leave the rest to expire
+        int confirmed = 0;
+        for (int i = 0; i < granted.size(); i += 2) {
+            if (reservations.confirmHold(granted.get(i).getId(), granted.get(i).getStudentId())) {
+                confirmed++;
+            }
+        }
+        check("holds confirmed", (granted.size() + 1) / 2, confirmed);
+        Thread.sleep(HOLD_MILLIS + 500);
+
+        int released = reapConcurrently();
+        check("expired holds released", granted.size() - confirmed, released);
+        check("free seats after reaping", seats - confirmed, freeSeats(roomId));
+        check("confirmed holds kept", confirmed, countHolds(roomId, SeatHold.CONFIRMED));
+
+        List<SeatHold> regranted = rush("second rush", roomId, confirmed);
+        check("holds granted again", Math.min(seats - confirmed, studentIds.size() - confirmed), regranted.size());
+        check("free seats at the end", seats - confirmed - regranted.size(), freeSeats(roomId));
+
+        if (failures.isEmpty()) {
+            System.out.println("OK: no room oversold, every seat accounted for");
+            return true;
+        }
+        for (String failure : failures) {
+            System.out.println("FAILED: " + failure);
+        }
+        return false;
+    }
+
+    /**
+     * Lets every student try to hold a seat at the same moment.
+     * @param expectAlreadyHeld Students expected to be refused for holding a seat already
+     * @return The holds that were granted
+     */
+    private List<SeatHold> rush(String name, int roomId, int expectAlreadyHeld) throws InterruptedException {
+        List<SeatHold> granted = Collections.synchronizedList(new ArrayList<>());
+        QuantileSketch millis = new QuantileSketch();
+        AtomicInteger soldOut = new AtomicInteger();
+        AtomicInteger alreadyHeld = new AtomicInteger();
+        AtomicInteger errors = new AtomicInteger();
+        CountDownLatch ready = new CountDownLatch(studentIds.size());
+        CountDownLatch start = new CountDownLatch(1);
+
+        List<Thread> threads = new ArrayList<>(studentIds.size());
+        for (int studentId : studentIds) {
+            Thread thread = new Thread(() -> {
+                ready.countDown();
+                try {
+                    start.await();
+                    long begin = System.nanoTime();
+                    try {
+                        granted.add(reservations.holdSeat(roomId, studentId));
+                    } finally {
+                        synchronized (millis) {
+                            millis.add((System.nanoTime() - begin) / 1_000_000.0);
+                        }
+                    }
+                } catch (SeatAlreadyHeldException e) {
+                    alreadyHeld.incrementAndGet();
+                } catch (ServiceException e) {
+                    if (e.getStatus() == 409) {
+                        soldOut.incrementAndGet();
+                    } else {
+                        errors.incrementAndGet();
+                        System.err.println("Hold failed: " + e.getMessage());
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }, "reserve-" + studentId);
+            threads.add(thread);
+            thread.start();
+        }
+        ready.await();
+        long begin = System.nanoTime();
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        double elapsed = (System.nanoTime() - begin) / 1_000_000.0;
+
+        System.out.printf("%-12s %,d granted, %,d sold out, %,d already holding, %,d errors in %.0f ms (p50 %.1f ms, p99 %.1f ms)%n",
+                name, granted.size(), soldOut.get(), alreadyHeld.get(), errors.get(), elapsed,
+                millis.quantile(0.5), millis.quantile(0.99));
+        check(name + " errors", 0, errors.get());
+        check(name + " already holding", expectAlreadyHeld, alreadyHeld.get());
+        return granted;
+    }
+
+    // True if the hold was refused because the student already holds a seat of the room
+    private boolean refusedAsHeld(int roomId, int studentId) throws ServiceException {
+        try {
+            SeatHold hold = reservations.holdSeat(roomId, studentId);
+            reservations.releaseHold(hold.getId(), studentId);
+            return false;
+        } catch (SeatAlreadyHeldException e) {
+            return true;
+        } catch (ServiceException e) {
+            return false;
+        }
+    }
+
+    // Two reapers at once, as with two instances on one database; each hold must come back once
+    private int reapConcurrently() throws InterruptedException {
+        SeatHoldReaper first = new SeatHoldReaper(reservations);
+        SeatHoldReaper second = new SeatHoldReaper(new JdbcReservationService(connections, HOLD_MILLIS));
+        AtomicInteger released = new AtomicInteger();
+        Thread a = new Thread(() -> released.addAndGet(first.reap()));
+        Thread b = new Thread(() -> released.addAndGet(second.reap()));
+        a.start();
+        b.start();
+        a.join();
+        b.join();
+        return released.get();
+    }
+
+    private void check(String what, long expected, long actual) {
+        if (expected != actual) {
+            failures.add(what + ": expected " + expected + ", got " + actual);
+        }
+    }
+
+    private int freeSeats(int roomId) throws SQLException {
+        try (Connection conn = connections.getConnection();
+             PreparedStatement stmt = conn.prepareStatement("SELECT seats_available FROM rooms WHERE id = ?")) {
+            stmt.setInt(1, roomId);
+            try (ResultSet rs = stmt.executeQuery()) {
+                return rs.next() ? rs.getInt(1) : -1;
+            }
+        }
+    }
+
+    private int countHolds(int roomId, String status) throws SQLException {
+        try (Connection conn = connections.getConnection();
+             PreparedStatement stmt = conn.prepareStatement("SELECT COUNT(*) FROM seat_holds WHERE room_id = ? AND status = ?")) {
+            stmt.setInt(1, roomId);
+            stmt.setString(2, status);
+            try (ResultSet rs = stmt.executeQuery()) {
+                return rs.next() ? rs.getInt(1) : 0;
+            }
+        }
+    }
+
+    // Usernames carry the start time, so a scratch database can take several runs
+    private static int insertUser(Connection conn, String name, String userType) throws SQLException {
+        String sql = "INSERT INTO users (name, phone, username, password, user_type) VALUES (?, ?, ?, ?, ?)";
+        try (PreparedStatement stmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+            String username = "load-" + RUN_ID + "-" + name;
+            stmt.setString(1, name);
+            stmt.setString(2, "01700000000");
+            stmt.setString(3, username);
+            stmt.setString(4, "load-test");
+            stmt.setString(5, userType);
+            stmt.executeUpdate();
+            try (ResultSet keys = stmt.getGeneratedKeys()) {
+                keys.next();
+                return keys.getInt(1);
+            }
+        }
+    }
+
+    private static int insertRoom(Connection conn, int ownerId, int seats) throws SQLException {
+        String sql = "INSERT INTO rooms (owner_id, location, price, description, contact_number, room_type, seats, seats_available) " +
+                "VALUES (?, 'Khagan', 4500, 'Load test room', '01700000000', 'Shared', ?, ?)";
+        try (PreparedStatement stmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+            stmt.setInt(1, ownerId);
+            stmt.setInt(2, seats);
+            stmt.setInt(3, seats);
+            stmt.executeUpdate();
+            try (ResultSet keys = stmt.getGeneratedKeys()) {
+                keys.next();
+                return keys.getInt(1);
+            }
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.studentnest.tools;
+
+import com.studentnest.database.DatabaseConnection;
+import com.studentnest.database.SchemaMigrator;
+import com.studentnest.models.StatsBucket;
+import com.studentnest.services.ConnectionProvider;
+import com.studentnest.services.JdbcStatsService;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Brings the statistics rollups up to date, then reads a date range from them and counts the
+ * same range from the tables, to check that the two agree and show what the rollups save.
+ * <p>
+ * Usage: StatsRollupCheck &lt;jdbc-url|app&gt; [days=365]
+ * <br>Fill the database with DataGenerator first. Run it while nothing else writes to the
+ * database, rows added between the catch-up and the comparison would show up as differences.
+ * Exits with status 1 if any day differs.
+ */
+public class StatsRollupCheck {
+
+    private static final Map<String, String> TABLES = Map.of(
+            StatsBucket.SIGNUPS, "users",
+            StatsBucket.ROOMS, "rooms",
+            StatsBucket.FEEDBACK, "feedback_and_issues");
+
+    public static void main(String[] args) throws Exception {
+        if (args.length == 0) {
+            System.err.println("Usage: StatsRollupCheck <jdbc-url|app> [days]");
+            System.exit(2);
+        }
+        int days = args.length > 1 ? Integer.parseInt(args[1]) : 365;
+        ConnectionProvider connections = "app".equals(args[0])
+                ? DatabaseConnection::openConnection
+                : () -> DriverManager.getConnection(args[0]);
+        // Kept open for the whole run, H2 would otherwise close and reopen the database file for every query
+        Connection keepOpen = connections.getConnection();
+        SchemaMigrator.migrate(keepOpen);
+        JdbcStatsService stats = new JdbcStatsService(connections);
+
+        long start = System.nanoTime();
+        for (String metric : JdbcStatsService.METRICS) {
+            stats.rebuild(metric, false);
+            int added = stats.addNewRows(metric);
+            System.out.printf("%s: added %,d rows%n", metric, added);
+        }
+        System.out.printf("Catch-up took %.1f s%n", (System.nanoTime() - start) / 1e9);
+
+        LocalDate to = LocalDate.now();
+        LocalDate from = to.minusDays(days - 1);
+        start = System.nanoTime();
+        Map<String, Integer> fromRollups = new TreeMap<>();
+        for (StatsBucket bucket : stats.listBuckets(StatsBucket.DAY, from, to)) {
+            fromRollups.merge(bucket.getMetric() + " " + bucket.getBucket(), bucket.getCount(), Integer::sum);
+        }
+        long rollupNanos = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        Map<String, Integer> fromTables = new TreeMap<>();
+        try (Connection conn = connections.getConnection()) {
+            for (String metric : JdbcStatsService.METRICS) {
+                countDays(conn, metric, from, to, fromTables);
+            }
+        }
+        long tableNanos = System.nanoTime() - start;
+
+        System.out.printf("%d days: rollups %.1f ms (one query), tables %.1f ms (%d queries)%n", days,
+                rollupNanos / 1e6, tableNanos / 1e6, JdbcStatsService.METRICS.size());
+        int differences = 0;
+        for (String key : union(fromRollups, fromTables)) {
+            int expected = fromTables.getOrDefault(key, 0);
+            int actual = fromRollups.getOrDefault(key, 0);
+            if (expected != actual) {
+                differences++;
+                if (differences <= 20) {
+                    System.out.printf("  %s: tables %d, rollups %d%n", key, expected, actual);
+                }
+            }
+        }
+        if (differences > 0) {
+            System.out.println("FAILED: " + differences + " days differ");
+            System.exit(1);
+        }
+        System.out.println("OK: " + fromTables.size() + " days with data agree");
+        keepOpen.close();
+        DatabaseConnection.closeConnection();
+    }
+
+    private static void countDays(Connection conn, String metric, LocalDate from, LocalDate to,
+                                  Map<String, Integer> counts) throws Exception {
+        String sql = "SELECT CAST(created_at AS DATE), COUNT(*) FROM " + TABLES.get(metric) +
+                " WHERE created_at >= ? AND created_at < ? GROUP BY CAST(created_at AS DATE)";
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+            stmt.setTimestamp(1, Timestamp.valueOf(from.atStartOfDay()));
+            stmt.setTimestamp(2, Timestamp.valueOf(to.plusDays(1).atStartOfDay()));
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    counts.put(metric + " " + rs.getDate(1).toLocalDate(), rs.getInt(2));
+                }
+            }
+        }
+    }
+
+    private static List<String> union(Map<String, Integer> a, Map<String, Integer> b) {
+        TreeMap<String, Integer> keys = new TreeMap<>(a);
+        keys.putAll(b);
+        return List.copyOf(keys.keySet());
+    }
+}